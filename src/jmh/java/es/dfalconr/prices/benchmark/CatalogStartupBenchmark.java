@@ -0,0 +1,55 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.infrastructure.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.SnapshotPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.memory.MappedPriceSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time until a loaded catalog can serve lookups: building the columnar store from the table,
+ * against mapping a snapshot file written once from the same rows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogStartupBenchmark {
+
+    private DataSource dataSource;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        dataSource = catalog.bean(DataSource.class);
+        snapshotFile = catalog.snapshotFile;
+        new SnapshotPriceRepositoryAdapter(dataSource, snapshotFile).refresh();
+    }
+
+    @Benchmark
+    public ColumnarPriceRepositoryAdapter loadColumnarFromDatabase() {
+        ColumnarPriceRepositoryAdapter adapter = new ColumnarPriceRepositoryAdapter(dataSource, 1024);
+        adapter.refresh();
+        return adapter;
+    }
+
+    @Benchmark
+    public MappedPriceSnapshot mapSnapshot() {
+        return MappedPriceSnapshot.open(snapshotFile);
+    }
+}
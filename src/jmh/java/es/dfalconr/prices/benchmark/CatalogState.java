@@ -0,0 +1,96 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.PricesApplication;
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.infrastructure.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.InMemoryPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.PartitionedPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.SnapshotPriceRepositoryAdapter;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Boots the application without the web layer, loads a {@link SyntheticCatalog} into H2 and
+ * exposes the beans under test. One instance is shared by all benchmark threads.
+ */
+@State(Scope.Benchmark)
+public class CatalogState {
+
+    static final int QUERY_COUNT = 4_096;
+
+    @Param({"1000", "10000"})
+    public int products;
+
+    @Param({"4", "32"})
+    public int rangesPerProduct;
+
+    @Param({"1", "4"})
+    public int prioritySpread;
+
+    @Param({"jpa", "jdbc", "in-memory", "columnar", "snapshot", "partitioned"})
+    public String repositoryType;
+
+    @Param("false")
+    public boolean cacheEnabled;
+
+    @Param("false")
+    public boolean coalescingEnabled;
+
+    @Param("false")
+    public boolean microBatchingEnabled;
+
+    PriceQuery[] queries;
+
+    Path snapshotFile;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        snapshotFile = Files.createTempFile("prices-benchmark-", ".snapshot");
+        context = new SpringApplicationBuilder(PricesApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:prices-benchmark",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.es.dfalconr.prices=WARN",
+                "--prices.repository.type=" + repositoryType,
+                "--prices.snapshot.file=" + snapshotFile,
+                "--prices.cache.enabled=" + cacheEnabled,
+                "--prices.coalescing.enabled=" + coalescingEnabled,
+                "--prices.micro-batching.enabled=" + microBatchingEnabled
+            );
+
+        SyntheticCatalog catalog = SyntheticCatalog.generate(products, rangesPerProduct, prioritySpread);
+        catalog.insertInto(context.getBean(JdbcTemplate.class));
+        context.getBeanProvider(InMemoryPriceRepositoryAdapter.class).ifAvailable(InMemoryPriceRepositoryAdapter::refresh);
+        context.getBeanProvider(ColumnarPriceRepositoryAdapter.class).ifAvailable(ColumnarPriceRepositoryAdapter::refresh);
+        context.getBeanProvider(PartitionedPriceRepositoryAdapter.class)
+            .ifAvailable(PartitionedPriceRepositoryAdapter::refresh);
+        context.getBeanProvider(SnapshotPriceRepositoryAdapter.class).ifAvailable(SnapshotPriceRepositoryAdapter::refresh);
+        queries = catalog.queries(QUERY_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
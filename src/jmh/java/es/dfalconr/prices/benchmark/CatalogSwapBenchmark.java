@@ -0,0 +1,95 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogPublisher;
+import es.dfalconr.prices.infrastructure.persistence.memory.PriceIntervalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Lookup latency distribution against a {@link CatalogPublisher}, with {@code swapping=true}
+ * rebuilding and publishing a catalog of the same size back to back for the whole trial. Compare
+ * the p0.99 rows of both runs: readers never take the reload lock, so only GC and scheduling
+ * should move the tail.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogSwapBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"false", "true"})
+    public boolean swapping;
+
+    @Param("20000")
+    public int products;
+
+    private CatalogPublisher<PriceIntervalIndex> publisher;
+    private AtomicBoolean reloading;
+    private CompletableFuture<Void> reloads;
+
+    @Setup(Level.Trial)
+    public void start() {
+        publisher = new CatalogPublisher<>(index(0, products));
+        reloading = new AtomicBoolean(swapping);
+        reloads = CompletableFuture.runAsync(() -> {
+            for (int version = 1; reloading.get(); version++) {
+                int next = version;
+                publisher.reload(() -> index(next, products));
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        reloading.set(false);
+        reloads.join();
+        System.out.printf("%npublished versions %d%n", publisher.current().version());
+    }
+
+    @Benchmark
+    public Optional<Price> lookup() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return publisher.catalog()
+            .findPriceTimeline(1L + random.nextInt(products), 1L)
+            .priceAt(START.plusHours(random.nextInt(48)));
+    }
+
+    // Every price of version v has price list v
+    private static PriceIntervalIndex index(int version, int products) {
+        List<Price> prices = new ArrayList<>(products * 2);
+        long id = 1;
+        for (long productId = 1; productId <= products; productId++) {
+            prices.add(new Price(id++, 1L, productId, version, START, START.plusYears(1), 0,
+                new BigDecimal("10.00"), "EUR"));
+            prices.add(new Price(id++, 1L, productId, version, START.plusDays(1), START.plusDays(2), 1,
+                new BigDecimal("10.00"), "EUR"));
+        }
+        return PriceIntervalIndex.of(prices);
+    }
+}
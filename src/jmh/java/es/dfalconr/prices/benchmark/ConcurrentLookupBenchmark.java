@@ -0,0 +1,69 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to serve a burst of concurrent lookups for different products, one virtual thread per
+ * lookup, as a request fan-out would issue them. Meant to compare the plain adapter with
+ * micro-batching at increasing concurrency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentLookupBenchmark {
+
+    @Param({"1", "16", "64", "256"})
+    public int concurrency;
+
+    private PriceRepository repository;
+    private PriceQuery[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        repository = catalog.bean(PriceRepository.class);
+        queries = catalog.queries;
+    }
+
+    @Benchmark
+    public List<Optional<Price>> burst() throws Exception {
+        List<Future<Optional<Price>>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                PriceQuery query = queries[cursor++ & (queries.length - 1)];
+                futures.add(executor.submit(() ->
+                    repository.findApplicablePrice(query.applicationDate(), query.productId(), query.brandId())));
+            }
+        }
+        List<Optional<Price>> prices = new ArrayList<>(concurrency);
+        for (Future<Optional<Price>> future : futures) {
+            prices.add(future.get());
+        }
+        return prices;
+    }
+}
@@ -0,0 +1,112 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.PricesApplication;
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCacheStats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single lookups through {@link GetApplicablePriceService} on the jpa adapter, with and without
+ * Hibernate's second-level and query caches: {@code resolve} is what {@code GET /api/prices} runs
+ * with HTTP caching on, {@code execute} the plain lookup. Products cycle through
+ * {@value #QUERY_COUNT} queries but every call gets a fresh nanosecond timestamp, as real traffic
+ * would, so only product-keyed results can be reused; the hit rates are printed at the end of the trial.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JpaCacheBenchmark {
+
+    private static final int QUERY_COUNT = 4_096;
+    private static final int RANGES_PER_PRODUCT = 4;
+    private static final long CATALOG_SPAN_NANOS =
+        Duration.between(SyntheticCatalog.START, SyntheticCatalog.END).toNanos();
+
+    @Param({"false", "true"})
+    public boolean jpaCacheEnabled;
+
+    @Param("10000")
+    public int products;
+
+    private ConfigurableApplicationContext context;
+    private GetApplicablePriceService service;
+    private PriceQuery[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(PricesApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:prices-jpa-cache",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.es.dfalconr.prices=WARN",
+                "--prices.repository.type=jpa",
+                "--prices.jpa-cache.enabled=" + jpaCacheEnabled,
+                // Cached queries keep row ids only, so every row of a cached product needs an entity entry
+                "--prices.jpa-cache.entity-max-size=" + products * RANGES_PER_PRODUCT
+            );
+
+        SyntheticCatalog catalog = SyntheticCatalog.generate(products, RANGES_PER_PRODUCT, 1);
+        catalog.insertInto(context.getBean(JdbcTemplate.class));
+        service = context.getBean(GetApplicablePriceService.class);
+        queries = catalog.queries(QUERY_COUNT);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.getBeanProvider(PriceJpaCache.class).ifAvailable(cache -> {
+            PriceJpaCacheStats stats = cache.stats();
+            System.out.printf("%nquery region hit rate %.3f, entity region hit rate %.3f%n",
+                stats.queryHitRate(), stats.entityHitRate());
+        });
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<PriceResolution> resolve() {
+        return service.resolve(nextQuery());
+    }
+
+    @Benchmark
+    public Optional<PriceResponse> execute() {
+        return service.execute(nextQuery());
+    }
+
+    // Shared cursor: a benign race only changes which product a thread gets next
+    private PriceQuery nextQuery() {
+        PriceQuery product = queries[cursor++ & (QUERY_COUNT - 1)];
+        LocalDateTime date = SyntheticCatalog.START.plusNanos(ThreadLocalRandom.current().nextLong(CATALOG_SPAN_NANOS));
+        return new PriceQuery(date, product.productId(), product.brandId());
+    }
+}
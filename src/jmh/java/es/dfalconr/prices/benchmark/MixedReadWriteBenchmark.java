@@ -0,0 +1,109 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.persistence.adapter.JdbcPriceWriteAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup and write throughput when both run at once: 19 reader threads per writer (95/5) and
+ * 4 per writer (80/20). Writes update random existing rows through the write API, so they pay
+ * for the transaction and for publishing the product to the read path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MixedReadWriteBenchmark {
+
+    private static final int WRITE_ROWS = 1_024;
+
+    private PriceRepository repository;
+    private JdbcPriceWriteAdapter writeAdapter;
+    private PriceQuery[] queries;
+    private Price[] rows;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        repository = catalog.bean(PriceRepository.class);
+        writeAdapter = catalog.bean(JdbcPriceWriteAdapter.class);
+        queries = catalog.queries;
+        rows = catalog.bean(JdbcTemplate.class).query("""
+                SELECT ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR
+                FROM PRICES ORDER BY RAND() FETCH FIRST ? ROWS ONLY
+                """,
+            (resultSet, rowNumber) -> new Price(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3),
+                resultSet.getInt(4),
+                resultSet.getObject(5, LocalDateTime.class),
+                resultSet.getObject(6, LocalDateTime.class),
+                resultSet.getInt(7),
+                resultSet.getBigDecimal(8),
+                resultSet.getString(9)),
+            WRITE_ROWS).toArray(Price[]::new);
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(19)
+    public Optional<Price> readHeavyLookup() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public Optional<Price> readHeavyWrite() {
+        return write();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(4)
+    public Optional<Price> writeHeavyLookup() {
+        return lookup();
+    }
+
+    @Benchmark
+    @Group("writeHeavy")
+    @GroupThreads(1)
+    public Optional<Price> writeHeavyWrite() {
+        return write();
+    }
+
+    private Optional<Price> lookup() {
+        PriceQuery query = queries[ThreadLocalRandom.current().nextInt(queries.length)];
+        return repository.findApplicablePrice(query.applicationDate(), query.productId(), query.brandId());
+    }
+
+    private Optional<Price> write() {
+        Price row = rows[ThreadLocalRandom.current().nextInt(rows.length)];
+        BigDecimal amount = BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1, 100_000), 2);
+        return writeAdapter.update(new Price(row.id(), row.brandId(), row.productId(), row.priceList(),
+            row.startDate(), row.endDate(), row.priority(), amount, row.currency()));
+    }
+}
@@ -0,0 +1,112 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.application.service.GetApplicablePricesBatchService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.rest.controller.PriceController;
+import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a miss from the controller down to an empty repository answer, isolated from the
+ * database. {@code throwingMiss} replays the previous path (a stack-capturing exception with a
+ * {@code String.format} message, caught and mapped by the handler); {@code controllerMiss} is the
+ * current one. The stack here is a few frames deep, far shallower than inside a servlet
+ * container, so the gap under real traffic is larger.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NotFoundPathBenchmark {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2019, 1, 1, 10, 0);
+    private static final Long UNKNOWN_PRODUCT_ID = 99999L;
+    private static final Long BRAND_ID = 1L;
+
+    private PriceController controller;
+    private PriceRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = new EmptyPriceRepository();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        controller = new PriceController(
+            new GetApplicablePriceService(repository, meterRegistry),
+            new GetApplicablePricesBatchService(repository, meterRegistry, 500),
+            meterRegistry,
+            true,
+            Duration.ofSeconds(60),
+            Optional.empty()
+        );
+    }
+
+    @Benchmark
+    public ResponseEntity<?> controllerMiss() {
+        return controller.getApplicablePrice(APPLICATION_DATE, UNKNOWN_PRODUCT_ID, BRAND_ID, null);
+    }
+
+    @Benchmark
+    public ResponseEntity<?> throwingMiss() {
+        try {
+            repository.findApplicablePrice(APPLICATION_DATE, UNKNOWN_PRODUCT_ID, BRAND_ID)
+                .orElseThrow(() -> new RuntimeException(String.format(
+                    "No price found for product %d, brand %d at %s",
+                    UNKNOWN_PRODUCT_ID, BRAND_ID, APPLICATION_DATE)));
+            throw new IllegalStateException("Expected a miss");
+        } catch (RuntimeException ex) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(new GlobalExceptionHandler.ErrorResponse(
+                HttpStatus.NOT_FOUND.value(), ex.getMessage(), LocalDateTime.now()));
+        }
+    }
+
+    private static final class EmptyPriceRepository implements PriceRepository {
+
+        @Override
+        public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+            return Map.of();
+        }
+
+        @Override
+        public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+            return PriceTimeline.empty();
+        }
+    }
+}
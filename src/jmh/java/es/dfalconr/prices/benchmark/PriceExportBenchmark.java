@@ -0,0 +1,110 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.PricesApplication;
+import es.dfalconr.prices.infrastructure.persistence.importer.PriceBulkImporter;
+import es.dfalconr.prices.infrastructure.rest.controller.PriceExportController;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of one NDJSON export of a brand of {@code products} products, four ranges each, through
+ * the export endpoint's response body into a discarding stream; products per second is
+ * {@code products / score}. Run with {@code -prof gc}: the allocation rate stays proportional to
+ * the rows read while the heap after GC stays flat as {@code products} grows. 2.5M products need a
+ * large heap for the in-memory H2 database, e.g. {@code -jvmArgsAppend -Xmx8g}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceExportBenchmark {
+
+    // Inside the first promotion of every product
+    private static final LocalDateTime EXPORT_DATE = LocalDateTime.of(2030, 2, 5, 12, 0);
+
+    @Param({"1000000", "2500000"})
+    public int products;
+
+    @Param({"100", "1000", "10000"})
+    public int fetchSize;
+
+    private ConfigurableApplicationContext context;
+    private PriceExportController controller;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = new SpringApplicationBuilder(PricesApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:prices-export-benchmark",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.es.dfalconr.prices=WARN",
+                "--prices.repository.type=jdbc",
+                "--prices.export.fetch-size=" + fetchSize
+            );
+        controller = context.getBean(PriceExportController.class);
+
+        Path file = Files.createTempFile("prices-export-", ".csv");
+        try {
+            PriceImportBenchmark.write(file, products * 4, true);
+            new PriceBulkImporter(context.getBean(JdbcTemplate.class),
+                context.getBean(PlatformTransactionManager.class), 10_000, 1, Long.MAX_VALUE)
+                .importFile(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Benchmark
+    public long exportBrand() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        controller.exportPrices(1L, EXPORT_DATE).getBody().writeTo(output);
+        return output.bytes;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long bytes;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) {
+            bytes += length;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.PricesApplication;
+import es.dfalconr.prices.infrastructure.persistence.importer.PriceBulkImporter;
+import es.dfalconr.prices.infrastructure.persistence.importer.PriceImportResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time of one bulk import of {@code rows} synthetic prices into an empty PRICES table;
+ * rows per second is {@code rows / score}. The file is generated once per trial and the table
+ * truncated before every iteration. 10M rows need a large heap for the in-memory H2 database,
+ * e.g. {@code -jvmArgsAppend -Xmx8g}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceImportBenchmark {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Param({"1000000", "10000000"})
+    public int rows;
+
+    @Param({"csv", "ndjson"})
+    public String format;
+
+    @Param("1000")
+    public int batchSize;
+
+    @Param({"1", "4"})
+    public int partitions;
+
+    private ConfigurableApplicationContext context;
+    private PriceBulkImporter importer;
+    private JdbcTemplate jdbcTemplate;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = new SpringApplicationBuilder(PricesApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:prices-import-benchmark",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.es.dfalconr.prices=WARN",
+                "--prices.repository.type=jdbc"
+            );
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        importer = new PriceBulkImporter(
+            jdbcTemplate, context.getBean(PlatformTransactionManager.class), batchSize, partitions, Long.MAX_VALUE);
+        file = Files.createTempFile("prices-import-", "." + format);
+        write(file, rows, format.equals("csv"));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE PRICES");
+    }
+
+    @Benchmark
+    public PriceImportResult importFile() {
+        return importer.importFile(file);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() throws IOException {
+        context.close();
+        Files.deleteIfExists(file);
+    }
+
+    // A year-long base price per product plus three promotions, like SyntheticCatalog
+    static void write(Path file, int rows, boolean csv) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            if (csv) {
+                writer.write("BRAND_ID,PRODUCT_ID,PRICE_LIST,START_DATE,END_DATE,PRIORITY,PRICE,CURR\n");
+            }
+            for (int row = 0; row < rows; row++) {
+                int range = row % 4;
+                long productId = row / 4 + 1;
+                LocalDateTime start = range == 0 ? START : START.plusDays(range * 30L);
+                LocalDateTime end = range == 0 ? START.plusYears(1).minusSeconds(1) : start.plusDays(20);
+                String amount = (10 + row % 90) + "." + (row % 100 < 10 ? "0" : "") + row % 100;
+                if (csv) {
+                    writer.write("1," + productId + "," + (range + 1) + "," + start + "," + end + ","
+                        + range + "," + amount + ",EUR\n");
+                } else {
+                    writer.write("{\"BRAND_ID\":1,\"PRODUCT_ID\":" + productId + ",\"PRICE_LIST\":" + (range + 1)
+                        + ",\"START_DATE\":\"" + start + "\",\"END_DATE\":\"" + end + "\",\"PRIORITY\":" + range
+                        + ",\"PRICE\":" + amount + ",\"CURR\":\"EUR\"}\n");
+                }
+            }
+        }
+    }
+}
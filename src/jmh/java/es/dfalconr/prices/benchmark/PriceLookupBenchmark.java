@@ -0,0 +1,68 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single lookup at the service and repository layers. Each thread walks its own
+ * cursor over the pre-generated queries so successive calls hit different products.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceLookupBenchmark {
+
+    private GetApplicablePriceService service;
+    private PriceRepository repository;
+    private PriceQuery[] queries;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp(CatalogState catalog) {
+        service = catalog.bean(GetApplicablePriceService.class);
+        repository = catalog.bean(PriceRepository.class);
+        queries = catalog.queries;
+    }
+
+    @Benchmark
+    public Optional<PriceResponse> serviceExecute() {
+        return service.execute(nextQuery());
+    }
+
+    @Benchmark
+    public List<Price> repositoryFindApplicablePrices() {
+        PriceQuery query = nextQuery();
+        return repository.findApplicablePrices(query.applicationDate(), query.productId(), query.brandId());
+    }
+
+    @Benchmark
+    public Optional<Price> repositoryFindApplicablePrice() {
+        PriceQuery query = nextQuery();
+        return repository.findApplicablePrice(query.applicationDate(), query.productId(), query.brandId());
+    }
+
+    private PriceQuery nextQuery() {
+        return queries[cursor++ & (CatalogState.QUERY_COUNT - 1)];
+    }
+}
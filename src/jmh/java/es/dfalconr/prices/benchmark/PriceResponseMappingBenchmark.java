@@ -0,0 +1,44 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.domain.model.Price;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a domain {@link Price} to the REST response DTO, without Spring or a database.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PriceResponseMappingBenchmark {
+
+    private static final int PRICE_COUNT = 1_024;
+
+    private Price[] prices;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        prices = SyntheticCatalog.generate(PRICE_COUNT / 4, 4, 4).prices().toArray(Price[]::new);
+    }
+
+    @Benchmark
+    public PriceResponse from() {
+        return PriceResponse.from(prices[cursor++ & (PRICE_COUNT - 1)]);
+    }
+}
@@ -0,0 +1,173 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.PricesApplication;
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load harness for the two web stacks under high fan-in. Each trial boots the application on a
+ * random port, either as MVC on virtual threads (the default) or with the reactive profile
+ * (WebFlux on Netty, reading through R2DBC), loads a {@link SyntheticCatalog} and fires bursts of
+ * {@code concurrency} simultaneous {@code GET /api/prices} requests for different products.
+ * <p>
+ * The score is the time to serve a whole burst. At the end of the trial the latency percentiles
+ * of the individual requests and the heap allocated per request, by client and server together,
+ * are printed for the measurement iterations only.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class StackLoadBenchmark {
+
+    private static final int QUERY_COUNT = 4_096;
+
+    @Param({"servlet", "reactive"})
+    public String stack;
+
+    @Param({"64", "256", "1024"})
+    public int concurrency;
+
+    @Param("10000")
+    public int products;
+
+    // Adapter behind the servlet stack; the reactive stack always reads through R2DBC
+    @Param("jpa")
+    public String repositoryType;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clientExecutor;
+    private HttpClient client;
+    private HttpRequest[] requests;
+    private int cursor;
+
+    private final com.sun.management.ThreadMXBean threads =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final LongAdder failures = new LongAdder();
+    private Timer requestLatency;
+    private long allocatedAtStart = -1;
+
+    @Setup(Level.Trial)
+    public void start() {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(PricesApplication.class);
+        if (stack.equals(ReactiveStackConfig.PROFILE)) {
+            application.profiles(ReactiveStackConfig.PROFILE);
+        }
+        context = application.run(
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:prices-load",
+            "--prices.r2dbc.url=r2dbc:h2:mem:///prices-load",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.es.dfalconr.prices=WARN",
+            "--prices.repository.type=" + repositoryType
+        );
+
+        SyntheticCatalog catalog = SyntheticCatalog.generate(products, 4, 1);
+        catalog.insertInto(context.getBean(JdbcTemplate.class));
+
+        int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        requests = new HttpRequest[QUERY_COUNT];
+        PriceQuery[] queries = catalog.queries(QUERY_COUNT);
+        for (int i = 0; i < QUERY_COUNT; i++) {
+            requests[i] = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/prices"
+                    + "?applicationDate=" + queries[i].applicationDate()
+                    + "&productId=" + queries[i].productId()
+                    + "&brandId=" + queries[i].brandId()))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        }
+        clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(clientExecutor)
+            .build();
+    }
+
+    // Percentiles span all measurement iterations, so the window must outlive them
+    @Setup(Level.Iteration)
+    public void startIteration(IterationParams iteration) {
+        if (iteration.getType() == IterationType.MEASUREMENT && requestLatency == null) {
+            requestLatency = Timer.builder("load.request")
+                .publishPercentiles(0.5, 0.9, 0.99, 0.999)
+                .distributionStatisticExpiry(Duration.ofHours(1))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+            allocatedAtStart = threads.getTotalThreadAllocatedBytes();
+        }
+    }
+
+    @Benchmark
+    public int burst() {
+        Timer latency = requestLatency;
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = requests[cursor++ & (QUERY_COUNT - 1)];
+            long startNanos = System.nanoTime();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .thenAccept(response -> {
+                    if (latency != null) {
+                        latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                    }
+                    if (response.statusCode() != 200) {
+                        failures.increment();
+                    }
+                });
+        }
+        CompletableFuture.allOf(responses).join();
+        return concurrency;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        if (requestLatency != null && requestLatency.count() > 0) {
+            long allocated = threads.getTotalThreadAllocatedBytes() - allocatedAtStart;
+            StringBuilder report = new StringBuilder(String.format("%n[%s, concurrency %d] %d requests",
+                stack, concurrency, requestLatency.count()));
+            for (ValueAtPercentile percentile : requestLatency.takeSnapshot().percentileValues()) {
+                report.append(String.format(", p%s %.2f ms",
+                    percentile.percentile() * 100, percentile.value(TimeUnit.MILLISECONDS)));
+            }
+            report.append(String.format(", %d bytes allocated per request, %d non-200 responses",
+                allocated / requestLatency.count(), failures.sum()));
+            System.out.println(report);
+        }
+        clientExecutor.close();
+        context.close();
+    }
+}
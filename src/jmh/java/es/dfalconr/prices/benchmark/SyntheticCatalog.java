@@ -0,0 +1,99 @@
+package es.dfalconr.prices.benchmark;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.domain.model.Price;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic catalog for benchmarks: every product gets a year-long base price plus
+ * {@code rangesPerProduct - 1} shorter, overlapping ranges with priorities spread over
+ * {@code [0, prioritySpread)}, so every generated query resolves to a price.
+ */
+public final class SyntheticCatalog {
+
+    public static final Long BRAND_ID = 1L;
+    public static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    public static final LocalDateTime END = START.plusYears(1).minusSeconds(1);
+
+    private static final int MINUTES_PER_YEAR = 60 * 24 * 365;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+
+    private final List<Price> prices;
+    private final int products;
+    private final Random random;
+
+    private SyntheticCatalog(List<Price> prices, int products, Random random) {
+        this.prices = prices;
+        this.products = products;
+        this.random = random;
+    }
+
+    public static SyntheticCatalog generate(int products, int rangesPerProduct, int prioritySpread) {
+        Random random = new Random(42);
+        List<Price> prices = new ArrayList<>(products * rangesPerProduct);
+        for (long productId = 1; productId <= products; productId++) {
+            prices.add(price(productId, 1, START, END, 0, random));
+            for (int range = 1; range < rangesPerProduct; range++) {
+                LocalDateTime start = START.plusMinutes(random.nextInt(MINUTES_PER_YEAR));
+                LocalDateTime end = start.plusMinutes(1 + random.nextInt(MINUTES_PER_YEAR / 12));
+                prices.add(price(productId, range + 1, start, end.isAfter(END) ? END : end,
+                    random.nextInt(prioritySpread), random));
+            }
+        }
+        return new SyntheticCatalog(List.copyOf(prices), products, random);
+    }
+
+    public List<Price> prices() {
+        return prices;
+    }
+
+    public PriceQuery[] queries(int count) {
+        PriceQuery[] queries = new PriceQuery[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = new PriceQuery(
+                START.plusSeconds(random.nextInt(MINUTES_PER_YEAR * 60)),
+                1L + random.nextInt(products),
+                BRAND_ID
+            );
+        }
+        return queries;
+    }
+
+    public void insertInto(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE,
+                                    PRIORITY, PRICE, CURR, LAST_UPDATE, LAST_UPDATE_BY)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 'benchmark')
+                """,
+            prices, INSERT_BATCH_SIZE, (statement, price) -> {
+                statement.setLong(1, price.brandId());
+                statement.setLong(2, price.productId());
+                statement.setInt(3, price.priceList());
+                statement.setObject(4, price.startDate());
+                statement.setObject(5, price.endDate());
+                statement.setInt(6, price.priority());
+                statement.setBigDecimal(7, price.amount());
+                statement.setString(8, price.currency());
+                statement.setObject(9, now);
+            });
+    }
+
+    private static Price price(
+        Long productId,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority,
+        Random random
+    ) {
+        BigDecimal amount = BigDecimal.valueOf(1_000 + random.nextInt(99_000), 2);
+        return new Price(null, BRAND_ID, productId, priceList, startDate, endDate, priority, amount, "EUR");
+    }
+}
@@ -0,0 +1,19 @@
+package es.dfalconr.prices.application.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch of price queries resolved in a single pass")
+public record PriceBatchQuery(
+    @ArraySchema(schema = @Schema(implementation = PriceQuery.class))
+    List<PriceQuery> items
+) {
+    public PriceBatchQuery {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one price query is required");
+        }
+        items = List.copyOf(items);
+    }
+}
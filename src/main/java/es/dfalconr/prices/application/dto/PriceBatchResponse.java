@@ -0,0 +1,13 @@
+package es.dfalconr.prices.application.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Batch price response, one result per query in request order")
+public record PriceBatchResponse(
+    @ArraySchema(schema = @Schema(implementation = PriceBatchResult.class))
+    List<PriceBatchResult> results
+) {
+}
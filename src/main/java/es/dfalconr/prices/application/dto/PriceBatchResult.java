@@ -0,0 +1,44 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Outcome of a single query within a batch")
+public record PriceBatchResult(
+    @Schema(description = "Requested application date", example = "2020-06-14T10:00:00")
+    LocalDateTime applicationDate,
+
+    @Schema(description = "Requested product ID", example = "35455")
+    Long productId,
+
+    @Schema(description = "Requested brand ID", example = "1")
+    Long brandId,
+
+    @Schema(description = "Whether an applicable price was found", example = "true")
+    boolean found,
+
+    @Schema(description = "Applicable price, absent when not found")
+    PriceResponse price
+) {
+    public static PriceBatchResult found(PriceQuery query, Price price) {
+        return new PriceBatchResult(
+            query.applicationDate(),
+            query.productId(),
+            query.brandId(),
+            true,
+            PriceResponse.from(price)
+        );
+    }
+
+    public static PriceBatchResult notFound(PriceQuery query) {
+        return new PriceBatchResult(
+            query.applicationDate(),
+            query.productId(),
+            query.brandId(),
+            false,
+            null
+        );
+    }
+}
@@ -0,0 +1,53 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "Price to create, or the new state of an existing price")
+public record PriceCommand(
+    @Schema(description = "Brand ID", example = "1")
+    Long brandId,
+
+    @Schema(description = "Product ID", example = "35455")
+    Long productId,
+
+    @Schema(description = "Price list identifier", example = "5")
+    Integer priceList,
+
+    @Schema(description = "Price validity start date", example = "2020-07-01T00:00:00")
+    LocalDateTime startDate,
+
+    @Schema(description = "Price validity end date", example = "2020-07-31T23:59:59")
+    LocalDateTime endDate,
+
+    @Schema(description = "Priority, the highest applicable one wins", example = "2")
+    Integer priority,
+
+    @Schema(description = "Price amount, at most two decimals", example = "29.95")
+    BigDecimal price,
+
+    @Schema(description = "ISO-4217 currency code", example = "EUR")
+    String currency
+) {
+    public PriceCommand {
+        if (brandId == null || productId == null || priceList == null || startDate == null
+            || endDate == null || priority == null || price == null || currency == null) {
+            throw new IllegalArgumentException("All price fields are required");
+        }
+        // PRICES stores DECIMAL(10, 2); anything finer would be rounded silently
+        if (price.signum() < 0 || price.stripTrailingZeros().scale() > 2 || price.precision() - price.scale() > 8) {
+            throw new IllegalArgumentException("Price must be a non-negative amount with at most two decimals");
+        }
+        if (!currency.matches("[A-Z]{3}")) {
+            throw new IllegalArgumentException("Currency must be a three-letter ISO-4217 code");
+        }
+    }
+
+    // Price invariants (date order, priority) are checked here
+    public Price toPrice(Long id) {
+        return new Price(id, brandId, productId, priceList, startDate, endDate, priority, price, currency);
+    }
+}
@@ -0,0 +1,51 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "Stored price row")
+public record PriceDetailResponse(
+    @Schema(description = "Price ID", example = "5")
+    Long id,
+
+    @Schema(description = "Brand ID", example = "1")
+    Long brandId,
+
+    @Schema(description = "Product ID", example = "35455")
+    Long productId,
+
+    @Schema(description = "Price list identifier", example = "5")
+    Integer priceList,
+
+    @Schema(description = "Price validity start date", example = "2020-07-01T00:00:00")
+    LocalDateTime startDate,
+
+    @Schema(description = "Price validity end date", example = "2020-07-31T23:59:59")
+    LocalDateTime endDate,
+
+    @Schema(description = "Priority", example = "2")
+    Integer priority,
+
+    @Schema(description = "Price amount", example = "29.95")
+    BigDecimal price,
+
+    @Schema(description = "Currency", example = "EUR")
+    String currency
+) {
+    public static PriceDetailResponse from(Price price) {
+        return new PriceDetailResponse(
+            price.id(),
+            price.brandId(),
+            price.productId(),
+            price.priceList(),
+            price.startDate(),
+            price.endDate(),
+            price.priority(),
+            price.amount(),
+            price.currency()
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package es.dfalconr.prices.application.dto;
+
+import java.time.LocalDateTime;
+
+public record PriceExportQuery(
+    Long brandId,
+    LocalDateTime applicationDate
+) {
+    public PriceExportQuery {
+        if (brandId == null || applicationDate == null) {
+            throw new IllegalArgumentException("All query parameters are required");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package es.dfalconr.prices.application.dto;
 
+import es.dfalconr.prices.domain.model.PriceLookup;
+
 import java.time.LocalDateTime;
 
 public record PriceQuery(
@@ -12,4 +14,8 @@ public record PriceQuery(
             throw new IllegalArgumentException("All query parameters are required");
         }
     }
+
+    public PriceLookup toLookup() {
+        return new PriceLookup(applicationDate, productId, brandId);
+    }
 }
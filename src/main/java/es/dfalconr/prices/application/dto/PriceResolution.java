@@ -0,0 +1,69 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// validUntil is the end of the price's timeline segment, the product's next start or end boundary
+public record PriceResolution(
+    Price price,
+    LocalDateTime validUntil
+) {
+    public PriceResolution {
+        if (price == null || validUntil == null) {
+            throw new IllegalArgumentException("Price and validity end are required");
+        }
+    }
+
+    public static PriceResolution from(PriceSegment segment) {
+        return new PriceResolution(segment.price(), segment.endDate());
+    }
+
+    public PriceResponse toResponse() {
+        return PriceResponse.from(price);
+    }
+
+    // Rows carry no version column, so the row id is paired with a fingerprint of every field
+    // that reaches the response; an update of the winning row changes the tag
+    public String entityTag() {
+        int fingerprint = Objects.hash(
+            price.productId(),
+            price.brandId(),
+            price.priceList(),
+            price.startDate(),
+            price.endDate(),
+            price.amount()
+        );
+        return "\"" + price.id() + "-" + Integer.toHexString(fingerprint) + "\"";
+    }
+
+    // If-None-Match uses the weak comparison, so a W/ prefix added by a proxy still matches
+    public boolean isMatchedBy(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String entityTag = entityTag();
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.strip();
+            if (tag.equals("*") || tag.equals(entityTag) || tag.equals("W/" + entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // validUntil is inclusive, so the answer changes one nanosecond after it; added to the duration,
+    // as validUntil may be LocalDateTime.MAX
+    public Duration remainingAt(LocalDateTime applicationDate) {
+        Duration remaining = Duration.between(applicationDate, validUntil).plusNanos(1);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    public Duration remainingAt(LocalDateTime applicationDate, Duration cap) {
+        Duration remaining = remainingAt(applicationDate);
+        return remaining.compareTo(cap) < 0 ? remaining : cap;
+    }
+}
@@ -0,0 +1,43 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.PriceSegment;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Schema(description = "Span of a timeline during which one price applies")
+public record PriceSegmentResponse(
+    @Schema(description = "Product ID", example = "35455")
+    Long productId,
+
+    @Schema(description = "Brand ID", example = "1")
+    Long brandId,
+
+    @Schema(description = "Price list identifier", example = "2")
+    Integer priceList,
+
+    @Schema(description = "Segment start date", example = "2020-06-14T15:00:00")
+    LocalDateTime startDate,
+
+    @Schema(description = "Segment end date, inclusive", example = "2020-06-14T18:30:00")
+    LocalDateTime endDate,
+
+    @Schema(description = "Final price amount", example = "25.45")
+    BigDecimal finalPrice,
+
+    @Schema(description = "Currency", example = "EUR")
+    String currency
+) {
+    public static PriceSegmentResponse from(PriceSegment segment) {
+        return new PriceSegmentResponse(
+            segment.price().productId(),
+            segment.price().brandId(),
+            segment.price().priceList(),
+            segment.startDate(),
+            segment.endDate(),
+            segment.price().amount(),
+            segment.price().currency()
+        );
+    }
+}
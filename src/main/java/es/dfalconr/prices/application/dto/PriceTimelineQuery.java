@@ -0,0 +1,19 @@
+package es.dfalconr.prices.application.dto;
+
+import java.time.LocalDateTime;
+
+public record PriceTimelineQuery(
+    Long productId,
+    Long brandId,
+    LocalDateTime from,
+    LocalDateTime to
+) {
+    public PriceTimelineQuery {
+        if (productId == null || brandId == null || from == null || to == null) {
+            throw new IllegalArgumentException("All query parameters are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must be before to date");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceCommand;
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.springframework.stereotype.Service;
+
+@Service
+public class CreatePriceService {
+
+    private final PriceWriteRepository priceWriteRepository;
+
+    public CreatePriceService(PriceWriteRepository priceWriteRepository) {
+        this.priceWriteRepository = priceWriteRepository;
+    }
+
+    public PriceDetailResponse execute(PriceCommand command) {
+        return PriceDetailResponse.from(priceWriteRepository.create(command.toPrice(null)));
+    }
+}
@@ -0,0 +1,22 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class DeletePriceService {
+
+    private final PriceWriteRepository priceWriteRepository;
+
+    public DeletePriceService(PriceWriteRepository priceWriteRepository) {
+        this.priceWriteRepository = priceWriteRepository;
+    }
+
+    // Returns the deleted price, empty when no price has the id
+    public Optional<PriceDetailResponse> execute(Long id) {
+        return priceWriteRepository.delete(id).map(PriceDetailResponse::from);
+    }
+}
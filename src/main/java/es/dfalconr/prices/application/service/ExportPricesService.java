@@ -0,0 +1,34 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceExportQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.domain.port.PriceRangeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+public class ExportPricesService {
+
+    private final PriceRangeRepository priceRangeRepository;
+
+    public ExportPricesService(PriceRangeRepository priceRangeRepository) {
+        this.priceRangeRepository = priceRangeRepository;
+    }
+
+    // Hands the consumer one price per product of the brand, in product order, while the rows
+    // are still being read; returns how many were exported
+    public long execute(PriceExportQuery query, Consumer<PriceResponse> consumer) {
+        long started = System.nanoTime();
+        long[] exported = {0};
+        priceRangeRepository.forEachApplicable(query.brandId(), query.applicationDate(), price -> {
+            consumer.accept(PriceResponse.from(price));
+            exported[0]++;
+        });
+        log.info("Exported {} prices of brand {} at {} in {} ms", exported[0], query.brandId(),
+            query.applicationDate(), (System.nanoTime() - started) / 1_000_000);
+        return exported[0];
+    }
+}
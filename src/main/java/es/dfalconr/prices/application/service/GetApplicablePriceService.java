@@ -1,40 +1,57 @@
 package es.dfalconr.prices.application.service;
 
 import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
 import es.dfalconr.prices.application.dto.PriceResponse;
-import es.dfalconr.prices.domain.exception.PriceNotFoundException;
-import es.dfalconr.prices.domain.model.Price;
 import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
-import java.util.List;
+import java.util.Optional;
 
 @Service
 public class GetApplicablePriceService {
 
     private final PriceRepository priceRepository;
+    private final Timer lookupTimer;
+    private final Counter foundCounter;
+    private final Counter notFoundCounter;
 
-    public GetApplicablePriceService(PriceRepository priceRepository) {
+    public GetApplicablePriceService(PriceRepository priceRepository, MeterRegistry meterRegistry) {
         this.priceRepository = priceRepository;
+        this.lookupTimer = LookupMetrics.timer(meterRegistry, "single");
+        this.foundCounter = LookupMetrics.outcome(meterRegistry, "single", true);
+        this.notFoundCounter = LookupMetrics.outcome(meterRegistry, "single", false);
     }
 
-    public PriceResponse execute(PriceQuery query) {
-        List<Price> applicablePrices = priceRepository.findApplicablePrices(
-            query.applicationDate(),
-            query.productId(),
-            query.brandId()
-        );
-
-        // Business rule: Select price with highest priority
-        Price selectedPrice = applicablePrices.stream()
-            .max(Comparator.comparing(Price::priority))
-            .orElseThrow(() -> new PriceNotFoundException(
+    // An empty result is the not-found outcome; nothing is thrown on the miss path
+    public Optional<PriceResponse> execute(PriceQuery query) {
+        Timer.Sample sample = Timer.start();
+        // Business rule: the repository resolves the highest priority price (Price.PRECEDENCE)
+        Optional<PriceResponse> response = priceRepository.findApplicablePrice(
                 query.applicationDate(),
                 query.productId(),
                 query.brandId()
-            ));
+            )
+            .map(PriceResponse::from);
+        sample.stop(lookupTimer);
+        (response.isPresent() ? foundCounter : notFoundCounter).increment();
+        return response;
+    }
 
-        return PriceResponse.from(selectedPrice);
+    // Same lookup, but keeps the segment end so callers can tell how long the answer holds
+    public Optional<PriceResolution> resolve(PriceQuery query) {
+        Timer.Sample sample = Timer.start();
+        Optional<PriceResolution> resolution = priceRepository.findApplicableSegment(
+                query.applicationDate(),
+                query.productId(),
+                query.brandId()
+            )
+            .map(PriceResolution::from);
+        sample.stop(lookupTimer);
+        (resolution.isPresent() ? foundCounter : notFoundCounter).increment();
+        return resolution;
     }
 }
@@ -0,0 +1,70 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceBatchQuery;
+import es.dfalconr.prices.application.dto.PriceBatchResponse;
+import es.dfalconr.prices.application.dto.PriceBatchResult;
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class GetApplicablePricesBatchService {
+
+    private final PriceRepository priceRepository;
+    private final int maxBatchSize;
+    private final Timer lookupTimer;
+    private final Counter foundCounter;
+    private final Counter notFoundCounter;
+
+    public GetApplicablePricesBatchService(
+        PriceRepository priceRepository,
+        MeterRegistry meterRegistry,
+        @Value("${prices.batch.max-size:500}") int maxBatchSize
+    ) {
+        this.priceRepository = priceRepository;
+        this.maxBatchSize = maxBatchSize;
+        this.lookupTimer = LookupMetrics.timer(meterRegistry, "batch");
+        this.foundCounter = LookupMetrics.outcome(meterRegistry, "batch", true);
+        this.notFoundCounter = LookupMetrics.outcome(meterRegistry, "batch", false);
+    }
+
+    public PriceBatchResponse execute(PriceBatchQuery batchQuery) {
+        List<PriceQuery> queries = batchQuery.items();
+        if (queries.size() > maxBatchSize) {
+            throw new IllegalArgumentException(String.format(
+                "Batch size %d exceeds the maximum of %d", queries.size(), maxBatchSize));
+        }
+
+        Timer.Sample sample = Timer.start();
+        Set<PriceLookup> lookups = queries.stream()
+            .map(PriceQuery::toLookup)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<PriceLookup, Price> applicablePrices = priceRepository.findApplicablePriceBatch(lookups);
+
+        List<PriceBatchResult> results = queries.stream()
+            .map(query -> {
+                Price price = applicablePrices.get(query.toLookup());
+                return price != null
+                    ? PriceBatchResult.found(query, price)
+                    : PriceBatchResult.notFound(query);
+            })
+            .toList();
+        sample.stop(lookupTimer);
+        long found = results.stream().filter(PriceBatchResult::found).count();
+        foundCounter.increment(found);
+        notFoundCounter.increment(results.size() - found);
+        return new PriceBatchResponse(results);
+    }
+}
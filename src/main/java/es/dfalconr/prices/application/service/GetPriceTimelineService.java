@@ -0,0 +1,28 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceSegmentResponse;
+import es.dfalconr.prices.application.dto.PriceTimelineQuery;
+import es.dfalconr.prices.domain.model.PriceTimelineSweep;
+import es.dfalconr.prices.domain.port.PriceRangeRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+@Service
+public class GetPriceTimelineService {
+
+    private final PriceRangeRepository priceRangeRepository;
+
+    public GetPriceTimelineService(PriceRangeRepository priceRangeRepository) {
+        this.priceRangeRepository = priceRangeRepository;
+    }
+
+    // Segments reach the consumer in date order while the rows are still being read
+    public void execute(PriceTimelineQuery query, Consumer<PriceSegmentResponse> consumer) {
+        PriceTimelineSweep sweep = new PriceTimelineSweep(
+            query.from(), query.to(), segment -> consumer.accept(PriceSegmentResponse.from(segment)));
+        priceRangeRepository.forEachOverlapping(
+            query.productId(), query.brandId(), query.from(), query.to(), sweep::accept);
+        sweep.finish();
+    }
+}
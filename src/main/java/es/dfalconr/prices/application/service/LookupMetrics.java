@@ -0,0 +1,31 @@
+package es.dfalconr.prices.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// Service-layer meters; the controller and adapter layers record the same timer with their own layer tag
+final class LookupMetrics {
+
+    static final String LOOKUP_TIMER = "prices.lookup";
+    static final String LOOKUP_RESULTS = "prices.lookup.results";
+
+    private LookupMetrics() {
+    }
+
+    static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder(LOOKUP_TIMER)
+            .description("Time to resolve applicable prices")
+            .tag("layer", "service")
+            .tag("operation", operation)
+            .register(registry);
+    }
+
+    static Counter outcome(MeterRegistry registry, String operation, boolean found) {
+        return Counter.builder(LOOKUP_RESULTS)
+            .description("Price lookups by outcome")
+            .tag("operation", operation)
+            .tag("outcome", found ? "found" : "not_found")
+            .register(registry);
+    }
+}
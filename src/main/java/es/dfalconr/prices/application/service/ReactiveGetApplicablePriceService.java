@@ -0,0 +1,56 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.domain.port.ReactivePriceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Mono;
+
+// Registered by ReactiveStackConfig; the timer runs from subscription to the result
+public class ReactiveGetApplicablePriceService {
+
+    private final ReactivePriceRepository priceRepository;
+    private final Timer lookupTimer;
+    private final Counter foundCounter;
+    private final Counter notFoundCounter;
+
+    public ReactiveGetApplicablePriceService(ReactivePriceRepository priceRepository, MeterRegistry meterRegistry) {
+        this.priceRepository = priceRepository;
+        this.lookupTimer = LookupMetrics.timer(meterRegistry, "single");
+        this.foundCounter = LookupMetrics.outcome(meterRegistry, "single", true);
+        this.notFoundCounter = LookupMetrics.outcome(meterRegistry, "single", false);
+    }
+
+    // An empty result is the not-found outcome; nothing is signalled as an error on the miss path
+    public Mono<PriceResponse> execute(PriceQuery query) {
+        return timed(priceRepository.findApplicablePrice(
+                query.applicationDate(),
+                query.productId(),
+                query.brandId()
+            )
+            .map(PriceResponse::from));
+    }
+
+    // Same lookup, but keeps the segment end so callers can tell how long the answer holds
+    public Mono<PriceResolution> resolve(PriceQuery query) {
+        return timed(priceRepository.findApplicableSegment(
+                query.applicationDate(),
+                query.productId(),
+                query.brandId()
+            )
+            .map(PriceResolution::from));
+    }
+
+    private <T> Mono<T> timed(Mono<T> lookup) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return lookup.doOnSuccess(result -> {
+                sample.stop(lookupTimer);
+                (result != null ? foundCounter : notFoundCounter).increment();
+            });
+        });
+    }
+}
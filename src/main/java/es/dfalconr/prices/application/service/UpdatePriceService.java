@@ -0,0 +1,23 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceCommand;
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+@Service
+public class UpdatePriceService {
+
+    private final PriceWriteRepository priceWriteRepository;
+
+    public UpdatePriceService(PriceWriteRepository priceWriteRepository) {
+        this.priceWriteRepository = priceWriteRepository;
+    }
+
+    // Empty when no price has the id
+    public Optional<PriceDetailResponse> execute(Long id, PriceCommand command) {
+        return priceWriteRepository.update(command.toPrice(id)).map(PriceDetailResponse::from);
+    }
+}
@@ -2,11 +2,39 @@ package es.dfalconr.prices.domain.exception;
 
 import java.time.LocalDateTime;
 
+// Not-found is an expected outcome, not a fault: no stack trace is captured and the
+// message is only built if someone reads it.
 public class PriceNotFoundException extends RuntimeException {
+
+    private final LocalDateTime date;
+    private final Long productId;
+    private final Long brandId;
+
     public PriceNotFoundException(LocalDateTime date, Long productId, Long brandId) {
-        super(String.format(
-            "No price found for product %d, brand %d at %s",
-            productId, brandId, date
-        ));
+        super(null, null, false, false);
+        this.date = date;
+        this.productId = productId;
+        this.brandId = brandId;
+    }
+
+    public static String message(LocalDateTime date, Long productId, Long brandId) {
+        return "No price found for product " + productId + ", brand " + brandId + " at " + date;
+    }
+
+    @Override
+    public String getMessage() {
+        return message(date, productId, brandId);
+    }
+
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public Long getProductId() {
+        return productId;
+    }
+
+    public Long getBrandId() {
+        return brandId;
     }
 }
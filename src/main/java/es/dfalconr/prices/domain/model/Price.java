@@ -2,6 +2,7 @@ package es.dfalconr.prices.domain.model;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Comparator;
 
 public record Price(
     Long id,
@@ -14,6 +15,12 @@ public record Price(
     BigDecimal amount,
     String currency
 ) {
+    // Highest priority wins; ties go to the most recently started range, then the newest row
+    public static final Comparator<Price> PRECEDENCE = Comparator
+        .comparing(Price::priority)
+        .thenComparing(Price::startDate)
+        .thenComparing(Price::id, Comparator.nullsFirst(Comparator.naturalOrder()));
+
     public Price {
         if (brandId == null || productId == null) {
             throw new IllegalArgumentException("BrandId and ProductId are required");
@@ -0,0 +1,19 @@
+package es.dfalconr.prices.domain.model;
+
+import java.time.LocalDateTime;
+
+public record PriceLookup(
+    LocalDateTime applicationDate,
+    Long productId,
+    Long brandId
+) {
+    public PriceLookup {
+        if (applicationDate == null || productId == null || brandId == null) {
+            throw new IllegalArgumentException("All lookup parameters are required");
+        }
+    }
+
+    public ProductKey productKey() {
+        return new ProductKey(brandId, productId);
+    }
+}
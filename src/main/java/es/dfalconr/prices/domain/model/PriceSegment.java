@@ -0,0 +1,22 @@
+package es.dfalconr.prices.domain.model;
+
+import java.time.LocalDateTime;
+
+public record PriceSegment(
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Price price
+) {
+    public PriceSegment {
+        if (startDate == null || endDate == null || price == null) {
+            throw new IllegalArgumentException("Segment bounds and price are required");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before end date");
+        }
+    }
+
+    public boolean contains(LocalDateTime date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
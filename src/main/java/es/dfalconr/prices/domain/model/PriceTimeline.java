@@ -0,0 +1,74 @@
+package es.dfalconr.prices.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public final class PriceTimeline {
+
+    private static final PriceTimeline EMPTY = new PriceTimeline(new PriceSegment[0]);
+
+    private final PriceSegment[] segments;
+
+    private PriceTimeline(PriceSegment[] segments) {
+        this.segments = segments;
+    }
+
+    public static PriceTimeline empty() {
+        return EMPTY;
+    }
+
+    // One PriceTimelineSweep over the whole span of the rows
+    public static PriceTimeline of(Collection<Price> prices) {
+        if (prices.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<Price> byStart = prices.stream()
+            .sorted(Comparator.comparing(Price::startDate))
+            .toList();
+        LocalDateTime latestEnd = byStart.stream()
+            .map(Price::endDate)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+
+        List<PriceSegment> segments = new ArrayList<>();
+        PriceTimelineSweep sweep = new PriceTimelineSweep(byStart.getFirst().startDate(), latestEnd, segments::add);
+        byStart.forEach(sweep::accept);
+        sweep.finish();
+
+        return new PriceTimeline(segments.toArray(PriceSegment[]::new));
+    }
+
+    public Optional<PriceSegment> segmentAt(LocalDateTime applicationDate) {
+        int low = 0;
+        int high = segments.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            PriceSegment segment = segments[mid];
+            if (segment.startDate().isAfter(applicationDate)) {
+                high = mid - 1;
+            } else if (segment.endDate().isBefore(applicationDate)) {
+                low = mid + 1;
+            } else {
+                return Optional.of(segment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public Optional<Price> priceAt(LocalDateTime applicationDate) {
+        return segmentAt(applicationDate).map(PriceSegment::price);
+    }
+
+    public List<PriceSegment> segments() {
+        return List.of(segments);
+    }
+
+    public boolean isEmpty() {
+        return segments.length == 0;
+    }
+}
@@ -0,0 +1,84 @@
+package es.dfalconr.prices.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+// Only the ranges open at the sweep position are held, so memory follows overlap rather than row count
+public final class PriceTimelineSweep {
+
+    private static final Comparator<Price> BY_END = Comparator.comparing(Price::endDate);
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Consumer<PriceSegment> sink;
+    private final PriorityQueue<Price> open = new PriorityQueue<>(Price.PRECEDENCE.reversed());
+    private final PriorityQueue<Price> closing = new PriorityQueue<>(BY_END);
+
+    private LocalDateTime lastStart;
+    private LocalDateTime segmentStart;
+    private Price segmentPrice;
+
+    public PriceTimelineSweep(LocalDateTime from, LocalDateTime to, Consumer<PriceSegment> sink) {
+        if (from == null || to == null || sink == null) {
+            throw new IllegalArgumentException("Sweep bounds and sink are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must be before to date");
+        }
+        this.from = from;
+        this.to = to;
+        this.sink = sink;
+    }
+
+    public void accept(Price price) {
+        if (lastStart != null && price.startDate().isBefore(lastStart)) {
+            throw new IllegalArgumentException("Prices must be fed in start date order");
+        }
+        lastStart = price.startDate();
+        if (price.endDate().isBefore(from) || price.startDate().isAfter(to)) {
+            return;
+        }
+
+        LocalDateTime start = price.startDate().isBefore(from) ? from : price.startDate();
+        closeUpTo(start);
+        open.add(price);
+        closing.add(price);
+        switchAt(start);
+    }
+
+    // Emits the segment still open at the end of the window; rows ending at to are still open there
+    public void finish() {
+        closeUpTo(to);
+        if (segmentPrice != null) {
+            sink.accept(new PriceSegment(segmentStart, to, segmentPrice));
+        }
+        segmentPrice = null;
+    }
+
+    // Ranges are inclusive on both ends, so a range ending before position closes one nanosecond
+    // after its endDate. Only those are closed, so a range ending at LocalDateTime.MAX never is.
+    private void closeUpTo(LocalDateTime position) {
+        while (!closing.isEmpty() && closing.peek().endDate().isBefore(position)) {
+            LocalDateTime endDate = closing.peek().endDate();
+            while (!closing.isEmpty() && closing.peek().endDate().equals(endDate)) {
+                open.remove(closing.poll());
+            }
+            switchAt(endDate.plusNanos(1));
+        }
+    }
+
+    // Several rows starting at the same instant replace the pending winner without an empty segment
+    private void switchAt(LocalDateTime boundary) {
+        Price winner = open.peek();
+        if (winner == segmentPrice) {
+            return;
+        }
+        if (segmentPrice != null && boundary.isAfter(segmentStart)) {
+            sink.accept(new PriceSegment(segmentStart, boundary.minusNanos(1), segmentPrice));
+        }
+        segmentStart = boundary;
+        segmentPrice = winner;
+    }
+}
@@ -0,0 +1,16 @@
+package es.dfalconr.prices.domain.model;
+
+public record ProductKey(
+    Long brandId,
+    Long productId
+) {
+    public ProductKey {
+        if (brandId == null || productId == null) {
+            throw new IllegalArgumentException("BrandId and ProductId are required");
+        }
+    }
+
+    public static ProductKey of(Price price) {
+        return new ProductKey(price.brandId(), price.productId());
+    }
+}
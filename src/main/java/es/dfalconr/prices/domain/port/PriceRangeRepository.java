@@ -0,0 +1,25 @@
+package es.dfalconr.prices.domain.port;
+
+import es.dfalconr.prices.domain.model.Price;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// Streams rows from the source of truth without materialising them
+public interface PriceRangeRepository {
+    // Rows of a product overlapping [from, to] in start date order
+    void forEachOverlapping(
+        Long productId,
+        Long brandId,
+        LocalDateTime from,
+        LocalDateTime to,
+        Consumer<Price> action
+    );
+
+    // The applicable price of every product of the brand at the date, in product order
+    void forEachApplicable(
+        Long brandId,
+        LocalDateTime applicationDate,
+        Consumer<Price> action
+    );
+}
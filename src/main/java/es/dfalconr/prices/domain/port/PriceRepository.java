@@ -1,9 +1,16 @@
 package es.dfalconr.prices.domain.port;
 
 import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface PriceRepository {
     List<Price> findApplicablePrices(
@@ -11,4 +18,54 @@ public interface PriceRepository {
         Long productId,
         Long brandId
     );
+
+    Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    );
+
+    Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups);
+
+    PriceTimeline findPriceTimeline(
+        Long productId,
+        Long brandId
+    );
+
+    // Last instant, from applicationDate on, before any row of the product starts or ends, so the
+    // price that wins at applicationDate is certain to keep winning until then
+    default Optional<LocalDateTime> findStableUntil(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return findPriceTimeline(productId, brandId).segmentAt(applicationDate).map(PriceSegment::endDate);
+    }
+
+    // The winning price together with a span containing applicationDate over which it keeps winning.
+    // This default starts the span at applicationDate; a row removed between its two reads leaves
+    // it valid for that instant only
+    default Optional<PriceSegment> findApplicableSegment(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return findApplicablePrice(applicationDate, productId, brandId)
+            .map(price -> new PriceSegment(
+                applicationDate,
+                findStableUntil(applicationDate, productId, brandId)
+                    .filter(stableUntil -> !stableUntil.isBefore(applicationDate))
+                    .orElse(applicationDate),
+                price
+            ));
+    }
+
+    default Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, PriceSegment> segments = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            findApplicableSegment(lookup.applicationDate(), lookup.productId(), lookup.brandId())
+                .ifPresent(segment -> segments.put(lookup, segment));
+        }
+        return segments;
+    }
 }
@@ -0,0 +1,14 @@
+package es.dfalconr.prices.domain.port;
+
+import es.dfalconr.prices.domain.model.Price;
+
+import java.util.Optional;
+
+// Writes go to the source of truth; once one returns, lookups through PriceRepository see it
+public interface PriceWriteRepository {
+    Price create(Price price);
+
+    Optional<Price> update(Price price);
+
+    Optional<Price> delete(Long id);
+}
@@ -0,0 +1,33 @@
+package es.dfalconr.prices.domain.port;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+// An empty Mono is the not-found outcome
+public interface ReactivePriceRepository {
+
+    // Business rule: resolves the highest priority price (Price.PRECEDENCE)
+    Mono<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    );
+
+    Mono<PriceTimeline> findPriceTimeline(
+        Long productId,
+        Long brandId
+    );
+
+    default Mono<PriceSegment> findApplicableSegment(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return findPriceTimeline(productId, brandId)
+            .flatMap(timeline -> Mono.justOrEmpty(timeline.segmentAt(applicationDate)));
+    }
+}
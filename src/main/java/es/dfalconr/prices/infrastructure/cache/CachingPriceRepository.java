@@ -0,0 +1,84 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// A miss resolves the product timeline, so the cached segment carries its full validity window
+public class CachingPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final PriceSegmentCache cache;
+
+    public CachingPriceRepository(PriceRepository delegate, PriceSegmentCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return delegate.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return findApplicableSegment(applicationDate, productId, brandId).map(PriceSegment::price);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return cache.get(new ProductKey(brandId, productId), applicationDate,
+            () -> delegate.findPriceTimeline(productId, brandId).segmentAt(applicationDate));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return delegate.findStableUntil(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, Price> resolved = new HashMap<>(lookups.size() * 2);
+        List<PriceLookup> pending = new ArrayList<>();
+        for (PriceLookup lookup : lookups) {
+            cache.find(lookup.productKey(), lookup.applicationDate()).ifPresentOrElse(
+                segment -> resolved.put(lookup, segment.price()),
+                () -> pending.add(lookup));
+        }
+        if (!pending.isEmpty()) {
+            resolved.putAll(delegate.findApplicablePriceBatch(pending));
+        }
+        return resolved;
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, PriceSegment> resolved = new HashMap<>(lookups.size() * 2);
+        List<PriceLookup> pending = new ArrayList<>();
+        for (PriceLookup lookup : lookups) {
+            cache.find(lookup.productKey(), lookup.applicationDate()).ifPresentOrElse(
+                segment -> resolved.put(lookup, segment),
+                () -> pending.add(lookup));
+        }
+        if (!pending.isEmpty()) {
+            resolved.putAll(delegate.findApplicableSegmentBatch(pending));
+        }
+        return resolved;
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return delegate.findPriceTimeline(productId, brandId);
+    }
+}
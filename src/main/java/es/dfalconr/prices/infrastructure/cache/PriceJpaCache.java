@@ -0,0 +1,55 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+// PRICES is written with JDBC, so committed writes must call invalidateAll()
+@Component
+@ConditionalOnProperty(name = "prices.jpa-cache.enabled", havingValue = "true")
+public class PriceJpaCache {
+
+    public static final String ENTITY_REGION = "prices.entity";
+    public static final String QUERY_REGION = "prices.applicable";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final String[] querySpaces;
+
+    public PriceJpaCache(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.querySpaces = Arrays.stream(sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(PriceJpaEntity.class)
+                .getQuerySpaces())
+            .map(String::valueOf)
+            .toArray(String[]::new);
+    }
+
+    // Bumping the PRICES timestamp rejects cached results of queries that started before it,
+    // including one still running now, which an eviction of the query region would let back in
+    public void invalidateAll() {
+        try (Session session = sessionFactory.openSession()) {
+            sessionFactory.getCache().getTimestampsCache()
+                .invalidate(querySpaces, session.unwrap(SharedSessionContractImplementor.class));
+        }
+        sessionFactory.getCache().evictEntityData(PriceJpaEntity.class);
+    }
+
+    public PriceJpaCacheStats stats() {
+        CacheRegionStatistics entities = sessionFactory.getStatistics().getDomainDataRegionStatistics(ENTITY_REGION);
+        // Query regions are created on first use
+        CacheRegionStatistics queries = sessionFactory.getStatistics().getQueryRegionStatistics(QUERY_REGION);
+        return new PriceJpaCacheStats(
+            entities.getHitCount(),
+            entities.getMissCount(),
+            queries == null ? 0 : queries.getHitCount(),
+            queries == null ? 0 : queries.getMissCount()
+        );
+    }
+}
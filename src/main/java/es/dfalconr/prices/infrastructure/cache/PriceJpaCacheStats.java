@@ -0,0 +1,21 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+public record PriceJpaCacheStats(
+    long entityHitCount,
+    long entityMissCount,
+    long queryHitCount,
+    long queryMissCount
+) {
+    public double entityHitRate() {
+        return hitRate(entityHitCount, entityMissCount);
+    }
+
+    public double queryHitRate() {
+        return hitRate(queryHitCount, queryMissCount);
+    }
+
+    private static double hitRate(long hits, long misses) {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+}
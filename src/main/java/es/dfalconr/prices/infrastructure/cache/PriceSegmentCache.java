@@ -0,0 +1,82 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Last resolved segment per (brand, product); any date inside it is answered without the repository
+@Component
+@ConditionalOnProperty(name = "prices.cache.enabled", havingValue = "true")
+public class PriceSegmentCache {
+
+    private final Cache<ProductKey, PriceSegment> segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Bumped on every invalidation so a load that started before it never stores its stale segment
+    private final AtomicLong generation = new AtomicLong();
+
+    public PriceSegmentCache(@Value("${prices.cache.maximum-size:10000}") long maximumSize) {
+        this.segments = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .recordStats()
+            .build();
+    }
+
+    public Optional<PriceSegment> get(
+        ProductKey key,
+        LocalDateTime applicationDate,
+        Supplier<Optional<PriceSegment>> loader
+    ) {
+        Optional<PriceSegment> cached = find(key, applicationDate);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        long loadGeneration = generation.get();
+        Optional<PriceSegment> loaded = loader.get();
+        loaded.ifPresent(segment -> segments.asMap().compute(key, (ignored, current) ->
+            generation.get() == loadGeneration ? segment : current));
+        return loaded;
+    }
+
+    public Optional<PriceSegment> find(ProductKey key, LocalDateTime applicationDate) {
+        PriceSegment segment = segments.getIfPresent(key);
+        if (segment != null && segment.contains(applicationDate)) {
+            hits.increment();
+            return Optional.of(segment);
+        }
+        misses.increment();
+        return Optional.empty();
+    }
+
+    public void invalidate(ProductKey key) {
+        generation.incrementAndGet();
+        segments.asMap().remove(key);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        segments.invalidateAll();
+    }
+
+    public PriceCacheStats stats() {
+        segments.cleanUp();
+        return new PriceCacheStats(
+            hits.sum(),
+            misses.sum(),
+            segments.stats().evictionCount(),
+            segments.estimatedSize()
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import java.time.Duration;
+
+// Rejection is the bulkhead working as intended under a spike: like a not-found, it is
+// thrown on a hot path, so no stack trace is captured.
+public class BulkheadFullException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public BulkheadFullException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
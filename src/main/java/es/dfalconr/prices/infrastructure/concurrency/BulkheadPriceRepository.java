@@ -0,0 +1,61 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.PriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// A batch holds one permit for its single query
+public class BulkheadPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final PriceRepositoryBulkhead bulkhead;
+
+    public BulkheadPriceRepository(PriceRepository delegate, PriceRepositoryBulkhead bulkhead) {
+        this.delegate = delegate;
+        this.bulkhead = bulkhead;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return bulkhead.execute(() -> delegate.findApplicablePrices(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return bulkhead.execute(() -> delegate.findApplicablePrice(applicationDate, productId, brandId));
+    }
+
+    // The whole segment lookup holds one permit, even where the adapter reads it in two calls
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return bulkhead.execute(() -> delegate.findApplicableSegment(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return bulkhead.execute(() -> delegate.findStableUntil(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        return bulkhead.execute(() -> delegate.findApplicablePriceBatch(lookups));
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        return bulkhead.execute(() -> delegate.findApplicableSegmentBatch(lookups));
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return bulkhead.execute(() -> delegate.findPriceTimeline(productId, brandId));
+    }
+}
@@ -0,0 +1,14 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+public record BulkheadStats(
+    int maxConcurrentCalls,
+    int activeCalls,
+    int queueDepth,
+    long admittedCount,
+    long queueFullCount,
+    long timedOutCount
+) {
+    public long rejectedCount() {
+        return queueFullCount + timedOutCount;
+    }
+}
@@ -0,0 +1,65 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class CoalescingPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final PriceLookupCoalescer coalescer;
+
+    public CoalescingPriceRepository(PriceRepository delegate, PriceLookupCoalescer coalescer) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return coalescer.applicablePrices(new PriceLookup(applicationDate, productId, brandId),
+            () -> List.copyOf(delegate.findApplicablePrices(applicationDate, productId, brandId)));
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return coalescer.applicablePrice(new PriceLookup(applicationDate, productId, brandId),
+            () -> delegate.findApplicablePrice(applicationDate, productId, brandId));
+    }
+
+    // Lookups of one product at different dates share a segment that covers them
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return coalescer.applicableSegment(new PriceLookup(applicationDate, productId, brandId),
+            () -> delegate.findApplicableSegment(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return delegate.findStableUntil(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        return delegate.findApplicablePriceBatch(lookups);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        return delegate.findApplicableSegmentBatch(lookups);
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return coalescer.timeline(new ProductKey(brandId, productId),
+            () -> delegate.findPriceTimeline(productId, brandId));
+    }
+}
@@ -0,0 +1,12 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+public record CoalescingStats(
+    long executionCount,
+    long collapsedCount,
+    int inFlightCount
+) {
+    public double collapseRate() {
+        long calls = executionCount + collapsedCount;
+        return calls == 0 ? 0.0 : (double) collapsedCount / calls;
+    }
+}
@@ -0,0 +1,18 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import java.time.Duration;
+
+// Shedding load is the limiter working as intended, on the hottest path: no stack trace.
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public ConcurrencyLimitExceededException(String message, Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,89 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+// The limit follows the ratio of short to long latency averages and does not grow while under half used
+public final class GradientConcurrencyLimit {
+
+    private static final int SHORT_WINDOW = 10;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final int baselineWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile double limit;
+    private double shortNanos;
+    private double baselineNanos;
+    private long sampleCount;
+
+    public GradientConcurrencyLimit(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        double tolerance,
+        double smoothing,
+        int baselineWindow
+    ) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (tolerance < 1.0 || smoothing <= 0.0 || smoothing > 1.0 || baselineWindow < SHORT_WINDOW) {
+            throw new IllegalArgumentException("Invalid gradient tolerance, smoothing or baseline window");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.baselineWindow = baselineWindow;
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public void onSample(long latencyNanos, int inFlight) {
+        lock.lock();
+        try {
+            sampleCount++;
+            shortNanos = average(shortNanos, latencyNanos, SHORT_WINDOW);
+            baselineNanos = average(baselineNanos, latencyNanos, baselineWindow);
+            // A lasting improvement, such as a warmed cache, would otherwise hold the limit down
+            if (baselineNanos > 2 * shortNanos) {
+                baselineNanos *= 0.95;
+            }
+            if (inFlight < limit / 2) {
+                return;
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineNanos / shortNanos));
+            double target = limit * gradient + Math.sqrt(limit);
+            limit = clamp(limit * (1 - smoothing) + target * smoothing);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Overload reported further down, such as a full bulkhead, backs off without a latency sample
+    public void onDropped() {
+        lock.lock();
+        try {
+            limit = clamp(limit * DROP_BACKOFF);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Exponential average that starts as a plain mean, so early samples are not swamped by zero
+    private double average(double current, long sample, int window) {
+        double weight = 2.0 / (Math.min(sampleCount, window) + 1);
+        return sampleCount == 1 ? sample : current + (sample - current) * weight;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
@@ -0,0 +1,13 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+public record LimiterStats(
+    int limit,
+    int inFlight,
+    long admittedCount,
+    long rejectedCount
+) {
+    public double rejectionRate() {
+        long calls = admittedCount + rejectedCount;
+        return calls == 0 ? 0.0 : (double) rejectedCount / calls;
+    }
+}
@@ -0,0 +1,10 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+public record MicroBatchStats(
+    long batchCount,
+    long lookupCount
+) {
+    public double averageBatchSize() {
+        return batchCount == 0 ? 0.0 : (double) lookupCount / batchCount;
+    }
+}
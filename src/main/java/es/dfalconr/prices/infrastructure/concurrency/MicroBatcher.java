@@ -0,0 +1,131 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+// The first caller leads the batch and runs it after the window; the lock only guards adding a key
+public final class MicroBatcher<K, V> {
+
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder keys = new LongAdder();
+
+    // Guarded by lock
+    private Batch<K, V> open;
+
+    public MicroBatcher(Duration window, int maxBatchSize) {
+        if (window.isNegative() || maxBatchSize < 1) {
+            throw new IllegalArgumentException("Window must not be negative and batch size must be positive");
+        }
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public Optional<V> load(K key, Function<Collection<K>, Map<K, V>> batchLoader) {
+        Batch<K, V> batch;
+        CompletableFuture<Optional<V>> result;
+        boolean leader = false;
+        boolean full = false;
+
+        lock.lock();
+        try {
+            if (open == null) {
+                open = new Batch<>();
+                leader = true;
+            }
+            batch = open;
+            result = batch.futures.computeIfAbsent(key, ignored -> new CompletableFuture<>());
+            if (batch.futures.size() >= maxBatchSize) {
+                open = null;
+                full = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full) {
+            run(batch, batchLoader);
+        } else if (leader) {
+            pause();
+            if (close(batch)) {
+                run(batch, batchLoader);
+            }
+        }
+        return await(result);
+    }
+
+    public long batchCount() {
+        return batches.sum();
+    }
+
+    public long keyCount() {
+        return keys.sum();
+    }
+
+    private boolean close(Batch<K, V> batch) {
+        lock.lock();
+        try {
+            if (open != batch) {
+                return false;
+            }
+            open = null;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void run(Batch<K, V> batch, Function<Collection<K>, Map<K, V>> batchLoader) {
+        batches.increment();
+        keys.add(batch.futures.size());
+        try {
+            Map<K, V> values = batchLoader.apply(List.copyOf(batch.futures.keySet()));
+            batch.futures.forEach((key, future) -> future.complete(Optional.ofNullable(values.get(key))));
+        } catch (RuntimeException | Error ex) {
+            batch.futures.values().forEach(future -> future.completeExceptionally(ex));
+        }
+    }
+
+    private void pause() {
+        if (windowNanos == 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(windowNanos);
+        } catch (InterruptedException ex) {
+            // Run the batch now; the waiting callers still need their results
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <V> Optional<V> await(CompletableFuture<Optional<V>> result) {
+        try {
+            return result.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private static final class Batch<K, V> {
+        // Written under the batcher lock, read only after the batch is closed
+        private final Map<K, CompletableFuture<Optional<V>>> futures = new LinkedHashMap<>();
+    }
+}
@@ -0,0 +1,61 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.PriceRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class MicroBatchingPriceRepository implements PriceRepository {
+
+    private final PriceRepository delegate;
+    private final PriceLookupBatcher batcher;
+
+    public MicroBatchingPriceRepository(PriceRepository delegate, PriceLookupBatcher batcher) {
+        this.delegate = delegate;
+        this.batcher = batcher;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return delegate.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return batcher.applicablePrice(new PriceLookup(applicationDate, productId, brandId),
+            delegate::findApplicablePriceBatch);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return batcher.applicableSegment(new PriceLookup(applicationDate, productId, brandId),
+            delegate::findApplicableSegmentBatch);
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return delegate.findStableUntil(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        return delegate.findApplicablePriceBatch(lookups);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        return delegate.findApplicableSegmentBatch(lookups);
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return delegate.findPriceTimeline(productId, brandId);
+    }
+}
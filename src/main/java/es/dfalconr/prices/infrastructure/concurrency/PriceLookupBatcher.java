@@ -0,0 +1,51 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+@Component
+@ConditionalOnProperty(name = "prices.micro-batching.enabled", havingValue = "true")
+public class PriceLookupBatcher {
+
+    private final MicroBatcher<PriceLookup, Price> batcher;
+    private final MicroBatcher<PriceLookup, PriceSegment> segmentBatcher;
+
+    public PriceLookupBatcher(
+        @Value("${prices.micro-batching.window:2ms}") Duration window,
+        @Value("${prices.micro-batching.max-batch-size:100}") int maxBatchSize
+    ) {
+        this.batcher = new MicroBatcher<>(window, maxBatchSize);
+        this.segmentBatcher = new MicroBatcher<>(window, maxBatchSize);
+    }
+
+    public Optional<Price> applicablePrice(
+        PriceLookup lookup,
+        Function<Collection<PriceLookup>, Map<PriceLookup, Price>> batchRead
+    ) {
+        return batcher.load(lookup, batchRead);
+    }
+
+    public Optional<PriceSegment> applicableSegment(
+        PriceLookup lookup,
+        Function<Collection<PriceLookup>, Map<PriceLookup, PriceSegment>> batchRead
+    ) {
+        return segmentBatcher.load(lookup, batchRead);
+    }
+
+    public MicroBatchStats stats() {
+        return new MicroBatchStats(
+            batcher.batchCount() + segmentBatcher.batchCount(),
+            batcher.keyCount() + segmentBatcher.keyCount()
+        );
+    }
+}
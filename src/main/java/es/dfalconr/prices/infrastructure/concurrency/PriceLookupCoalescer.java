@@ -0,0 +1,54 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+// Segments are shared per (brand, product) and reused by callers whose date falls inside them
+@Component
+@ConditionalOnProperty(name = "prices.coalescing.enabled", havingValue = "true")
+public class PriceLookupCoalescer {
+
+    private final SingleFlight<PriceLookup, List<Price>> applicablePrices = new SingleFlight<>();
+    private final SingleFlight<PriceLookup, Optional<Price>> applicablePrice = new SingleFlight<>();
+    private final SingleFlight<ProductKey, PriceTimeline> timelines = new SingleFlight<>();
+    private final SingleFlight<ProductKey, Optional<PriceSegment>> segments = new SingleFlight<>();
+
+    public List<Price> applicablePrices(PriceLookup lookup, Supplier<List<Price>> read) {
+        return applicablePrices.execute(lookup, read);
+    }
+
+    public Optional<Price> applicablePrice(PriceLookup lookup, Supplier<Optional<Price>> read) {
+        return applicablePrice.execute(lookup, read);
+    }
+
+    public PriceTimeline timeline(ProductKey key, Supplier<PriceTimeline> read) {
+        return timelines.execute(key, read);
+    }
+
+    // A segment starts at the date it was read for, so only later dates inside it can share it
+    public Optional<PriceSegment> applicableSegment(PriceLookup lookup, Supplier<Optional<PriceSegment>> read) {
+        LocalDateTime date = lookup.applicationDate();
+        return segments.execute(lookup.productKey(), read,
+                segment -> segment.filter(shared -> shared.contains(date)).isPresent())
+            .map(segment -> new PriceSegment(date, segment.endDate(), segment.price()));
+    }
+
+    public CoalescingStats stats() {
+        List<SingleFlight<?, ?>> flights = List.of(applicablePrices, applicablePrice, timelines, segments);
+        return new CoalescingStats(
+            flights.stream().mapToLong(SingleFlight::executionCount).sum(),
+            flights.stream().mapToLong(SingleFlight::collapsedCount).sum(),
+            flights.stream().mapToInt(SingleFlight::inFlightCount).sum()
+        );
+    }
+}
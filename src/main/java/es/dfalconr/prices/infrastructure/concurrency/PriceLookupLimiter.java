@@ -0,0 +1,61 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Nothing queues here; the excess is shed at once and a BulkheadFullException from below counts as a drop
+@Component
+@ConditionalOnProperty(name = "prices.limiter.enabled", havingValue = "true")
+public class PriceLookupLimiter {
+
+    private final GradientConcurrencyLimit limit;
+    private final Duration retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public PriceLookupLimiter(
+        @Value("${prices.limiter.initial-limit:20}") int initialLimit,
+        @Value("${prices.limiter.min-limit:4}") int minLimit,
+        @Value("${prices.limiter.max-limit:200}") int maxLimit,
+        @Value("${prices.limiter.tolerance:1.5}") double tolerance,
+        @Value("${prices.limiter.smoothing:0.2}") double smoothing,
+        @Value("${prices.limiter.baseline-window:500}") int baselineWindow,
+        @Value("${prices.limiter.retry-after:1s}") Duration retryAfter
+    ) {
+        this.limit = new GradientConcurrencyLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing,
+            baselineWindow);
+        this.retryAfter = retryAfter;
+    }
+
+    public <T> T execute(Supplier<T> lookup) {
+        int current = inFlight.incrementAndGet();
+        if (current > limit.limit()) {
+            inFlight.decrementAndGet();
+            rejected.increment();
+            throw new ConcurrencyLimitExceededException("Too many concurrent price lookups, retry later", retryAfter);
+        }
+        admitted.increment();
+        long startNanos = System.nanoTime();
+        try {
+            T result = lookup.get();
+            limit.onSample(System.nanoTime() - startNanos, current);
+            return result;
+        } catch (BulkheadFullException ex) {
+            limit.onDropped();
+            throw ex;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    public LimiterStats stats() {
+        return new LimiterStats(limit.limit(), inFlight.get(), admitted.sum(), rejected.sum());
+    }
+}
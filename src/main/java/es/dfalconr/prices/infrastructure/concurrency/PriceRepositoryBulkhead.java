@@ -0,0 +1,99 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+// Waiters park on a fair Semaphore, so virtual threads queue here instead of timing out on the Hikari pool
+@Component
+@ConditionalOnProperty(name = "prices.bulkhead.enabled", havingValue = "true")
+public class PriceRepositoryBulkhead {
+
+    private final int maxConcurrentCalls;
+    private final int maxQueueSize;
+    private final Duration maxWait;
+    private final Semaphore permits;
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queueFull = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final Timer waitTimer;
+
+    public PriceRepositoryBulkhead(
+        @Value("${prices.bulkhead.max-concurrent-calls:${spring.datasource.hikari.maximum-pool-size:10}}")
+        int maxConcurrentCalls,
+        @Value("${prices.bulkhead.max-queue-size:200}") int maxQueueSize,
+        @Value("${prices.bulkhead.max-wait:500ms}") Duration maxWait,
+        MeterRegistry meterRegistry
+    ) {
+        if (maxConcurrentCalls < 1 || maxQueueSize < 0 || maxWait.isNegative()) {
+            throw new IllegalArgumentException("Bulkhead needs at least one call, a non-negative queue and wait");
+        }
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWait = maxWait;
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.waitTimer = Timer.builder("prices.bulkhead.wait")
+            .description("Time repository calls waited for a bulkhead permit")
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        acquire();
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    public BulkheadStats stats() {
+        return new BulkheadStats(
+            maxConcurrentCalls,
+            maxConcurrentCalls - permits.availablePermits(),
+            queueDepth.get(),
+            admitted.sum(),
+            queueFull.sum(),
+            timedOut.sum()
+        );
+    }
+
+    // A zero-timeout tryAcquire honours fairness, so a newcomer never overtakes the queue
+    private void acquire() {
+        long startNanos = System.nanoTime();
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                admitted.increment();
+                waitTimer.record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+            if (queueDepth.incrementAndGet() > maxQueueSize) {
+                queueDepth.decrementAndGet();
+                queueFull.increment();
+                throw new BulkheadFullException("Price lookups are saturated, retry later", maxWait);
+            }
+            try {
+                if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                    timedOut.increment();
+                    throw new BulkheadFullException("Price lookups are saturated, retry later", maxWait);
+                }
+            } finally {
+                queueDepth.decrementAndGet();
+                waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+            }
+            admitted.increment();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a bulkhead permit", ex);
+        }
+    }
+}
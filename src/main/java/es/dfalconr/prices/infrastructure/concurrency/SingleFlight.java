@@ -0,0 +1,75 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+
+    public V execute(K key, Supplier<V> call) {
+        return execute(key, call, result -> true);
+    }
+
+    // A waiter reads again itself when reusable rejects the shared result; failures are always shared
+    public V execute(K key, Supplier<V> call, Predicate<? super V> reusable) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, created);
+        if (running != null) {
+            collapsed.increment();
+            V shared = await(running);
+            if (reusable.test(shared)) {
+                return shared;
+            }
+            // Counted as collapsed while waiting, so the wait stays visible to callers of the counters
+            collapsed.decrement();
+            executions.increment();
+            return call.get();
+        }
+
+        executions.increment();
+        try {
+            V result = call.get();
+            created.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            created.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    public long executionCount() {
+        return executions.sum();
+    }
+
+    public long collapsedCount() {
+        return collapsed.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package es.dfalconr.prices.infrastructure.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+// Regions are created here so each is bounded and an unlisted one fails the startup
+@Configuration
+@ConditionalOnProperty(name = "prices.jpa-cache.enabled", havingValue = "true")
+public class JpaCacheConfig {
+
+    // Hibernate's own regions: query results without a named region, and the last write per table
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    // A URI per context, since the provider shares one manager per URI across the JVM
+    @Bean(destroyMethod = "close")
+    public CacheManager priceJpaCacheManager(
+        @Value("${prices.jpa-cache.entity-max-size:10000}") long entityMaxSize,
+        @Value("${prices.jpa-cache.query-max-size:10000}") long queryMaxSize
+    ) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager(URI.create("prices-jpa-cache-" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(PriceJpaCache.ENTITY_REGION, region(OptionalLong.of(entityMaxSize)));
+        cacheManager.createCache(PriceJpaCache.QUERY_REGION, region(OptionalLong.of(queryMaxSize)));
+        cacheManager.createCache(DEFAULT_QUERY_REGION, region(OptionalLong.of(queryMaxSize)));
+        // Evicting a table's timestamp would let stale query results be served, so it is unbounded
+        cacheManager.createCache(TIMESTAMPS_REGION, region(OptionalLong.empty()));
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer priceJpaCacheProperties(CacheManager priceJpaCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            // Cached entity queries keep row ids only; each row is held once, in the entity region
+            properties.put(AvailableSettings.QUERY_CACHE_LAYOUT, CacheLayout.SHALLOW);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, priceJpaCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    // Entries are stored by reference: Hibernate already keeps them in its own disassembled form
+    private static CaffeineConfiguration<Object, Object> region(OptionalLong maximumSize) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setMaximumSize(maximumSize);
+        return configuration;
+    }
+}
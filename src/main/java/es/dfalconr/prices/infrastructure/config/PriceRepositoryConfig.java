@@ -0,0 +1,62 @@
+package es.dfalconr.prices.infrastructure.config;
+
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.cache.CachingPriceRepository;
+import es.dfalconr.prices.infrastructure.cache.PriceSegmentCache;
+import es.dfalconr.prices.infrastructure.concurrency.BulkheadPriceRepository;
+import es.dfalconr.prices.infrastructure.concurrency.CoalescingPriceRepository;
+import es.dfalconr.prices.infrastructure.concurrency.MicroBatchingPriceRepository;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupBatcher;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupCoalescer;
+import es.dfalconr.prices.infrastructure.concurrency.PriceRepositoryBulkhead;
+import es.dfalconr.prices.infrastructure.metrics.MeteredPriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+// Decorators wrap the adapter innermost first: metrics, bulkhead, micro-batching, coalescing, cache
+@Configuration
+public class PriceRepositoryConfig {
+
+    // Tags the adapters so the primary bean never resolves to itself
+    public static final String ADAPTER = "priceRepositoryAdapter";
+
+    @Bean
+    @Primary
+    public PriceRepository priceRepository(
+        @Qualifier(ADAPTER) PriceRepository adapter,
+        ObjectProvider<PriceRepositoryBulkhead> repositoryBulkhead,
+        ObjectProvider<PriceLookupBatcher> lookupBatcher,
+        ObjectProvider<PriceLookupCoalescer> lookupCoalescer,
+        ObjectProvider<PriceSegmentCache> segmentCache,
+        ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${prices.metrics.candidate-sample-rate:0.01}") double candidateSampleRate
+    ) {
+        PriceRepository repository = adapter;
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            repository = new MeteredPriceRepository(repository, registry, candidateSampleRate);
+        }
+        PriceRepositoryBulkhead bulkhead = repositoryBulkhead.getIfAvailable();
+        if (bulkhead != null) {
+            repository = new BulkheadPriceRepository(repository, bulkhead);
+        }
+        PriceLookupBatcher batcher = lookupBatcher.getIfAvailable();
+        if (batcher != null) {
+            repository = new MicroBatchingPriceRepository(repository, batcher);
+        }
+        PriceLookupCoalescer coalescer = lookupCoalescer.getIfAvailable();
+        if (coalescer != null) {
+            repository = new CoalescingPriceRepository(repository, coalescer);
+        }
+        PriceSegmentCache cache = segmentCache.getIfAvailable();
+        if (cache != null) {
+            repository = new CachingPriceRepository(repository, cache);
+        }
+        return repository;
+    }
+}
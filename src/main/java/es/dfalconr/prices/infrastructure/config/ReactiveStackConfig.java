@@ -0,0 +1,35 @@
+package es.dfalconr.prices.infrastructure.config;
+
+import es.dfalconr.prices.application.service.ReactiveGetApplicablePriceService;
+import es.dfalconr.prices.domain.port.ReactivePriceRepository;
+import es.dfalconr.prices.infrastructure.rest.handler.PriceHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+
+// The MVC controllers are registered only without this profile
+@Configuration
+@Profile(ReactiveStackConfig.PROFILE)
+public class ReactiveStackConfig {
+
+    public static final String PROFILE = "reactive";
+
+    @Bean
+    public ReactiveGetApplicablePriceService reactiveGetApplicablePriceService(
+        ReactivePriceRepository priceRepository,
+        MeterRegistry meterRegistry
+    ) {
+        return new ReactiveGetApplicablePriceService(priceRepository, meterRegistry);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> priceRoutes(PriceHandler priceHandler) {
+        return RouterFunctions.route(GET("/api/prices"), priceHandler::getApplicablePrice);
+    }
+}
@@ -0,0 +1,12 @@
+package es.dfalconr.prices.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Scheduled jobs are opt-in; today only the price delta sync runs on a schedule
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "prices.delta-sync.enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -0,0 +1,117 @@
+package es.dfalconr.prices.infrastructure.metrics;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Single lookups fetch only the winner, so their candidate count is sampled from the full candidate list
+public class MeteredPriceRepository implements PriceRepository {
+
+    static final String LOOKUP_TIMER = "prices.lookup";
+    static final String CANDIDATES = "prices.lookup.candidates";
+
+    private final PriceRepository delegate;
+    private final double candidateSampleRate;
+    private final Timer applicablePricesTimer;
+    private final Timer applicablePriceTimer;
+    private final Timer batchTimer;
+    private final Timer timelineTimer;
+    private final Timer stableUntilTimer;
+    private final Timer segmentTimer;
+    private final Timer segmentBatchTimer;
+    private final DistributionSummary candidates;
+
+    public MeteredPriceRepository(PriceRepository delegate, MeterRegistry meterRegistry, double candidateSampleRate) {
+        this.delegate = delegate;
+        this.candidateSampleRate = candidateSampleRate;
+        this.applicablePricesTimer = timer(meterRegistry, "applicable_prices");
+        this.applicablePriceTimer = timer(meterRegistry, "single");
+        this.batchTimer = timer(meterRegistry, "batch");
+        this.timelineTimer = timer(meterRegistry, "timeline");
+        this.stableUntilTimer = timer(meterRegistry, "stable_until");
+        this.segmentTimer = timer(meterRegistry, "segment");
+        this.segmentBatchTimer = timer(meterRegistry, "segment_batch");
+        this.candidates = DistributionSummary.builder(CANDIDATES)
+            .description("Rows overlapping the application date of a lookup")
+            .baseUnit("rows")
+            .register(meterRegistry);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder(LOOKUP_TIMER)
+            .description("Time to resolve applicable prices")
+            .tag("layer", "adapter")
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Timer.Sample sample = Timer.start();
+        List<Price> prices = delegate.findApplicablePrices(applicationDate, productId, brandId);
+        sample.stop(applicablePricesTimer);
+        candidates.record(prices.size());
+        return prices;
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        Timer.Sample sample = Timer.start();
+        Optional<Price> price;
+        if (sampled()) {
+            List<Price> prices = delegate.findApplicablePrices(applicationDate, productId, brandId);
+            candidates.record(prices.size());
+            price = prices.stream().findFirst();
+        } else {
+            price = delegate.findApplicablePrice(applicationDate, productId, brandId);
+        }
+        sample.stop(applicablePriceTimer);
+        return price;
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return stableUntilTimer.record(() -> delegate.findStableUntil(applicationDate, productId, brandId));
+    }
+
+    // A sampled segment lookup also reads the candidate list, outside the timer, since the
+    // segment's window does not come with it
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (sampled()) {
+            candidates.record(delegate.findApplicablePrices(applicationDate, productId, brandId).size());
+        }
+        return segmentTimer.record(() -> delegate.findApplicableSegment(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        return batchTimer.record(() -> delegate.findApplicablePriceBatch(lookups));
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        return segmentBatchTimer.record(() -> delegate.findApplicableSegmentBatch(lookups));
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return timelineTimer.record(() -> delegate.findPriceTimeline(productId, brandId));
+    }
+
+    private boolean sampled() {
+        return candidateSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < candidateSampleRate;
+    }
+}
@@ -0,0 +1,134 @@
+package es.dfalconr.prices.infrastructure.metrics;
+
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
+import es.dfalconr.prices.infrastructure.cache.PriceSegmentCache;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupBatcher;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupCoalescer;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupLimiter;
+import es.dfalconr.prices.infrastructure.concurrency.PriceRepositoryBulkhead;
+import es.dfalconr.prices.infrastructure.sync.DeltaSyncCycle;
+import es.dfalconr.prices.infrastructure.sync.PriceDeltaSync;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+// Read from each component's stats() on scrape; disabled components register nothing
+@Component
+public class PriceMetricsBinder implements MeterBinder {
+
+    private final ObjectProvider<PriceSegmentCache> segmentCache;
+    private final ObjectProvider<PriceJpaCache> jpaCache;
+    private final ObjectProvider<PriceLookupCoalescer> lookupCoalescer;
+    private final ObjectProvider<PriceLookupBatcher> lookupBatcher;
+    private final ObjectProvider<PriceRepositoryBulkhead> repositoryBulkhead;
+    private final ObjectProvider<PriceLookupLimiter> lookupLimiter;
+    private final ObjectProvider<PriceDeltaSync> deltaSync;
+
+    public PriceMetricsBinder(
+        ObjectProvider<PriceSegmentCache> segmentCache,
+        ObjectProvider<PriceJpaCache> jpaCache,
+        ObjectProvider<PriceLookupCoalescer> lookupCoalescer,
+        ObjectProvider<PriceLookupBatcher> lookupBatcher,
+        ObjectProvider<PriceRepositoryBulkhead> repositoryBulkhead,
+        ObjectProvider<PriceLookupLimiter> lookupLimiter,
+        ObjectProvider<PriceDeltaSync> deltaSync
+    ) {
+        this.segmentCache = segmentCache;
+        this.jpaCache = jpaCache;
+        this.lookupCoalescer = lookupCoalescer;
+        this.lookupBatcher = lookupBatcher;
+        this.repositoryBulkhead = repositoryBulkhead;
+        this.lookupLimiter = lookupLimiter;
+        this.deltaSync = deltaSync;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        segmentCache.ifAvailable(cache -> {
+            counter(registry, "prices.cache.hits", cache, c -> c.stats().hitCount());
+            counter(registry, "prices.cache.misses", cache, c -> c.stats().missCount());
+            counter(registry, "prices.cache.evictions", cache, c -> c.stats().evictionCount());
+            gauge(registry, "prices.cache.size", cache, c -> c.stats().size());
+        });
+        jpaCache.ifAvailable(cache -> {
+            regionCounter(registry, "prices.jpa.cache.hits", "entity", cache, c -> c.stats().entityHitCount());
+            regionCounter(registry, "prices.jpa.cache.misses", "entity", cache, c -> c.stats().entityMissCount());
+            regionCounter(registry, "prices.jpa.cache.hits", "query", cache, c -> c.stats().queryHitCount());
+            regionCounter(registry, "prices.jpa.cache.misses", "query", cache, c -> c.stats().queryMissCount());
+        });
+        lookupCoalescer.ifAvailable(coalescer -> {
+            counter(registry, "prices.coalescing.executions", coalescer, c -> c.stats().executionCount());
+            counter(registry, "prices.coalescing.collapsed", coalescer, c -> c.stats().collapsedCount());
+            gauge(registry, "prices.coalescing.in.flight", coalescer, c -> c.stats().inFlightCount());
+        });
+        lookupBatcher.ifAvailable(batcher -> {
+            counter(registry, "prices.micro.batching.batches", batcher, b -> b.stats().batchCount());
+            counter(registry, "prices.micro.batching.lookups", batcher, b -> b.stats().lookupCount());
+        });
+        // The bulkhead records its own wait timer, prices.bulkhead.wait
+        repositoryBulkhead.ifAvailable(bulkhead -> {
+            gauge(registry, "prices.bulkhead.active", bulkhead, b -> b.stats().activeCalls());
+            gauge(registry, "prices.bulkhead.queue.depth", bulkhead, b -> b.stats().queueDepth());
+            counter(registry, "prices.bulkhead.admitted", bulkhead, b -> b.stats().admittedCount());
+            FunctionCounter.builder("prices.bulkhead.rejections", bulkhead, b -> b.stats().queueFullCount())
+                .tag("reason", "queue_full")
+                .register(registry);
+            FunctionCounter.builder("prices.bulkhead.rejections", bulkhead, b -> b.stats().timedOutCount())
+                .tag("reason", "timeout")
+                .register(registry);
+        });
+        // Latency the limit adapts to is the service-layer prices.lookup timer
+        lookupLimiter.ifAvailable(limiter -> {
+            gauge(registry, "prices.limiter.limit", limiter, l -> l.stats().limit());
+            gauge(registry, "prices.limiter.in.flight", limiter, l -> l.stats().inFlight());
+            counter(registry, "prices.limiter.admitted", limiter, l -> l.stats().admittedCount());
+            counter(registry, "prices.limiter.rejections", limiter, l -> l.stats().rejectedCount());
+        });
+        deltaSync.ifAvailable(sync -> {
+            counter(registry, "prices.delta.sync.cycles", sync, s -> s.stats().cycleCount());
+            counter(registry, "prices.delta.sync.changed.rows", sync, s -> s.stats().changedRows());
+            counter(registry, "prices.delta.sync.deleted.rows", sync, s -> s.stats().deletedRows());
+            counter(registry, "prices.delta.sync.products.rebuilt", sync, s -> s.stats().productsRebuilt());
+            TimeGauge.builder("prices.delta.sync.lag", sync, TimeUnit.MILLISECONDS,
+                    s -> lastCycleMillis(s, DeltaSyncCycle::maxLag))
+                .description("Longest time a change waited to be applied in the last cycle")
+                .register(registry);
+            TimeGauge.builder("prices.delta.sync.duration", sync, TimeUnit.MILLISECONDS,
+                    s -> lastCycleMillis(s, DeltaSyncCycle::duration))
+                .description("Duration of the last cycle")
+                .register(registry);
+        });
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, source, count).register(registry);
+    }
+
+    private static <T> void regionCounter(
+        MeterRegistry registry,
+        String name,
+        String region,
+        T source,
+        ToDoubleFunction<T> count
+    ) {
+        FunctionCounter.builder(name, source, count).tag("region", region).register(registry);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, T source, ToDoubleFunction<T> value) {
+        Gauge.builder(name, source, value).register(registry);
+    }
+
+    private static double lastCycleMillis(PriceDeltaSync sync, Function<DeltaSyncCycle, Duration> duration) {
+        DeltaSyncCycle lastCycle = sync.stats().lastCycle();
+        return lastCycle == null ? 0 : duration.apply(lastCycle).toMillis();
+    }
+}
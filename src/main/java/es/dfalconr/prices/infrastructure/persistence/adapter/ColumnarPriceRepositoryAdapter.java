@@ -0,0 +1,171 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogPublisher;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogVersion;
+import es.dfalconr.prices.infrastructure.persistence.memory.ColumnarPriceStore;
+import es.dfalconr.prices.infrastructure.persistence.memory.PatchedColumnarStore;
+import es.dfalconr.prices.infrastructure.sync.PriceDeltaTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "columnar")
+public class ColumnarPriceRepositoryAdapter implements PriceRepository, PriceDeltaTarget {
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private static final String ALL_PRICES_IN_STORE_ORDER = """
+        SELECT ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR
+        FROM PRICES
+        ORDER BY BRAND_ID, PRODUCT_ID, START_DATE
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("prices-columnar-compaction").daemon().factory());
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private final CatalogPublisher<PatchedColumnarStore> store =
+        new CatalogPublisher<>(PatchedColumnarStore.of(ColumnarPriceStore.empty()));
+
+    public ColumnarPriceRepositoryAdapter(
+        DataSource dataSource,
+        @Value("${prices.columnar.compaction-threshold:1024}") int compactionThreshold
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    // Rows are streamed straight into the column arrays, never materialised as Price objects.
+    // Readers keep using the previous store until the new one is fully built.
+    @PostConstruct
+    public void refresh() {
+        CatalogVersion<PatchedColumnarStore> published = store.reload(() -> PatchedColumnarStore.of(load()));
+        ColumnarPriceStore loaded = published.catalog().store();
+        log.info("Loaded {} prices for {} products into the columnar store (~{} KB, version {}, {} ms)",
+            loaded.size(), loaded.productCount(), loaded.estimatedBytes() / 1024, published.version(),
+            published.loadTime().toMillis());
+    }
+
+    public CatalogVersion<PatchedColumnarStore> catalogVersion() {
+        return store.current();
+    }
+
+    // Writers wait for the rebuild, readers keep the patched version until it is published
+    public CatalogVersion<PatchedColumnarStore> compact() {
+        CatalogVersion<PatchedColumnarStore> published = store.update(PatchedColumnarStore::compacted);
+        log.debug("Compacted the columnar store (version {}, {} ms)", published.version(),
+            published.loadTime().toMillis());
+        return published;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        compactionExecutor.shutdownNow();
+    }
+
+    private ColumnarPriceStore load() {
+        Integer rowCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM PRICES", Integer.class);
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(rowCount == null ? 0 : rowCount);
+        jdbcTemplate.query(ALL_PRICES_IN_STORE_ORDER, resultSet -> {
+            builder.add(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3),
+                resultSet.getInt(4),
+                resultSet.getObject(5, LocalDateTime.class),
+                resultSet.getObject(6, LocalDateTime.class),
+                resultSet.getInt(7),
+                resultSet.getBigDecimal(8),
+                resultSet.getString(9)
+            );
+        });
+        return builder.build();
+    }
+
+    // Changed products go to the patch; the columns are rebuilt in the background once
+    // prices.columnar.compaction-threshold products are patched
+    @Override
+    public void replaceProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        CatalogVersion<PatchedColumnarStore> published = store.update(current -> current.withProducts(pricesByProduct));
+        if (published.catalog().patchedProductCount() >= compactionThreshold
+            && compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.execute(() -> {
+                try {
+                    compact();
+                } catch (RuntimeException ex) {
+                    log.warn("Columnar store compaction failed: {}", ex.getMessage());
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return store.catalog().findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return store.catalog().findApplicablePrice(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return store.catalog().findApplicableSegment(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        PatchedColumnarStore snapshot = store.catalog();
+        Map<PriceLookup, Price> applicablePrices = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            snapshot.findApplicablePrice(lookup.applicationDate(), lookup.productId(), lookup.brandId())
+                .ifPresent(price -> applicablePrices.put(lookup, price));
+        }
+        return applicablePrices;
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return store.catalog().findPriceTimeline(productId, brandId);
+    }
+}
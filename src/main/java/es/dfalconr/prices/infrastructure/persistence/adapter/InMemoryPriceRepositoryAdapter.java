@@ -0,0 +1,121 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogPublisher;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogVersion;
+import es.dfalconr.prices.infrastructure.persistence.memory.PriceIntervalIndex;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import es.dfalconr.prices.infrastructure.sync.PriceDeltaTarget;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "in-memory")
+public class InMemoryPriceRepositoryAdapter implements PriceRepository, PriceDeltaTarget {
+
+    private final PriceJpaRepository jpaRepository;
+
+    private final CatalogPublisher<PriceIntervalIndex> index = new CatalogPublisher<>(PriceIntervalIndex.empty());
+
+    public InMemoryPriceRepositoryAdapter(PriceJpaRepository jpaRepository) {
+        this.jpaRepository = jpaRepository;
+    }
+
+    // Readers keep using the previous index until the new one is fully built
+    @PostConstruct
+    public void refresh() {
+        CatalogVersion<PriceIntervalIndex> published = index.reload(() -> PriceIntervalIndex.of(
+            jpaRepository.findAll()
+                .stream()
+                .map(PriceJpaEntity::toDomain)
+                .toList()));
+        log.info("Loaded {} prices for {} products into the in-memory index (version {}, {} ms)",
+            published.catalog().size(), published.catalog().productCount(), published.version(),
+            published.loadTime().toMillis());
+    }
+
+    public CatalogVersion<PriceIntervalIndex> catalogVersion() {
+        return index.current();
+    }
+
+    // Copy-on-write: only the changed products are rebuilt, readers switch with the next version
+    @Override
+    public void replaceProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        index.update(current -> current.withProducts(pricesByProduct));
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return index.catalog().findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return index.catalog().findPriceTimeline(productId, brandId).priceAt(applicationDate);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        PriceIntervalIndex snapshot = index.catalog();
+        Map<PriceLookup, Price> applicablePrices = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            snapshot.findPriceTimeline(lookup.productId(), lookup.brandId())
+                .priceAt(lookup.applicationDate())
+                .ifPresent(price -> applicablePrices.put(lookup, price));
+        }
+        return applicablePrices;
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return index.catalog().findPriceTimeline(productId, brandId).segmentAt(applicationDate);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        PriceIntervalIndex snapshot = index.catalog();
+        Map<PriceLookup, PriceSegment> segments = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            snapshot.findPriceTimeline(lookup.productId(), lookup.brandId())
+                .segmentAt(lookup.applicationDate())
+                .ifPresent(segment -> segments.put(lookup, segment));
+        }
+        return segments;
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return index.catalog().findPriceTimeline(productId, brandId);
+    }
+}
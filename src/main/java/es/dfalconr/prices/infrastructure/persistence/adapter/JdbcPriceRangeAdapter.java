@@ -0,0 +1,121 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRangeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+// Rows are handed on as the cursor advances, so a whole product or brand never sits in memory
+@Component
+public class JdbcPriceRangeAdapter implements PriceRangeRepository {
+
+    private static final String COLUMNS = """
+        SELECT %s
+        FROM PRICES
+        """.formatted(PriceRows.COLUMNS);
+
+    private static final String OVERLAPPING_PRICES = COLUMNS + """
+        WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+        ORDER BY START_DATE
+        """;
+
+    // Only grouped by product: ranking inside a group is left to Price.PRECEDENCE, so the
+    // database never has to sort the brand
+    private static final String BRAND_CANDIDATES = COLUMNS + """
+        WHERE BRAND_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+        ORDER BY PRODUCT_ID
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int timelineFetchSize;
+    private final int exportFetchSize;
+
+    public JdbcPriceRangeAdapter(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${prices.timeline.fetch-size:500}") int timelineFetchSize,
+        @Value("${prices.export.fetch-size:1000}") int exportFetchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.timelineFetchSize = timelineFetchSize;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    // Both streaming reads run in a read-only transaction: some drivers, PostgreSQL among them,
+    // only honour the fetch size with auto-commit off and otherwise buffer the whole result
+    @Override
+    public void forEachOverlapping(
+        Long productId,
+        Long brandId,
+        LocalDateTime from,
+        LocalDateTime to,
+        Consumer<Price> action
+    ) {
+        readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+            connection -> bind(connection.prepareStatement(OVERLAPPING_PRICES), timelineFetchSize,
+                brandId, productId, to, from),
+            (RowCallbackHandler) resultSet -> action.accept(PriceRows.MAPPER.mapRow(resultSet, resultSet.getRow()))));
+    }
+
+    @Override
+    public void forEachApplicable(Long brandId, LocalDateTime applicationDate, Consumer<Price> action) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            ProductWinners winners = new ProductWinners(action);
+            jdbcTemplate.query(
+                connection -> bind(connection.prepareStatement(BRAND_CANDIDATES), exportFetchSize,
+                    brandId, applicationDate, applicationDate),
+                winners);
+            winners.finish();
+        });
+    }
+
+    private static PreparedStatement bind(PreparedStatement statement, int fetchSize, Object... parameters)
+        throws SQLException {
+        statement.setFetchSize(fetchSize);
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        return statement;
+    }
+
+    // Keeps the best row of the current product and hands it on when the next product starts
+    private static final class ProductWinners implements RowCallbackHandler {
+
+        private final Consumer<Price> action;
+        private Price winner;
+
+        private ProductWinners(Consumer<Price> action) {
+            this.action = action;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            Price candidate = PriceRows.MAPPER.mapRow(resultSet, resultSet.getRow());
+            if (winner != null && !winner.productId().equals(candidate.productId())) {
+                action.accept(winner);
+                winner = candidate;
+            } else if (winner == null || Price.PRECEDENCE.compare(candidate, winner) > 0) {
+                winner = candidate;
+            }
+        }
+
+        private void finish() {
+            if (winner != null) {
+                action.accept(winner);
+            }
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceBoundaryProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentCandidateProjection;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Same queries and ordering as PriceRepositoryAdapter, mapped straight to Price without the entity
+@Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "jdbc")
+public class JdbcPriceRepositoryAdapter implements PriceRepository {
+
+    private static final String COLUMNS = """
+        SELECT %s
+        FROM PRICES
+        """.formatted(PriceRows.COLUMNS);
+
+    private static final String APPLICABLE_PRICES = COLUMNS + """
+        WHERE BRAND_ID = ? AND PRODUCT_ID = ? AND START_DATE <= ? AND END_DATE >= ?
+        ORDER BY PRIORITY DESC, START_DATE DESC, ID DESC
+        """;
+
+    private static final String TOP_APPLICABLE_PRICE = APPLICABLE_PRICES + "FETCH FIRST 1 ROWS ONLY";
+
+    private static final String PRODUCT_PRICES = COLUMNS + """
+        WHERE BRAND_ID = ? AND PRODUCT_ID = ?
+        ORDER BY START_DATE
+        """;
+
+    private static final String TOP_APPLICABLE_SEGMENT = """
+        SELECT %s,
+            (SELECT MIN(S.START_DATE) FROM PRICES S
+                WHERE S.BRAND_ID = P.BRAND_ID AND S.PRODUCT_ID = P.PRODUCT_ID AND S.START_DATE > ?),
+            (SELECT MIN(E.END_DATE) FROM PRICES E
+                WHERE E.BRAND_ID = P.BRAND_ID AND E.PRODUCT_ID = P.PRODUCT_ID AND E.END_DATE >= ?)
+        FROM PRICES P
+        WHERE P.BRAND_ID = ? AND P.PRODUCT_ID = ? AND P.START_DATE <= ? AND P.END_DATE >= ?
+        ORDER BY P.PRIORITY DESC, P.START_DATE DESC, P.ID DESC
+        FETCH FIRST 1 ROWS ONLY
+        """.formatted(PriceRows.JOINED_COLUMNS);
+
+    private static final String NEXT_BOUNDARIES = """
+        SELECT MIN(CASE WHEN START_DATE > ? THEN START_DATE END), MIN(CASE WHEN END_DATE >= ? THEN END_DATE END)
+        FROM PRICES
+        WHERE BRAND_ID = ? AND PRODUCT_ID = ?
+        """;
+
+    private static final String BATCH_COLUMNS = """
+        SELECT %s
+        """.formatted(PriceRows.JOINED_COLUMNS);
+
+    private static final String BATCH_SEGMENTS = """
+        SELECT K.LOOKUP_INDEX, %s,
+            (SELECT MIN(S.START_DATE) FROM PRICES S
+                WHERE S.BRAND_ID = K.BRAND_ID AND S.PRODUCT_ID = K.PRODUCT_ID AND S.START_DATE > K.APPLICATION_DATE),
+            (SELECT MIN(E.END_DATE) FROM PRICES E
+                WHERE E.BRAND_ID = K.BRAND_ID AND E.PRODUCT_ID = K.PRODUCT_ID AND E.END_DATE >= K.APPLICATION_DATE)
+        FROM (VALUES %%s) K(LOOKUP_INDEX, BRAND_ID, PRODUCT_ID, APPLICATION_DATE)
+        JOIN PRICES P ON P.BRAND_ID = K.BRAND_ID AND P.PRODUCT_ID = K.PRODUCT_ID
+            AND P.START_DATE <= K.APPLICATION_DATE AND P.END_DATE >= K.APPLICATION_DATE
+        """.formatted(PriceRows.JOINED_COLUMNS);
+
+    private static final String BATCH_LOOKUP_ROW =
+        "(CAST(? AS INT), CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS TIMESTAMP(9)))";
+
+    private static final String BATCH_KEY_ROW = "(CAST(? AS BIGINT), CAST(? AS BIGINT))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcPriceRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return jdbcTemplate.query(
+            readOnly(APPLICABLE_PRICES, brandId, productId, applicationDate, applicationDate),
+            PriceRows.MAPPER);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return jdbcTemplate.query(
+                readOnly(TOP_APPLICABLE_PRICE, brandId, productId, applicationDate, applicationDate),
+                PriceRows.MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return jdbcTemplate.query(
+                readOnly(TOP_APPLICABLE_SEGMENT,
+                    applicationDate, applicationDate, brandId, productId, applicationDate, applicationDate),
+                (resultSet, rowNumber) -> new PriceSegment(
+                    applicationDate,
+                    new PriceBoundaryProjection(
+                        resultSet.getObject(10, LocalDateTime.class),
+                        resultSet.getObject(11, LocalDateTime.class))
+                        .stableUntil()
+                        .orElse(applicationDate),
+                    PriceRows.MAPPER.mapRow(resultSet, rowNumber)))
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return jdbcTemplate.query(
+                readOnly(NEXT_BOUNDARIES, applicationDate, applicationDate, brandId, productId),
+                (resultSet, rowNumber) -> new PriceBoundaryProjection(
+                    resultSet.getObject(1, LocalDateTime.class),
+                    resultSet.getObject(2, LocalDateTime.class)))
+            .getFirst()
+            .stableUntil();
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Map.of();
+        }
+
+        // Joining a VALUES list of (brand, product) pairs lets every pair seek idx_price_lookup;
+        // separate IN lists only use the index on BRAND_ID and scan the whole brand.
+        Collection<ProductKey> productKeys = PriceBatchCandidates.productKeys(lookups);
+        String sql = BATCH_COLUMNS
+            + "FROM (VALUES " + String.join(", ", Collections.nCopies(productKeys.size(), BATCH_KEY_ROW)) + ")"
+            + " K(BRAND_ID, PRODUCT_ID)"
+            + " JOIN PRICES P ON P.BRAND_ID = K.BRAND_ID AND P.PRODUCT_ID = K.PRODUCT_ID"
+            + " WHERE P.START_DATE <= ? AND P.END_DATE >= ?";
+
+        List<Object> parameters = new ArrayList<>(productKeys.size() * 2 + 2);
+        for (ProductKey productKey : productKeys) {
+            parameters.add(productKey.brandId());
+            parameters.add(productKey.productId());
+        }
+        parameters.add(PriceBatchCandidates.latestDate(lookups));
+        parameters.add(PriceBatchCandidates.earliestDate(lookups));
+
+        List<Price> candidates = jdbcTemplate.query(readOnly(sql, parameters.toArray()), PriceRows.MAPPER);
+        return PriceBatchCandidates.resolve(lookups, candidates);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PriceLookup> indexed = List.copyOf(lookups);
+        String sql = BATCH_SEGMENTS.formatted(String.join(", ", Collections.nCopies(indexed.size(), BATCH_LOOKUP_ROW)));
+        List<Object> parameters = new ArrayList<>(indexed.size() * 4);
+        for (int i = 0; i < indexed.size(); i++) {
+            parameters.add(i);
+            parameters.add(indexed.get(i).brandId());
+            parameters.add(indexed.get(i).productId());
+            parameters.add(indexed.get(i).applicationDate());
+        }
+
+        List<PriceSegmentCandidateProjection> candidates = jdbcTemplate.query(readOnly(sql, parameters.toArray()),
+            (resultSet, rowNumber) -> new PriceSegmentCandidateProjection(
+                resultSet.getInt(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3),
+                resultSet.getLong(4),
+                resultSet.getInt(5),
+                resultSet.getObject(6, LocalDateTime.class),
+                resultSet.getObject(7, LocalDateTime.class),
+                resultSet.getInt(8),
+                resultSet.getBigDecimal(9),
+                resultSet.getString(10),
+                resultSet.getObject(11, LocalDateTime.class),
+                resultSet.getObject(12, LocalDateTime.class)));
+        return PriceBatchCandidates.resolveSegments(indexed, candidates);
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return PriceTimeline.of(jdbcTemplate.query(readOnly(PRODUCT_PRICES, brandId, productId), PriceRows.MAPPER));
+    }
+
+    // Marks pooled connections read-only for the statement; the pool restores the flag on return.
+    // A connection bound to a surrounding transaction is left untouched.
+    private PreparedStatementCreator readOnly(String sql, Object... parameters) {
+        return connection -> {
+            if (!DataSourceUtils.isConnectionTransactional(connection, jdbcTemplate.getDataSource())) {
+                connection.setReadOnly(true);
+            }
+            return bind(connection.prepareStatement(sql), parameters);
+        };
+    }
+
+    private static PreparedStatement bind(PreparedStatement statement, Object... parameters) throws SQLException {
+        for (int i = 0; i < parameters.length; i++) {
+            statement.setObject(i + 1, parameters[i]);
+        }
+        return statement;
+    }
+}
@@ -0,0 +1,165 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import es.dfalconr.prices.infrastructure.sync.PriceChangePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+// Tombstones are written in the same transaction so other instances' delta sync sees deletes and moves
+@Slf4j
+@Component
+public class JdbcPriceWriteAdapter implements PriceWriteRepository {
+
+    static final String LAST_UPDATE_BY = "api";
+
+    private static final String INSERT_PRICE = """
+        INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR,
+                            LAST_UPDATE, LAST_UPDATE_BY)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final String LOCK_PRICE = """
+        SELECT %s
+        FROM PRICES
+        WHERE ID = ?
+        FOR UPDATE
+        """.formatted(PriceRows.COLUMNS);
+
+    private static final String UPDATE_PRICE = """
+        UPDATE PRICES
+        SET BRAND_ID = ?, PRODUCT_ID = ?, PRICE_LIST = ?, START_DATE = ?, END_DATE = ?, PRIORITY = ?, PRICE = ?,
+            CURR = ?, LAST_UPDATE = ?, LAST_UPDATE_BY = ?
+        WHERE ID = ?
+        """;
+
+    private static final String DELETE_PRICE = "DELETE FROM PRICES WHERE ID = ?";
+
+    private static final String DELETE_TOMBSTONE = """
+        DELETE FROM PRICE_TOMBSTONES WHERE PRICE_ID = ? AND BRAND_ID = ? AND PRODUCT_ID = ?
+        """;
+
+    private static final String INSERT_TOMBSTONE = """
+        INSERT INTO PRICE_TOMBSTONES (PRICE_ID, BRAND_ID, PRODUCT_ID, DELETED_AT)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PriceChangePublisher changePublisher;
+
+    public JdbcPriceWriteAdapter(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        PriceChangePublisher changePublisher
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.changePublisher = changePublisher;
+    }
+
+    @Override
+    public Price create(Price price) {
+        Price created = transactionTemplate.execute(status -> {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement statement = connection.prepareStatement(INSERT_PRICE, new String[] {"ID"});
+                bindRow(statement, price, LocalDateTime.now());
+                return statement;
+            }, keyHolder);
+            return withId(price, keyHolder.getKeyAs(Long.class));
+        });
+        publish(Set.of(ProductKey.of(created)));
+        return created;
+    }
+
+    @Override
+    public Optional<Price> update(Price price) {
+        Optional<Price> previous = transactionTemplate.execute(status -> {
+            Optional<Price> current = lock(price.id());
+            current.ifPresent(old -> {
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.update(connection -> {
+                    PreparedStatement statement = connection.prepareStatement(UPDATE_PRICE);
+                    bindRow(statement, price, now);
+                    statement.setLong(11, price.id());
+                    return statement;
+                });
+                if (!ProductKey.of(old).equals(ProductKey.of(price))) {
+                    tombstone(old, now);
+                }
+            });
+            return current;
+        });
+        // A price moved to another product leaves its old product as well
+        previous.ifPresent(old -> publish(new LinkedHashSet<>(List.of(ProductKey.of(old), ProductKey.of(price)))));
+        return previous.map(ignored -> price);
+    }
+
+    @Override
+    public Optional<Price> delete(Long id) {
+        Optional<Price> deleted = transactionTemplate.execute(status -> {
+            Optional<Price> current = lock(id);
+            current.ifPresent(price -> {
+                jdbcTemplate.update(DELETE_PRICE, id);
+                tombstone(price, LocalDateTime.now());
+            });
+            return current;
+        });
+        deleted.ifPresent(price -> publish(Set.of(ProductKey.of(price))));
+        return deleted;
+    }
+
+    private Optional<Price> lock(Long id) {
+        return jdbcTemplate.query(LOCK_PRICE, PriceRows.MAPPER, id).stream().findFirst();
+    }
+
+    // A price moved back and forth leaves the same key more than once; the latest departure is kept
+    private void tombstone(Price price, LocalDateTime deletedAt) {
+        jdbcTemplate.update(DELETE_TOMBSTONE, price.id(), price.brandId(), price.productId());
+        jdbcTemplate.update(INSERT_TOMBSTONE, price.id(), price.brandId(), price.productId(), deletedAt);
+    }
+
+    // The write is committed at this point; a failed publication must not report it as failed
+    private void publish(Set<ProductKey> keys) {
+        try {
+            changePublisher.publish(keys);
+        } catch (RuntimeException ex) {
+            log.error("Committed price change to {} could not be published to the read path until the next reload",
+                keys, ex);
+        }
+    }
+
+    private static void bindRow(PreparedStatement statement, Price price, LocalDateTime lastUpdate)
+        throws SQLException {
+        statement.setLong(1, price.brandId());
+        statement.setLong(2, price.productId());
+        statement.setInt(3, price.priceList());
+        statement.setObject(4, price.startDate());
+        statement.setObject(5, price.endDate());
+        statement.setInt(6, price.priority());
+        statement.setBigDecimal(7, price.amount());
+        statement.setString(8, price.currency());
+        statement.setObject(9, lastUpdate);
+        statement.setString(10, LAST_UPDATE_BY);
+    }
+
+    private static Price withId(Price price, Long id) {
+        return new Price(id, price.brandId(), price.productId(), price.priceList(), price.startDate(),
+            price.endDate(), price.priority(), price.amount(), price.currency());
+    }
+}
@@ -0,0 +1,208 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.memory.BrandPartition;
+import es.dfalconr.prices.infrastructure.persistence.memory.BrandPartitionStats;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogVersion;
+import es.dfalconr.prices.infrastructure.persistence.memory.PriceIntervalIndex;
+import es.dfalconr.prices.infrastructure.sync.PriceDeltaTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// Brands share no index, publication lock or lookup budget; each loads and refreshes on its own
+@Slf4j
+@Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "partitioned")
+public class PartitionedPriceRepositoryAdapter implements PriceRepository, PriceDeltaTarget {
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private static final String BRANDS = "SELECT DISTINCT BRAND_ID FROM PRICES";
+
+    private static final String BRAND_PRICES = """
+        SELECT %s
+        FROM PRICES
+        WHERE BRAND_ID = ?
+        """.formatted(PriceRows.COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxConcurrentLookups;
+    private final ExecutorService reloadExecutor;
+    private final ConcurrentMap<Long, BrandPartition> partitions = new ConcurrentHashMap<>();
+
+    public PartitionedPriceRepositoryAdapter(
+        DataSource dataSource,
+        @Value("${prices.partitions.max-concurrent-lookups:64}") int maxConcurrentLookups,
+        @Value("${prices.partitions.reload-parallelism:2}") int reloadParallelism
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.maxConcurrentLookups = maxConcurrentLookups;
+        this.reloadExecutor = Executors.newFixedThreadPool(reloadParallelism,
+            Thread.ofPlatform().name("prices-partition-reload-", 0).daemon().factory());
+    }
+
+    // Reloads every brand found in the table and drops the partitions of brands that are gone
+    @PostConstruct
+    public void refresh() {
+        long startNanos = System.nanoTime();
+        List<Long> brandIds = jdbcTemplate.queryForList(BRANDS, Long.class);
+        CompletableFuture.allOf(brandIds.stream()
+                .map(this::refreshBrand)
+                .toArray(CompletableFuture[]::new))
+            .join();
+        partitions.keySet().retainAll(brandIds);
+        log.info("Loaded {} brand partitions ({} ms)", partitions.size(), (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    public CompletableFuture<CatalogVersion<PriceIntervalIndex>> refreshBrand(Long brandId) {
+        BrandPartition partition = partition(brandId);
+        return CompletableFuture.supplyAsync(() -> {
+            CatalogVersion<PriceIntervalIndex> published = partition.reload(() ->
+                jdbcTemplate.query(BRAND_PRICES, PriceRows.MAPPER, brandId));
+            log.debug("Loaded {} prices for {} products of brand {} (version {}, {} ms)",
+                published.catalog().size(), published.catalog().productCount(), brandId, published.version(),
+                published.loadTime().toMillis());
+            return published;
+        }, reloadExecutor);
+    }
+
+    public List<BrandPartitionStats> partitionStats() {
+        return partitions.values().stream()
+            .map(BrandPartition::stats)
+            .sorted(Comparator.comparing(BrandPartitionStats::brandId))
+            .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reloadExecutor.shutdownNow();
+    }
+
+    // Each brand's products are swapped in its own partition; a brand seen for the first time
+    // gets a partition holding just those products
+    @Override
+    public void replaceProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        pricesByProduct.entrySet().stream()
+            .collect(Collectors.groupingBy(entry -> entry.getKey().brandId(),
+                Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)))
+            .forEach((brandId, brandPrices) -> partition(brandId).replaceProducts(brandPrices));
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        BrandPartition partition = partitions.get(brandId);
+        if (partition == null) {
+            return List.of();
+        }
+        return partition.read(index -> index.findApplicablePrices(applicationDate, productId, brandId));
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return findPriceTimeline(productId, brandId).priceAt(applicationDate);
+    }
+
+    // One permit and one index snapshot per brand in the batch
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, Price> applicablePrices = new HashMap<>();
+        lookups.stream()
+            .collect(Collectors.groupingBy(PriceLookup::brandId))
+            .forEach((brandId, brandLookups) -> {
+                BrandPartition partition = partitions.get(brandId);
+                if (partition == null) {
+                    return;
+                }
+                partition.read(index -> {
+                    for (PriceLookup lookup : brandLookups) {
+                        index.findPriceTimeline(lookup.productId(), lookup.brandId())
+                            .priceAt(lookup.applicationDate())
+                            .ifPresent(price -> applicablePrices.put(lookup, price));
+                    }
+                    return null;
+                });
+            });
+        return applicablePrices;
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return findPriceTimeline(productId, brandId).segmentAt(applicationDate);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        Map<PriceLookup, PriceSegment> segments = new HashMap<>();
+        lookups.stream()
+            .collect(Collectors.groupingBy(PriceLookup::brandId))
+            .forEach((brandId, brandLookups) -> {
+                BrandPartition partition = partitions.get(brandId);
+                if (partition == null) {
+                    return;
+                }
+                partition.read(index -> {
+                    for (PriceLookup lookup : brandLookups) {
+                        index.findPriceTimeline(lookup.productId(), lookup.brandId())
+                            .segmentAt(lookup.applicationDate())
+                            .ifPresent(segment -> segments.put(lookup, segment));
+                    }
+                    return null;
+                });
+            });
+        return segments;
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        BrandPartition partition = partitions.get(brandId);
+        if (partition == null) {
+            return PriceTimeline.empty();
+        }
+        return partition.read(index -> index.findPriceTimeline(productId, brandId));
+    }
+
+    private BrandPartition partition(Long brandId) {
+        return partitions.computeIfAbsent(brandId, id -> new BrandPartition(id, maxConcurrentLookups));
+    }
+}
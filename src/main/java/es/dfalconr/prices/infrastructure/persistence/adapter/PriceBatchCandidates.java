@@ -0,0 +1,75 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentCandidateProjection;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Batch lookups fetch every row of the requested (brand, product) pairs that overlaps the
+// requested date span in one statement, then resolve each lookup against those candidates.
+final class PriceBatchCandidates {
+
+    private PriceBatchCandidates() {
+    }
+
+    static Set<ProductKey> productKeys(Collection<PriceLookup> lookups) {
+        return lookups.stream().map(PriceLookup::productKey).collect(Collectors.toSet());
+    }
+
+    static LocalDateTime earliestDate(Collection<PriceLookup> lookups) {
+        return lookups.stream()
+            .map(PriceLookup::applicationDate)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+    }
+
+    static LocalDateTime latestDate(Collection<PriceLookup> lookups) {
+        return lookups.stream()
+            .map(PriceLookup::applicationDate)
+            .max(Comparator.naturalOrder())
+            .orElseThrow();
+    }
+
+    // Rows are tagged with the position of their lookup; its boundaries are the same on every row
+    static Map<PriceLookup, PriceSegment> resolveSegments(
+        List<PriceLookup> lookups,
+        List<PriceSegmentCandidateProjection> candidates
+    ) {
+        Map<PriceLookup, PriceSegment> segments = new HashMap<>();
+        candidates.stream()
+            .collect(Collectors.groupingBy(PriceSegmentCandidateProjection::lookupIndex))
+            .forEach((index, rows) -> {
+                PriceLookup lookup = lookups.get(index);
+                rows.stream()
+                    .map(row -> row.segment().toDomain(lookup.applicationDate()))
+                    .max(Comparator.comparing(PriceSegment::price, Price.PRECEDENCE))
+                    .ifPresent(segment -> segments.put(lookup, segment));
+            });
+        return segments;
+    }
+
+    static Map<PriceLookup, Price> resolve(Collection<PriceLookup> lookups, List<Price> candidates) {
+        Map<ProductKey, List<Price>> candidatesByProduct = candidates.stream()
+            .collect(Collectors.groupingBy(ProductKey::of));
+
+        Map<PriceLookup, Price> applicablePrices = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            candidatesByProduct.getOrDefault(lookup.productKey(), List.of())
+                .stream()
+                .filter(price -> price.isApplicableAt(lookup.applicationDate()))
+                .max(Price.PRECEDENCE)
+                .ifPresent(price -> applicablePrices.put(lookup, price));
+        }
+        return applicablePrices;
+    }
+}
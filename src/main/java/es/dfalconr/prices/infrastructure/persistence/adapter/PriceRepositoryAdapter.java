@@ -1,21 +1,45 @@
 package es.dfalconr.prices.infrastructure.persistence.adapter;
 
 import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
 import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
 import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
 import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "jpa", matchIfMissing = true)
 public class PriceRepositoryAdapter implements PriceRepository {
 
+    private static final Comparator<Price> BY_PRECEDENCE_DESC = Price.PRECEDENCE.reversed();
+
     private final PriceJpaRepository jpaRepository;
+    private final boolean productCached;
 
-    public PriceRepositoryAdapter(PriceJpaRepository jpaRepository) {
+    // With the query cache on, single lookups are answered from the product's cached rows: a
+    // result keyed by date would almost never be asked for again
+    public PriceRepositoryAdapter(
+        PriceJpaRepository jpaRepository,
+        @Value("${prices.jpa-cache.enabled:false}") boolean productCached
+    ) {
         this.jpaRepository = jpaRepository;
+        this.productCached = productCached;
     }
 
     @Override
@@ -24,9 +48,89 @@ public class PriceRepositoryAdapter implements PriceRepository {
         Long productId,
         Long brandId
     ) {
+        if (productCached) {
+            return jpaRepository.findProductPrices(productId, brandId)
+                .stream()
+                .map(PriceJpaEntity::toDomain)
+                .filter(price -> !price.startDate().isAfter(applicationDate)
+                    && !price.endDate().isBefore(applicationDate))
+                .sorted(BY_PRECEDENCE_DESC)
+                .toList();
+        }
         return jpaRepository.findApplicablePrices(applicationDate, productId, brandId)
             .stream()
             .map(PriceJpaEntity::toDomain)
             .toList();
     }
+
+    @Override
+    public Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        if (productCached) {
+            return findPriceTimeline(productId, brandId).priceAt(applicationDate);
+        }
+        return jpaRepository.findTopApplicablePrices(applicationDate, productId, brandId, Limit.of(1))
+            .stream()
+            .findFirst()
+            .map(PriceProjection::toDomain);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (productCached) {
+            return findPriceTimeline(productId, brandId).segmentAt(applicationDate);
+        }
+        return jpaRepository.findTopApplicableSegments(applicationDate, productId, brandId, Limit.of(1))
+            .stream()
+            .findFirst()
+            .map(segment -> segment.toDomain(applicationDate));
+    }
+
+    @Override
+    public Optional<LocalDateTime> findStableUntil(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (productCached) {
+            return findPriceTimeline(productId, brandId).segmentAt(applicationDate).map(PriceSegment::endDate);
+        }
+        return jpaRepository.findNextBoundaries(applicationDate, productId, brandId).stableUntil();
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Price> candidates = jpaRepository.findApplicablePriceCandidates(
+                PriceBatchCandidates.productKeys(lookups),
+                PriceBatchCandidates.earliestDate(lookups),
+                PriceBatchCandidates.latestDate(lookups)
+            )
+            .stream()
+            .map(PriceProjection::toDomain)
+            .toList();
+        return PriceBatchCandidates.resolve(lookups, candidates);
+    }
+
+    @Override
+    public Map<PriceLookup, PriceSegment> findApplicableSegmentBatch(Collection<PriceLookup> lookups) {
+        if (lookups.isEmpty()) {
+            return Map.of();
+        }
+
+        List<PriceLookup> indexed = List.copyOf(lookups);
+        return PriceBatchCandidates.resolveSegments(indexed, jpaRepository.findApplicableSegmentCandidates(indexed));
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return PriceTimeline.of(
+            jpaRepository.findProductPrices(productId, brandId)
+                .stream()
+                .map(PriceJpaEntity::toDomain)
+                .toList()
+        );
+    }
 }
@@ -0,0 +1,31 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDateTime;
+
+// Queries select COLUMNS, or JOINED_COLUMNS when PRICES is aliased P, first and in this order
+public final class PriceRows {
+
+    public static final String COLUMNS =
+        "ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR";
+
+    public static final String JOINED_COLUMNS =
+        "P.ID, P.BRAND_ID, P.PRODUCT_ID, P.PRICE_LIST, P.START_DATE, P.END_DATE, P.PRIORITY, P.PRICE, P.CURR";
+
+    public static final RowMapper<Price> MAPPER = (resultSet, rowNumber) -> new Price(
+        resultSet.getLong(1),
+        resultSet.getLong(2),
+        resultSet.getLong(3),
+        resultSet.getInt(4),
+        resultSet.getObject(5, LocalDateTime.class),
+        resultSet.getObject(6, LocalDateTime.class),
+        resultSet.getInt(7),
+        resultSet.getBigDecimal(8),
+        resultSet.getString(9)
+    );
+
+    private PriceRows() {
+    }
+}
@@ -0,0 +1,102 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.ReactivePriceRepository;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+// Owns its pool instead of exposing a ConnectionFactory bean, which would make Boot back off the JDBC DataSource
+@Component
+@Profile(ReactiveStackConfig.PROFILE)
+public class R2dbcPriceRepositoryAdapter implements ReactivePriceRepository {
+
+    private static final String COLUMNS = """
+        SELECT ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR
+        FROM PRICES
+        """;
+
+    private static final String TOP_APPLICABLE_PRICE = COLUMNS + """
+        WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId
+          AND START_DATE <= :applicationDate AND END_DATE >= :applicationDate
+        ORDER BY PRIORITY DESC, START_DATE DESC, ID DESC
+        FETCH FIRST 1 ROWS ONLY
+        """;
+
+    private static final String PRODUCT_PRICES = COLUMNS + """
+        WHERE BRAND_ID = :brandId AND PRODUCT_ID = :productId
+        ORDER BY START_DATE
+        """;
+
+    private static final Function<Readable, Price> PRICE_ROW_MAPPER = row -> new Price(
+        row.get(0, Long.class),
+        row.get(1, Long.class),
+        row.get(2, Long.class),
+        row.get(3, Integer.class),
+        row.get(4, LocalDateTime.class),
+        row.get(5, LocalDateTime.class),
+        row.get(6, Integer.class),
+        row.get(7, BigDecimal.class),
+        row.get(8, String.class)
+    );
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public R2dbcPriceRepositoryAdapter(
+        @Value("${prices.r2dbc.url}") String url,
+        @Value("${spring.datasource.username:sa}") String username,
+        @Value("${spring.datasource.password:}") String password,
+        @Value("${prices.r2dbc.pool.max-size:32}") int maxPoolSize
+    ) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+            .option(ConnectionFactoryOptions.USER, username)
+            .option(ConnectionFactoryOptions.PASSWORD, password)
+            .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+            .initialSize(Math.min(maxPoolSize, 4))
+            .maxSize(maxPoolSize)
+            .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connectionPool.dispose();
+    }
+
+    @Override
+    public Mono<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return databaseClient.sql(TOP_APPLICABLE_PRICE)
+            .bind("brandId", brandId)
+            .bind("productId", productId)
+            .bind("applicationDate", applicationDate)
+            .map(PRICE_ROW_MAPPER)
+            .one();
+    }
+
+    @Override
+    public Mono<PriceTimeline> findPriceTimeline(Long productId, Long brandId) {
+        return databaseClient.sql(PRODUCT_PRICES)
+            .bind("brandId", brandId)
+            .bind("productId", productId)
+            .map(PRICE_ROW_MAPPER)
+            .all()
+            .collectList()
+            .map(PriceTimeline::of);
+    }
+}
@@ -0,0 +1,183 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogPublisher;
+import es.dfalconr.prices.infrastructure.persistence.memory.CatalogVersion;
+import es.dfalconr.prices.infrastructure.persistence.memory.MappedPriceSnapshot;
+import es.dfalconr.prices.infrastructure.persistence.memory.PatchedPriceSnapshot;
+import es.dfalconr.prices.infrastructure.sync.PriceDeltaTarget;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+// Maps the snapshot file when it still matches PRICES, otherwise rewrites it; later changes are patched in memory
+@Slf4j
+@Component
+@Qualifier(PriceRepositoryConfig.ADAPTER)
+@ConditionalOnProperty(name = "prices.repository.type", havingValue = "snapshot")
+public class SnapshotPriceRepositoryAdapter implements PriceRepository, PriceDeltaTarget {
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private static final String ALL_PRICES_IN_SNAPSHOT_ORDER = """
+        SELECT ID, BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR, LAST_UPDATE
+        FROM PRICES
+        ORDER BY BRAND_ID, PRODUCT_ID, START_DATE
+        """;
+
+    private static final String TABLE_STATE = "SELECT COUNT(*), MAX(LAST_UPDATE) FROM PRICES";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path snapshotFile;
+
+    private final CatalogPublisher<PatchedPriceSnapshot> snapshot =
+        new CatalogPublisher<>(PatchedPriceSnapshot.of(MappedPriceSnapshot.empty()));
+
+    public SnapshotPriceRepositoryAdapter(
+        DataSource dataSource,
+        @Value("${prices.snapshot.file:prices.snapshot}") Path snapshotFile
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.snapshotFile = snapshotFile;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (Files.exists(snapshotFile)) {
+            try {
+                MappedPriceSnapshot existing = MappedPriceSnapshot.open(snapshotFile);
+                if (matchesTable(existing)) {
+                    CatalogVersion<PatchedPriceSnapshot> published =
+                        snapshot.reload(() -> PatchedPriceSnapshot.of(existing));
+                    log.info("Mapped {} prices for {} products from {} (~{} KB, version {})",
+                        existing.size(), existing.productCount(), snapshotFile, existing.mappedBytes() / 1024,
+                        published.version());
+                    return;
+                }
+            } catch (IllegalStateException ex) {
+                log.warn("Rebuilding unusable price snapshot: {}", ex.getMessage());
+            }
+        }
+        refresh();
+    }
+
+    // Rows changed with a NULL LAST_UPDATE and keeping the row count are not detected, as in the delta sync
+    private boolean matchesTable(MappedPriceSnapshot existing) {
+        return Boolean.TRUE.equals(jdbcTemplate.query(TABLE_STATE, resultSet -> {
+            resultSet.next();
+            long rowCount = resultSet.getLong(1);
+            LocalDateTime lastUpdate = resultSet.getObject(2, LocalDateTime.class);
+            boolean matches = rowCount == existing.size()
+                && Objects.equals(lastUpdate, existing.lastUpdate().orElse(null));
+            if (!matches) {
+                log.warn("Rebuilding stale price snapshot {}: {} prices last updated {}, table {} last updated {}",
+                    snapshotFile, existing.size(), existing.lastUpdate().orElse(null), rowCount, lastUpdate);
+            }
+            return matches;
+        }));
+    }
+
+    // Rows are streamed from the lookup index order straight into the file, which drops the patch.
+    // The previous mapping stays valid for readers still holding it after the file is replaced.
+    public void refresh() {
+        CatalogVersion<PatchedPriceSnapshot> published = snapshot.reload(() -> {
+            write();
+            return PatchedPriceSnapshot.of(MappedPriceSnapshot.open(snapshotFile));
+        });
+        MappedPriceSnapshot written = published.catalog().snapshot();
+        log.info("Wrote {} prices for {} products to {} (~{} KB, version {}, {} ms)",
+            written.size(), written.productCount(), snapshotFile, written.mappedBytes() / 1024,
+            published.version(), published.loadTime().toMillis());
+    }
+
+    public CatalogVersion<PatchedPriceSnapshot> catalogVersion() {
+        return snapshot.current();
+    }
+
+    // The file is left as written; it is rewritten at the next refresh or when found stale at startup
+    @Override
+    public void replaceProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        snapshot.update(current -> current.withProducts(pricesByProduct));
+    }
+
+    private void write() {
+        try (MappedPriceSnapshot.Writer writer = MappedPriceSnapshot.writer(snapshotFile)) {
+            jdbcTemplate.query(ALL_PRICES_IN_SNAPSHOT_ORDER, resultSet -> {
+                writer.add(
+                    resultSet.getLong(1),
+                    resultSet.getLong(2),
+                    resultSet.getLong(3),
+                    resultSet.getInt(4),
+                    resultSet.getObject(5, LocalDateTime.class),
+                    resultSet.getObject(6, LocalDateTime.class),
+                    resultSet.getInt(7),
+                    resultSet.getBigDecimal(8),
+                    resultSet.getString(9)
+                );
+                writer.lastUpdate(resultSet.getObject(10, LocalDateTime.class));
+            });
+            writer.finish();
+        }
+    }
+
+    @Override
+    public List<Price> findApplicablePrices(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return snapshot.catalog().findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<Price> findApplicablePrice(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
+        return snapshot.catalog().findApplicablePrice(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        return snapshot.catalog().findApplicableSegment(applicationDate, productId, brandId);
+    }
+
+    @Override
+    public Map<PriceLookup, Price> findApplicablePriceBatch(Collection<PriceLookup> lookups) {
+        PatchedPriceSnapshot current = snapshot.catalog();
+        Map<PriceLookup, Price> applicablePrices = new HashMap<>();
+        for (PriceLookup lookup : lookups) {
+            current.findApplicablePrice(lookup.applicationDate(), lookup.productId(), lookup.brandId())
+                .ifPresent(price -> applicablePrices.put(lookup, price));
+        }
+        return applicablePrices;
+    }
+
+    @Override
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        return snapshot.catalog().findPriceTimeline(productId, brandId);
+    }
+}
@@ -1,16 +1,22 @@
 package es.dfalconr.prices.infrastructure.persistence.entity;
 
 import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "PRICES")
+// Only used when prices.jpa-cache.enabled; rows are written with JDBC, never through this entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = PriceJpaCache.ENTITY_REGION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
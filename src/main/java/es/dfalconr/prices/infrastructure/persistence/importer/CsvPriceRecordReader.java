@@ -0,0 +1,85 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// Comma-separated values with a header naming the PRICES columns, in any order. Values may be
+// wrapped in single or double quotes but cannot contain commas; unknown columns are ignored.
+final class CsvPriceRecordReader implements PriceRecordReader {
+
+    private final BufferedReader reader;
+    private final int[] columnAt;
+    private long lineNumber;
+
+    CsvPriceRecordReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = nextLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import requires a header line");
+        }
+        String[] names = header.split(",", -1);
+        this.columnAt = new int[names.length];
+        boolean[] present = new boolean[PriceColumn.COUNT];
+        for (int i = 0; i < names.length; i++) {
+            int index = PriceColumn.named(unquote(names[i])).map(Enum::ordinal).orElse(-1);
+            columnAt[i] = index;
+            if (index >= 0) {
+                present[index] = true;
+            }
+        }
+        for (PriceColumn column : PriceColumn.values()) {
+            if (column.required() && !present[column.ordinal()]) {
+                throw new IllegalArgumentException("CSV header is missing column " + column);
+            }
+        }
+    }
+
+    @Override
+    public String[] next() throws IOException {
+        String line = nextLine();
+        while (line != null && line.isBlank()) {
+            line = nextLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        String[] fields = line.split(",", -1);
+        if (fields.length != columnAt.length) {
+            throw new IllegalArgumentException(
+                "Expected " + columnAt.length + " fields but found " + fields.length);
+        }
+        String[] values = new String[PriceColumn.COUNT];
+        for (int i = 0; i < fields.length; i++) {
+            if (columnAt[i] >= 0) {
+                String value = unquote(fields[i]);
+                values[columnAt[i]] = value.isEmpty() ? null : value;
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    private String nextLine() throws IOException {
+        String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    private static String unquote(String field) {
+        String value = field.strip();
+        if (value.length() >= 2) {
+            char first = value.charAt(0);
+            if ((first == '"' || first == '\'') && value.charAt(value.length() - 1) == first) {
+                return value.substring(1, value.length() - 1);
+            }
+        }
+        return value;
+    }
+}
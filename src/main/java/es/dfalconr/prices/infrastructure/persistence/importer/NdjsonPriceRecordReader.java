@@ -0,0 +1,69 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.json.JsonFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// One JSON object per line keyed by PRICES column name (case-insensitive). Values may be JSON
+// strings or numbers; unknown keys are skipped. Each line is tokenised on its own, so a malformed
+// line only rejects that row.
+final class NdjsonPriceRecordReader implements PriceRecordReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private final BufferedReader reader;
+    private long lineNumber;
+
+    NdjsonPriceRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public String[] next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        // No databinding: the empty read context only supplies the factory's default features
+        try (JsonParser parser = JSON.createParser(ObjectReadContext.empty(), line)) {
+            return read(parser);
+        } catch (JacksonException ex) {
+            throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long lineNumber() {
+        return lineNumber;
+    }
+
+    private static String[] read(JsonParser parser) {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        String[] values = new String[PriceColumn.COUNT];
+        while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+            int index = PriceColumn.named(parser.currentName()).map(Enum::ordinal).orElse(-1);
+            JsonToken value = parser.nextToken();
+            if (value.isStructStart()) {
+                parser.skipChildren();
+                if (index >= 0) {
+                    throw new IllegalArgumentException("Column " + PriceColumn.values()[index] + " must be a scalar");
+                }
+            } else if (index >= 0 && value != JsonToken.VALUE_NULL) {
+                values[index] = parser.getString();
+            }
+        }
+        return values;
+    }
+}
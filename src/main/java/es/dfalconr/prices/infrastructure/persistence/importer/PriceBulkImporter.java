@@ -0,0 +1,206 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import es.dfalconr.prices.domain.model.Price;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+// One transaction per batch: batches committed before a failure stay in the table
+@Slf4j
+@Component
+public class PriceBulkImporter {
+
+    static final String INSERT = """
+        INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR,
+            LAST_UPDATE, LAST_UPDATE_BY)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int partitions;
+    private final long progressInterval;
+
+    public PriceBulkImporter(
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${prices.import.batch-size:1000}") int batchSize,
+        @Value("${prices.import.partitions:1}") int partitions,
+        @Value("${prices.import.progress-interval:100000}") long progressInterval
+    ) {
+        if (batchSize < 1 || partitions < 1 || progressInterval < 1) {
+            throw new IllegalArgumentException("Batch size, partitions and progress interval must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.partitions = partitions;
+        this.progressInterval = progressInterval;
+    }
+
+    public PriceImportResult importFile(Path file) {
+        return importFile(file, PriceBulkImporter::logProgress);
+    }
+
+    public PriceImportResult importFile(Path file, Consumer<PriceImportProgress> progressListener) {
+        log.info("Importing prices from {}", file);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            PriceImportResult result = importFrom(reader, PriceImportFormat.of(file), progressListener);
+            log.info("Imported {} prices from {} in {} ms ({} rows/s), {} rows rejected",
+                result.importedRows(), file, result.elapsed().toMillis(),
+                Math.round(result.rowsPerSecond()), result.rejectedRows());
+            return result;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not read " + file, ex);
+        }
+    }
+
+    public PriceImportResult importFrom(
+        BufferedReader input,
+        PriceImportFormat format,
+        Consumer<PriceImportProgress> progressListener
+    ) throws IOException {
+        long startNanos = System.nanoTime();
+        LocalDateTime importedAt = LocalDateTime.now();
+        LongAdder imported = new LongAdder();
+        List<String> rejections = new ArrayList<>();
+        long rejected = 0;
+        long read = 0;
+
+        try (BatchWriter writer = new BatchWriter(imported)) {
+            PriceRecordReader records = PriceRecordReader.open(input, format);
+            List<PriceImportRow> batch = new ArrayList<>(batchSize);
+            while (true) {
+                PriceImportRow row;
+                try {
+                    String[] values = records.next();
+                    if (values == null) {
+                        break;
+                    }
+                    row = PriceImportRow.parse(values, importedAt);
+                } catch (IllegalArgumentException ex) {
+                    row = null;
+                    rejected++;
+                    if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                        rejections.add("line " + records.lineNumber() + ": " + ex.getMessage());
+                    }
+                }
+                read++;
+                if (row != null) {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        writer.submit(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                if (read % progressInterval == 0) {
+                    progressListener.accept(new PriceImportProgress(
+                        read, imported.sum(), rejected, Duration.ofNanos(System.nanoTime() - startNanos)));
+                }
+            }
+            if (!batch.isEmpty()) {
+                writer.submit(batch);
+            }
+        }
+
+        return new PriceImportResult(
+            imported.sum(), rejected, Duration.ofNanos(System.nanoTime() - startNanos), List.copyOf(rejections));
+    }
+
+    private void insert(List<PriceImportRow> rows) {
+        transactionTemplate.executeWithoutResult(status ->
+            jdbcTemplate.batchUpdate(INSERT, rows, rows.size(), (statement, row) -> {
+                Price price = row.price();
+                statement.setLong(1, price.brandId());
+                statement.setLong(2, price.productId());
+                statement.setInt(3, price.priceList());
+                statement.setObject(4, price.startDate());
+                statement.setObject(5, price.endDate());
+                statement.setInt(6, price.priority());
+                statement.setBigDecimal(7, price.amount());
+                statement.setString(8, price.currency());
+                statement.setObject(9, row.lastUpdate());
+                statement.setString(10, row.lastUpdateBy());
+            }));
+    }
+
+    private static void logProgress(PriceImportProgress progress) {
+        log.info("Read {} rows, imported {} ({} rows/s), {} rejected",
+            progress.rowsRead(), progress.rowsImported(), Math.round(progress.rowsPerSecond()),
+            progress.rowsRejected());
+    }
+
+    // Writes batches inline with one partition, otherwise on virtual threads bounded by a semaphore
+    // so the reader blocks once every partition is busy. Closing waits for the writes in flight.
+    private final class BatchWriter implements AutoCloseable {
+
+        private final LongAdder imported;
+        private final ExecutorService executor;
+        private final Semaphore slots = new Semaphore(partitions);
+        private final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        private BatchWriter(LongAdder imported) {
+            this.imported = imported;
+            this.executor = partitions > 1 ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        }
+
+        private void submit(List<PriceImportRow> batch) {
+            if (executor == null) {
+                insert(batch);
+                imported.add(batch.size());
+                return;
+            }
+
+            slots.acquireUninterruptibly();
+            rethrowFailure();
+            executor.execute(() -> {
+                try {
+                    insert(batch);
+                    imported.add(batch.size());
+                } catch (RuntimeException ex) {
+                    failure.compareAndSet(null, ex);
+                } finally {
+                    slots.release();
+                }
+            });
+        }
+
+        @Override
+        public void close() {
+            if (executor != null) {
+                executor.close();
+                rethrowFailure();
+            }
+        }
+
+        private void rethrowFailure() {
+            RuntimeException ex = failure.get();
+            if (ex != null) {
+                throw ex;
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.util.Locale;
+import java.util.Optional;
+
+// PRICES columns accepted by the importer, in the order values are held while a row is parsed.
+// ID is generated by the database; LAST_UPDATE and LAST_UPDATE_BY are optional.
+enum PriceColumn {
+    BRAND_ID(true),
+    PRODUCT_ID(true),
+    PRICE_LIST(true),
+    START_DATE(true),
+    END_DATE(true),
+    PRIORITY(true),
+    PRICE(true),
+    CURR(true),
+    LAST_UPDATE(false),
+    LAST_UPDATE_BY(false);
+
+    static final int COUNT = values().length;
+
+    private final boolean required;
+
+    PriceColumn(boolean required) {
+        this.required = required;
+    }
+
+    boolean required() {
+        return required;
+    }
+
+    static Optional<PriceColumn> named(String name) {
+        String normalized = name.strip().toUpperCase(Locale.ROOT);
+        for (PriceColumn column : values()) {
+            if (column.name().equals(normalized)) {
+                return Optional.of(column);
+            }
+        }
+        return Optional.empty();
+    }
+}
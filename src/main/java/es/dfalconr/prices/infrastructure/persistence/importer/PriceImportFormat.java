@@ -0,0 +1,20 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.nio.file.Path;
+import java.util.Locale;
+
+public enum PriceImportFormat {
+    CSV,
+    NDJSON;
+
+    public static PriceImportFormat of(Path file) {
+        String name = file.getFileName().toString().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import file " + file + ", expected .csv, .ndjson or .jsonl");
+    }
+}
@@ -0,0 +1,15 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.time.Duration;
+
+public record PriceImportProgress(
+    long rowsRead,
+    long rowsImported,
+    long rowsRejected,
+    Duration elapsed
+) {
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : rowsImported * 1_000_000_000d / nanos;
+    }
+}
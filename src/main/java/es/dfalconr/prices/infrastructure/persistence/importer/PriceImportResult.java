@@ -0,0 +1,17 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.time.Duration;
+import java.util.List;
+
+// rejections holds the first rejected rows as "line N: reason"; rejectedRows counts all of them
+public record PriceImportResult(
+    long importedRows,
+    long rejectedRows,
+    Duration elapsed,
+    List<String> rejections
+) {
+    public double rowsPerSecond() {
+        long nanos = elapsed.toNanos();
+        return nanos == 0 ? 0 : importedRows * 1_000_000_000d / nanos;
+    }
+}
@@ -0,0 +1,61 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import es.dfalconr.prices.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+
+// A validated row ready to insert: the Price plus the audit columns the domain model omits.
+record PriceImportRow(
+    Price price,
+    LocalDateTime lastUpdate,
+    String lastUpdateBy
+) {
+    static final String DEFAULT_LAST_UPDATE_BY = "import";
+
+    // Validates through the Price constructor; throws IllegalArgumentException on a bad value
+    static PriceImportRow parse(String[] values, LocalDateTime importedAt) {
+        for (PriceColumn column : PriceColumn.values()) {
+            if (column.required() && values[column.ordinal()] == null) {
+                throw new IllegalArgumentException("Missing value for " + column);
+            }
+        }
+        String currency = value(values, PriceColumn.CURR);
+        if (currency.length() != 3) {
+            throw new IllegalArgumentException("Currency must be a 3-letter code");
+        }
+        String lastUpdate = value(values, PriceColumn.LAST_UPDATE);
+        String lastUpdateBy = value(values, PriceColumn.LAST_UPDATE_BY);
+
+        Price price = new Price(
+            null,
+            Long.valueOf(value(values, PriceColumn.BRAND_ID)),
+            Long.valueOf(value(values, PriceColumn.PRODUCT_ID)),
+            Integer.valueOf(value(values, PriceColumn.PRICE_LIST)),
+            dateTime(value(values, PriceColumn.START_DATE), PriceColumn.START_DATE),
+            dateTime(value(values, PriceColumn.END_DATE), PriceColumn.END_DATE),
+            Integer.valueOf(value(values, PriceColumn.PRIORITY)),
+            new BigDecimal(value(values, PriceColumn.PRICE)),
+            currency
+        );
+        return new PriceImportRow(
+            price,
+            lastUpdate == null ? importedAt : dateTime(lastUpdate, PriceColumn.LAST_UPDATE),
+            lastUpdateBy == null ? DEFAULT_LAST_UPDATE_BY : lastUpdateBy
+        );
+    }
+
+    private static String value(String[] values, PriceColumn column) {
+        return values[column.ordinal()];
+    }
+
+    // Accepts ISO-8601 and the SQL "yyyy-MM-dd HH:mm:ss" layout used by data.sql
+    private static LocalDateTime dateTime(String value, PriceColumn column) {
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeException ex) {
+            throw new IllegalArgumentException("Invalid " + column + " '" + value + "'");
+        }
+    }
+}
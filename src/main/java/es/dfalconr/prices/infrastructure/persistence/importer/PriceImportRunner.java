@@ -0,0 +1,61 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
+import es.dfalconr.prices.infrastructure.cache.PriceSegmentCache;
+import es.dfalconr.prices.infrastructure.persistence.adapter.ColumnarPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.InMemoryPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.PartitionedPriceRepositoryAdapter;
+import es.dfalconr.prices.infrastructure.persistence.adapter.SnapshotPriceRepositoryAdapter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Component
+@ConditionalOnProperty(name = "prices.import.file")
+public class PriceImportRunner implements ApplicationRunner {
+
+    private final PriceBulkImporter importer;
+    private final Path file;
+    private final ObjectProvider<InMemoryPriceRepositoryAdapter> inMemoryAdapter;
+    private final ObjectProvider<ColumnarPriceRepositoryAdapter> columnarAdapter;
+    private final ObjectProvider<PartitionedPriceRepositoryAdapter> partitionedAdapter;
+    private final ObjectProvider<SnapshotPriceRepositoryAdapter> snapshotAdapter;
+    private final ObjectProvider<PriceSegmentCache> segmentCache;
+    private final ObjectProvider<PriceJpaCache> jpaCache;
+
+    public PriceImportRunner(
+        PriceBulkImporter importer,
+        @Value("${prices.import.file}") Path file,
+        ObjectProvider<InMemoryPriceRepositoryAdapter> inMemoryAdapter,
+        ObjectProvider<ColumnarPriceRepositoryAdapter> columnarAdapter,
+        ObjectProvider<PartitionedPriceRepositoryAdapter> partitionedAdapter,
+        ObjectProvider<SnapshotPriceRepositoryAdapter> snapshotAdapter,
+        ObjectProvider<PriceSegmentCache> segmentCache,
+        ObjectProvider<PriceJpaCache> jpaCache
+    ) {
+        this.importer = importer;
+        this.file = file;
+        this.inMemoryAdapter = inMemoryAdapter;
+        this.columnarAdapter = columnarAdapter;
+        this.partitionedAdapter = partitionedAdapter;
+        this.snapshotAdapter = snapshotAdapter;
+        this.segmentCache = segmentCache;
+        this.jpaCache = jpaCache;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        importer.importFile(file);
+        inMemoryAdapter.ifAvailable(InMemoryPriceRepositoryAdapter::refresh);
+        columnarAdapter.ifAvailable(ColumnarPriceRepositoryAdapter::refresh);
+        partitionedAdapter.ifAvailable(PartitionedPriceRepositoryAdapter::refresh);
+        snapshotAdapter.ifAvailable(SnapshotPriceRepositoryAdapter::refresh);
+        segmentCache.ifAvailable(PriceSegmentCache::invalidateAll);
+        jpaCache.ifAvailable(PriceJpaCache::invalidateAll);
+    }
+}
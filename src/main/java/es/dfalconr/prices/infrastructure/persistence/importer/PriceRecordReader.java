@@ -0,0 +1,22 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// Reads one record at a time as raw column values indexed by PriceColumn ordinal, so memory
+// stays flat whatever the file size.
+interface PriceRecordReader {
+
+    // null at the end of the input; missing columns are null
+    String[] next() throws IOException;
+
+    // Line of the record last returned, 1-based
+    long lineNumber();
+
+    static PriceRecordReader open(BufferedReader reader, PriceImportFormat format) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvPriceRecordReader(reader);
+            case NDJSON -> new NdjsonPriceRecordReader(reader);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class BrandPartition {
+
+    private final Long brandId;
+    private final int maxConcurrentLookups;
+    private final Semaphore lookupPermits;
+    private final CatalogPublisher<PriceIntervalIndex> index = new CatalogPublisher<>(PriceIntervalIndex.empty());
+
+    public BrandPartition(Long brandId, int maxConcurrentLookups) {
+        if (maxConcurrentLookups < 1) {
+            throw new IllegalArgumentException("A partition needs at least one concurrent lookup");
+        }
+        this.brandId = brandId;
+        this.maxConcurrentLookups = maxConcurrentLookups;
+        this.lookupPermits = new Semaphore(maxConcurrentLookups);
+    }
+
+    public Long brandId() {
+        return brandId;
+    }
+
+    public CatalogVersion<PriceIntervalIndex> current() {
+        return index.current();
+    }
+
+    // Runs the lookup against the published index once one of the brand's permits is free
+    public <T> T read(Function<PriceIntervalIndex, T> lookup) {
+        try {
+            lookupPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the partition of brand " + brandId, e);
+        }
+        try {
+            return lookup.apply(index.catalog());
+        } finally {
+            lookupPermits.release();
+        }
+    }
+
+    // Readers keep using the previous index until the new one is fully built
+    public CatalogVersion<PriceIntervalIndex> reload(Supplier<Collection<Price>> rows) {
+        return index.reload(() -> PriceIntervalIndex.of(rows.get()));
+    }
+
+    public CatalogVersion<PriceIntervalIndex> replaceProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        return index.update(current -> current.withProducts(pricesByProduct));
+    }
+
+    public BrandPartitionStats stats() {
+        CatalogVersion<PriceIntervalIndex> version = index.current();
+        return new BrandPartitionStats(
+            brandId,
+            version.version(),
+            version.catalog().size(),
+            version.catalog().productCount(),
+            version.loadTime(),
+            maxConcurrentLookups - lookupPermits.availablePermits()
+        );
+    }
+}
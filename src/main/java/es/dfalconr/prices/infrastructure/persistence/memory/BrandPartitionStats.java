@@ -0,0 +1,13 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import java.time.Duration;
+
+public record BrandPartitionStats(
+    Long brandId,
+    long version,
+    int prices,
+    int products,
+    Duration lastLoadTime,
+    int activeLookups
+) {
+}
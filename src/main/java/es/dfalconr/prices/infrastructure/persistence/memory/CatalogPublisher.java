@@ -0,0 +1,52 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+// Readers never take the reload lock; a reload publishes the next copy with a single reference swap
+public final class CatalogPublisher<T> {
+
+    private final AtomicReference<CatalogVersion<T>> current;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public CatalogPublisher(T initial) {
+        this.current = new AtomicReference<>(new CatalogVersion<>(0, initial, Instant.now(), Duration.ZERO));
+    }
+
+    public CatalogVersion<T> current() {
+        return current.get();
+    }
+
+    public T catalog() {
+        return current.get().catalog();
+    }
+
+    // If the loader fails the current version stays published
+    public CatalogVersion<T> reload(Supplier<T> loader) {
+        reloadLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            T catalog = loader.get();
+            CatalogVersion<T> next = new CatalogVersion<>(
+                current.get().version() + 1, catalog, Instant.now(), Duration.ofNanos(System.nanoTime() - startNanos));
+            current.set(next);
+            return next;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    // Derives the next version from the current one, serialised with reloads
+    public CatalogVersion<T> update(UnaryOperator<T> change) {
+        reloadLock.lock();
+        try {
+            return reload(() -> change.apply(current.get().catalog()));
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+}
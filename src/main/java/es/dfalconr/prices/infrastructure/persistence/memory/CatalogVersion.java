@@ -0,0 +1,13 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Version 0 is the empty catalog published at construction
+public record CatalogVersion<T>(
+    long version,
+    T catalog,
+    Instant publishedAt,
+    Duration loadTime
+) {
+}
@@ -0,0 +1,438 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// PRICES as parallel primitive arrays sorted by (brandId, productId, startDate), about 50 bytes per row
+public final class ColumnarPriceStore {
+
+    // PRICES.PRICE is DECIMAL(10, 2)
+    private static final int AMOUNT_SCALE = 2;
+    private static final int MAX_CURRENCIES = 256;
+    private static final Comparator<Price> BY_PRECEDENCE_DESC = Price.PRECEDENCE.reversed();
+    private static final Comparator<ProductKey> BY_BRAND_AND_PRODUCT = Comparator
+        .comparing(ProductKey::brandId)
+        .thenComparing(ProductKey::productId);
+    private static final ColumnarPriceStore EMPTY = builder(0).build();
+
+    // One entry per (brand, product) run; rows of run r are [runStart[r], runStart[r + 1])
+    private final long[] runBrandIds;
+    private final long[] runProductIds;
+    private final int[] runStart;
+
+    private final long[] ids;
+    private final long[] startSeconds;
+    private final long[] endSeconds;
+    private final long[] maxEndSecondsUpTo;
+    private final int[] priorities;
+    private final int[] priceLists;
+    private final long[] amounts;
+    private final byte[] currencyCodes;
+    private final String[] currencies;
+
+    private ColumnarPriceStore(Builder builder) {
+        int rows = builder.rows;
+        int runs = builder.runs;
+        this.runBrandIds = Arrays.copyOf(builder.runBrandIds, runs);
+        this.runProductIds = Arrays.copyOf(builder.runProductIds, runs);
+        this.runStart = Arrays.copyOf(builder.runStart, runs + 1);
+        this.runStart[runs] = rows;
+        this.ids = Arrays.copyOf(builder.ids, rows);
+        this.startSeconds = Arrays.copyOf(builder.startSeconds, rows);
+        this.endSeconds = Arrays.copyOf(builder.endSeconds, rows);
+        this.maxEndSecondsUpTo = Arrays.copyOf(builder.maxEndSecondsUpTo, rows);
+        this.priorities = Arrays.copyOf(builder.priorities, rows);
+        this.priceLists = Arrays.copyOf(builder.priceLists, rows);
+        this.amounts = Arrays.copyOf(builder.amounts, rows);
+        this.currencyCodes = Arrays.copyOf(builder.currencyCodes, rows);
+        this.currencies = builder.currencies.toArray(String[]::new);
+    }
+
+    public static ColumnarPriceStore empty() {
+        return EMPTY;
+    }
+
+    public static ColumnarPriceStore of(Collection<Price> prices) {
+        Builder builder = builder(prices.size());
+        prices.stream()
+            .sorted(Comparator.comparing(Price::brandId)
+                .thenComparing(Price::productId)
+                .thenComparing(Price::startDate))
+            .forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    // Untouched rows are copied column to column without creating Price objects
+    public ColumnarPriceStore withProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        NavigableMap<ProductKey, List<Price>> replacements = new TreeMap<>(BY_BRAND_AND_PRODUCT);
+        replacements.putAll(pricesByProduct);
+        Builder builder = builder(size() + pricesByProduct.values().stream().mapToInt(List::size).sum());
+
+        for (int run = 0; run < runBrandIds.length; run++) {
+            ProductKey key = new ProductKey(runBrandIds[run], runProductIds[run]);
+            // Products that sort before this run and are new to the store
+            while (!replacements.isEmpty() && BY_BRAND_AND_PRODUCT.compare(replacements.firstKey(), key) < 0) {
+                addSorted(builder, replacements.pollFirstEntry().getValue());
+            }
+            List<Price> replacement = replacements.remove(key);
+            if (replacement != null) {
+                addSorted(builder, replacement);
+                continue;
+            }
+            for (int row = runStart[run]; row < runStart[run + 1]; row++) {
+                builder.append(ids[row], runBrandIds[run], runProductIds[run], priceLists[row], startSeconds[row],
+                    endSeconds[row], priorities[row], amounts[row], currencies[currencyCodes[row] & 0xFF]);
+            }
+        }
+        replacements.values().forEach(prices -> addSorted(builder, prices));
+        return builder.build();
+    }
+
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return Optional.empty();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        int winner = -1;
+        for (int row = lastStartingAtOrBefore(run, floorSecond); row >= runStart[run]; row--) {
+            if (maxEndSecondsUpTo[row] < ceilSecond) {
+                break;
+            }
+            if (endSeconds[row] >= ceilSecond && (winner < 0 || precedes(row, winner))) {
+                winner = row;
+            }
+        }
+        return winner < 0 ? Optional.empty() : Optional.of(materialise(run, winner));
+    }
+
+    // Same scan as findApplicablePrice. The price can next change one nanosecond before the row
+    // after the search hit starts, or at the earliest end among the rows the scan found open
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return Optional.empty();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        int last = lastStartingAtOrBefore(run, floorSecond);
+        int winner = -1;
+        long nearestEndSecond = Long.MAX_VALUE;
+        for (int row = last; row >= runStart[run]; row--) {
+            if (maxEndSecondsUpTo[row] < ceilSecond) {
+                break;
+            }
+            if (endSeconds[row] >= ceilSecond) {
+                nearestEndSecond = Math.min(nearestEndSecond, endSeconds[row]);
+                if (winner < 0 || precedes(row, winner)) {
+                    winner = row;
+                }
+            }
+        }
+        if (winner < 0) {
+            return Optional.empty();
+        }
+
+        long nextStartSecond = last + 1 < runStart[run + 1] ? startSeconds[last + 1] : Long.MAX_VALUE;
+        return Optional.of(new PriceSegment(applicationDate, stableUntil(nextStartSecond, nearestEndSecond),
+            materialise(run, winner)));
+    }
+
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return List.of();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        List<Price> applicable = new ArrayList<>(2);
+        for (int row = lastStartingAtOrBefore(run, floorSecond); row >= runStart[run]; row--) {
+            if (maxEndSecondsUpTo[row] < ceilSecond) {
+                break;
+            }
+            if (endSeconds[row] >= ceilSecond) {
+                applicable.add(materialise(run, row));
+            }
+        }
+        applicable.sort(BY_PRECEDENCE_DESC);
+        return applicable;
+    }
+
+    public List<Price> findProductPrices(Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return List.of();
+        }
+
+        List<Price> prices = new ArrayList<>(runStart[run + 1] - runStart[run]);
+        for (int row = runStart[run]; row < runStart[run + 1]; row++) {
+            prices.add(materialise(run, row));
+        }
+        return prices;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public int productCount() {
+        return runBrandIds.length;
+    }
+
+    public long estimatedBytes() {
+        long perRow = Long.BYTES * 5L + Integer.BYTES * 2L + Byte.BYTES;
+        long perRun = Long.BYTES * 2L + Integer.BYTES;
+        return perRow * ids.length + perRun * runBrandIds.length;
+    }
+
+    private static void addSorted(Builder builder, List<Price> prices) {
+        prices.stream().sorted(Comparator.comparing(Price::startDate)).forEach(builder::add);
+    }
+
+    // Highest priority wins; ties go to the most recently started range, then the newest row
+    private boolean precedes(int row, int other) {
+        if (priorities[row] != priorities[other]) {
+            return priorities[row] > priorities[other];
+        }
+        if (startSeconds[row] != startSeconds[other]) {
+            return startSeconds[row] > startSeconds[other];
+        }
+        return ids[row] > ids[other];
+    }
+
+    private int findRun(long brandId, long productId) {
+        int low = 0;
+        int high = runBrandIds.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = runBrandIds[mid] != brandId
+                ? Long.compare(runBrandIds[mid], brandId)
+                : Long.compare(runProductIds[mid], productId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int lastStartingAtOrBefore(int run, long second) {
+        int low = runStart[run];
+        int high = runStart[run + 1] - 1;
+        int found = low - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (startSeconds[mid] > second) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    private Price materialise(int run, int row) {
+        return new Price(
+            ids[row],
+            runBrandIds[run],
+            runProductIds[run],
+            priceLists[row],
+            LocalDateTime.ofEpochSecond(startSeconds[row], 0, ZoneOffset.UTC),
+            LocalDateTime.ofEpochSecond(endSeconds[row], 0, ZoneOffset.UTC),
+            priorities[row],
+            BigDecimal.valueOf(amounts[row], AMOUNT_SCALE),
+            currencies[currencyCodes[row] & 0xFF]
+        );
+    }
+
+    // Bounds are whole seconds, so start <= date <= end holds exactly when
+    // start <= floor(date) and ceil(date) <= end.
+    private static long floorSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long ceilSecond(LocalDateTime date, long floorSecond) {
+        return date.getNano() == 0 ? floorSecond : floorSecond + 1;
+    }
+
+    // End seconds are inclusive, start seconds are not part of the window
+    private static LocalDateTime stableUntil(long nextStartSecond, long nearestEndSecond) {
+        if (nearestEndSecond < nextStartSecond) {
+            return LocalDateTime.ofEpochSecond(nearestEndSecond, 0, ZoneOffset.UTC);
+        }
+        return LocalDateTime.ofEpochSecond(nextStartSecond, 0, ZoneOffset.UTC).minusNanos(1);
+    }
+
+    // Takes rows already in (brandId, productId, startDate) order, as read from idx_price_lookup
+    public static final class Builder {
+
+        private long[] runBrandIds = new long[16];
+        private long[] runProductIds = new long[16];
+        private int[] runStart = new int[17];
+        private int runs;
+
+        private long[] ids;
+        private long[] startSeconds;
+        private long[] endSeconds;
+        private long[] maxEndSecondsUpTo;
+        private int[] priorities;
+        private int[] priceLists;
+        private long[] amounts;
+        private byte[] currencyCodes;
+        private int rows;
+
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Byte> currencyCodeByName = new HashMap<>();
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 16);
+            ids = new long[capacity];
+            startSeconds = new long[capacity];
+            endSeconds = new long[capacity];
+            maxEndSecondsUpTo = new long[capacity];
+            priorities = new int[capacity];
+            priceLists = new int[capacity];
+            amounts = new long[capacity];
+            currencyCodes = new byte[capacity];
+        }
+
+        public Builder add(Price price) {
+            if (price.id() == null) {
+                throw new IllegalArgumentException("Columnar store requires persisted prices with an id");
+            }
+            return add(price.id(), price.brandId(), price.productId(), price.priceList(), price.startDate(),
+                price.endDate(), price.priority(), price.amount(), price.currency());
+        }
+
+        public Builder add(
+            long id,
+            long brandId,
+            long productId,
+            int priceList,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priority,
+            BigDecimal amount,
+            String currency
+        ) {
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                throw new IllegalArgumentException("Columnar store requires whole-second price bounds");
+            }
+            return append(id, brandId, productId, priceList, startDate.toEpochSecond(ZoneOffset.UTC),
+                endDate.toEpochSecond(ZoneOffset.UTC), priority, amount.movePointRight(AMOUNT_SCALE).longValueExact(),
+                currency);
+        }
+
+        public ColumnarPriceStore build() {
+            return new ColumnarPriceStore(this);
+        }
+
+        private Builder append(
+            long id,
+            long brandId,
+            long productId,
+            int priceList,
+            long startSecond,
+            long endSecond,
+            int priority,
+            long amountMinorUnits,
+            String currency
+        ) {
+            boolean newRun = runs == 0
+                || runBrandIds[runs - 1] != brandId
+                || runProductIds[runs - 1] != productId;
+            if (newRun) {
+                startRun(brandId, productId);
+            } else if (startSeconds[rows - 1] > startSecond) {
+                throw new IllegalArgumentException("Prices must be added in (brandId, productId, startDate) order");
+            }
+
+            ensureRowCapacity();
+            ids[rows] = id;
+            startSeconds[rows] = startSecond;
+            endSeconds[rows] = endSecond;
+            maxEndSecondsUpTo[rows] = newRun ? endSecond : Math.max(maxEndSecondsUpTo[rows - 1], endSecond);
+            priorities[rows] = priority;
+            priceLists[rows] = priceList;
+            amounts[rows] = amountMinorUnits;
+            currencyCodes[rows] = currencyCode(currency);
+            rows++;
+            return this;
+        }
+
+        private void startRun(long brandId, long productId) {
+            if (runs > 0) {
+                int order = runBrandIds[runs - 1] != brandId
+                    ? Long.compare(runBrandIds[runs - 1], brandId)
+                    : Long.compare(runProductIds[runs - 1], productId);
+                if (order > 0) {
+                    throw new IllegalArgumentException("Prices must be added in (brandId, productId, startDate) order");
+                }
+            }
+            if (runs == runBrandIds.length) {
+                runBrandIds = Arrays.copyOf(runBrandIds, runs * 2);
+                runProductIds = Arrays.copyOf(runProductIds, runs * 2);
+                runStart = Arrays.copyOf(runStart, runs * 2 + 1);
+            }
+            runBrandIds[runs] = brandId;
+            runProductIds[runs] = productId;
+            runStart[runs] = rows;
+            runs++;
+        }
+
+        private void ensureRowCapacity() {
+            if (rows < ids.length) {
+                return;
+            }
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            maxEndSecondsUpTo = Arrays.copyOf(maxEndSecondsUpTo, capacity);
+            priorities = Arrays.copyOf(priorities, capacity);
+            priceLists = Arrays.copyOf(priceLists, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            currencyCodes = Arrays.copyOf(currencyCodes, capacity);
+        }
+
+        private byte currencyCode(String currency) {
+            Byte code = currencyCodeByName.get(currency);
+            if (code == null) {
+                if (currencies.size() == MAX_CURRENCIES) {
+                    throw new IllegalArgumentException("Columnar store supports at most 256 currencies");
+                }
+                code = (byte) currencies.size();
+                currencies.add(currency);
+                currencyCodeByName.put(currency, code);
+            }
+            return code;
+        }
+    }
+}
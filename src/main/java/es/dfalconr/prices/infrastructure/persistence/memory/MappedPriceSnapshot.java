@@ -0,0 +1,587 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32C;
+
+// Little-endian: 64-byte header, 56-byte rows sorted by (brand, product, start), 24-byte runs, 8-byte currencies
+public final class MappedPriceSnapshot {
+
+    public static final int VERSION = 2;
+
+    private static final long MAGIC = 0x50414E5343495250L; // "PRICSNAP" read little-endian
+    private static final int HEADER_BYTES = 64;
+    private static final int ROW_BYTES = 56;
+    private static final int RUN_BYTES = 24;
+    private static final int CURRENCY_BYTES = 8;
+    private static final int MAX_CURRENCIES = 256;
+
+    // PRICES.PRICE is DECIMAL(10, 2)
+    private static final int AMOUNT_SCALE = 2;
+    private static final Comparator<Price> BY_PRECEDENCE_DESC = Price.PRECEDENCE.reversed();
+
+    // Header fields
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int ROW_COUNT_OFFSET = 12;
+    private static final int RUN_COUNT_OFFSET = 16;
+    private static final int CURRENCY_COUNT_OFFSET = 20;
+    private static final int CHECKSUM_OFFSET = 24;
+    private static final int LAST_UPDATE_SECOND_OFFSET = 32;
+    private static final int LAST_UPDATE_NANO_OFFSET = 40;
+
+    // Written when no source row had a LAST_UPDATE
+    private static final long NO_LAST_UPDATE = Long.MIN_VALUE;
+
+    // Row fields
+    private static final int ID = 0;
+    private static final int START = 8;
+    private static final int END = 16;
+    private static final int MAX_END = 24;
+    private static final int AMOUNT = 32;
+    private static final int PRIORITY = 40;
+    private static final int PRICE_LIST = 44;
+    private static final int CURRENCY = 48;
+
+    // Run fields
+    private static final int BRAND_ID = 0;
+    private static final int PRODUCT_ID = 8;
+    private static final int FIRST_ROW = 16;
+
+    private static final MappedPriceSnapshot EMPTY =
+        new MappedPriceSnapshot(ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN), 0, 0, new String[0],
+            null);
+
+    private final ByteBuffer data;
+    private final int rowCount;
+    private final int runCount;
+    private final int runsOffset;
+    private final String[] currencies;
+    private final LocalDateTime lastUpdate;
+
+    private MappedPriceSnapshot(
+        ByteBuffer data,
+        int rowCount,
+        int runCount,
+        String[] currencies,
+        LocalDateTime lastUpdate
+    ) {
+        this.data = data;
+        this.rowCount = rowCount;
+        this.runCount = runCount;
+        this.runsOffset = HEADER_BYTES + rowCount * ROW_BYTES;
+        this.currencies = currencies;
+        this.lastUpdate = lastUpdate;
+    }
+
+    public static MappedPriceSnapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Invalid price snapshot size " + size + " in " + file);
+            }
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return verify(mapping.order(ByteOrder.LITTLE_ENDIAN), file);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not map price snapshot " + file, ex);
+        }
+    }
+
+    // Not backed by a file; answers every lookup with nothing
+    public static MappedPriceSnapshot empty() {
+        return EMPTY;
+    }
+
+    public static Writer writer(Path file) {
+        return new Writer(file);
+    }
+
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return Optional.empty();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        int first = firstRow(run);
+        int winner = -1;
+        for (int row = lastStartingAtOrBefore(run, floorSecond); row >= first; row--) {
+            if (rowLong(row, MAX_END) < ceilSecond) {
+                break;
+            }
+            if (rowLong(row, END) >= ceilSecond && (winner < 0 || precedes(row, winner))) {
+                winner = row;
+            }
+        }
+        return winner < 0 ? Optional.empty() : Optional.of(materialise(run, winner));
+    }
+
+    // Same scan as findApplicablePrice, bounded like ColumnarPriceStore#findApplicableSegment
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return Optional.empty();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        int first = firstRow(run);
+        int last = lastStartingAtOrBefore(run, floorSecond);
+        int winner = -1;
+        long nearestEndSecond = Long.MAX_VALUE;
+        for (int row = last; row >= first; row--) {
+            if (rowLong(row, MAX_END) < ceilSecond) {
+                break;
+            }
+            long endSecond = rowLong(row, END);
+            if (endSecond >= ceilSecond) {
+                nearestEndSecond = Math.min(nearestEndSecond, endSecond);
+                if (winner < 0 || precedes(row, winner)) {
+                    winner = row;
+                }
+            }
+        }
+        if (winner < 0) {
+            return Optional.empty();
+        }
+
+        long nextStartSecond = last + 1 < endRow(run) ? rowLong(last + 1, START) : Long.MAX_VALUE;
+        return Optional.of(new PriceSegment(applicationDate, stableUntil(nextStartSecond, nearestEndSecond),
+            materialise(run, winner)));
+    }
+
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return List.of();
+        }
+
+        long floorSecond = floorSecond(applicationDate);
+        long ceilSecond = ceilSecond(applicationDate, floorSecond);
+        int first = firstRow(run);
+        List<Price> applicable = new ArrayList<>(2);
+        for (int row = lastStartingAtOrBefore(run, floorSecond); row >= first; row--) {
+            if (rowLong(row, MAX_END) < ceilSecond) {
+                break;
+            }
+            if (rowLong(row, END) >= ceilSecond) {
+                applicable.add(materialise(run, row));
+            }
+        }
+        applicable.sort(BY_PRECEDENCE_DESC);
+        return applicable;
+    }
+
+    public List<Price> findProductPrices(Long productId, Long brandId) {
+        int run = findRun(brandId, productId);
+        if (run < 0) {
+            return List.of();
+        }
+
+        int end = endRow(run);
+        List<Price> prices = new ArrayList<>(end - firstRow(run));
+        for (int row = firstRow(run); row < end; row++) {
+            prices.add(materialise(run, row));
+        }
+        return prices;
+    }
+
+    public int size() {
+        return rowCount;
+    }
+
+    public int productCount() {
+        return runCount;
+    }
+
+    public long mappedBytes() {
+        return data.capacity();
+    }
+
+    public Optional<LocalDateTime> lastUpdate() {
+        return Optional.ofNullable(lastUpdate);
+    }
+
+    private static MappedPriceSnapshot verify(ByteBuffer data, Path file) {
+        if (data.getLong(MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalStateException(file + " is not a price snapshot");
+        }
+        int version = data.getInt(VERSION_OFFSET);
+        if (version != VERSION) {
+            throw new IllegalStateException(
+                "Unsupported price snapshot version " + version + " in " + file + ", expected " + VERSION);
+        }
+        int rowCount = data.getInt(ROW_COUNT_OFFSET);
+        int runCount = data.getInt(RUN_COUNT_OFFSET);
+        int currencyCount = data.getInt(CURRENCY_COUNT_OFFSET);
+        long expectedSize = HEADER_BYTES
+            + (long) rowCount * ROW_BYTES
+            + (long) runCount * RUN_BYTES
+            + (long) currencyCount * CURRENCY_BYTES;
+        if (rowCount < 0 || runCount < 0 || currencyCount < 0 || currencyCount > MAX_CURRENCIES
+            || expectedSize != data.capacity()) {
+            throw new IllegalStateException("Truncated or corrupt price snapshot " + file);
+        }
+
+        CRC32C checksum = new CRC32C();
+        checksum.update(data.slice(HEADER_BYTES, data.capacity() - HEADER_BYTES));
+        if (checksum.getValue() != data.getLong(CHECKSUM_OFFSET)) {
+            throw new IllegalStateException("Checksum mismatch in price snapshot " + file);
+        }
+
+        int currenciesOffset = HEADER_BYTES + rowCount * ROW_BYTES + runCount * RUN_BYTES;
+        String[] currencies = new String[currencyCount];
+        byte[] code = new byte[CURRENCY_BYTES];
+        for (int i = 0; i < currencyCount; i++) {
+            data.get(currenciesOffset + i * CURRENCY_BYTES, code);
+            int length = 0;
+            while (length < CURRENCY_BYTES && code[length] != 0) {
+                length++;
+            }
+            currencies[i] = new String(code, 0, length, StandardCharsets.US_ASCII);
+        }
+        long lastUpdateSecond = data.getLong(LAST_UPDATE_SECOND_OFFSET);
+        LocalDateTime lastUpdate = lastUpdateSecond == NO_LAST_UPDATE
+            ? null
+            : LocalDateTime.ofEpochSecond(lastUpdateSecond, data.getInt(LAST_UPDATE_NANO_OFFSET), ZoneOffset.UTC);
+        return new MappedPriceSnapshot(data, rowCount, runCount, currencies, lastUpdate);
+    }
+
+    // Highest priority wins; ties go to the most recently started range, then the newest row
+    private boolean precedes(int row, int other) {
+        int priority = rowInt(row, PRIORITY);
+        int otherPriority = rowInt(other, PRIORITY);
+        if (priority != otherPriority) {
+            return priority > otherPriority;
+        }
+        long start = rowLong(row, START);
+        long otherStart = rowLong(other, START);
+        if (start != otherStart) {
+            return start > otherStart;
+        }
+        return rowLong(row, ID) > rowLong(other, ID);
+    }
+
+    private int findRun(long brandId, long productId) {
+        int low = 0;
+        int high = runCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long midBrandId = runLong(mid, BRAND_ID);
+            int comparison = midBrandId != brandId
+                ? Long.compare(midBrandId, brandId)
+                : Long.compare(runLong(mid, PRODUCT_ID), productId);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int lastStartingAtOrBefore(int run, long second) {
+        int low = firstRow(run);
+        int high = endRow(run) - 1;
+        int found = low - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (rowLong(mid, START) > second) {
+                high = mid - 1;
+            } else {
+                found = mid;
+                low = mid + 1;
+            }
+        }
+        return found;
+    }
+
+    private int firstRow(int run) {
+        return data.getInt(runsOffset + run * RUN_BYTES + FIRST_ROW);
+    }
+
+    private int endRow(int run) {
+        return run + 1 < runCount ? firstRow(run + 1) : rowCount;
+    }
+
+    private long runLong(int run, int field) {
+        return data.getLong(runsOffset + run * RUN_BYTES + field);
+    }
+
+    private long rowLong(int row, int field) {
+        return data.getLong(HEADER_BYTES + row * ROW_BYTES + field);
+    }
+
+    private int rowInt(int row, int field) {
+        return data.getInt(HEADER_BYTES + row * ROW_BYTES + field);
+    }
+
+    private Price materialise(int run, int row) {
+        int offset = HEADER_BYTES + row * ROW_BYTES;
+        return new Price(
+            data.getLong(offset + ID),
+            runLong(run, BRAND_ID),
+            runLong(run, PRODUCT_ID),
+            data.getInt(offset + PRICE_LIST),
+            LocalDateTime.ofEpochSecond(data.getLong(offset + START), 0, ZoneOffset.UTC),
+            LocalDateTime.ofEpochSecond(data.getLong(offset + END), 0, ZoneOffset.UTC),
+            data.getInt(offset + PRIORITY),
+            BigDecimal.valueOf(data.getLong(offset + AMOUNT), AMOUNT_SCALE),
+            currencies[data.get(offset + CURRENCY) & 0xFF]
+        );
+    }
+
+    // Bounds are whole seconds, so start <= date <= end holds exactly when
+    // start <= floor(date) and ceil(date) <= end.
+    private static long floorSecond(LocalDateTime date) {
+        return date.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static long ceilSecond(LocalDateTime date, long floorSecond) {
+        return date.getNano() == 0 ? floorSecond : floorSecond + 1;
+    }
+
+    // End seconds are inclusive, start seconds are not part of the window
+    private static LocalDateTime stableUntil(long nextStartSecond, long nearestEndSecond) {
+        if (nearestEndSecond < nextStartSecond) {
+            return LocalDateTime.ofEpochSecond(nearestEndSecond, 0, ZoneOffset.UTC);
+        }
+        return LocalDateTime.ofEpochSecond(nextStartSecond, 0, ZoneOffset.UTC).minusNanos(1);
+    }
+
+    // Writes to a temporary file and moves it into place on finish, so readers never see a partial snapshot
+    public static final class Writer implements AutoCloseable {
+
+        private static final int BUFFER_BYTES = 1 << 16;
+
+        private final Path target;
+        private final Path temporary;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C checksum = new CRC32C();
+
+        private long[] runBrandIds = new long[16];
+        private long[] runProductIds = new long[16];
+        private int[] runFirstRows = new int[16];
+        private int runs;
+        private int rows;
+        private long lastStartSecond;
+        private long maxEndSecond;
+
+        private final List<String> currencies = new ArrayList<>();
+        private final Map<String, Byte> currencyCodeByName = new HashMap<>();
+        private LocalDateTime lastUpdate;
+        private boolean finished;
+
+        private Writer(Path target) {
+            this.target = target.toAbsolutePath();
+            this.temporary = this.target.resolveSibling(this.target.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(this.target.getParent());
+                this.channel = FileChannel.open(temporary,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                this.channel.position(HEADER_BYTES);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not create price snapshot " + temporary, ex);
+            }
+        }
+
+        public Writer add(Price price) {
+            if (price.id() == null) {
+                throw new IllegalArgumentException("Price snapshot requires persisted prices with an id");
+            }
+            return add(price.id(), price.brandId(), price.productId(), price.priceList(), price.startDate(),
+                price.endDate(), price.priority(), price.amount(), price.currency());
+        }
+
+        public Writer add(
+            long id,
+            long brandId,
+            long productId,
+            int priceList,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            int priority,
+            BigDecimal amount,
+            String currency
+        ) {
+            if (startDate.getNano() != 0 || endDate.getNano() != 0) {
+                throw new IllegalArgumentException("Price snapshot requires whole-second price bounds");
+            }
+            if (HEADER_BYTES + (long) (rows + 1) * (ROW_BYTES + RUN_BYTES) > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Price snapshot is limited to a single 2 GB mapping");
+            }
+            long startSecond = startDate.toEpochSecond(ZoneOffset.UTC);
+            long endSecond = endDate.toEpochSecond(ZoneOffset.UTC);
+
+            boolean newRun = runs == 0
+                || runBrandIds[runs - 1] != brandId
+                || runProductIds[runs - 1] != productId;
+            if (newRun) {
+                startRun(brandId, productId);
+                maxEndSecond = endSecond;
+            } else if (lastStartSecond > startSecond) {
+                throw new IllegalArgumentException("Prices must be added in (brandId, productId, startDate) order");
+            } else {
+                maxEndSecond = Math.max(maxEndSecond, endSecond);
+            }
+            lastStartSecond = startSecond;
+
+            ensureSpace(ROW_BYTES);
+            buffer.putLong(id)
+                .putLong(startSecond)
+                .putLong(endSecond)
+                .putLong(maxEndSecond)
+                .putLong(amount.movePointRight(AMOUNT_SCALE).longValueExact())
+                .putInt(priority)
+                .putInt(priceList)
+                .put(currencyCode(currency))
+                .put((byte) 0)
+                .putShort((short) 0)
+                .putInt(0);
+            rows++;
+            return this;
+        }
+
+        // The latest one is kept in the header to check the snapshot against the table
+        public Writer lastUpdate(LocalDateTime rowLastUpdate) {
+            if (rowLastUpdate != null && (lastUpdate == null || rowLastUpdate.isAfter(lastUpdate))) {
+                lastUpdate = rowLastUpdate;
+            }
+            return this;
+        }
+
+        public int finish() {
+            try {
+                for (int run = 0; run < runs; run++) {
+                    ensureSpace(RUN_BYTES);
+                    buffer.putLong(runBrandIds[run])
+                        .putLong(runProductIds[run])
+                        .putInt(runFirstRows[run])
+                        .putInt(0);
+                }
+                for (String currency : currencies) {
+                    ensureSpace(CURRENCY_BYTES);
+                    buffer.put(Arrays.copyOf(currency.getBytes(StandardCharsets.US_ASCII), CURRENCY_BYTES));
+                }
+                flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                header.putLong(MAGIC_OFFSET, MAGIC)
+                    .putInt(VERSION_OFFSET, VERSION)
+                    .putInt(ROW_COUNT_OFFSET, rows)
+                    .putInt(RUN_COUNT_OFFSET, runs)
+                    .putInt(CURRENCY_COUNT_OFFSET, currencies.size())
+                    .putLong(CHECKSUM_OFFSET, checksum.getValue())
+                    .putLong(LAST_UPDATE_SECOND_OFFSET,
+                        lastUpdate == null ? NO_LAST_UPDATE : lastUpdate.toEpochSecond(ZoneOffset.UTC))
+                    .putInt(LAST_UPDATE_NANO_OFFSET, lastUpdate == null ? 0 : lastUpdate.getNano());
+                while (header.hasRemaining()) {
+                    channel.write(header, header.position());
+                }
+                channel.force(true);
+                channel.close();
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                finished = true;
+                return rows;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not write price snapshot " + target, ex);
+            }
+        }
+
+        // Discards the temporary file unless finish() completed
+        @Override
+        public void close() {
+            if (finished) {
+                return;
+            }
+            try {
+                channel.close();
+                Files.deleteIfExists(temporary);
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not discard price snapshot " + temporary, ex);
+            }
+        }
+
+        private void startRun(long brandId, long productId) {
+            if (runs > 0) {
+                int order = runBrandIds[runs - 1] != brandId
+                    ? Long.compare(runBrandIds[runs - 1], brandId)
+                    : Long.compare(runProductIds[runs - 1], productId);
+                if (order > 0) {
+                    throw new IllegalArgumentException("Prices must be added in (brandId, productId, startDate) order");
+                }
+            }
+            if (runs == runBrandIds.length) {
+                runBrandIds = Arrays.copyOf(runBrandIds, runs * 2);
+                runProductIds = Arrays.copyOf(runProductIds, runs * 2);
+                runFirstRows = Arrays.copyOf(runFirstRows, runs * 2);
+            }
+            runBrandIds[runs] = brandId;
+            runProductIds[runs] = productId;
+            runFirstRows[runs] = rows;
+            runs++;
+        }
+
+        private byte currencyCode(String currency) {
+            Byte code = currencyCodeByName.get(currency);
+            if (code == null) {
+                if (currencies.size() == MAX_CURRENCIES) {
+                    throw new IllegalArgumentException("Price snapshot supports at most 256 currencies");
+                }
+                if (currency.length() > CURRENCY_BYTES
+                    || !StandardCharsets.US_ASCII.newEncoder().canEncode(currency)) {
+                    throw new IllegalArgumentException("Price snapshot requires ASCII currency codes");
+                }
+                code = (byte) currencies.size();
+                currencies.add(currency);
+                currencyCodeByName.put(currency, code);
+            }
+            return code;
+        }
+
+        private void ensureSpace(int bytes) {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            buffer.flip();
+            checksum.update(buffer.duplicate());
+            try {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not write price snapshot " + temporary, ex);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Replaced products are served from an in-memory patch over the shared columns until compacted
+public final class PatchedColumnarStore {
+
+    private final ColumnarPriceStore store;
+    private final PriceIntervalIndex patch;
+    private final Set<ProductKey> patchedProducts;
+
+    private PatchedColumnarStore(ColumnarPriceStore store, PriceIntervalIndex patch, Set<ProductKey> patched) {
+        this.store = store;
+        this.patch = patch;
+        this.patchedProducts = patched;
+    }
+
+    public static PatchedColumnarStore of(ColumnarPriceStore store) {
+        return new PatchedColumnarStore(store, PriceIntervalIndex.empty(), Set.of());
+    }
+
+    // An empty list removes the product; the columns are shared
+    public PatchedColumnarStore withProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        Set<ProductKey> patched = new HashSet<>(patchedProducts);
+        patched.addAll(pricesByProduct.keySet());
+        return new PatchedColumnarStore(store, patch.withProducts(pricesByProduct), Set.copyOf(patched));
+    }
+
+    // Rebuilds the columns with the patch merged in
+    public PatchedColumnarStore compacted() {
+        if (patchedProducts.isEmpty()) {
+            return this;
+        }
+        Map<ProductKey, List<Price>> pricesByProduct = new HashMap<>();
+        for (ProductKey key : patchedProducts) {
+            pricesByProduct.put(key, patch.findProductPrices(key.productId(), key.brandId()));
+        }
+        return of(store.withProducts(pricesByProduct));
+    }
+
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId).priceAt(applicationDate);
+        }
+        return store.findApplicablePrice(applicationDate, productId, brandId);
+    }
+
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId).segmentAt(applicationDate);
+        }
+        return store.findApplicableSegment(applicationDate, productId, brandId);
+    }
+
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findApplicablePrices(applicationDate, productId, brandId);
+        }
+        return store.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId);
+        }
+        return PriceTimeline.of(store.findProductPrices(productId, brandId));
+    }
+
+    public ColumnarPriceStore store() {
+        return store;
+    }
+
+    public int patchedProductCount() {
+        return patchedProducts.size();
+    }
+
+    private boolean isPatched(Long productId, Long brandId) {
+        return !patchedProducts.isEmpty() && patchedProducts.contains(new ProductKey(brandId, productId));
+    }
+}
@@ -0,0 +1,78 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// Replaced products are served from memory, even when they have no rows left; the rest from the mapping
+public final class PatchedPriceSnapshot {
+
+    private final MappedPriceSnapshot snapshot;
+    private final PriceIntervalIndex patch;
+    private final Set<ProductKey> patchedProducts;
+
+    private PatchedPriceSnapshot(MappedPriceSnapshot snapshot, PriceIntervalIndex patch, Set<ProductKey> patched) {
+        this.snapshot = snapshot;
+        this.patch = patch;
+        this.patchedProducts = patched;
+    }
+
+    public static PatchedPriceSnapshot of(MappedPriceSnapshot snapshot) {
+        return new PatchedPriceSnapshot(snapshot, PriceIntervalIndex.empty(), Set.of());
+    }
+
+    // An empty list removes the product; the mapping is shared
+    public PatchedPriceSnapshot withProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        Set<ProductKey> patched = new HashSet<>(patchedProducts);
+        patched.addAll(pricesByProduct.keySet());
+        return new PatchedPriceSnapshot(snapshot, patch.withProducts(pricesByProduct), Set.copyOf(patched));
+    }
+
+    public Optional<Price> findApplicablePrice(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId).priceAt(applicationDate);
+        }
+        return snapshot.findApplicablePrice(applicationDate, productId, brandId);
+    }
+
+    public Optional<PriceSegment> findApplicableSegment(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId).segmentAt(applicationDate);
+        }
+        return snapshot.findApplicableSegment(applicationDate, productId, brandId);
+    }
+
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findApplicablePrices(applicationDate, productId, brandId);
+        }
+        return snapshot.findApplicablePrices(applicationDate, productId, brandId);
+    }
+
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        if (isPatched(productId, brandId)) {
+            return patch.findPriceTimeline(productId, brandId);
+        }
+        return PriceTimeline.of(snapshot.findProductPrices(productId, brandId));
+    }
+
+    public MappedPriceSnapshot snapshot() {
+        return snapshot;
+    }
+
+    public int patchedProductCount() {
+        return patchedProducts.size();
+    }
+
+    private boolean isPatched(Long productId, Long brandId) {
+        return !patchedProducts.isEmpty() && patchedProducts.contains(new ProductKey(brandId, productId));
+    }
+}
@@ -0,0 +1,203 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class PriceIntervalIndex {
+
+    private static final int MIN_SLOTS = 16;
+    private static final PriceIntervalIndex EMPTY = new PriceIntervalIndex(emptySlots(MIN_SLOTS), 0, 0);
+
+    // Products are spread over about sqrt(products) slots, each an immutable map, so replacing a
+    // product copies the slot table and the slots it touches instead of every product's entry
+    private final Map<ProductKey, ProductIntervals>[] slots;
+    private final int size;
+    private final int productCount;
+
+    private PriceIntervalIndex(Map<ProductKey, ProductIntervals>[] slots, int size, int productCount) {
+        this.slots = slots;
+        this.size = size;
+        this.productCount = productCount;
+    }
+
+    public static PriceIntervalIndex empty() {
+        return EMPTY;
+    }
+
+    public static PriceIntervalIndex of(Collection<Price> prices) {
+        Map<ProductKey, List<Price>> pricesByProduct = prices.stream()
+            .collect(Collectors.groupingBy(ProductKey::of));
+
+        Map<ProductKey, ProductIntervals> intervalsByProduct = new HashMap<>(pricesByProduct.size() * 2);
+        pricesByProduct.forEach((key, productPrices) ->
+            intervalsByProduct.put(key, ProductIntervals.of(productPrices)));
+
+        return new PriceIntervalIndex(slotted(intervalsByProduct), prices.size(), intervalsByProduct.size());
+    }
+
+    // Other products share their intervals, and the slots holding them, with this index
+    public PriceIntervalIndex withProducts(Map<ProductKey, List<Price>> pricesByProduct) {
+        Map<Integer, Map<ProductKey, ProductIntervals>> changedSlots = new HashMap<>();
+        int updatedSize = size;
+        int updatedProductCount = productCount;
+        for (Map.Entry<ProductKey, List<Price>> entry : pricesByProduct.entrySet()) {
+            Map<ProductKey, ProductIntervals> slot = changedSlots.computeIfAbsent(slotOf(entry.getKey(), slots.length),
+                index -> new HashMap<>(slots[index]));
+            ProductIntervals previous = slot.remove(entry.getKey());
+            if (previous != null) {
+                updatedSize -= previous.pricesByStart().length;
+                updatedProductCount--;
+            }
+            if (!entry.getValue().isEmpty()) {
+                slot.put(entry.getKey(), ProductIntervals.of(entry.getValue()));
+                updatedSize += entry.getValue().size();
+                updatedProductCount++;
+            }
+        }
+
+        Map<ProductKey, ProductIntervals>[] updated = slots.clone();
+        changedSlots.forEach((index, slot) -> updated[index] = Map.copyOf(slot));
+        if (slotCountFor(updatedProductCount) > updated.length) {
+            Map<ProductKey, ProductIntervals> intervalsByProduct = new HashMap<>(updatedProductCount * 2);
+            for (Map<ProductKey, ProductIntervals> slot : updated) {
+                intervalsByProduct.putAll(slot);
+            }
+            return new PriceIntervalIndex(slotted(intervalsByProduct), updatedSize, updatedProductCount);
+        }
+        return new PriceIntervalIndex(updated, updatedSize, updatedProductCount);
+    }
+
+    public List<Price> findApplicablePrices(LocalDateTime applicationDate, Long productId, Long brandId) {
+        ProductIntervals intervals = intervals(productId, brandId);
+        if (intervals == null) {
+            return List.of();
+        }
+        return intervals.findApplicable(applicationDate);
+    }
+
+    public PriceTimeline findPriceTimeline(Long productId, Long brandId) {
+        ProductIntervals intervals = intervals(productId, brandId);
+        if (intervals == null) {
+            return PriceTimeline.empty();
+        }
+        return intervals.timeline();
+    }
+
+    public List<Price> findProductPrices(Long productId, Long brandId) {
+        ProductIntervals intervals = intervals(productId, brandId);
+        if (intervals == null) {
+            return List.of();
+        }
+        return List.of(intervals.pricesByStart());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int productCount() {
+        return productCount;
+    }
+
+    private ProductIntervals intervals(Long productId, Long brandId) {
+        ProductKey key = new ProductKey(brandId, productId);
+        return slots[slotOf(key, slots.length)].get(key);
+    }
+
+    private static Map<ProductKey, ProductIntervals>[] slotted(Map<ProductKey, ProductIntervals> intervalsByProduct) {
+        Map<ProductKey, ProductIntervals>[] slots = emptySlots(slotCountFor(intervalsByProduct.size()));
+        Map<Integer, Map<ProductKey, ProductIntervals>> bySlot = intervalsByProduct.entrySet().stream()
+            .collect(Collectors.groupingBy(entry -> slotOf(entry.getKey(), slots.length),
+                Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+        bySlot.forEach((index, slot) -> slots[index] = Map.copyOf(slot));
+        return slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<ProductKey, ProductIntervals>[] emptySlots(int count) {
+        Map<ProductKey, ProductIntervals>[] slots = new Map[count];
+        Arrays.fill(slots, Map.of());
+        return slots;
+    }
+
+    // Smallest power of two at least sqrt(products), so slots and the slot table grow together
+    private static int slotCountFor(int products) {
+        int slots = MIN_SLOTS;
+        while ((long) slots * slots < products) {
+            slots <<= 1;
+        }
+        return slots;
+    }
+
+    private static int slotOf(ProductKey key, int slotCount) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (slotCount - 1);
+    }
+
+    // Rows sorted by startDate, with a running maximum of endDate so the backward
+    // scan from the binary-search hit can stop as soon as no earlier row can still be open.
+    // The priority-resolved timeline is built once per product alongside the rows.
+    private record ProductIntervals(
+        Price[] pricesByStart,
+        LocalDateTime[] maxEndUpTo,
+        PriceTimeline timeline
+    ) {
+        private static final Comparator<Price> BY_PRECEDENCE_DESC = Price.PRECEDENCE.reversed();
+
+        static ProductIntervals of(List<Price> prices) {
+            Price[] sorted = prices.stream()
+                .sorted(Comparator.comparing(Price::startDate))
+                .toArray(Price[]::new);
+
+            LocalDateTime[] maxEnd = new LocalDateTime[sorted.length];
+            LocalDateTime runningMax = null;
+            for (int i = 0; i < sorted.length; i++) {
+                LocalDateTime end = sorted[i].endDate();
+                runningMax = runningMax == null || end.isAfter(runningMax) ? end : runningMax;
+                maxEnd[i] = runningMax;
+            }
+            return new ProductIntervals(sorted, maxEnd, PriceTimeline.of(prices));
+        }
+
+        List<Price> findApplicable(LocalDateTime applicationDate) {
+            List<Price> applicable = new ArrayList<>(2);
+            for (int i = lastStartingAtOrBefore(applicationDate); i >= 0; i--) {
+                if (maxEndUpTo[i].isBefore(applicationDate)) {
+                    break;
+                }
+                if (!pricesByStart[i].endDate().isBefore(applicationDate)) {
+                    applicable.add(pricesByStart[i]);
+                }
+            }
+            applicable.sort(BY_PRECEDENCE_DESC);
+            return applicable;
+        }
+
+        private int lastStartingAtOrBefore(LocalDateTime applicationDate) {
+            int low = 0;
+            int high = pricesByStart.length - 1;
+            int found = -1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (pricesByStart[mid].startDate().isAfter(applicationDate)) {
+                    high = mid - 1;
+                } else {
+                    found = mid;
+                    low = mid + 1;
+                }
+            }
+            return found;
+        }
+    }
+}
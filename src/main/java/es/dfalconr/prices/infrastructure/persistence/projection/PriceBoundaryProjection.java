@@ -0,0 +1,19 @@
+package es.dfalconr.prices.infrastructure.persistence.projection;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// Earliest row start after a date and earliest row end at or after it, within one product
+public record PriceBoundaryProjection(
+    LocalDateTime nextStartDate,
+    LocalDateTime nextEndDate
+) {
+    // End dates are inclusive, so the answer can change right after one, or just before a start
+    public Optional<LocalDateTime> stableUntil() {
+        LocalDateTime beforeNextStart = nextStartDate == null ? null : nextStartDate.minusNanos(1);
+        if (beforeNextStart == null || nextEndDate != null && nextEndDate.isBefore(beforeNextStart)) {
+            return Optional.ofNullable(nextEndDate);
+        }
+        return Optional.of(beforeNextStart);
+    }
+}
@@ -0,0 +1,32 @@
+package es.dfalconr.prices.infrastructure.persistence.projection;
+
+import es.dfalconr.prices.domain.model.Price;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record PriceProjection(
+    Long id,
+    Long brandId,
+    Long productId,
+    Integer priceList,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Integer priority,
+    BigDecimal price,
+    String currency
+) {
+    public Price toDomain() {
+        return new Price(
+            this.id,
+            this.brandId,
+            this.productId,
+            this.priceList,
+            this.startDate,
+            this.endDate,
+            this.priority,
+            this.price,
+            this.currency
+        );
+    }
+}
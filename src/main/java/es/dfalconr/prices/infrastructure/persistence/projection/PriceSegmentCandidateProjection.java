@@ -0,0 +1,36 @@
+package es.dfalconr.prices.infrastructure.persistence.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// One row applicable to the lookup at position lookupIndex of a batch, with that lookup's next boundaries
+public record PriceSegmentCandidateProjection(
+    Integer lookupIndex,
+    Long id,
+    Long brandId,
+    Long productId,
+    Integer priceList,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Integer priority,
+    BigDecimal price,
+    String currency,
+    LocalDateTime nextStartDate,
+    LocalDateTime nextEndDate
+) {
+    public PriceSegmentProjection segment() {
+        return new PriceSegmentProjection(
+            this.id,
+            this.brandId,
+            this.productId,
+            this.priceList,
+            this.startDate,
+            this.endDate,
+            this.priority,
+            this.price,
+            this.currency,
+            this.nextStartDate,
+            this.nextEndDate
+        );
+    }
+}
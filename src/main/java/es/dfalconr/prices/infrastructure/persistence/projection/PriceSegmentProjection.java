@@ -0,0 +1,40 @@
+package es.dfalconr.prices.infrastructure.persistence.projection;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+// The winning row together with the product's next boundaries, read in the same statement
+public record PriceSegmentProjection(
+    Long id,
+    Long brandId,
+    Long productId,
+    Integer priceList,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Integer priority,
+    BigDecimal price,
+    String currency,
+    LocalDateTime nextStartDate,
+    LocalDateTime nextEndDate
+) {
+    public PriceSegment toDomain(LocalDateTime applicationDate) {
+        return new PriceSegment(
+            applicationDate,
+            new PriceBoundaryProjection(this.nextStartDate, this.nextEndDate).stableUntil().orElse(applicationDate),
+            new Price(
+                this.id,
+                this.brandId,
+                this.productId,
+                this.priceList,
+                this.startDate,
+                this.endDate,
+                this.priority,
+                this.price,
+                this.currency
+            )
+        );
+    }
+}
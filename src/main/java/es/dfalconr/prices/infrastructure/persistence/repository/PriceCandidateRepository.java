@@ -0,0 +1,25 @@
+package es.dfalconr.prices.infrastructure.persistence.repository;
+
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentCandidateProjection;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Native SQL, since JPQL cannot join a list of (brand, product) pairs
+public interface PriceCandidateRepository {
+
+    // Every row of the products overlapping [earliestDate, latestDate], in no particular order
+    List<PriceProjection> findApplicablePriceCandidates(
+        Collection<ProductKey> productKeys,
+        LocalDateTime earliestDate,
+        LocalDateTime latestDate
+    );
+
+    // Every row applicable to one of the lookups, tagged with the lookup's position in the list and
+    // carrying that lookup's next start and end, in no particular order
+    List<PriceSegmentCandidateProjection> findApplicableSegmentCandidates(List<PriceLookup> lookups);
+}
@@ -0,0 +1,95 @@
+package es.dfalconr.prices.infrastructure.persistence.repository;
+
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentCandidateProjection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// Joining a VALUES list of (brand, product) pairs lets every pair seek idx_price_lookup, as the
+// JDBC adapter does; separate IN lists only use the index on BRAND_ID and scan the whole brand.
+class PriceCandidateRepositoryImpl implements PriceCandidateRepository {
+
+    private static final String CANDIDATES = """
+        SELECT P.ID, P.BRAND_ID, P.PRODUCT_ID, P.PRICE_LIST, P.START_DATE, P.END_DATE, P.PRIORITY, P.PRICE, P.CURR
+        FROM (VALUES %s) K(BRAND_ID, PRODUCT_ID)
+        JOIN PRICES P ON P.BRAND_ID = K.BRAND_ID AND P.PRODUCT_ID = K.PRODUCT_ID
+        WHERE P.START_DATE <= ?1 AND P.END_DATE >= ?2
+        """;
+
+    private static final String SEGMENT_CANDIDATES = """
+        SELECT K.LOOKUP_INDEX,
+            P.ID, P.BRAND_ID, P.PRODUCT_ID, P.PRICE_LIST, P.START_DATE, P.END_DATE, P.PRIORITY, P.PRICE, P.CURR,
+            (SELECT MIN(S.START_DATE) FROM PRICES S
+                WHERE S.BRAND_ID = K.BRAND_ID AND S.PRODUCT_ID = K.PRODUCT_ID AND S.START_DATE > K.APPLICATION_DATE),
+            (SELECT MIN(E.END_DATE) FROM PRICES E
+                WHERE E.BRAND_ID = K.BRAND_ID AND E.PRODUCT_ID = K.PRODUCT_ID AND E.END_DATE >= K.APPLICATION_DATE)
+        FROM (VALUES %s) K(LOOKUP_INDEX, BRAND_ID, PRODUCT_ID, APPLICATION_DATE)
+        JOIN PRICES P ON P.BRAND_ID = K.BRAND_ID AND P.PRODUCT_ID = K.PRODUCT_ID
+            AND P.START_DATE <= K.APPLICATION_DATE AND P.END_DATE >= K.APPLICATION_DATE
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PriceProjection> findApplicablePriceCandidates(
+        Collection<ProductKey> productKeys,
+        LocalDateTime earliestDate,
+        LocalDateTime latestDate
+    ) {
+        StringBuilder keyRows = new StringBuilder();
+        int position = 3;
+        for (int i = 0; i < productKeys.size(); i++) {
+            if (i > 0) {
+                keyRows.append(", ");
+            }
+            keyRows.append("(CAST(?").append(position++).append(" AS BIGINT), CAST(?").append(position++)
+                .append(" AS BIGINT))");
+        }
+
+        Query query = entityManager.createNativeQuery(CANDIDATES.formatted(keyRows), PriceProjection.class)
+            .setParameter(1, latestDate)
+            .setParameter(2, earliestDate);
+        position = 3;
+        for (ProductKey productKey : productKeys) {
+            query.setParameter(position++, productKey.brandId());
+            query.setParameter(position++, productKey.productId());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<PriceSegmentCandidateProjection> findApplicableSegmentCandidates(List<PriceLookup> lookups) {
+        StringBuilder lookupRows = new StringBuilder();
+        int position = 1;
+        for (int i = 0; i < lookups.size(); i++) {
+            if (i > 0) {
+                lookupRows.append(", ");
+            }
+            lookupRows.append("(CAST(?").append(position++).append(" AS INT), CAST(?").append(position++)
+                .append(" AS BIGINT), CAST(?").append(position++).append(" AS BIGINT), CAST(?").append(position++)
+                .append(" AS TIMESTAMP(9)))");
+        }
+
+        Query query = entityManager.createNativeQuery(
+            SEGMENT_CANDIDATES.formatted(lookupRows), PriceSegmentCandidateProjection.class);
+        position = 1;
+        for (int i = 0; i < lookups.size(); i++) {
+            PriceLookup lookup = lookups.get(i);
+            query.setParameter(position++, i);
+            query.setParameter(position++, lookup.brandId());
+            query.setParameter(position++, lookup.productId());
+            query.setParameter(position++, lookup.applicationDate());
+        }
+        return query.getResultList();
+    }
+}
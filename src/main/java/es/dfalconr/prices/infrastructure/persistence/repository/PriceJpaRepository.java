@@ -1,14 +1,22 @@
 package es.dfalconr.prices.infrastructure.persistence.repository;
 
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
 import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceBoundaryProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-public interface PriceJpaRepository extends JpaRepository<PriceJpaEntity, Long> {
+public interface PriceJpaRepository extends JpaRepository<PriceJpaEntity, Long>, PriceCandidateRepository {
 
     @Query("""
         SELECT p FROM PriceJpaEntity p
@@ -16,11 +24,87 @@ public interface PriceJpaRepository extends JpaRepository<PriceJpaEntity, Long>
         AND p.productId = :productId
         AND p.startDate <= :applicationDate
         AND p.endDate >= :applicationDate
-        ORDER BY p.priority DESC
+        ORDER BY p.priority DESC, p.startDate DESC, p.id DESC
         """)
     List<PriceJpaEntity> findApplicablePrices(
         @Param("applicationDate") LocalDateTime applicationDate,
         @Param("productId") Long productId,
         @Param("brandId") Long brandId
     );
+
+    @Query("""
+        SELECT new es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection(
+            p.id, p.brandId, p.productId, p.priceList, p.startDate, p.endDate,
+            p.priority, p.price, p.currency
+        )
+        FROM PriceJpaEntity p
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        AND p.startDate <= :applicationDate
+        AND p.endDate >= :applicationDate
+        ORDER BY p.priority DESC, p.startDate DESC, p.id DESC
+        """)
+    List<PriceProjection> findTopApplicablePrices(
+        @Param("applicationDate") LocalDateTime applicationDate,
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        Limit limit
+    );
+
+    // The top-1 row with the next start and end of the product, so a segment costs one statement
+    @Query("""
+        SELECT new es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentProjection(
+            p.id, p.brandId, p.productId, p.priceList, p.startDate, p.endDate,
+            p.priority, p.price, p.currency,
+            (SELECT MIN(s.startDate) FROM PriceJpaEntity s
+                WHERE s.brandId = p.brandId AND s.productId = p.productId AND s.startDate > :applicationDate),
+            (SELECT MIN(e.endDate) FROM PriceJpaEntity e
+                WHERE e.brandId = p.brandId AND e.productId = p.productId AND e.endDate >= :applicationDate)
+        )
+        FROM PriceJpaEntity p
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        AND p.startDate <= :applicationDate
+        AND p.endDate >= :applicationDate
+        ORDER BY p.priority DESC, p.startDate DESC, p.id DESC
+        """)
+    List<PriceSegmentProjection> findTopApplicableSegments(
+        @Param("applicationDate") LocalDateTime applicationDate,
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId,
+        Limit limit
+    );
+
+    // One row of aggregates read from the product's idx_price_lookup entries, not its price rows
+    @Query("""
+        SELECT new es.dfalconr.prices.infrastructure.persistence.projection.PriceBoundaryProjection(
+            MIN(CASE WHEN p.startDate > :applicationDate THEN p.startDate END),
+            MIN(CASE WHEN p.endDate >= :applicationDate THEN p.endDate END)
+        )
+        FROM PriceJpaEntity p
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        """)
+    PriceBoundaryProjection findNextBoundaries(
+        @Param("applicationDate") LocalDateTime applicationDate,
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId
+    );
+
+    // Hints are ignored unless prices.jpa-cache.enabled turns the query cache on. Only this
+    // product-keyed query is cached; the adapter then resolves dates against the rows in memory
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = PriceJpaCache.QUERY_REGION)
+    })
+    @Query("""
+        SELECT p FROM PriceJpaEntity p
+        WHERE p.brandId = :brandId
+        AND p.productId = :productId
+        ORDER BY p.startDate
+        """)
+    List<PriceJpaEntity> findProductPrices(
+        @Param("productId") Long productId,
+        @Param("brandId") Long brandId
+    );
 }
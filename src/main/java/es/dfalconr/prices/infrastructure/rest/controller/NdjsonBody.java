@@ -0,0 +1,36 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.function.Consumer;
+
+// Newline-delimited JSON written through one generator over the response stream
+final class NdjsonBody {
+
+    private NdjsonBody() {
+    }
+
+    // Lines are separated by hand instead of Jackson's space between root values, and the
+    // servlet container owns the response stream
+    static ObjectWriter writerFor(JsonMapper jsonMapper, Class<?> lineType) {
+        return jsonMapper.writerFor(lineType)
+            .withRootValueSeparator((String) null)
+            .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    // The producer runs once the response has started, handing over each line as it is ready
+    static <T> StreamingResponseBody of(ObjectWriter writer, Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (JsonGenerator generator = writer.createGenerator(outputStream)) {
+                producer.accept(line -> {
+                    writer.writeValue(generator, line);
+                    generator.writeRaw('\n');
+                });
+            }
+        };
+    }
+}
@@ -1,9 +1,17 @@
 package es.dfalconr.prices.infrastructure.rest.controller;
 
+import es.dfalconr.prices.application.dto.PriceBatchQuery;
+import es.dfalconr.prices.application.dto.PriceBatchResponse;
 import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
 import es.dfalconr.prices.application.dto.PriceResponse;
 import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.application.service.GetApplicablePricesBatchService;
+import es.dfalconr.prices.infrastructure.concurrency.PriceLookupLimiter;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
 import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,30 +19,71 @@ import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 @RestController
+@Profile("!" + ReactiveStackConfig.PROFILE)
 @RequestMapping("/api/prices")
 @Tag(name = "Prices", description = "Price query operations")
 public class PriceController {
 
     private final GetApplicablePriceService priceService;
+    private final GetApplicablePricesBatchService batchPriceService;
+    private final Timer singleLookupTimer;
+    private final Timer batchLookupTimer;
+    private final boolean httpCacheEnabled;
+    private final Duration maxAge;
+    private final PriceLookupLimiter limiter;
 
-    public PriceController(GetApplicablePriceService priceService) {
+    public PriceController(
+        GetApplicablePriceService priceService,
+        GetApplicablePricesBatchService batchPriceService,
+        MeterRegistry meterRegistry,
+        @Value("${prices.http-cache.enabled:true}") boolean httpCacheEnabled,
+        @Value("${prices.http-cache.max-age:60s}") Duration maxAge,
+        Optional<PriceLookupLimiter> limiter
+    ) {
         this.priceService = priceService;
+        this.batchPriceService = batchPriceService;
+        this.httpCacheEnabled = httpCacheEnabled;
+        this.maxAge = maxAge;
+        this.limiter = limiter.orElse(null);
+        this.singleLookupTimer = lookupTimer(meterRegistry, "single");
+        this.batchLookupTimer = lookupTimer(meterRegistry, "batch");
+    }
+
+    // Request handling without the servlet stack, which http.server.requests already covers
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("prices.lookup")
+            .description("Time to resolve applicable prices")
+            .tag("layer", "controller")
+            .tag("operation", operation)
+            .register(meterRegistry);
     }
 
     @GetMapping
     @Operation(
         summary = "Get applicable price",
-        description = "Returns the applicable price for a product at a specific date and brand"
+        description = "Returns the applicable price for a product at a specific date and brand. "
+            + "Cache-Control max-age runs until the answer next changes, up to prices.http-cache.max-age"
     )
     @ApiResponse(
         responseCode = "200",
@@ -44,6 +93,10 @@ public class PriceController {
             schema = @Schema(implementation = PriceResponse.class)
         )
     )
+    @ApiResponse(
+        responseCode = "304",
+        description = "Price unchanged since the ETag sent in If-None-Match"
+    )
     @ApiResponse(
         responseCode = "400",
         description = "Invalid request parameters",
@@ -61,6 +114,14 @@ public class PriceController {
             )
         )
     )
+    @ApiResponse(
+        responseCode = "503",
+        description = "Too many concurrent lookups; retry after the Retry-After seconds",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class)
+        )
+    )
     @ApiResponse(
         responseCode = "404",
         description = "Price not found",
@@ -78,16 +139,82 @@ public class PriceController {
             )
         )
     )
-    public ResponseEntity<PriceResponse> getApplicablePrice(
+    public ResponseEntity<?> getApplicablePrice(
         @Parameter(description = "Application date (ISO-8601 format)", required = true, example = "2020-06-14T10:00:00")
         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
         @Parameter(description = "Product identifier", required = true, example = "35455")
         @RequestParam Long productId,
         @Parameter(description = "Brand identifier", required = true, example = "1")
-        @RequestParam Long brandId
+        @RequestParam Long brandId,
+        @Parameter(description = "ETag of a previously returned price")
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        PriceQuery query = new PriceQuery(applicationDate, productId, brandId);
-        PriceResponse response = priceService.execute(query);
-        return ResponseEntity.ok(response);
+        return singleLookupTimer.record(() -> {
+            PriceQuery query = new PriceQuery(applicationDate, productId, brandId);
+            if (!httpCacheEnabled) {
+                return limited(() -> priceService.execute(query))
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> GlobalExceptionHandler.priceNotFound(applicationDate, productId, brandId));
+            }
+            return limited(() -> priceService.resolve(query))
+                .<ResponseEntity<?>>map(resolution -> cacheable(resolution, applicationDate, ifNoneMatch))
+                .orElseGet(() -> GlobalExceptionHandler.priceNotFound(applicationDate, productId, brandId));
+        });
+    }
+
+    // Only the service call is admitted and timed, so the limit follows lookup latency alone
+    private <T> T limited(Supplier<T> lookup) {
+        return limiter == null ? lookup.get() : limiter.execute(lookup);
+    }
+
+    // A matching If-None-Match is answered without building or serialising the PriceResponse
+    private ResponseEntity<?> cacheable(PriceResolution resolution, LocalDateTime applicationDate, String ifNoneMatch) {
+        String entityTag = resolution.entityTag();
+        CacheControl cacheControl = CacheControl.maxAge(resolution.remainingAt(applicationDate, maxAge));
+        if (resolution.isMatchedBy(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(entityTag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+        return ResponseEntity.ok()
+            .eTag(entityTag)
+            .cacheControl(cacheControl)
+            .body(resolution.toResponse());
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+        summary = "Get applicable prices in batch",
+        description = "Resolves many (applicationDate, productId, brandId) queries in one pass. "
+            + "Queries without an applicable price are reported as not found instead of failing the batch"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Batch resolved, one result per query in request order",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = PriceBatchResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Empty, oversized or malformed batch",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class),
+            examples = @ExampleObject(
+                value = """
+                {
+                  "status": 400,
+                  "message": "Batch size 501 exceeds the maximum of 500",
+                  "timestamp": "2020-06-14T10:00:00"
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<PriceBatchResponse> getApplicablePrices(@RequestBody PriceBatchQuery batchQuery) {
+        return batchLookupTimer.record(() -> ResponseEntity.ok(batchPriceService.execute(batchQuery)));
     }
 }
@@ -0,0 +1,85 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import es.dfalconr.prices.application.dto.PriceExportQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.ExportPricesService;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("!" + ReactiveStackConfig.PROFILE)
+@RequestMapping("/api/prices")
+@Tag(name = "Prices", description = "Price query operations")
+public class PriceExportController {
+
+    private final ExportPricesService exportService;
+    private final ObjectWriter priceWriter;
+
+    public PriceExportController(ExportPricesService exportService, JsonMapper jsonMapper) {
+        this.exportService = exportService;
+        this.priceWriter = NdjsonBody.writerFor(jsonMapper, PriceResponse.class);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+        summary = "Export a brand's applicable prices",
+        description = "Streams, as NDJSON, the applicable price of every product of the brand at the date: one "
+            + "line per product in product order. Products without a price at that date are left out"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Prices, one JSON object per line",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+            schema = @Schema(implementation = PriceResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Missing or invalid parameters",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class),
+            examples = @ExampleObject(
+                value = """
+                {
+                  "status": 400,
+                  "message": "Required parameter 'brandId' is missing",
+                  "timestamp": "2020-06-14T10:00:00"
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<StreamingResponseBody> exportPrices(
+        @Parameter(description = "Brand identifier", required = true, example = "1")
+        @RequestParam Long brandId,
+        @Parameter(description = "Application date (ISO-8601 format)", required = true, example = "2020-06-14T10:00:00")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate
+    ) {
+        PriceExportQuery query = new PriceExportQuery(brandId, applicationDate);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonBody.<PriceResponse>of(priceWriter, lines -> exportService.execute(query, lines)));
+    }
+}
@@ -0,0 +1,90 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import es.dfalconr.prices.application.dto.PriceSegmentResponse;
+import es.dfalconr.prices.application.dto.PriceTimelineQuery;
+import es.dfalconr.prices.application.service.GetPriceTimelineService;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+
+@RestController
+@Profile("!" + ReactiveStackConfig.PROFILE)
+@RequestMapping("/api/prices")
+@Tag(name = "Prices", description = "Price query operations")
+public class PriceTimelineController {
+
+    private final GetPriceTimelineService timelineService;
+    private final ObjectWriter segmentWriter;
+
+    public PriceTimelineController(GetPriceTimelineService timelineService, JsonMapper jsonMapper) {
+        this.timelineService = timelineService;
+        this.segmentWriter = NdjsonBody.writerFor(jsonMapper, PriceSegmentResponse.class);
+    }
+
+    @GetMapping("/timeline")
+    @Operation(
+        summary = "Stream a product's price timeline",
+        description = "Streams, as NDJSON, the price that applies to a product over [from, to]: one line per "
+            + "segment in date order, with the priority rule already applied. Gaps without a price are skipped"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Segments, one JSON object per line",
+        content = @Content(
+            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+            schema = @Schema(implementation = PriceSegmentResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Missing parameters or a range ending before it starts",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class),
+            examples = @ExampleObject(
+                value = """
+                {
+                  "status": 400,
+                  "message": "From date must be before to date",
+                  "timestamp": "2020-06-14T10:00:00"
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<StreamingResponseBody> getPriceTimeline(
+        @Parameter(description = "Brand identifier", required = true, example = "1")
+        @RequestParam Long brandId,
+        @Parameter(description = "Product identifier", required = true, example = "35455")
+        @RequestParam Long productId,
+        @Parameter(description = "Range start (ISO-8601 format)", required = true, example = "2020-06-01T00:00:00")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @Parameter(description = "Range end (ISO-8601 format)", required = true, example = "2020-09-30T23:59:59")
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        // Validated before the body starts, so a bad range is still a 400
+        PriceTimelineQuery query = new PriceTimelineQuery(productId, brandId, from, to);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(NdjsonBody.<PriceSegmentResponse>of(segmentWriter, lines -> timelineService.execute(query, lines)));
+    }
+}
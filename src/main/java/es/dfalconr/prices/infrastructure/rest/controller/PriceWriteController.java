@@ -0,0 +1,141 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import es.dfalconr.prices.application.dto.PriceCommand;
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.application.service.CreatePriceService;
+import es.dfalconr.prices.application.service.DeletePriceService;
+import es.dfalconr.prices.application.service.UpdatePriceService;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@Profile("!" + ReactiveStackConfig.PROFILE)
+@RequestMapping("/api/prices")
+@Tag(name = "Price management", description = "Price create, update and delete operations")
+public class PriceWriteController {
+
+    private final CreatePriceService createPriceService;
+    private final UpdatePriceService updatePriceService;
+    private final DeletePriceService deletePriceService;
+
+    public PriceWriteController(
+        CreatePriceService createPriceService,
+        UpdatePriceService updatePriceService,
+        DeletePriceService deletePriceService
+    ) {
+        this.createPriceService = createPriceService;
+        this.updatePriceService = updatePriceService;
+        this.deletePriceService = deletePriceService;
+    }
+
+    @PostMapping
+    @Operation(
+        summary = "Create a price",
+        description = "Stores a new price row. Lookups see it as soon as the response is sent"
+    )
+    @ApiResponse(
+        responseCode = "201",
+        description = "Price created",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = PriceDetailResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "400",
+        description = "Missing fields or a price breaking its invariants",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class),
+            examples = @ExampleObject(
+                value = """
+                {
+                  "status": 400,
+                  "message": "Start date must be before end date",
+                  "timestamp": "2020-06-14T10:00:00"
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<PriceDetailResponse> createPrice(@RequestBody PriceCommand command) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(createPriceService.execute(command));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(
+        summary = "Update a price",
+        description = "Replaces every field of an existing price row, which may move it to another product"
+    )
+    @ApiResponse(
+        responseCode = "200",
+        description = "Price updated",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = PriceDetailResponse.class)
+        )
+    )
+    @ApiResponse(
+        responseCode = "404",
+        description = "Price not found",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class),
+            examples = @ExampleObject(
+                value = """
+                {
+                  "status": 404,
+                  "message": "No price found with id 42",
+                  "timestamp": "2020-06-14T10:00:00"
+                }
+                """
+            )
+        )
+    )
+    public ResponseEntity<?> updatePrice(
+        @Parameter(description = "Price identifier", required = true, example = "1")
+        @PathVariable Long id,
+        @RequestBody PriceCommand command
+    ) {
+        return updatePriceService.execute(id, command)
+            .<ResponseEntity<?>>map(ResponseEntity::ok)
+            .orElseGet(() -> GlobalExceptionHandler.priceIdNotFound(id));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Delete a price", description = "Removes a price row")
+    @ApiResponse(responseCode = "204", description = "Price deleted")
+    @ApiResponse(
+        responseCode = "404",
+        description = "Price not found",
+        content = @Content(
+            mediaType = "application/json",
+            schema = @Schema(implementation = GlobalExceptionHandler.ErrorResponse.class)
+        )
+    )
+    public ResponseEntity<?> deletePrice(
+        @Parameter(description = "Price identifier", required = true, example = "1")
+        @PathVariable Long id
+    ) {
+        return deletePriceService.execute(id)
+            .<ResponseEntity<?>>map(deleted -> ResponseEntity.noContent().build())
+            .orElseGet(() -> GlobalExceptionHandler.priceIdNotFound(id));
+    }
+}
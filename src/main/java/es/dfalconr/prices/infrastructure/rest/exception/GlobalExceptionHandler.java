@@ -1,29 +1,77 @@
 package es.dfalconr.prices.infrastructure.rest.exception;
 
 import es.dfalconr.prices.domain.exception.PriceNotFoundException;
+import es.dfalconr.prices.infrastructure.concurrency.BulkheadFullException;
+import es.dfalconr.prices.infrastructure.concurrency.ConcurrencyLimitExceededException;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
 import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 @RestControllerAdvice
+@Profile("!" + ReactiveStackConfig.PROFILE)
 public class GlobalExceptionHandler {
 
     @ExceptionHandler(PriceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handlePriceNotFound(PriceNotFoundException ex) {
+        return priceNotFound(ex.getDate(), ex.getProductId(), ex.getBrandId());
+    }
+
+    public static ResponseEntity<ErrorResponse> priceNotFound(
+        LocalDateTime applicationDate,
+        Long productId,
+        Long brandId
+    ) {
         ErrorResponse error = new ErrorResponse(
             HttpStatus.NOT_FOUND.value(),
-            ex.getMessage(),
+            PriceNotFoundException.message(applicationDate, productId, brandId),
+            LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
+    public static ResponseEntity<ErrorResponse> priceIdNotFound(Long id) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.NOT_FOUND.value(),
+            "No price found with id " + id,
             LocalDateTime.now()
         );
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException ex) {
+        return serviceUnavailable(ex.getMessage(), ex.getRetryAfter());
+    }
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(ConcurrencyLimitExceededException ex) {
+        return serviceUnavailable(ex.getMessage(), ex.getRetryAfter());
+    }
+
+    // Retry-After in whole seconds, at least one, so clients back off instead of retrying at once
+    private static ResponseEntity<ErrorResponse> serviceUnavailable(String message, Duration retryAfter) {
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            message,
+            LocalDateTime.now()
+        );
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .body(error);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -62,6 +110,21 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(error);
     }
 
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        // Validation in record constructors surfaces wrapped by the message converter
+        Throwable cause = ex.getMostSpecificCause();
+        String message = cause instanceof IllegalArgumentException
+            ? cause.getMessage()
+            : "Malformed request body";
+        ErrorResponse error = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            message,
+            LocalDateTime.now()
+        );
+        return ResponseEntity.badRequest().body(error);
+    }
+
     @Schema(description = "Error response")
     public record ErrorResponse(
         @Schema(description = "HTTP status code", example = "400")
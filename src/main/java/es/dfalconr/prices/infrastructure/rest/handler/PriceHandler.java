@@ -0,0 +1,119 @@
+package es.dfalconr.prices.infrastructure.rest.handler;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.service.ReactiveGetApplicablePriceService;
+import es.dfalconr.prices.domain.exception.PriceNotFoundException;
+import es.dfalconr.prices.infrastructure.config.ReactiveStackConfig;
+import es.dfalconr.prices.infrastructure.rest.exception.GlobalExceptionHandler.ErrorResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.Function;
+
+// Parameters, status codes, error bodies and caching headers follow PriceController
+@Component
+@Profile(ReactiveStackConfig.PROFILE)
+public class PriceHandler {
+
+    private final ReactiveGetApplicablePriceService priceService;
+    private final Timer singleLookupTimer;
+    private final boolean httpCacheEnabled;
+    private final Duration maxAge;
+
+    public PriceHandler(
+        ReactiveGetApplicablePriceService priceService,
+        MeterRegistry meterRegistry,
+        @Value("${prices.http-cache.enabled:true}") boolean httpCacheEnabled,
+        @Value("${prices.http-cache.max-age:60s}") Duration maxAge
+    ) {
+        this.priceService = priceService;
+        this.singleLookupTimer = Timer.builder("prices.lookup")
+            .description("Time to resolve applicable prices")
+            .tag("layer", "controller")
+            .tag("operation", "single")
+            .register(meterRegistry);
+        this.httpCacheEnabled = httpCacheEnabled;
+        this.maxAge = maxAge;
+    }
+
+    public Mono<ServerResponse> getApplicablePrice(ServerRequest request) {
+        PriceQuery query;
+        try {
+            query = new PriceQuery(
+                parameter(request, "applicationDate", "LocalDateTime", LocalDateTime::parse),
+                parameter(request, "productId", "Long", Long::valueOf),
+                parameter(request, "brandId", "Long", Long::valueOf)
+            );
+        } catch (IllegalArgumentException ex) {
+            return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+        }
+
+        String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+        Mono<ServerResponse> response = httpCacheEnabled
+            ? priceService.resolve(query).flatMap(resolution -> cacheable(resolution, query, ifNoneMatch))
+            : priceService.execute(query).flatMap(price -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(price));
+        return response
+            .switchIfEmpty(Mono.defer(() -> error(HttpStatus.NOT_FOUND,
+                PriceNotFoundException.message(query.applicationDate(), query.productId(), query.brandId()))))
+            .transform(this::timed);
+    }
+
+    // A matching If-None-Match is answered without building or serialising the PriceResponse
+    private Mono<ServerResponse> cacheable(PriceResolution resolution, PriceQuery query, String ifNoneMatch) {
+        String entityTag = resolution.entityTag();
+        CacheControl cacheControl = CacheControl.maxAge(resolution.remainingAt(query.applicationDate(), maxAge));
+        if (resolution.isMatchedBy(ifNoneMatch)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                .eTag(entityTag)
+                .cacheControl(cacheControl)
+                .build();
+        }
+        return ServerResponse.ok()
+            .eTag(entityTag)
+            .cacheControl(cacheControl)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(resolution.toResponse());
+    }
+
+    private Mono<ServerResponse> timed(Mono<ServerResponse> response) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start();
+            return response.doOnSuccess(ignored -> sample.stop(singleLookupTimer));
+        });
+    }
+
+    // Same messages as GlobalExceptionHandler gives the MVC controller
+    private static <T> T parameter(ServerRequest request, String name, String type, Function<String, T> parser) {
+        String value = request.queryParam(name)
+            .orElseThrow(() -> new IllegalArgumentException(
+                String.format("Required parameter '%s' is missing", name)));
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid value '%s' for parameter '%s'. Expected type: %s", value, name, type));
+        }
+    }
+
+    private static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
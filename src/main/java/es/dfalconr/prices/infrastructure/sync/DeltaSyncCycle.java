@@ -0,0 +1,15 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// maxLag is how long the oldest change applied in the cycle waited to become visible
+public record DeltaSyncCycle(
+    long changedRows,
+    long deletedRows,
+    int productsRebuilt,
+    Duration maxLag,
+    Duration duration,
+    LocalDateTime watermark
+) {
+}
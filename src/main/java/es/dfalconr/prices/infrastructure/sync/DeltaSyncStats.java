@@ -0,0 +1,10 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+public record DeltaSyncStats(
+    long cycleCount,
+    long changedRows,
+    long deletedRows,
+    long productsRebuilt,
+    DeltaSyncCycle lastCycle
+) {
+}
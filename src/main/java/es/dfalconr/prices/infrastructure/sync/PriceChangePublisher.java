@@ -0,0 +1,101 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.infrastructure.cache.PriceJpaCache;
+import es.dfalconr.prices.infrastructure.cache.PriceSegmentCache;
+import es.dfalconr.prices.infrastructure.persistence.adapter.PriceRows;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Re-reading and applying share one lock so an older read never replaces a newer one
+@Component
+public class PriceChangePublisher {
+
+    private static final int KEYS_PER_QUERY = 500;
+
+    private static final String PRODUCT_PRICES = """
+        SELECT %s
+        FROM (VALUES %s) K(BRAND_ID, PRODUCT_ID)
+        JOIN PRICES P ON P.BRAND_ID = K.BRAND_ID AND P.PRODUCT_ID = K.PRODUCT_ID
+        """;
+
+    private static final String KEY_ROW = "(CAST(? AS BIGINT), CAST(? AS BIGINT))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<PriceDeltaTarget> targets;
+    private final ObjectProvider<PriceSegmentCache> segmentCache;
+    private final ObjectProvider<PriceJpaCache> jpaCache;
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    public PriceChangePublisher(
+        JdbcTemplate jdbcTemplate,
+        ObjectProvider<PriceDeltaTarget> targets,
+        ObjectProvider<PriceSegmentCache> segmentCache,
+        ObjectProvider<PriceJpaCache> jpaCache
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.targets = targets;
+        this.segmentCache = segmentCache;
+        this.jpaCache = jpaCache;
+    }
+
+    public void publish(Collection<ProductKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        publishLock.lock();
+        try {
+            List<PriceDeltaTarget> currentTargets = targets.orderedStream().toList();
+            // Database-backed adapters read the change directly; only their cache is stale
+            if (!currentTargets.isEmpty()) {
+                Map<ProductKey, List<Price>> pricesByProduct = reload(keys);
+                currentTargets.forEach(target -> target.replaceProducts(pricesByProduct));
+            }
+            // Hibernate's query cache has no per-product entries, so the whole table is invalidated;
+            // before the segment cache, so a segment reloaded meanwhile is not read from stale rows
+            jpaCache.ifAvailable(PriceJpaCache::invalidateAll);
+            segmentCache.ifAvailable(cache -> keys.forEach(cache::invalidate));
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    private Map<ProductKey, List<Price>> reload(Collection<ProductKey> keys) {
+        Map<ProductKey, List<Price>> pricesByProduct = new HashMap<>();
+        List<ProductKey> chunk = new ArrayList<>(Math.min(keys.size(), KEYS_PER_QUERY));
+        for (ProductKey key : keys) {
+            pricesByProduct.put(key, new ArrayList<>());
+            chunk.add(key);
+            if (chunk.size() == KEYS_PER_QUERY) {
+                reloadChunk(chunk, pricesByProduct);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            reloadChunk(chunk, pricesByProduct);
+        }
+        return pricesByProduct;
+    }
+
+    private void reloadChunk(List<ProductKey> keys, Map<ProductKey, List<Price>> pricesByProduct) {
+        String sql = PRODUCT_PRICES.formatted(
+            PriceRows.JOINED_COLUMNS, String.join(", ", Collections.nCopies(keys.size(), KEY_ROW)));
+        Object[] parameters = new Object[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            parameters[i * 2] = keys.get(i).brandId();
+            parameters[i * 2 + 1] = keys.get(i).productId();
+        }
+        jdbcTemplate.query(sql, PriceRows.MAPPER, parameters)
+            .forEach(price -> pricesByProduct.get(ProductKey.of(price)).add(price));
+    }
+}
@@ -0,0 +1,215 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+import es.dfalconr.prices.domain.model.ProductKey;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Each poll reaches back prices.delta-sync.overlap before the mark to catch rows committed out of order
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "prices.delta-sync.enabled", havingValue = "true")
+public class PriceDeltaSync {
+
+    private static final LocalDateTime NO_CHANGES = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String CHANGED_PRODUCTS = """
+        SELECT BRAND_ID, PRODUCT_ID, COUNT(*), MIN(LAST_UPDATE), MAX(LAST_UPDATE)
+        FROM PRICES
+        WHERE LAST_UPDATE > ?
+        GROUP BY BRAND_ID, PRODUCT_ID
+        """;
+
+    private static final String DELETED_PRODUCTS = """
+        SELECT BRAND_ID, PRODUCT_ID, COUNT(*), MIN(DELETED_AT), MAX(DELETED_AT)
+        FROM PRICE_TOMBSTONES
+        WHERE DELETED_AT > ?
+        GROUP BY BRAND_ID, PRODUCT_ID
+        """;
+
+    private static final String LATEST_CHANGE = """
+        SELECT MAX(CHANGED_AT) FROM (
+            SELECT MAX(LAST_UPDATE) AS CHANGED_AT FROM PRICES
+            UNION ALL
+            SELECT MAX(DELETED_AT) FROM PRICE_TOMBSTONES
+        ) C
+        """;
+
+    private static final String PURGE_TOMBSTONES = "DELETE FROM PRICE_TOMBSTONES WHERE DELETED_AT < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceChangePublisher changePublisher;
+    private final Duration overlap;
+    private final Duration tombstoneRetention;
+    private final ReentrantLock cycleLock = new ReentrantLock();
+
+    // Guarded by cycleLock
+    private LocalDateTime watermark = NO_CHANGES;
+    private final Map<ProductKey, ProductChange> appliedInOverlap = new HashMap<>();
+    private long cycleCount;
+    private long changedRowTotal;
+    private long deletedRowTotal;
+    private long productsRebuiltTotal;
+    private DeltaSyncCycle lastCycle;
+
+    public PriceDeltaSync(
+        JdbcTemplate jdbcTemplate,
+        PriceChangePublisher changePublisher,
+        @Value("${prices.delta-sync.overlap:5s}") Duration overlap,
+        @Value("${prices.delta-sync.tombstone-retention:1d}") Duration tombstoneRetention
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.changePublisher = changePublisher;
+        this.overlap = overlap;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    // The targets loaded the whole table at startup, so only later changes need applying; what
+    // the first poll will see again through the overlap counts as applied already
+    @PostConstruct
+    public void initialiseWatermark() {
+        LocalDateTime latestChange = jdbcTemplate.queryForObject(LATEST_CHANGE, LocalDateTime.class);
+        cycleLock.lock();
+        try {
+            watermark = latestChange == null ? NO_CHANGES : latestChange;
+            appliedInOverlap.clear();
+            collect(CHANGED_PRODUCTS, false, watermark.minus(overlap), appliedInOverlap);
+            collect(DELETED_PRODUCTS, true, watermark.minus(overlap), appliedInOverlap);
+        } finally {
+            cycleLock.unlock();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${prices.delta-sync.interval:5s}",
+        fixedDelayString = "${prices.delta-sync.interval:5s}"
+    )
+    public void scheduledCycle() {
+        try {
+            runCycle();
+        } catch (RuntimeException ex) {
+            log.warn("Price delta sync cycle failed, retrying on the next one", ex);
+        }
+    }
+
+    public DeltaSyncCycle runCycle() {
+        cycleLock.lock();
+        try {
+            long startNanos = System.nanoTime();
+            LocalDateTime pollFrom = watermark.minus(overlap);
+            Map<ProductKey, ProductChange> changes = new HashMap<>();
+            collect(CHANGED_PRODUCTS, false, pollFrom, changes);
+            collect(DELETED_PRODUCTS, true, pollFrom, changes);
+
+            // A key seen again through the overlap with the same rows was already applied; a late
+            // commit changes its row count even when stamped before the key's latest change
+            changes.values().removeIf(change -> change.equals(appliedInOverlap.get(change.key())));
+            if (!changes.isEmpty()) {
+                changePublisher.publish(changes.keySet());
+            }
+
+            LocalDateTime appliedAt = LocalDateTime.now();
+            long changedRows = 0;
+            long deletedRows = 0;
+            Duration maxLag = Duration.ZERO;
+            for (ProductChange change : changes.values()) {
+                changedRows += change.changedRows();
+                deletedRows += change.deletedRows();
+                ProductChange previouslyApplied = appliedInOverlap.put(change.key(), change);
+                LocalDateTime firstNewChange = previouslyApplied != null
+                    && previouslyApplied.lastChange().isAfter(change.firstChange())
+                    ? previouslyApplied.lastChange()
+                    : change.firstChange();
+                Duration lag = Duration.between(firstNewChange, appliedAt);
+                if (lag.compareTo(maxLag) > 0) {
+                    maxLag = lag;
+                }
+                if (change.lastChange().isAfter(watermark)) {
+                    watermark = change.lastChange();
+                }
+            }
+            LocalDateTime overlapStart = watermark.minus(overlap);
+            appliedInOverlap.values().removeIf(change -> change.lastChange().isBefore(overlapStart));
+            jdbcTemplate.update(PURGE_TOMBSTONES, appliedAt.minus(tombstoneRetention));
+
+            DeltaSyncCycle cycle = new DeltaSyncCycle(
+                changedRows,
+                deletedRows,
+                changes.size(),
+                maxLag,
+                Duration.ofNanos(System.nanoTime() - startNanos),
+                watermark);
+            record(cycle);
+            return cycle;
+        } finally {
+            cycleLock.unlock();
+        }
+    }
+
+    public DeltaSyncStats stats() {
+        cycleLock.lock();
+        try {
+            return new DeltaSyncStats(cycleCount, changedRowTotal, deletedRowTotal, productsRebuiltTotal, lastCycle);
+        } finally {
+            cycleLock.unlock();
+        }
+    }
+
+    private void collect(
+        String sql,
+        boolean deletions,
+        LocalDateTime pollFrom,
+        Map<ProductKey, ProductChange> changes
+    ) {
+        jdbcTemplate.query(sql, resultSet -> {
+            long rows = resultSet.getLong(3);
+            ProductChange change = new ProductChange(
+                new ProductKey(resultSet.getLong(1), resultSet.getLong(2)),
+                deletions ? 0 : rows,
+                deletions ? rows : 0,
+                resultSet.getObject(4, LocalDateTime.class),
+                resultSet.getObject(5, LocalDateTime.class));
+            changes.merge(change.key(), change, ProductChange::merge);
+        }, pollFrom);
+    }
+
+    private void record(DeltaSyncCycle cycle) {
+        cycleCount++;
+        changedRowTotal += cycle.changedRows();
+        deletedRowTotal += cycle.deletedRows();
+        productsRebuiltTotal += cycle.productsRebuilt();
+        lastCycle = cycle;
+        if (cycle.productsRebuilt() > 0) {
+            log.info("Delta sync applied {} changed and {} deleted rows to {} products in {} ms, max lag {} ms",
+                cycle.changedRows(), cycle.deletedRows(), cycle.productsRebuilt(), cycle.duration().toMillis(),
+                cycle.maxLag().toMillis());
+        }
+    }
+
+    private record ProductChange(
+        ProductKey key,
+        long changedRows,
+        long deletedRows,
+        LocalDateTime firstChange,
+        LocalDateTime lastChange
+    ) {
+        ProductChange merge(ProductChange other) {
+            return new ProductChange(
+                key,
+                changedRows + other.changedRows,
+                deletedRows + other.deletedRows,
+                firstChange.isBefore(other.firstChange) ? firstChange : other.firstChange,
+                lastChange.isAfter(other.lastChange) ? lastChange : other.lastChange);
+        }
+    }
+}
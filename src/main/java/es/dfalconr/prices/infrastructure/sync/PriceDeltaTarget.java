@@ -0,0 +1,13 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.ProductKey;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PriceDeltaTarget {
+
+    // An empty list means the product has no rows left
+    void replaceProducts(Map<ProductKey, List<Price>> pricesByProduct);
+}
@@ -13,3 +13,19 @@ CREATE TABLE IF NOT EXISTS PRICES (
 );
 
 CREATE INDEX idx_price_lookup ON PRICES(BRAND_ID, PRODUCT_ID, START_DATE, END_DATE);
+
+-- Delta sync polls for rows changed after its high-water mark
+CREATE INDEX idx_price_last_update ON PRICES(LAST_UPDATE);
+
+-- One row per PRICES row that left a (brand, product), deleted or moved to another product, written
+-- in the same transaction so the delta sync can drop it from in-memory copies. Purged once older
+-- than the configured retention.
+CREATE TABLE IF NOT EXISTS PRICE_TOMBSTONES (
+    PRICE_ID BIGINT NOT NULL,
+    BRAND_ID BIGINT NOT NULL,
+    PRODUCT_ID BIGINT NOT NULL,
+    DELETED_AT TIMESTAMP NOT NULL,
+    PRIMARY KEY (PRICE_ID, BRAND_ID, PRODUCT_ID)
+);
+
+CREATE INDEX idx_price_tombstone_deleted_at ON PRICE_TOMBSTONES(DELETED_AT);
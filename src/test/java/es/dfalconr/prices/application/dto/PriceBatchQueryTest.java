@@ -0,0 +1,42 @@
+package es.dfalconr.prices.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceBatchQueryTest {
+
+    @Test
+    @DisplayName("Should throw exception when items are null")
+    void shouldThrowExceptionWhenItemsAreNull() {
+        assertThatThrownBy(() -> new PriceBatchQuery(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("At least one price query is required");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when items are empty")
+    void shouldThrowExceptionWhenItemsAreEmpty() {
+        assertThatThrownBy(() -> new PriceBatchQuery(List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("At least one price query is required");
+    }
+
+    @Test
+    @DisplayName("Should keep an immutable copy of the items")
+    void shouldKeepImmutableCopyOfItems() {
+        List<PriceQuery> items = new ArrayList<>();
+        items.add(new PriceQuery(LocalDateTime.now(), 100L, 1L));
+
+        PriceBatchQuery batchQuery = new PriceBatchQuery(items);
+        items.clear();
+
+        assertThat(batchQuery.items()).hasSize(1);
+    }
+}
@@ -0,0 +1,53 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceBatchResultTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Test
+    @DisplayName("Should echo the query and map the price when found")
+    void shouldMapFoundResult() {
+        PriceQuery query = new PriceQuery(DATE, 100L, 1L);
+        Price price = new Price(
+            1L,
+            1L,
+            100L,
+            2,
+            DATE.minusDays(1),
+            DATE.plusDays(1),
+            1,
+            new BigDecimal("25.45"),
+            "EUR"
+        );
+
+        PriceBatchResult result = PriceBatchResult.found(query, price);
+
+        assertThat(result.found()).isTrue();
+        assertThat(result.applicationDate()).isEqualTo(DATE);
+        assertThat(result.productId()).isEqualTo(100L);
+        assertThat(result.brandId()).isEqualTo(1L);
+        assertThat(result.price().priceList()).isEqualTo(2);
+        assertThat(result.price().finalPrice()).isEqualByComparingTo(new BigDecimal("25.45"));
+    }
+
+    @Test
+    @DisplayName("Should echo the query without a price when not found")
+    void shouldMapNotFoundResult() {
+        PriceQuery query = new PriceQuery(DATE, 100L, 1L);
+
+        PriceBatchResult result = PriceBatchResult.notFound(query);
+
+        assertThat(result.found()).isFalse();
+        assertThat(result.productId()).isEqualTo(100L);
+        assertThat(result.price()).isNull();
+    }
+}
@@ -0,0 +1,72 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceCommandTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 7, 1, 0, 0);
+
+    @Test
+    @DisplayName("Should throw exception when a field is missing")
+    void shouldThrowExceptionWhenFieldIsMissing() {
+        assertThatThrownBy(() -> new PriceCommand(1L, 100L, 1, START, START.plusDays(1), 0, null, "EUR"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("All price fields are required");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-0.01", "10.001", "123456789.00"})
+    @DisplayName("Should reject amounts PRICES cannot store exactly")
+    void shouldRejectUnstorableAmounts(String amount) {
+        assertThatThrownBy(() -> command(new BigDecimal(amount), "EUR"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Price must be a non-negative amount with at most two decimals");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"eur", "EURO", "E1R"})
+    @DisplayName("Should reject currencies that are not three-letter codes")
+    void shouldRejectInvalidCurrencies(String currency) {
+        assertThatThrownBy(() -> command(BigDecimal.TEN, currency))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Currency must be a three-letter ISO-4217 code");
+    }
+
+    @Test
+    @DisplayName("Should apply the Price invariants when converted")
+    void shouldApplyPriceInvariants() {
+        // Given
+        PriceCommand reversedDates = new PriceCommand(
+            1L, 100L, 1, START.plusDays(1), START, 0, BigDecimal.TEN, "EUR");
+
+        // When / Then
+        assertThatThrownBy(() -> reversedDates.toPrice(null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Start date must be before end date");
+    }
+
+    @Test
+    @DisplayName("Should convert to a Price with the given id")
+    void shouldConvertToPrice() {
+        // When
+        Price price = command(new BigDecimal("29.90"), "EUR").toPrice(7L);
+
+        // Then
+        assertThat(price).isEqualTo(new Price(
+            7L, 1L, 100L, 5, START, START.plusDays(30), 2, new BigDecimal("29.90"), "EUR"));
+    }
+
+    private PriceCommand command(BigDecimal amount, String currency) {
+        return new PriceCommand(1L, 100L, 5, START, START.plusDays(30), 2, amount, currency);
+    }
+}
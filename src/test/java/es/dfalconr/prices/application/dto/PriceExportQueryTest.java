@@ -0,0 +1,35 @@
+package es.dfalconr.prices.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceExportQueryTest {
+
+    @Test
+    @DisplayName("Should throw exception when brandId is null")
+    void shouldThrowExceptionWhenBrandIdIsNull() {
+        assertThatThrownBy(() -> new PriceExportQuery(null, LocalDateTime.now()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("All query parameters are required");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when applicationDate is null")
+    void shouldThrowExceptionWhenApplicationDateIsNull() {
+        assertThatThrownBy(() -> new PriceExportQuery(1L, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("All query parameters are required");
+    }
+
+    @Test
+    @DisplayName("Should create valid PriceExportQuery with all parameters")
+    void shouldCreateValidPriceExportQuery() {
+        assertThatCode(() -> new PriceExportQuery(1L, LocalDateTime.of(2020, 6, 14, 10, 0)))
+            .doesNotThrowAnyException();
+    }
+}
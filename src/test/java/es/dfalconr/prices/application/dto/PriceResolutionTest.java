@@ -0,0 +1,92 @@
+package es.dfalconr.prices.application.dto;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceResolutionTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 15, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 6, 14, 18, 30);
+
+    @Test
+    @DisplayName("Should take the validity end from the segment rather than the row")
+    void shouldTakeValidityEndFromSegment() {
+        Price price = createPrice(2L, "25.45");
+        LocalDateTime segmentEnd = LocalDateTime.of(2020, 6, 14, 17, 59, 59);
+
+        PriceResolution resolution = PriceResolution.from(new PriceSegment(START, segmentEnd, price));
+
+        assertThat(resolution.price()).isEqualTo(price);
+        assertThat(resolution.validUntil()).isEqualTo(segmentEnd);
+        assertThat(resolution.toResponse()).isEqualTo(PriceResponse.from(price));
+    }
+
+    @Test
+    @DisplayName("Should count the inclusive validity end when computing the time remaining")
+    void shouldComputeRemainingUpToInclusiveEnd() {
+        PriceResolution resolution = new PriceResolution(createPrice(2L, "25.45"), END);
+
+        assertThat(resolution.remainingAt(END.minusSeconds(30)))
+            .isEqualTo(Duration.ofSeconds(30).plusNanos(1));
+        assertThat(resolution.remainingAt(END.plusHours(1))).isEqualTo(Duration.ZERO);
+        assertThat(resolution.remainingAt(END.minusHours(1), Duration.ofSeconds(60))).isEqualTo(Duration.ofSeconds(60));
+        assertThat(resolution.remainingAt(END.minusSeconds(30), Duration.ofSeconds(60)))
+            .isEqualTo(Duration.ofSeconds(30).plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should cap the time remaining of a price valid until LocalDateTime.MAX")
+    void shouldCapRemainingOfOpenEndedPrice() {
+        PriceResolution resolution = new PriceResolution(createPrice(2L, "25.45"), LocalDateTime.MAX);
+
+        assertThat(resolution.remainingAt(START, Duration.ofSeconds(60))).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    @DisplayName("Should match If-None-Match lists, wildcards and weak forms of its entity tag")
+    void shouldMatchIfNoneMatch() {
+        PriceResolution resolution = new PriceResolution(createPrice(2L, "25.45"), END);
+        String entityTag = resolution.entityTag();
+
+        assertThat(resolution.isMatchedBy(entityTag)).isTrue();
+        assertThat(resolution.isMatchedBy("\"1-0\", W/" + entityTag)).isTrue();
+        assertThat(resolution.isMatchedBy("*")).isTrue();
+        assertThat(resolution.isMatchedBy("\"2-0\"")).isFalse();
+        assertThat(resolution.isMatchedBy(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should build a strong entity tag that changes with the row content")
+    void shouldBuildEntityTagFromRowIdAndContent() {
+        PriceResolution resolution = new PriceResolution(createPrice(2L, "25.45"), END);
+        PriceResolution sameRow = new PriceResolution(createPrice(2L, "25.45"), END.minusHours(1));
+        PriceResolution repriced = new PriceResolution(createPrice(2L, "19.95"), END);
+
+        assertThat(resolution.entityTag()).startsWith("\"2-").endsWith("\"");
+        assertThat(resolution.entityTag()).isEqualTo(sameRow.entityTag());
+        assertThat(resolution.entityTag()).isNotEqualTo(repriced.entityTag());
+    }
+
+    @Test
+    @DisplayName("Should reject a resolution without price or validity end")
+    void shouldRejectIncompleteResolution() {
+        assertThatThrownBy(() -> new PriceResolution(null, END))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Price and validity end are required");
+        assertThatThrownBy(() -> new PriceResolution(createPrice(2L, "25.45"), null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Price createPrice(Long id, String amount) {
+        return new Price(id, 1L, 35455L, 2, START, END, 1, new BigDecimal(amount), "EUR");
+    }
+}
@@ -0,0 +1,37 @@
+package es.dfalconr.prices.application.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceTimelineQueryTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2020, 6, 1, 0, 0);
+
+    @Test
+    @DisplayName("Should throw exception when a parameter is missing")
+    void shouldThrowExceptionWhenParameterIsMissing() {
+        assertThatThrownBy(() -> new PriceTimelineQuery(35455L, 1L, FROM, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("All query parameters are required");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when the range ends before it starts")
+    void shouldThrowExceptionWhenRangeIsInverted() {
+        assertThatThrownBy(() -> new PriceTimelineQuery(35455L, 1L, FROM, FROM.minusSeconds(1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("From date must be before to date");
+    }
+
+    @Test
+    @DisplayName("Should accept a single-instant range")
+    void shouldAcceptSingleInstantRange() {
+        assertThatCode(() -> new PriceTimelineQuery(35455L, 1L, FROM, FROM))
+            .doesNotThrowAnyException();
+    }
+}
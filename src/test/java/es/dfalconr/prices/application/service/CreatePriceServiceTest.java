@@ -0,0 +1,49 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceCommand;
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CreatePriceServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 7, 1, 0, 0);
+
+    @Mock
+    private PriceWriteRepository priceWriteRepository;
+
+    @InjectMocks
+    private CreatePriceService service;
+
+    @Test
+    @DisplayName("Should store the price without an id and return it with the generated one")
+    void shouldCreatePrice() {
+        // Given
+        PriceCommand command = new PriceCommand(
+            1L, 100L, 5, START, START.plusDays(30), 2, new BigDecimal("29.95"), "EUR");
+        Price stored = command.toPrice(42L);
+        when(priceWriteRepository.create(command.toPrice(null))).thenReturn(stored);
+
+        // When
+        PriceDetailResponse response = service.execute(command);
+
+        // Then
+        assertThat(response).isEqualTo(PriceDetailResponse.from(stored));
+        assertThat(response.id()).isEqualTo(42L);
+        verify(priceWriteRepository).create(command.toPrice(null));
+    }
+}
@@ -0,0 +1,50 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeletePriceServiceTest {
+
+    @Mock
+    private PriceWriteRepository priceWriteRepository;
+
+    @InjectMocks
+    private DeletePriceService service;
+
+    @Test
+    @DisplayName("Should return the deleted price")
+    void shouldDeletePrice() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 7, 1, 0, 0);
+        Price price = new Price(42L, 1L, 100L, 5, start, start.plusDays(30), 2, new BigDecimal("29.95"), "EUR");
+        when(priceWriteRepository.delete(42L)).thenReturn(Optional.of(price));
+
+        // When / Then
+        assertThat(service.execute(42L)).contains(PriceDetailResponse.from(price));
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price has the id")
+    void shouldReturnEmptyForUnknownId() {
+        // Given
+        when(priceWriteRepository.delete(99L)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThat(service.execute(99L)).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceExportQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ExportPricesServiceTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Mock
+    private PriceRangeRepository priceRangeRepository;
+
+    @InjectMocks
+    private ExportPricesService service;
+
+    @Test
+    @DisplayName("Should hand over each exported price and count them")
+    void shouldExportPrices() {
+        // Given
+        Price first = createPrice(100L, "35.50");
+        Price second = createPrice(200L, "25.45");
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(2);
+            action.accept(first);
+            action.accept(second);
+            return null;
+        }).when(priceRangeRepository).forEachApplicable(eq(1L), eq(APPLICATION_DATE), any());
+
+        // When
+        List<PriceResponse> exported = new ArrayList<>();
+        long count = service.execute(new PriceExportQuery(1L, APPLICATION_DATE), exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(2);
+        assertThat(exported).containsExactly(PriceResponse.from(first), PriceResponse.from(second));
+    }
+
+    @Test
+    @DisplayName("Should export nothing for a brand without prices")
+    void shouldExportNothingWithoutPrices() {
+        // When
+        List<PriceResponse> exported = new ArrayList<>();
+        long count = service.execute(new PriceExportQuery(9L, APPLICATION_DATE), exported::add);
+
+        // Then
+        assertThat(count).isZero();
+        assertThat(exported).isEmpty();
+    }
+
+    private static Price createPrice(Long productId, String amount) {
+        return new Price(productId, 1L, productId, 1, APPLICATION_DATE.minusDays(1), APPLICATION_DATE.plusDays(1),
+            0, new BigDecimal(amount), "EUR");
+    }
+}
@@ -1,25 +1,27 @@
 package es.dfalconr.prices.application.service;
 
 import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
 import es.dfalconr.prices.application.dto.PriceResponse;
-import es.dfalconr.prices.domain.exception.PriceNotFoundException;
 import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
 import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Collections;
-import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -29,9 +31,15 @@ class GetApplicablePriceServiceTest {
     @Mock
     private PriceRepository priceRepository;
 
-    @InjectMocks
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     private GetApplicablePriceService service;
 
+    @BeforeEach
+    void setUp() {
+        service = new GetApplicablePriceService(priceRepository, meterRegistry);
+    }
+
     @Test
     @DisplayName("Should return price when single price found")
     void shouldReturnPriceWhenSinglePriceFound() {
@@ -42,17 +50,17 @@ class GetApplicablePriceServiceTest {
             1L
         );
         Price price = createPrice(1L, 0, "35.50");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(price));
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(price));
 
         // When
-        PriceResponse response = service.execute(query);
+        PriceResponse response = service.execute(query).orElseThrow();
 
         // Then
         assertThat(response.finalPrice())
             .isEqualByComparingTo(new BigDecimal("35.50"));
         assertThat(response.priceList()).isEqualTo(1);
-        verify(priceRepository).findApplicablePrices(
+        verify(priceRepository).findApplicablePrice(
             query.applicationDate(),
             query.productId(),
             query.brandId()
@@ -60,104 +68,104 @@ class GetApplicablePriceServiceTest {
     }
 
     @Test
-    @DisplayName("Should select highest priority when multiple prices found")
-    void shouldSelectHighestPriorityWhenMultiplePricesFound() {
+    @DisplayName("Should return the price resolved by the repository without re-selecting")
+    void shouldReturnPriceResolvedByRepository() {
         // Given
         PriceQuery query = new PriceQuery(
             LocalDateTime.of(2020, 6, 14, 16, 0),
             100L,
             1L
         );
-        Price lowPriority = createPrice(1L, 0, "35.50");
         Price highPriority = createPrice(2L, 1, "25.45");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(lowPriority, highPriority));
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(highPriority));
 
         // When
-        PriceResponse response = service.execute(query);
+        PriceResponse response = service.execute(query).orElseThrow();
 
         // Then
         assertThat(response.priceList()).isEqualTo(2);
         assertThat(response.finalPrice())
             .isEqualByComparingTo(new BigDecimal("25.45"));
+        verify(priceRepository, never()).findApplicablePrices(any(), any(), any());
     }
 
     @Test
-    @DisplayName("Should select price with priority 1 over priority 0")
-    void shouldSelectPriorityOneOverPriorityZero() {
+    @DisplayName("Should return an empty result instead of throwing when no prices found")
+    void shouldReturnEmptyWhenNoPricesFound() {
         // Given
-        PriceQuery query = new PriceQuery(LocalDateTime.now(), 100L, 1L);
-        Price priority0 = createPrice(1L, 0, "35.50");
-        Price priority1 = createPrice(2L, 1, "25.45");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(priority0, priority1));
+        PriceQuery query = new PriceQuery(
+            LocalDateTime.of(2020, 6, 14, 10, 0),
+            100L,
+            1L
+        );
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.empty());
 
         // When
-        PriceResponse response = service.execute(query);
+        Optional<PriceResponse> response = service.execute(query);
 
         // Then
-        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(response).isEmpty();
     }
 
     @Test
-    @DisplayName("Should throw exception when no prices found")
-    void shouldThrowExceptionWhenNoPricesFound() {
+    @DisplayName("Should resolve the winning segment and keep its validity end")
+    void shouldResolveWinningSegment() {
         // Given
-        PriceQuery query = new PriceQuery(
-            LocalDateTime.of(2020, 6, 14, 10, 0),
-            100L,
-            1L
-        );
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(Collections.emptyList());
-
-        // When / Then
-        assertThatThrownBy(() -> service.execute(query))
-            .isInstanceOf(PriceNotFoundException.class)
-            .hasMessageContaining("No price found")
-            .hasMessageContaining("100")
-            .hasMessageContaining("1");
+        PriceQuery query = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 100L, 1L);
+        Price price = createPrice(2L, 1, "25.45");
+        LocalDateTime segmentEnd = LocalDateTime.of(2020, 6, 14, 18, 30);
+        when(priceRepository.findApplicableSegment(any(), any(), any()))
+            .thenReturn(Optional.of(new PriceSegment(query.applicationDate(), segmentEnd, price)));
+
+        // When
+        PriceResolution resolution = service.resolve(query).orElseThrow();
+
+        // Then
+        assertThat(resolution.price()).isEqualTo(price);
+        assertThat(resolution.validUntil()).isEqualTo(segmentEnd);
+        verify(priceRepository).findApplicableSegment(query.applicationDate(), 100L, 1L);
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "found").counter().count())
+            .isEqualTo(1);
     }
 
     @Test
-    @DisplayName("Should handle three prices with different priorities")
-    void shouldHandleThreePricesWithDifferentPriorities() {
+    @DisplayName("Should resolve to an empty result when no segment covers the date")
+    void shouldResolveEmptyWhenNoSegment() {
         // Given
-        PriceQuery query = new PriceQuery(LocalDateTime.now(), 100L, 1L);
-        Price priority0 = createPrice(1L, 0, "35.50");
-        Price priority1 = createPrice(2L, 1, "25.45");
-        Price priority2 = createPrice(3L, 2, "30.50");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(priority0, priority1, priority2));
+        PriceQuery query = new PriceQuery(LocalDateTime.of(2019, 1, 1, 0, 0), 100L, 1L);
+        when(priceRepository.findApplicableSegment(any(), any(), any())).thenReturn(Optional.empty());
 
         // When
-        PriceResponse response = service.execute(query);
+        Optional<PriceResolution> resolution = service.resolve(query);
 
         // Then
-        assertThat(response.priceList()).isEqualTo(3);
-        assertThat(response.finalPrice())
-            .isEqualByComparingTo(new BigDecimal("30.50"));
+        assertThat(resolution).isEmpty();
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "not_found").counter().count())
+            .isEqualTo(1);
     }
 
     @Test
-    @DisplayName("Should handle multiple prices with same priority")
-    void shouldHandleMultiplePricesWithSamePriority() {
-        // Edge case: if two prices have same priority, max() returns one
-        PriceQuery query = new PriceQuery(LocalDateTime.now(), 100L, 1L);
-        Price price1 = createPrice(1L, 1, "35.50");
-        Price price2 = createPrice(2L, 1, "25.45");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(price1, price2));
+    @DisplayName("Should time lookups and count them by outcome")
+    void shouldRecordLookupMetrics() {
+        // Given
+        PriceQuery query = new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), 100L, 1L);
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(createPrice(1L, 0, "35.50")))
+            .thenReturn(Optional.empty());
 
         // When
-        PriceResponse response = service.execute(query);
+        service.execute(query);
+        service.execute(query);
+        service.execute(query);
 
         // Then
-        assertThat(response).isNotNull();
-        assertThat(response.finalPrice()).isIn(
-            new BigDecimal("35.50"),
-            new BigDecimal("25.45")
-        );
+        assertThat(meterRegistry.get("prices.lookup").tag("layer", "service").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "found").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "not_found").counter().count())
+            .isEqualTo(2);
     }
 
     @Test
@@ -169,14 +177,14 @@ class GetApplicablePriceServiceTest {
         Long brandId = 1L;
         PriceQuery query = new PriceQuery(date, productId, brandId);
         Price price = createPrice(1L, 0, "35.50");
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(price));
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(price));
 
         // When
         service.execute(query);
 
         // Then
-        verify(priceRepository).findApplicablePrices(date, productId, brandId);
+        verify(priceRepository).findApplicablePrice(date, productId, brandId);
     }
 
     @Test
@@ -201,11 +209,11 @@ class GetApplicablePriceServiceTest {
             new BigDecimal("35.50"),
             "EUR"
         );
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(price));
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(price));
 
         // When
-        PriceResponse response = service.execute(query);
+        PriceResponse response = service.execute(query).orElseThrow();
 
         // Then
         assertThat(response.productId()).isEqualTo(100L);
@@ -236,11 +244,11 @@ class GetApplicablePriceServiceTest {
             new BigDecimal("45.99"),
             "EUR"
         );
-        when(priceRepository.findApplicablePrices(any(), any(), any()))
-            .thenReturn(List.of(price));
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Optional.of(price));
 
         // When
-        PriceResponse response = service.execute(query);
+        PriceResponse response = service.execute(query).orElseThrow();
 
         // Then
         assertThat(response.productId()).isEqualTo(35455L);
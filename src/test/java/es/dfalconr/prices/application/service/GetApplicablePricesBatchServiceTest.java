@@ -0,0 +1,113 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceBatchQuery;
+import es.dfalconr.prices.application.dto.PriceBatchResponse;
+import es.dfalconr.prices.application.dto.PriceBatchResult;
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetApplicablePricesBatchServiceTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    @Mock
+    private PriceRepository priceRepository;
+
+    private GetApplicablePricesBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new GetApplicablePricesBatchService(priceRepository, new SimpleMeterRegistry(), 3);
+    }
+
+    @Test
+    @DisplayName("Should report found and not-found results in request order")
+    void shouldReportResultsInRequestOrder() {
+        // Given
+        PriceQuery found = new PriceQuery(DATE, 100L, 1L);
+        PriceQuery missing = new PriceQuery(DATE, 200L, 1L);
+        when(priceRepository.findApplicablePriceBatch(any()))
+            .thenReturn(Map.of(found.toLookup(), createPrice(100L)));
+
+        // When
+        PriceBatchResponse response = service.execute(new PriceBatchQuery(List.of(missing, found)));
+
+        // Then
+        assertThat(response.results()).extracting(PriceBatchResult::productId)
+            .containsExactly(200L, 100L);
+        assertThat(response.results()).extracting(PriceBatchResult::found)
+            .containsExactly(false, true);
+        assertThat(response.results().get(1).price().finalPrice())
+            .isEqualByComparingTo(new BigDecimal("35.50"));
+    }
+
+    @Test
+    @DisplayName("Should resolve the whole batch with a single deduplicated repository call")
+    @SuppressWarnings("unchecked")
+    void shouldResolveBatchWithSingleDeduplicatedCall() {
+        // Given
+        PriceQuery query = new PriceQuery(DATE, 100L, 1L);
+        when(priceRepository.findApplicablePriceBatch(any())).thenReturn(Map.of());
+
+        // When
+        PriceBatchResponse response = service.execute(new PriceBatchQuery(List.of(query, query)));
+
+        // Then
+        ArgumentCaptor<Collection<PriceLookup>> lookups = ArgumentCaptor.forClass(Collection.class);
+        verify(priceRepository).findApplicablePriceBatch(lookups.capture());
+        assertThat(lookups.getValue()).containsExactly(query.toLookup());
+        assertThat(response.results()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Should reject batches larger than the configured maximum")
+    void shouldRejectOversizedBatch() {
+        // Given
+        PriceQuery query = new PriceQuery(DATE, 100L, 1L);
+        PriceBatchQuery batchQuery = new PriceBatchQuery(List.of(query, query, query, query));
+
+        // When / Then
+        assertThatThrownBy(() -> service.execute(batchQuery))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("exceeds the maximum of 3");
+        verifyNoInteractions(priceRepository);
+    }
+
+    private Price createPrice(Long productId) {
+        return new Price(
+            1L,
+            1L,
+            productId,
+            1,
+            DATE.minusDays(1),
+            DATE.plusDays(1),
+            0,
+            new BigDecimal("35.50"),
+            "EUR"
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceSegmentResponse;
+import es.dfalconr.prices.application.dto.PriceTimelineQuery;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRangeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class GetPriceTimelineServiceTest {
+
+    @Mock
+    private PriceRangeRepository priceRangeRepository;
+
+    @InjectMocks
+    private GetPriceTimelineService service;
+
+    @Test
+    @DisplayName("Should stream the resolved segments of the range in date order")
+    void shouldStreamResolvedSegments() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2020, 6, 14, 23, 59, 59);
+        Price base = createPrice(1L, 1, LocalDateTime.of(2020, 6, 14, 0, 0),
+            LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50");
+        Price promotion = createPrice(2L, 2, LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30), 1, "25.45");
+        doAnswer(invocation -> {
+            Consumer<Price> action = invocation.getArgument(4);
+            action.accept(base);
+            action.accept(promotion);
+            return null;
+        }).when(priceRangeRepository).forEachOverlapping(eq(35455L), eq(1L), eq(from), eq(to), any());
+
+        // When
+        List<PriceSegmentResponse> segments = new ArrayList<>();
+        service.execute(new PriceTimelineQuery(35455L, 1L, from, to), segments::add);
+
+        // Then
+        assertThat(segments).extracting(PriceSegmentResponse::priceList).containsExactly(1, 2, 1);
+        assertThat(segments).extracting(PriceSegmentResponse::finalPrice).containsExactly(
+            new BigDecimal("35.50"), new BigDecimal("25.45"), new BigDecimal("35.50"));
+        assertThat(segments.get(0).endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0).minusNanos(1));
+        assertThat(segments.get(2).endDate()).isEqualTo(to);
+    }
+
+    @Test
+    @DisplayName("Should stream nothing when no price overlaps the range")
+    void shouldStreamNothingWithoutPrices() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+        // When
+        List<PriceSegmentResponse> segments = new ArrayList<>();
+        service.execute(new PriceTimelineQuery(35455L, 1L, from, from.plusDays(1)), segments::add);
+
+        // Then
+        assertThat(segments).isEmpty();
+    }
+
+    private static Price createPrice(
+        Long id,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority,
+        String amount
+    ) {
+        return new Price(id, 1L, 35455L, priceList, startDate, endDate, priority, new BigDecimal(amount), "EUR");
+    }
+}
@@ -0,0 +1,109 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.port.ReactivePriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveGetApplicablePriceServiceTest {
+
+    private static final PriceQuery QUERY = new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 100L, 1L);
+
+    @Mock
+    private ReactivePriceRepository priceRepository;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ReactiveGetApplicablePriceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReactiveGetApplicablePriceService(priceRepository, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should map the repository price to a response")
+    void shouldMapPriceToResponse() {
+        // Given
+        Price price = createPrice();
+        when(priceRepository.findApplicablePrice(any(), any(), any())).thenReturn(Mono.just(price));
+
+        // When
+        PriceResponse response = service.execute(QUERY).block();
+
+        // Then
+        assertThat(response).isEqualTo(PriceResponse.from(price));
+    }
+
+    @Test
+    @DisplayName("Should resolve the winning segment and keep its validity end")
+    void shouldResolveWinningSegment() {
+        // Given
+        Price price = createPrice();
+        LocalDateTime segmentEnd = LocalDateTime.of(2020, 6, 14, 18, 30);
+        when(priceRepository.findApplicableSegment(any(), any(), any()))
+            .thenReturn(Mono.just(new PriceSegment(QUERY.applicationDate(), segmentEnd, price)));
+
+        // When
+        PriceResolution resolution = service.resolve(QUERY).block();
+
+        // Then
+        assertThat(resolution).isEqualTo(new PriceResolution(price, segmentEnd));
+    }
+
+    @Test
+    @DisplayName("Should time lookups on subscription and count them by outcome")
+    void shouldRecordLookupMetrics() {
+        // Given
+        when(priceRepository.findApplicablePrice(any(), any(), any()))
+            .thenReturn(Mono.just(createPrice()))
+            .thenReturn(Mono.empty());
+        Mono<PriceResponse> found = service.execute(QUERY);
+        Mono<PriceResponse> notFound = service.execute(QUERY);
+
+        // When
+        assertThat(meterRegistry.get("prices.lookup").tag("layer", "service").timer().count()).isZero();
+        found.block();
+        notFound.block();
+
+        // Then
+        assertThat(meterRegistry.get("prices.lookup").tag("layer", "service").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "found").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("prices.lookup.results").tag("outcome", "not_found").counter().count())
+            .isEqualTo(1);
+    }
+
+    private static Price createPrice() {
+        return new Price(
+            2L,
+            1L,
+            100L,
+            2,
+            LocalDateTime.of(2020, 6, 14, 15, 0),
+            LocalDateTime.of(2020, 6, 14, 18, 30),
+            1,
+            new BigDecimal("25.45"),
+            "EUR"
+        );
+    }
+}
@@ -0,0 +1,55 @@
+package es.dfalconr.prices.application.service;
+
+import es.dfalconr.prices.application.dto.PriceCommand;
+import es.dfalconr.prices.application.dto.PriceDetailResponse;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UpdatePriceServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 7, 1, 0, 0);
+    private static final PriceCommand COMMAND = new PriceCommand(
+        1L, 100L, 5, START, START.plusDays(30), 2, new BigDecimal("29.95"), "EUR");
+
+    @Mock
+    private PriceWriteRepository priceWriteRepository;
+
+    @InjectMocks
+    private UpdatePriceService service;
+
+    @Test
+    @DisplayName("Should update the price with the requested id")
+    void shouldUpdatePrice() {
+        // Given
+        when(priceWriteRepository.update(COMMAND.toPrice(42L))).thenReturn(Optional.of(COMMAND.toPrice(42L)));
+
+        // When
+        Optional<PriceDetailResponse> response = service.execute(42L, COMMAND);
+
+        // Then
+        assertThat(response).contains(PriceDetailResponse.from(COMMAND.toPrice(42L)));
+    }
+
+    @Test
+    @DisplayName("Should return empty when no price has the id")
+    void shouldReturnEmptyForUnknownId() {
+        // Given
+        when(priceWriteRepository.update(COMMAND.toPrice(99L))).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThat(service.execute(99L, COMMAND)).isEmpty();
+    }
+}
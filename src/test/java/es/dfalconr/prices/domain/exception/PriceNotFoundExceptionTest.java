@@ -38,4 +38,15 @@ class PriceNotFoundExceptionTest {
             .contains("2")
             .contains("No price found");
     }
+
+    @Test
+    @DisplayName("Should not capture a stack trace")
+    void shouldNotCaptureStackTrace() {
+        PriceNotFoundException exception = new PriceNotFoundException(
+            LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L);
+
+        assertThat(exception.getStackTrace()).isEmpty();
+        assertThat(exception.getMessage())
+            .isEqualTo("No price found for product 35455, brand 1 at 2020-06-14T10:00");
+    }
 }
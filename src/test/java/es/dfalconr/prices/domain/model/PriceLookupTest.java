@@ -0,0 +1,32 @@
+package es.dfalconr.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceLookupTest {
+
+    @Test
+    @DisplayName("Should throw exception when any parameter is null")
+    void shouldThrowExceptionWhenAnyParameterIsNull() {
+        assertThatThrownBy(() -> new PriceLookup(null, 100L, 1L))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("All lookup parameters are required");
+        assertThatThrownBy(() -> new PriceLookup(LocalDateTime.now(), null, 1L))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PriceLookup(LocalDateTime.now(), 100L, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should expose the brand and product as a product key")
+    void shouldExposeProductKey() {
+        PriceLookup lookup = new PriceLookup(LocalDateTime.now(), 35455L, 1L);
+
+        assertThat(lookup.productKey()).isEqualTo(new ProductKey(1L, 35455L));
+    }
+}
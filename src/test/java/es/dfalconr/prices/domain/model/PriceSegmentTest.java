@@ -0,0 +1,57 @@
+package es.dfalconr.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceSegmentTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 6, 14, 23, 59, 59);
+
+    @Test
+    @DisplayName("Should throw exception when startDate is after endDate")
+    void shouldThrowExceptionWhenStartDateAfterEndDate() {
+        assertThatThrownBy(() -> new PriceSegment(END, START, createPrice()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Start date must be before end date");
+    }
+
+    @Test
+    @DisplayName("Should throw exception when price is null")
+    void shouldThrowExceptionWhenPriceIsNull() {
+        assertThatThrownBy(() -> new PriceSegment(START, END, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("Segment bounds and price are required");
+    }
+
+    @Test
+    @DisplayName("Should contain both bounds (boundary test)")
+    void shouldContainBothBounds() {
+        PriceSegment segment = new PriceSegment(START, END, createPrice());
+
+        assertThat(segment.contains(START)).isTrue();
+        assertThat(segment.contains(END)).isTrue();
+        assertThat(segment.contains(START.minusNanos(1))).isFalse();
+        assertThat(segment.contains(END.plusNanos(1))).isFalse();
+    }
+
+    private Price createPrice() {
+        return new Price(
+            1L,
+            1L,
+            100L,
+            1,
+            START,
+            END,
+            0,
+            BigDecimal.TEN,
+            "EUR"
+        );
+    }
+}
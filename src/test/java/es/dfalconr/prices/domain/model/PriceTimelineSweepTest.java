@@ -0,0 +1,156 @@
+package es.dfalconr.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceTimelineSweepTest {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @DisplayName("Should clip segments to the requested window")
+    void shouldClipSegmentsToWindow() {
+        // Given
+        Price base = createPrice(1L, ORIGIN, ORIGIN.plusDays(30), 0);
+        Price promotion = createPrice(2L, ORIGIN.plusDays(5), ORIGIN.plusDays(6), 1);
+
+        // When
+        List<PriceSegment> segments = sweep(ORIGIN.plusDays(2), ORIGIN.plusDays(10), List.of(base, promotion));
+
+        // Then
+        assertThat(segments).containsExactly(
+            new PriceSegment(ORIGIN.plusDays(2), ORIGIN.plusDays(5).minusNanos(1), base),
+            new PriceSegment(ORIGIN.plusDays(5), ORIGIN.plusDays(6), promotion),
+            new PriceSegment(ORIGIN.plusDays(6).plusNanos(1), ORIGIN.plusDays(10), base));
+    }
+
+    @Test
+    @DisplayName("Should ignore rows outside the window")
+    void shouldIgnoreRowsOutsideWindow() {
+        // Given
+        Price before = createPrice(1L, ORIGIN, ORIGIN.plusDays(1), 5);
+        Price inside = createPrice(2L, ORIGIN.plusDays(2), ORIGIN.plusDays(3), 0);
+        Price after = createPrice(3L, ORIGIN.plusDays(4), ORIGIN.plusDays(5), 5);
+
+        // When
+        List<PriceSegment> segments = sweep(ORIGIN.plusDays(1).plusSeconds(1), ORIGIN.plusDays(3).plusHours(12),
+            List.of(before, inside, after));
+
+        // Then
+        assertThat(segments).containsExactly(new PriceSegment(ORIGIN.plusDays(2), ORIGIN.plusDays(3), inside));
+    }
+
+    @Test
+    @DisplayName("Should let the winner among rows starting together open the segment")
+    void shouldResolveRowsStartingTogether() {
+        // Given
+        Price low = createPrice(1L, ORIGIN, ORIGIN.plusDays(2), 0);
+        Price high = createPrice(2L, ORIGIN, ORIGIN.plusDays(1), 1);
+
+        // When
+        List<PriceSegment> segments = sweep(ORIGIN, ORIGIN.plusDays(2), List.of(low, high));
+
+        // Then
+        assertThat(segments).containsExactly(
+            new PriceSegment(ORIGIN, ORIGIN.plusDays(1), high),
+            new PriceSegment(ORIGIN.plusDays(1).plusNanos(1), ORIGIN.plusDays(2), low));
+    }
+
+    @Test
+    @DisplayName("Should treat rows and windows ending at LocalDateTime.MAX as open-ended")
+    void shouldSweepOpenEndedRanges() {
+        // Given
+        Price base = createPrice(1L, ORIGIN, LocalDateTime.MAX, 0);
+        Price promotion = createPrice(2L, ORIGIN.plusDays(5), LocalDateTime.MAX, 1);
+        Price flash = createPrice(3L, ORIGIN.plusDays(6), ORIGIN.plusDays(7), 2);
+
+        // When
+        List<PriceSegment> segments = sweep(ORIGIN, LocalDateTime.MAX, List.of(base, promotion, flash));
+
+        // Then
+        assertThat(segments).containsExactly(
+            new PriceSegment(ORIGIN, ORIGIN.plusDays(5).minusNanos(1), base),
+            new PriceSegment(ORIGIN.plusDays(5), ORIGIN.plusDays(6).minusNanos(1), promotion),
+            new PriceSegment(ORIGIN.plusDays(6), ORIGIN.plusDays(7), flash),
+            new PriceSegment(ORIGIN.plusDays(7).plusNanos(1), LocalDateTime.MAX, promotion));
+    }
+
+    @Test
+    @DisplayName("Should reject rows fed out of start date order")
+    void shouldRejectRowsOutOfOrder() {
+        // Given
+        PriceTimelineSweep sweep = new PriceTimelineSweep(ORIGIN, ORIGIN.plusDays(10), segment -> { });
+        sweep.accept(createPrice(1L, ORIGIN.plusDays(2), ORIGIN.plusDays(3), 0));
+
+        // When / Then
+        assertThatThrownBy(() -> sweep.accept(createPrice(2L, ORIGIN, ORIGIN.plusDays(1), 0)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Prices must be fed in start date order");
+    }
+
+    @Test
+    @DisplayName("Should reject a window ending before it starts")
+    void shouldRejectInvertedWindow() {
+        assertThatThrownBy(() -> new PriceTimelineSweep(ORIGIN, ORIGIN.minusNanos(1), segment -> { }))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("From date must be before to date");
+    }
+
+    @Test
+    @DisplayName("Should match the priority rule inside a random window")
+    void shouldMatchPriorityRuleInsideRandomWindow() {
+        // Given
+        Random random = new Random(11);
+        List<Price> prices = new ArrayList<>();
+        for (long id = 1; id <= 300; id++) {
+            LocalDateTime start = ORIGIN.plusMinutes(random.nextInt(60 * 24 * 60));
+            LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24 * 7));
+            prices.add(createPrice(id, start, end, random.nextInt(4)));
+        }
+        prices.sort(Comparator.comparing(Price::startDate));
+        LocalDateTime from = ORIGIN.plusDays(10);
+        LocalDateTime to = ORIGIN.plusDays(40);
+
+        // When
+        List<PriceSegment> segments = sweep(from, to, prices);
+
+        // Then
+        for (int i = 1; i < segments.size(); i++) {
+            assertThat(segments.get(i).startDate()).isAfter(segments.get(i - 1).endDate());
+        }
+        for (int probe = 0; probe < 5_000; probe++) {
+            LocalDateTime date = from.plusMinutes(random.nextInt(60 * 24 * 30 + 1));
+            Optional<Price> expected = prices.stream()
+                .filter(price -> price.isApplicableAt(date))
+                .max(Price.PRECEDENCE);
+            Optional<Price> actual = segments.stream()
+                .filter(segment -> segment.contains(date))
+                .map(PriceSegment::price)
+                .findFirst();
+            assertThat(actual).as("price at %s", date).isEqualTo(expected);
+        }
+    }
+
+    private static List<PriceSegment> sweep(LocalDateTime from, LocalDateTime to, List<Price> byStart) {
+        List<PriceSegment> segments = new ArrayList<>();
+        PriceTimelineSweep sweep = new PriceTimelineSweep(from, to, segments::add);
+        byStart.forEach(sweep::accept);
+        sweep.finish();
+        return segments;
+    }
+
+    private static Price createPrice(Long id, LocalDateTime startDate, LocalDateTime endDate, Integer priority) {
+        return new Price(id, 1L, 35455L, id.intValue(), startDate, endDate, priority, BigDecimal.TEN, "EUR");
+    }
+}
@@ -0,0 +1,200 @@
+package es.dfalconr.prices.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceTimelineTest {
+
+    // data.sql fixtures for product 35455, brand 1
+    private static final Price PRICE_LIST_1 = createPrice(1L, 1,
+        LocalDateTime.of(2020, 6, 14, 0, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0);
+    private static final Price PRICE_LIST_2 = createPrice(2L, 2,
+        LocalDateTime.of(2020, 6, 14, 15, 0), LocalDateTime.of(2020, 6, 14, 18, 30), 1);
+    private static final Price PRICE_LIST_3 = createPrice(3L, 3,
+        LocalDateTime.of(2020, 6, 15, 0, 0), LocalDateTime.of(2020, 6, 15, 11, 0), 1);
+    private static final Price PRICE_LIST_4 = createPrice(4L, 4,
+        LocalDateTime.of(2020, 6, 15, 16, 0), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1);
+
+    @Test
+    @DisplayName("Should flatten the data.sql fixtures into non-overlapping segments")
+    void shouldFlattenFixtures() {
+        // When
+        PriceTimeline timeline = PriceTimeline.of(
+            List.of(PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_3, PRICE_LIST_4));
+
+        // Then
+        assertThat(timeline.segments()).extracting(PriceSegment::price).containsExactly(
+            PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_1, PRICE_LIST_3, PRICE_LIST_1, PRICE_LIST_4);
+        assertThat(timeline.segments().get(0).endDate())
+            .isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0).minusNanos(1));
+        assertThat(timeline.segments().get(1).endDate())
+            .isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(timeline.segments().get(2).startDate())
+            .isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30).plusNanos(1));
+    }
+
+    @Test
+    @DisplayName("Should resolve the five reference requests like the priority rule")
+    void shouldResolveReferenceRequests() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(
+            List.of(PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_3, PRICE_LIST_4));
+
+        // When / Then
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 10, 0))).contains(PRICE_LIST_1);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 16, 0))).contains(PRICE_LIST_2);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 21, 0))).contains(PRICE_LIST_1);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 15, 10, 0))).contains(PRICE_LIST_3);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 16, 21, 0))).contains(PRICE_LIST_4);
+    }
+
+    @Test
+    @DisplayName("Should keep inclusive range boundaries of the fixtures")
+    void shouldKeepInclusiveBoundaries() {
+        // Given
+        PriceTimeline timeline = PriceTimeline.of(
+            List.of(PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_3, PRICE_LIST_4));
+
+        // When / Then
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 0, 0))).contains(PRICE_LIST_1);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 15, 0))).contains(PRICE_LIST_2);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 14, 18, 30))).contains(PRICE_LIST_2);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 15, 11, 0))).contains(PRICE_LIST_3);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 12, 31, 23, 59, 59))).contains(PRICE_LIST_4);
+        assertThat(timeline.priceAt(LocalDateTime.of(2020, 6, 13, 23, 59, 59))).isEmpty();
+        assertThat(timeline.priceAt(LocalDateTime.of(2021, 1, 1, 0, 0))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should break priority ties by latest start date, then highest id")
+    void shouldBreakPriorityTies() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price older = createPrice(1L, 1, start, start.plusDays(10), 1);
+        Price newerStart = createPrice(2L, 2, start.plusDays(1), start.plusDays(2), 1);
+        Price sameStartHigherId = createPrice(3L, 3, start.plusDays(1), start.plusDays(2), 1);
+
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of(sameStartHigherId, older, newerStart));
+
+        // Then
+        assertThat(timeline.priceAt(start.plusHours(1))).contains(older);
+        assertThat(timeline.priceAt(start.plusDays(1).plusHours(1))).contains(sameStartHigherId);
+        assertThat(timeline.priceAt(start.plusDays(3))).contains(older);
+    }
+
+    @Test
+    @DisplayName("Should merge adjacent pieces won by the same row")
+    void shouldMergeAdjacentPiecesOfSameRow() {
+        // Given - a lower priority range starting and ending inside the winner
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price winner = createPrice(1L, 1, start, start.plusDays(10), 2);
+        Price hidden = createPrice(2L, 2, start.plusDays(1), start.plusDays(2), 1);
+
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of(winner, hidden));
+
+        // Then
+        assertThat(timeline.segments()).containsExactly(
+            new PriceSegment(start, start.plusDays(10), winner));
+    }
+
+    @Test
+    @DisplayName("Should leave gaps between disjoint ranges uncovered")
+    void shouldLeaveGapsUncovered() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price first = createPrice(1L, 1, start, start.plusDays(1), 0);
+        Price second = createPrice(2L, 2, start.plusDays(2), start.plusDays(3), 0);
+
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of(second, first));
+
+        // Then
+        assertThat(timeline.segments()).hasSize(2);
+        assertThat(timeline.priceAt(start.plusDays(1).plusHours(12))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should build a timeline from a range ending at LocalDateTime.MAX")
+    void shouldBuildOpenEndedTimeline() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        Price openEnded = createPrice(1L, 1, start, LocalDateTime.MAX, 0);
+        Price promotion = createPrice(2L, 2, start.plusDays(1), start.plusDays(2), 1);
+
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of(openEnded, promotion));
+
+        // Then
+        assertThat(timeline.segments()).hasSize(3);
+        assertThat(timeline.segmentAt(LocalDateTime.of(9999, 1, 1, 0, 0)))
+            .contains(new PriceSegment(start.plusDays(2).plusNanos(1), LocalDateTime.MAX, openEnded));
+    }
+
+    @Test
+    @DisplayName("Should return an empty timeline when there are no prices")
+    void shouldReturnEmptyTimeline() {
+        // When
+        PriceTimeline timeline = PriceTimeline.of(List.of());
+
+        // Then
+        assertThat(timeline.isEmpty()).isTrue();
+        assertThat(timeline.priceAt(LocalDateTime.now())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match the priority rule for random overlapping ranges")
+    void shouldMatchPriorityRuleForRandomRanges() {
+        // Given
+        Random random = new Random(7);
+        LocalDateTime origin = LocalDateTime.of(2021, 1, 1, 0, 0);
+        List<Price> prices = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            LocalDateTime start = origin.plusMinutes(random.nextInt(60 * 24 * 30));
+            LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24 * 5));
+            prices.add(createPrice(id, (int) id, start, end, random.nextInt(3)));
+        }
+
+        // When
+        PriceTimeline timeline = PriceTimeline.of(prices);
+
+        // Then
+        for (int probe = 0; probe < 5_000; probe++) {
+            LocalDateTime date = origin.plusMinutes(random.nextInt(60 * 24 * 40));
+            Optional<Price> expected = prices.stream()
+                .filter(price -> price.isApplicableAt(date))
+                .max(Price.PRECEDENCE);
+            assertThat(timeline.priceAt(date)).as("price at %s", date).isEqualTo(expected);
+        }
+    }
+
+    private static Price createPrice(
+        Long id,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority
+    ) {
+        return new Price(
+            id,
+            1L,
+            35455L,
+            priceList,
+            startDate,
+            endDate,
+            priority,
+            BigDecimal.TEN,
+            "EUR"
+        );
+    }
+}
@@ -0,0 +1,149 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPriceRepositoryTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime JUNE_14 = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    // data.sql fixtures 1 and 2: the promotion splits the base range into three segments
+    private static final Price BASE = createPrice(1L, 1, JUNE_14, JUNE_14.plusMonths(6), 0);
+    private static final Price PROMOTION = createPrice(2L, 2, JUNE_14.plusHours(15), JUNE_14.plusHours(18), 1);
+
+    @Mock
+    private PriceRepository delegate;
+
+    private PriceSegmentCache cache;
+    private CachingPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PriceSegmentCache(100);
+        repository = new CachingPriceRepository(delegate, cache);
+    }
+
+    @Test
+    @DisplayName("Should resolve dates inside the same segment with a single timeline load")
+    void shouldReuseSegmentInsideValidityWindow() {
+        // Given
+        when(delegate.findPriceTimeline(PRODUCT_ID, BRAND_ID))
+            .thenReturn(PriceTimeline.of(List.of(BASE, PROMOTION)));
+
+        // When
+        Optional<Price> first = repository.findApplicablePrice(JUNE_14.plusHours(1), PRODUCT_ID, BRAND_ID);
+        Optional<Price> second = repository.findApplicablePrice(JUNE_14.plusHours(14), PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(first).contains(BASE);
+        assertThat(second).contains(BASE);
+        verify(delegate, times(1)).findPriceTimeline(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should end the cached window where a higher priority row starts")
+    void shouldBoundWindowByHigherPriorityRow() {
+        // Given
+        when(delegate.findPriceTimeline(PRODUCT_ID, BRAND_ID))
+            .thenReturn(PriceTimeline.of(List.of(BASE, PROMOTION)));
+        repository.findApplicablePrice(JUNE_14.plusHours(1), PRODUCT_ID, BRAND_ID);
+
+        // When
+        Optional<Price> result = repository.findApplicablePrice(JUNE_14.plusHours(16), PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(result).contains(PROMOTION);
+        verify(delegate, times(2)).findPriceTimeline(PRODUCT_ID, BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should serve cached batch lookups and delegate only the rest")
+    void shouldDelegateOnlyUncachedBatchLookups() {
+        // Given
+        when(delegate.findPriceTimeline(PRODUCT_ID, BRAND_ID))
+            .thenReturn(PriceTimeline.of(List.of(BASE, PROMOTION)));
+        repository.findApplicablePrice(JUNE_14.plusHours(1), PRODUCT_ID, BRAND_ID);
+        PriceLookup cached = new PriceLookup(JUNE_14.plusHours(2), PRODUCT_ID, BRAND_ID);
+        PriceLookup uncached = new PriceLookup(JUNE_14.plusHours(16), PRODUCT_ID, BRAND_ID);
+        when(delegate.findApplicablePriceBatch(List.of(uncached))).thenReturn(Map.of(uncached, PROMOTION));
+
+        // When
+        Map<PriceLookup, Price> result = repository.findApplicablePriceBatch(List.of(cached, uncached));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(Map.of(cached, BASE, uncached, PROMOTION));
+    }
+
+    @Test
+    @DisplayName("Should not call the delegate for a fully cached batch")
+    void shouldNotDelegateFullyCachedBatch() {
+        // Given
+        when(delegate.findPriceTimeline(PRODUCT_ID, BRAND_ID))
+            .thenReturn(PriceTimeline.of(List.of(BASE, PROMOTION)));
+        repository.findApplicablePrice(JUNE_14.plusHours(1), PRODUCT_ID, BRAND_ID);
+        PriceLookup cached = new PriceLookup(JUNE_14.plusHours(2), PRODUCT_ID, BRAND_ID);
+
+        // When
+        Map<PriceLookup, Price> result = repository.findApplicablePriceBatch(List.of(cached));
+
+        // Then
+        assertThat(result).containsExactlyEntriesOf(Map.of(cached, BASE));
+        verify(delegate, never()).findApplicablePriceBatch(List.of(cached));
+    }
+
+    @Test
+    @DisplayName("Should serve cached segments of a segment batch and delegate only the rest")
+    void shouldDelegateOnlyUncachedSegmentLookups() {
+        // Given
+        when(delegate.findPriceTimeline(PRODUCT_ID, BRAND_ID))
+            .thenReturn(PriceTimeline.of(List.of(BASE, PROMOTION)));
+        PriceSegment cachedSegment = repository.findApplicableSegment(JUNE_14.plusHours(1), PRODUCT_ID, BRAND_ID)
+            .orElseThrow();
+        PriceLookup cached = new PriceLookup(JUNE_14.plusHours(2), PRODUCT_ID, BRAND_ID);
+        PriceLookup uncached = new PriceLookup(JUNE_14.plusHours(16), PRODUCT_ID, BRAND_ID);
+        PriceSegment uncachedSegment = new PriceSegment(uncached.applicationDate(), PROMOTION.endDate(), PROMOTION);
+        when(delegate.findApplicableSegmentBatch(List.of(uncached))).thenReturn(Map.of(uncached, uncachedSegment));
+
+        // When
+        Map<PriceLookup, PriceSegment> result = repository.findApplicableSegmentBatch(List.of(cached, uncached));
+
+        // Then
+        assertThat(result).containsExactlyInAnyOrderEntriesOf(
+            Map.of(cached, cachedSegment, uncached, uncachedSegment));
+    }
+
+    private static Price createPrice(
+        Long id,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority
+    ) {
+        return new Price(id, BRAND_ID, PRODUCT_ID, priceList, startDate, endDate, priority,
+            new BigDecimal("35.50"), "EUR");
+    }
+}
@@ -0,0 +1,133 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import es.dfalconr.prices.infrastructure.persistence.adapter.PriceRepositoryAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.jpa-cache.enabled=true",
+    "prices.metrics.candidate-sample-rate=0",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-jpa-cache"
+})
+class PriceJpaCacheIntegrationTest {
+
+    private static final long PRODUCT = 4_000_000L;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime DURING = START.plusHours(1);
+
+    @Autowired
+    private PriceRepositoryAdapter adapter;
+
+    @Autowired
+    private PriceWriteRepository writeRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private PriceJpaCache jpaCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", PRODUCT);
+        jdbcTemplate.update("DELETE FROM PRICE_TOMBSTONES WHERE PRODUCT_ID = ?", PRODUCT);
+        jpaCache.invalidateAll();
+    }
+
+    @Test
+    @DisplayName("Should answer a lookup at another date of the product from the query and entity regions")
+    void shouldHitQueryAndEntityRegions() {
+        // Given
+        adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L);
+        PriceJpaCacheStats before = jpaCache.stats();
+
+        // When
+        List<Price> prices = adapter.findApplicablePrices(LocalDateTime.of(2020, 6, 14, 16, 0, 0, 1), 35455L, 1L);
+
+        // Then
+        assertThat(prices).extracting(Price::priceList).containsExactly(2, 1);
+        PriceJpaCacheStats after = jpaCache.stats();
+        assertThat(after.queryHitCount() - before.queryHitCount()).isEqualTo(1);
+        assertThat(after.entityHitCount() - before.entityHitCount()).isEqualTo(4);
+        assertThat(meterRegistry.get("prices.jpa.cache.hits").tag("region", "query").functionCounter().count())
+            .isEqualTo(after.queryHitCount());
+    }
+
+    @Test
+    @DisplayName("Should answer GET /api/prices resolutions at new dates of a product from the query region")
+    void shouldServeEndpointResolutionFromQueryRegion() {
+        // Given
+        PriceResolution first = priceService.resolve(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+        PriceJpaCacheStats before = jpaCache.stats();
+
+        // When
+        PriceResolution second = priceService.resolve(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 17, 12, 3, 456), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(second.price()).isEqualTo(first.price());
+        assertThat(second.validUntil()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        PriceJpaCacheStats after = jpaCache.stats();
+        assertThat(after.queryHitCount() - before.queryHitCount()).isEqualTo(1);
+        assertThat(after.queryMissCount()).isEqualTo(before.queryMissCount());
+    }
+
+    @Test
+    @DisplayName("Should see created, updated and deleted prices once the write returns")
+    void shouldInvalidateOnWrites() {
+        // Given
+        Price created = writeRepository.create(price(null, 0, "10.00"));
+        assertThat(adapter.findApplicablePrice(DURING, PRODUCT, 1L)).contains(created);
+        assertThat(adapter.findApplicablePrices(DURING, PRODUCT, 1L)).containsExactly(created);
+
+        // When
+        Price updated = price(created.id(), 0, "12.50");
+        writeRepository.update(updated);
+
+        // Then
+        assertThat(adapter.findApplicablePrice(DURING, PRODUCT, 1L)).contains(updated);
+        assertThat(adapter.findApplicablePrices(DURING, PRODUCT, 1L)).containsExactly(updated);
+
+        // When
+        Price overriding = writeRepository.create(price(null, 1, "9.99"));
+
+        // Then
+        assertThat(adapter.findApplicablePrice(DURING, PRODUCT, 1L)).contains(overriding);
+        assertThat(adapter.findApplicablePrices(DURING, PRODUCT, 1L)).containsExactly(overriding, updated);
+
+        // When
+        writeRepository.delete(overriding.id());
+        writeRepository.delete(updated.id());
+
+        // Then
+        assertThat(adapter.findApplicablePrice(DURING, PRODUCT, 1L)).isEmpty();
+        assertThat(adapter.findApplicablePrices(DURING, PRODUCT, 1L)).isEmpty();
+    }
+
+    private static Price price(Long id, int priority, String amount) {
+        return new Price(id, 1L, PRODUCT, 1, START, START.plusDays(1), priority, new BigDecimal(amount), "EUR");
+    }
+}
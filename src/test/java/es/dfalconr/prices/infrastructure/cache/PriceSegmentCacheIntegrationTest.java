@@ -0,0 +1,58 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.cache.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-cache"
+})
+class PriceSegmentCacheIntegrationTest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private PriceSegmentCache cache;
+
+    @Test
+    @DisplayName("Should resolve the reference requests through the cache and hit it within a segment")
+    void shouldResolveReferenceRequestsThroughCache() {
+        // Given
+        assertThat(priceRepository).isInstanceOf(CachingPriceRepository.class);
+        cache.invalidateAll();
+        PriceCacheStats before = cache.stats();
+
+        // When
+        PriceResponse test1 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 6, 14, 10, 0), 35455L, 1L)).orElseThrow();
+        PriceResponse test2 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+        PriceResponse test3 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 6, 14, 21, 0), 35455L, 1L)).orElseThrow();
+        PriceResponse test4 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 6, 15, 10, 0), 35455L, 1L)).orElseThrow();
+        PriceResponse test5 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 6, 16, 21, 0), 35455L, 1L)).orElseThrow();
+        PriceResponse sameAsTest5 = priceService.execute(new PriceQuery(LocalDateTime.of(2020, 7, 1, 0, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(test1.priceList()).isEqualTo(1);
+        assertThat(test2.priceList()).isEqualTo(2);
+        assertThat(test3.priceList()).isEqualTo(1);
+        assertThat(test4.priceList()).isEqualTo(3);
+        assertThat(test5.priceList()).isEqualTo(4);
+        assertThat(sameAsTest5.priceList()).isEqualTo(4);
+        PriceCacheStats after = cache.stats();
+        assertThat(after.missCount() - before.missCount()).isEqualTo(5);
+        assertThat(after.hitCount() - before.hitCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,145 @@
+package es.dfalconr.prices.infrastructure.cache;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceSegmentCacheTest {
+
+    private static final ProductKey KEY = new ProductKey(1L, 35455L);
+    private static final LocalDateTime JUNE_14 = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @DisplayName("Should answer any date inside the cached segment without loading")
+    void shouldHitInsideSegment() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(100);
+        PriceSegment segment = createSegment(JUNE_14, JUNE_14.plusHours(15));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(KEY, JUNE_14.plusHours(1), () -> load(loads, segment));
+        Optional<PriceSegment> start = cache.get(KEY, JUNE_14, () -> load(loads, segment));
+        Optional<PriceSegment> end = cache.get(KEY, JUNE_14.plusHours(15), () -> load(loads, segment));
+
+        // Then
+        assertThat(start).contains(segment);
+        assertThat(end).contains(segment);
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats()).isEqualTo(new PriceCacheStats(2, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Should load and replace the entry when the date falls outside the segment")
+    void shouldReplaceSegmentOnMiss() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(100);
+        PriceSegment morning = createSegment(JUNE_14, JUNE_14.plusHours(12));
+        PriceSegment evening = createSegment(JUNE_14.plusHours(12).plusNanos(1), JUNE_14.plusDays(1));
+        cache.get(KEY, JUNE_14, () -> Optional.of(morning));
+
+        // When
+        Optional<PriceSegment> result = cache.get(KEY, JUNE_14.plusHours(18), () -> Optional.of(evening));
+
+        // Then
+        assertThat(result).contains(evening);
+        assertThat(cache.find(KEY, JUNE_14.plusHours(20))).contains(evening);
+        assertThat(cache.find(KEY, JUNE_14.plusHours(1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not cache dates without an applicable price")
+    void shouldNotCacheNotFound() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(100);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        cache.get(KEY, JUNE_14, () -> load(loads, null));
+        cache.get(KEY, JUNE_14, () -> load(loads, null));
+
+        // Then
+        assertThat(loads).hasValue(2);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop entries on invalidation")
+    void shouldDropEntriesOnInvalidation() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(100);
+        ProductKey otherKey = new ProductKey(1L, 35456L);
+        PriceSegment segment = createSegment(JUNE_14, JUNE_14.plusDays(1));
+        cache.get(KEY, JUNE_14, () -> Optional.of(segment));
+        cache.get(otherKey, JUNE_14, () -> Optional.of(segment));
+
+        // When
+        cache.invalidate(KEY);
+
+        // Then
+        assertThat(cache.find(KEY, JUNE_14)).isEmpty();
+        assertThat(cache.find(otherKey, JUNE_14)).contains(segment);
+
+        // When
+        cache.invalidateAll();
+
+        // Then
+        assertThat(cache.find(otherKey, JUNE_14)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store a segment loaded before a concurrent invalidation")
+    void shouldDiscardLoadRacingInvalidation() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(100);
+        PriceSegment stale = createSegment(JUNE_14, JUNE_14.plusDays(1));
+
+        // When - the product changes while its old segment is being loaded
+        Optional<PriceSegment> result = cache.get(KEY, JUNE_14, () -> {
+            cache.invalidate(KEY);
+            return Optional.of(stale);
+        });
+
+        // Then
+        assertThat(result).contains(stale);
+        assertThat(cache.find(KEY, JUNE_14)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stay within the maximum size")
+    void shouldBoundSize() {
+        // Given
+        PriceSegmentCache cache = new PriceSegmentCache(10);
+        PriceSegment segment = createSegment(JUNE_14, JUNE_14.plusDays(1));
+
+        // When
+        for (long productId = 1; productId <= 100; productId++) {
+            cache.get(new ProductKey(1L, productId), JUNE_14, () -> Optional.of(segment));
+        }
+
+        // Then
+        PriceCacheStats stats = cache.stats();
+        assertThat(stats.size()).isLessThanOrEqualTo(10);
+        assertThat(stats.evictionCount()).isGreaterThanOrEqualTo(90);
+    }
+
+    private static Optional<PriceSegment> load(AtomicInteger loads, PriceSegment segment) {
+        loads.incrementAndGet();
+        return Optional.ofNullable(segment);
+    }
+
+    private static PriceSegment createSegment(LocalDateTime startDate, LocalDateTime endDate) {
+        Price price = new Price(1L, 1L, 35455L, 1, JUNE_14, JUNE_14.plusMonths(6), 0,
+            new BigDecimal("35.50"), "EUR");
+        return new PriceSegment(startDate, endDate, price);
+    }
+}
@@ -0,0 +1,125 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResolution;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "prices.bulkhead.enabled=true",
+    "prices.bulkhead.max-concurrent-calls=1",
+    "prices.bulkhead.max-queue-size=0",
+    "prices.bulkhead.max-wait=200ms",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-bulkhead"
+})
+class BulkheadPriceRepositoryIntegrationTest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private PriceRepositoryBulkhead bulkhead;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Test
+    @DisplayName("Should wrap the adapter and resolve the data.sql fixtures through the bulkhead")
+    void shouldResolveFixturesThroughBulkhead() {
+        // Given
+        long admittedBefore = bulkhead.stats().admittedCount();
+
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(priceRepository).isInstanceOf(BulkheadPriceRepository.class);
+        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(bulkhead.stats().admittedCount()).isEqualTo(admittedBefore + 1);
+        assertThat(meterRegistry.get("prices.bulkhead.admitted").functionCounter().count())
+            .isEqualTo(admittedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should hold a single permit for a lookup that also reads the price's window")
+    void shouldTakeOnePermitPerSegmentLookup() {
+        // Given
+        long admittedBefore = bulkhead.stats().admittedCount();
+
+        // When
+        PriceResolution resolution = priceService.resolve(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(resolution.price().priceList()).isEqualTo(2);
+        assertThat(bulkhead.stats().admittedCount()).isEqualTo(admittedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After while the bulkhead is saturated")
+    void shouldReturnServiceUnavailableWhenSaturated() throws Exception {
+        // Given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> holder = executor.submit(() -> bulkhead.execute(() -> awaitRelease(release)));
+            while (bulkhead.stats().activeCalls() == 0) {
+                Thread.sleep(1);
+            }
+
+            // When / Then
+            mockMvc.perform(get("/api/prices")
+                    .param("applicationDate", "2020-06-14T16:00:00")
+                    .param("productId", "35455")
+                    .param("brandId", "1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.message").value("Price lookups are saturated, retry later"));
+            assertThat(meterRegistry.get("prices.bulkhead.rejections").tag("reason", "queue_full")
+                .functionCounter().count()).isGreaterThanOrEqualTo(1);
+
+            release.countDown();
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static boolean awaitRelease(CountDownLatch release) {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
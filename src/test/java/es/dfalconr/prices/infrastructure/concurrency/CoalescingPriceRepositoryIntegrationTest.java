@@ -0,0 +1,46 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.coalescing.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-coalescing"
+})
+class CoalescingPriceRepositoryIntegrationTest {
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private PriceLookupCoalescer coalescer;
+
+    @Test
+    @DisplayName("Should wrap the adapter and resolve the data.sql fixtures through the coalescer")
+    void shouldResolveFixturesThroughCoalescer() {
+        // Given
+        long executionsBefore = coalescer.stats().executionCount();
+
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(priceRepository).isInstanceOf(CoalescingPriceRepository.class);
+        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(coalescer.stats().executionCount()).isEqualTo(executionsBefore + 1);
+    }
+}
@@ -0,0 +1,159 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CoalescingPriceRepositoryTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final Price PRICE = new Price(2L, BRAND_ID, PRODUCT_ID, 2, DATE.minusHours(1),
+        DATE.plusHours(2), 1, new BigDecimal("25.45"), "EUR");
+
+    @Mock
+    private PriceRepository delegate;
+
+    private PriceLookupCoalescer coalescer;
+    private CoalescingPriceRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new PriceLookupCoalescer();
+        repository = new CoalescingPriceRepository(delegate, coalescer);
+    }
+
+    @Test
+    @DisplayName("Should share one delegate read between concurrent identical lookups")
+    void shouldCollapseConcurrentIdenticalLookups() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(delegate.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)).thenAnswer(invocation -> {
+            release.await();
+            return new ArrayList<>(List.of(PRICE));
+        });
+
+        // When
+        List<Future<List<Price>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> repository.findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID)));
+            }
+            while (coalescer.stats().executionCount() + coalescer.stats().collapsedCount() < 50) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Then
+            for (Future<List<Price>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).containsExactly(PRICE).isUnmodifiable();
+            }
+        }
+        verify(delegate, times(1)).findApplicablePrices(DATE, PRODUCT_ID, BRAND_ID);
+        assertThat(coalescer.stats()).isEqualTo(new CoalescingStats(1, 49, 0));
+    }
+
+    @Test
+    @DisplayName("Should read again once the previous call has completed")
+    void shouldNotReuseCompletedReads() {
+        // Given
+        when(delegate.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID)).thenReturn(Optional.of(PRICE));
+
+        // When
+        repository.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID);
+        Optional<Price> result = repository.findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID);
+
+        // Then
+        assertThat(result).contains(PRICE);
+        verify(delegate, times(2)).findApplicablePrice(DATE, PRODUCT_ID, BRAND_ID);
+        assertThat(coalescer.stats().collapseRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should share one segment read between concurrent lookups of a product inside the segment")
+    void shouldCollapseSegmentLookupsAcrossDates() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        LocalDateTime later = DATE.plusHours(1);
+        LocalDateTime earlier = DATE.minusMinutes(30);
+        when(delegate.findApplicableSegment(DATE, PRODUCT_ID, BRAND_ID)).thenAnswer(invocation -> {
+            release.await();
+            return Optional.of(new PriceSegment(DATE, PRICE.endDate(), PRICE));
+        });
+        when(delegate.findApplicableSegment(earlier, PRODUCT_ID, BRAND_ID))
+            .thenReturn(Optional.of(new PriceSegment(earlier, PRICE.endDate(), PRICE)));
+
+        // When
+        List<Future<Optional<PriceSegment>>> sharing = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Optional<PriceSegment>> leader =
+                executor.submit(() -> repository.findApplicableSegment(DATE, PRODUCT_ID, BRAND_ID));
+            while (coalescer.stats().inFlightCount() == 0) {
+                Thread.sleep(1);
+            }
+            for (int i = 0; i < 10; i++) {
+                sharing.add(executor.submit(() -> repository.findApplicableSegment(later, PRODUCT_ID, BRAND_ID)));
+            }
+            Future<Optional<PriceSegment>> outside =
+                executor.submit(() -> repository.findApplicableSegment(earlier, PRODUCT_ID, BRAND_ID));
+            while (coalescer.stats().collapsedCount() < 11) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+
+            // Then - each caller gets the segment from its own date; the earlier date reads on its own
+            assertThat(leader.get(5, TimeUnit.SECONDS)).contains(new PriceSegment(DATE, PRICE.endDate(), PRICE));
+            for (Future<Optional<PriceSegment>> result : sharing) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains(new PriceSegment(later, PRICE.endDate(), PRICE));
+            }
+            assertThat(outside.get(5, TimeUnit.SECONDS))
+                .contains(new PriceSegment(earlier, PRICE.endDate(), PRICE));
+        }
+        verify(delegate, times(1)).findApplicableSegment(DATE, PRODUCT_ID, BRAND_ID);
+        verify(delegate, never()).findApplicableSegment(later, PRODUCT_ID, BRAND_ID);
+        verify(delegate, times(1)).findApplicableSegment(earlier, PRODUCT_ID, BRAND_ID);
+        assertThat(coalescer.stats()).isEqualTo(new CoalescingStats(2, 10, 0));
+    }
+
+    @Test
+    @DisplayName("Should pass batches straight to the delegate")
+    void shouldPassBatchesThrough() {
+        // Given
+        PriceLookup lookup = new PriceLookup(DATE, PRODUCT_ID, BRAND_ID);
+        when(delegate.findApplicablePriceBatch(List.of(lookup))).thenReturn(Map.of(lookup, PRICE));
+
+        // When
+        Map<PriceLookup, Price> result = repository.findApplicablePriceBatch(List.of(lookup));
+
+        // Then
+        assertThat(result).containsEntry(lookup, PRICE);
+        assertThat(coalescer.stats().executionCount()).isZero();
+    }
+}
@@ -0,0 +1,103 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GradientConcurrencyLimitTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("Should grow the limit while latency stays at the baseline and the limit is in use")
+    void shouldGrowWhileLatencyIsSteady() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 2, 100, 1.5, 0.2, 100);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(5 * MILLIS, limit.limit());
+        }
+
+        // Then
+        assertThat(limit.limit()).isGreaterThan(10);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit while less than half of it is in use")
+    void shouldNotGrowWhenApplicationLimited() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(20, 2, 100, 1.5, 0.2, 100);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(5 * MILLIS, 1);
+        }
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises well above the baseline")
+    void shouldShrinkWhenLatencyRises() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 2, 100, 1.5, 0.2, 100);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(5 * MILLIS, 50);
+        }
+        int settled = limit.limit();
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(50 * MILLIS, limit.limit());
+        }
+
+        // Then
+        assertThat(limit.limit()).isLessThan(settled / 2);
+    }
+
+    @Test
+    @DisplayName("Should keep the limit between the configured minimum and maximum")
+    void shouldStayWithinBounds() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 8, 30, 1.5, 0.5, 500);
+
+        // When
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(5 * MILLIS, limit.limit());
+        }
+        int grown = limit.limit();
+        for (int i = 0; i < 30; i++) {
+            limit.onSample(500 * MILLIS, limit.limit());
+        }
+
+        // Then
+        assertThat(grown).isEqualTo(30);
+        assertThat(limit.limit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should back off by a tenth when a lookup is dropped further down")
+    void shouldBackOffOnDrop() {
+        // Given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 2, 100, 1.5, 0.2, 100);
+
+        // When
+        limit.onDropped();
+
+        // Then
+        assertThat(limit.limit()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent limits")
+    void shouldRejectInconsistentLimits() {
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(1, 2, 100, 1.5, 0.2, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 2, 100, 0.5, 0.2, 100))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,138 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    @Test
+    @DisplayName("Should resolve concurrent distinct keys in few batches, each caller getting its own value")
+    void shouldBatchConcurrentDistinctKeys() throws Exception {
+        // Given
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(Duration.ofMillis(20), 1_000);
+        RecordingLoader loader = new RecordingLoader();
+
+        // When
+        Map<Integer, Optional<String>> results = loadConcurrently(batcher, loader, 200);
+
+        // Then
+        results.forEach((key, value) -> assertThat(value).contains("value-" + key));
+        assertThat(loader.batches).hasSizeLessThan(20);
+        assertThat(loader.batches.stream().mapToInt(Collection::size).sum()).isEqualTo(200);
+        assertThat(batcher.keyCount()).isEqualTo(200);
+        assertThat(batcher.batchCount()).isEqualTo(loader.batches.size());
+    }
+
+    @Test
+    @DisplayName("Should never exceed the maximum batch size")
+    void shouldRespectMaximumBatchSize() throws Exception {
+        // Given
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(Duration.ofMillis(50), 8);
+        RecordingLoader loader = new RecordingLoader();
+
+        // When
+        Map<Integer, Optional<String>> results = loadConcurrently(batcher, loader, 100);
+
+        // Then
+        assertThat(results).hasSize(100);
+        assertThat(loader.batches).allSatisfy(batch -> assertThat(batch).hasSizeLessThanOrEqualTo(8));
+        assertThat(loader.batches.size()).isGreaterThanOrEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("Should resolve keys missing from the batch result as empty")
+    void shouldResolveMissingKeysAsEmpty() {
+        // Given
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(Duration.ZERO, 10);
+
+        // When
+        Optional<String> result = batcher.load(7, keys -> Map.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        assertThat(batcher.batchCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should propagate a batch failure to every caller in the batch")
+    void shouldPropagateBatchFailure() throws Exception {
+        // Given
+        MicroBatcher<Integer, String> batcher = new MicroBatcher<>(Duration.ofMillis(20), 1_000);
+        Function<Collection<Integer>, Map<Integer, String>> failing = keys -> {
+            throw new IllegalStateException("database unavailable");
+        };
+
+        // When
+        List<Future<Optional<String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int key = 0; key < 20; key++) {
+                int value = key;
+                results.add(executor.submit(() -> batcher.load(value, failing)));
+            }
+
+            // Then
+            for (Future<Optional<String>> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasRootCauseInstanceOf(IllegalStateException.class);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new MicroBatcher<>(Duration.ofMillis(-1), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new MicroBatcher<>(Duration.ZERO, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Map<Integer, Optional<String>> loadConcurrently(
+        MicroBatcher<Integer, String> batcher,
+        RecordingLoader loader,
+        int callers
+    ) throws Exception {
+        Map<Integer, Future<Optional<String>>> futures = new HashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int key = 0; key < callers; key++) {
+                int value = key;
+                futures.put(key, executor.submit(() -> batcher.load(value, loader)));
+            }
+        }
+        Map<Integer, Optional<String>> results = new HashMap<>();
+        for (Map.Entry<Integer, Future<Optional<String>>> entry : futures.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().get(5, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static final class RecordingLoader implements Function<Collection<Integer>, Map<Integer, String>> {
+
+        private final Collection<Collection<Integer>> batches = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public Map<Integer, String> apply(Collection<Integer> keys) {
+            batches.add(keys);
+            Map<Integer, String> values = new HashMap<>();
+            keys.forEach(key -> values.put(key, "value-" + key));
+            return values;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.micro-batching.enabled=true",
+    "prices.micro-batching.window=5ms",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-micro-batching"
+})
+class MicroBatchingPriceRepositoryIntegrationTest {
+
+    // data.sql reference requests for product 35455, brand 1, and their expected price lists
+    private static final LocalDateTime[] DATES = {
+        LocalDateTime.of(2020, 6, 14, 10, 0),
+        LocalDateTime.of(2020, 6, 14, 16, 0),
+        LocalDateTime.of(2020, 6, 14, 21, 0),
+        LocalDateTime.of(2020, 6, 15, 10, 0),
+        LocalDateTime.of(2020, 6, 16, 21, 0)
+    };
+    private static final int[] PRICE_LISTS = {1, 2, 1, 3, 4};
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceLookupBatcher batcher;
+
+    @ParameterizedTest(name = "{0} concurrent callers")
+    @ValueSource(ints = {1, 10, 100, 1_000})
+    @DisplayName("Should resolve concurrent lookups through shared batches with the priority rule")
+    void shouldResolveConcurrentLookupsInBatches(int callers) throws Exception {
+        // Given
+        assertThat(priceRepository).isInstanceOf(MicroBatchingPriceRepository.class);
+        MicroBatchStats before = batcher.stats();
+
+        // When
+        List<Future<Optional<Price>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int caller = 0; caller < callers; caller++) {
+                LocalDateTime date = DATES[caller % DATES.length];
+                long productId = caller % 2 == 0 ? 35455L : 90_000L + caller;
+                results.add(executor.submit(() -> priceRepository.findApplicablePrice(date, productId, 1L)));
+            }
+        }
+
+        // Then
+        for (int caller = 0; caller < callers; caller++) {
+            Optional<Price> price = results.get(caller).get(5, TimeUnit.SECONDS);
+            if (caller % 2 == 0) {
+                assertThat(price).map(Price::priceList).contains(PRICE_LISTS[caller % DATES.length]);
+            } else {
+                assertThat(price).isEmpty();
+            }
+        }
+        MicroBatchStats after = batcher.stats();
+        long batches = after.batchCount() - before.batchCount();
+        assertThat(batches).isBetween(1L, (long) callers);
+        if (callers >= 100) {
+            assertThat(batches).isLessThan(callers / 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should batch segment lookups with their windows instead of reading each one")
+    void shouldResolveConcurrentSegmentLookupsInBatches() throws Exception {
+        // Given
+        int callers = 100;
+        MicroBatchStats before = batcher.stats();
+
+        // When
+        List<Future<Optional<PriceSegment>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int caller = 0; caller < callers; caller++) {
+                LocalDateTime date = DATES[caller % DATES.length];
+                results.add(executor.submit(() -> priceRepository.findApplicableSegment(date, 35455L, 1L)));
+            }
+        }
+
+        // Then
+        for (int caller = 0; caller < callers; caller++) {
+            PriceSegment segment = results.get(caller).get(5, TimeUnit.SECONDS).orElseThrow();
+            assertThat(segment.price().priceList()).isEqualTo(PRICE_LISTS[caller % DATES.length]);
+            assertThat(segment.startDate()).isEqualTo(DATES[caller % DATES.length]);
+            assertThat(segment.endDate()).isAfterOrEqualTo(segment.startDate());
+        }
+        long batches = batcher.stats().batchCount() - before.batchCount();
+        assertThat(batches).isBetween(1L, (long) callers / 2);
+    }
+}
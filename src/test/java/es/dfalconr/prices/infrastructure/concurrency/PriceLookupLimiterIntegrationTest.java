@@ -0,0 +1,98 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "prices.limiter.enabled=true",
+    "prices.limiter.initial-limit=1",
+    "prices.limiter.min-limit=1",
+    "prices.limiter.max-limit=1",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-limiter"
+})
+class PriceLookupLimiterIntegrationTest {
+
+    @Autowired
+    private PriceLookupLimiter limiter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Test
+    @DisplayName("Should admit single lookups through the limiter")
+    void shouldAdmitLookups() throws Exception {
+        // Given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        long admittedBefore = limiter.stats().admittedCount();
+
+        // When / Then
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T16:00:00")
+                .param("productId", "35455")
+                .param("brandId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.priceList").value(2));
+        assertThat(meterRegistry.get("prices.limiter.admitted").functionCounter().count())
+            .isEqualTo(admittedBefore + 1);
+    }
+
+    @Test
+    @DisplayName("Should answer 503 with Retry-After once the limit is reached")
+    void shouldShedAboveLimit() throws Exception {
+        // Given
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> holder = executor.submit(() -> limiter.execute(() -> awaitRelease(release)));
+            while (limiter.stats().inFlight() == 0) {
+                Thread.sleep(1);
+            }
+
+            // When / Then
+            mockMvc.perform(get("/api/prices")
+                    .param("applicationDate", "2020-06-14T16:00:00")
+                    .param("productId", "35455")
+                    .param("brandId", "1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.message").value("Too many concurrent price lookups, retry later"));
+            assertThat(meterRegistry.get("prices.limiter.rejections").functionCounter().count())
+                .isGreaterThanOrEqualTo(1);
+
+            release.countDown();
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static boolean awaitRelease(CountDownLatch release) {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceLookupLimiterTest {
+
+    private static PriceLookupLimiter limiter(int initialLimit) {
+        return new PriceLookupLimiter(initialLimit, 1, 100, 1.5, 0.2, 100, Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("Should run lookups within the limit and count them as admitted")
+    void shouldAdmitWithinLimit() {
+        // Given
+        PriceLookupLimiter limiter = limiter(4);
+
+        // When
+        String result = limiter.execute(() -> "price");
+
+        // Then
+        assertThat(result).isEqualTo("price");
+        assertThat(limiter.stats().admittedCount()).isEqualTo(1);
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should shed lookups above the limit at once with the configured Retry-After")
+    void shouldShedAboveLimit() throws Exception {
+        // Given
+        PriceLookupLimiter limiter = limiter(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Boolean> holder = executor.submit(() -> limiter.execute(() -> awaitRelease(release)));
+            while (limiter.stats().inFlight() == 0) {
+                Thread.sleep(1);
+            }
+
+            // When / Then
+            assertThatThrownBy(() -> limiter.execute(() -> "price"))
+                .isInstanceOf(ConcurrencyLimitExceededException.class)
+                .satisfies(ex -> assertThat(((ConcurrencyLimitExceededException) ex).getRetryAfter())
+                    .isEqualTo(Duration.ofSeconds(2)));
+            assertThat(limiter.stats().rejectedCount()).isEqualTo(1);
+            assertThat(limiter.stats().inFlight()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(holder.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(limiter.stats().rejectionRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("Should release the slot and back off when the bulkhead below rejects the lookup")
+    void shouldBackOffOnBulkheadRejection() {
+        // Given
+        PriceLookupLimiter limiter = limiter(20);
+
+        // When / Then
+        assertThatThrownBy(() -> limiter.execute(() -> {
+            throw new BulkheadFullException("saturated", Duration.ofSeconds(1));
+        })).isInstanceOf(BulkheadFullException.class);
+        assertThat(limiter.stats().limit()).isEqualTo(18);
+        assertThat(limiter.stats().inFlight()).isZero();
+    }
+
+    private static boolean awaitRelease(CountDownLatch release) {
+        try {
+            return release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
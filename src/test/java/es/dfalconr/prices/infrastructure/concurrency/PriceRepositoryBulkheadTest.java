@@ -0,0 +1,166 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceRepositoryBulkheadTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run calls straight through while permits are free")
+    void shouldRunCallsWithFreePermits() {
+        // Given
+        PriceRepositoryBulkhead bulkhead = new PriceRepositoryBulkhead(2, 0, Duration.ZERO, meterRegistry);
+
+        // When
+        String result = bulkhead.execute(() -> "price");
+
+        // Then
+        assertThat(result).isEqualTo("price");
+        assertThat(bulkhead.stats()).isEqualTo(new BulkheadStats(2, 0, 0, 1, 0, 0));
+        assertThat(meterRegistry.get("prices.bulkhead.wait").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the call fails")
+    void shouldReleasePermitOnFailure() {
+        // Given
+        PriceRepositoryBulkhead bulkhead = new PriceRepositoryBulkhead(1, 0, Duration.ZERO, meterRegistry);
+
+        // When
+        assertThatThrownBy(() -> bulkhead.execute(() -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(bulkhead.execute(() -> "price")).isEqualTo("price");
+        assertThat(bulkhead.stats().activeCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail fast when every permit is taken and the queue is full")
+    void shouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        PriceRepositoryBulkhead bulkhead = new PriceRepositoryBulkhead(1, 1, Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = executor.submit(() -> bulkhead.execute(() -> await(release)));
+        awaitStats(bulkhead, 1, 0);
+        Future<String> queued = executor.submit(() -> bulkhead.execute(() -> "queued"));
+        awaitStats(bulkhead, 1, 1);
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.execute(() -> "rejected"))
+            .isInstanceOf(BulkheadFullException.class)
+            .hasMessage("Price lookups are saturated, retry later");
+        assertThat(bulkhead.stats().queueFullCount()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(holder.get(5, TimeUnit.SECONDS)).isEqualTo("held");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("queued");
+        assertThat(bulkhead.stats()).isEqualTo(new BulkheadStats(1, 0, 0, 2, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should reject a queued call whose wait runs out")
+    void shouldRejectWhenWaitTimesOut() throws Exception {
+        // Given
+        PriceRepositoryBulkhead bulkhead = new PriceRepositoryBulkhead(1, 5, Duration.ofMillis(50), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> holder = executor.submit(() -> bulkhead.execute(() -> await(release)));
+        awaitStats(bulkhead, 1, 0);
+
+        // When / Then
+        assertThatThrownBy(() -> bulkhead.execute(() -> "late"))
+            .isInstanceOf(BulkheadFullException.class)
+            .extracting(ex -> ((BulkheadFullException) ex).getRetryAfter())
+            .isEqualTo(Duration.ofMillis(50));
+        assertThat(bulkhead.stats().timedOutCount()).isEqualTo(1);
+        assertThat(bulkhead.stats().queueDepth()).isZero();
+        assertThat(meterRegistry.get("prices.bulkhead.wait").timer().max(TimeUnit.MILLISECONDS))
+            .isGreaterThanOrEqualTo(50);
+
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should admit queued virtual threads in arrival order as permits free up")
+    void shouldAdmitQueuedCallsInOrder() throws Exception {
+        // Given
+        PriceRepositoryBulkhead bulkhead = new PriceRepositoryBulkhead(1, 10, Duration.ofSeconds(10), meterRegistry);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        Future<String> holder = executor.submit(() -> bulkhead.execute(() -> await(release)));
+        awaitStats(bulkhead, 1, 0);
+        List<Future<Boolean>> queued = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int caller = i;
+            queued.add(executor.submit(() -> bulkhead.execute(() -> order.add(caller))));
+            awaitStats(bulkhead, 1, i + 1);
+            // The queue depth is counted just before the caller parks on the semaphore
+            Thread.sleep(20);
+        }
+
+        // When
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+        for (Future<Boolean> call : queued) {
+            call.get(5, TimeUnit.SECONDS);
+        }
+
+        // Then
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        assertThat(bulkhead.stats().admittedCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should reject a configuration without permits")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new PriceRepositoryBulkhead(0, 10, Duration.ZERO, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return "held";
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void awaitStats(PriceRepositoryBulkhead bulkhead, int activeCalls, int queueDepth)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (bulkhead.stats().activeCalls() != activeCalls || bulkhead.stats().queueDepth() != queueDepth) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(
+                    "Bulkhead never reached " + activeCalls + " active, " + queueDepth + " queued");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
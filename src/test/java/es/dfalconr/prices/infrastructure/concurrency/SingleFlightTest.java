@@ -0,0 +1,150 @@
+package es.dfalconr.prices.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 200;
+
+    @Test
+    @DisplayName("Should run one call for concurrent callers of the same key and share its result")
+    void shouldShareOneCallBetweenConcurrentCallers() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When - every caller arrives while the first call is blocked
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("hot", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            waitUntil(() -> singleFlight.executionCount() + singleFlight.collapsedCount() == CALLERS);
+            release.countDown();
+
+            // Then
+            for (Future<Integer> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            }
+        }
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.executionCount()).isEqualTo(1);
+        assertThat(singleFlight.collapsedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run keys independently")
+    void shouldRunKeysIndependently() {
+        // Given
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+        // When
+        String first = singleFlight.execute("a", () -> "A");
+        String second = singleFlight.execute("b", () -> "B");
+        String again = singleFlight.execute("a", () -> "A2");
+
+        // Then - completed calls are not reused
+        assertThat(first).isEqualTo("A");
+        assertThat(second).isEqualTo("B");
+        assertThat(again).isEqualTo("A2");
+        assertThat(singleFlight.executionCount()).isEqualTo(3);
+        assertThat(singleFlight.collapsedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should propagate a failure to every waiting caller and then allow a retry")
+    void shouldPropagateFailureToWaitingCallers() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        List<Future<Integer>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("hot", () -> {
+                    await(release);
+                    throw new IllegalStateException("database unavailable");
+                })));
+            }
+            waitUntil(() -> singleFlight.executionCount() + singleFlight.collapsedCount() == 10);
+            release.countDown();
+
+            // Then
+            for (Future<Integer> result : results) {
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasRootCauseMessage("database unavailable");
+            }
+        }
+        assertThat(singleFlight.execute("hot", () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should run its own call when the in-flight result does not answer the caller")
+    void shouldRunOwnCallWhenResultIsNotReusable() throws Exception {
+        // Given
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When - the leader's result is reusable only by callers asking for at most 42
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("hot", () -> {
+                await(release);
+                return 42;
+            }));
+            waitUntil(() -> singleFlight.inFlightCount() == 1);
+            Future<Integer> sharing =
+                executor.submit(() -> singleFlight.execute("hot", () -> 40, result -> result <= 42));
+            Future<Integer> own =
+                executor.submit(() -> singleFlight.execute("hot", () -> 50, result -> result >= 50));
+            waitUntil(() -> singleFlight.collapsedCount() == 2);
+            release.countDown();
+
+            // Then
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(sharing.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(own.get(5, TimeUnit.SECONDS)).isEqualTo(50);
+        }
+        assertThat(singleFlight.executionCount()).isEqualTo(2);
+        assertThat(singleFlight.collapsedCount()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package es.dfalconr.prices.infrastructure.metrics;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MeteredPriceRepositoryTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+    private static final Price PROMOTION = createPrice(2L, 1);
+    private static final Price BASE = createPrice(1L, 0);
+
+    @Mock
+    private PriceRepository delegate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Should time single lookups at the adapter layer without sampling candidates")
+    void shouldTimeSingleLookups() {
+        // Given
+        MeteredPriceRepository repository = new MeteredPriceRepository(delegate, meterRegistry, 0);
+        when(delegate.findApplicablePrice(DATE, 100L, 1L)).thenReturn(Optional.of(PROMOTION));
+
+        // When
+        Optional<Price> price = repository.findApplicablePrice(DATE, 100L, 1L);
+
+        // Then
+        assertThat(price).contains(PROMOTION);
+        assertThat(meterRegistry.get("prices.lookup").tag("layer", "adapter").tag("operation", "single")
+            .timer().count()).isEqualTo(1);
+        assertThat(candidates().count()).isZero();
+        verify(delegate, never()).findApplicablePrices(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should serve sampled lookups from the candidate list and record its size")
+    void shouldSampleCandidateRows() {
+        // Given
+        MeteredPriceRepository repository = new MeteredPriceRepository(delegate, meterRegistry, 1.0);
+        when(delegate.findApplicablePrices(DATE, 100L, 1L)).thenReturn(List.of(PROMOTION, BASE));
+
+        // When
+        Optional<Price> price = repository.findApplicablePrice(DATE, 100L, 1L);
+
+        // Then
+        assertThat(price).contains(PROMOTION);
+        assertThat(candidates().count()).isEqualTo(1);
+        assertThat(candidates().totalAmount()).isEqualTo(2);
+        verify(delegate, never()).findApplicablePrice(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should time segment lookups as one adapter call")
+    void shouldTimeSegmentLookups() {
+        // Given
+        MeteredPriceRepository repository = new MeteredPriceRepository(delegate, meterRegistry, 0);
+        PriceSegment segment = new PriceSegment(DATE, DATE.plusDays(1), PROMOTION);
+        when(delegate.findApplicableSegment(DATE, 100L, 1L)).thenReturn(Optional.of(segment));
+
+        // When
+        Optional<PriceSegment> result = repository.findApplicableSegment(DATE, 100L, 1L);
+
+        // Then
+        assertThat(result).contains(segment);
+        assertThat(meterRegistry.get("prices.lookup").tag("layer", "adapter").tag("operation", "segment")
+            .timer().count()).isEqualTo(1);
+        verify(delegate, never()).findApplicablePrice(any(), any(), any());
+        verify(delegate, never()).findStableUntil(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should record candidate rows of every full candidate list")
+    void shouldRecordCandidatesOfApplicablePrices() {
+        // Given
+        MeteredPriceRepository repository = new MeteredPriceRepository(delegate, meterRegistry, 0);
+        when(delegate.findApplicablePrices(DATE, 100L, 1L)).thenReturn(List.of());
+
+        // When
+        repository.findApplicablePrices(DATE, 100L, 1L);
+
+        // Then
+        assertThat(candidates().count()).isEqualTo(1);
+        assertThat(candidates().max()).isZero();
+    }
+
+    private DistributionSummary candidates() {
+        return meterRegistry.get("prices.lookup.candidates").summary();
+    }
+
+    private static Price createPrice(Long id, Integer priority) {
+        return new Price(id, 1L, 100L, id.intValue(), DATE.minusDays(1), DATE.plusDays(1), priority,
+            BigDecimal.TEN, "EUR");
+    }
+}
@@ -0,0 +1,67 @@
+package es.dfalconr.prices.infrastructure.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "prices.cache.enabled=true",
+    "prices.coalescing.enabled=true",
+    "prices.metrics.candidate-sample-rate=1.0",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-metrics"
+})
+class PriceMetricsIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Should expose per-layer lookup histograms, outcomes and component stats to Prometheus")
+    void shouldExposeLookupMetrics() throws Exception {
+        // Given - one found lookup and one miss
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T16:00:00")
+                .param("productId", "35455")
+                .param("brandId", "1"))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2019-01-01T10:00:00")
+                .param("productId", "35455")
+                .param("brandId", "1"))
+            .andExpect(status().isNotFound());
+
+        // When / Then
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString(
+                "prices_lookup_seconds_bucket{layer=\"controller\",operation=\"single\"")))
+            .andExpect(content().string(containsString(
+                "prices_lookup_seconds_bucket{layer=\"service\",operation=\"single\"")))
+            .andExpect(content().string(containsString(
+                "prices_lookup_seconds_count{layer=\"adapter\",operation=\"applicable_prices\"")))
+            .andExpect(content().string(containsString(
+                "prices_lookup_results_total{operation=\"single\",outcome=\"found\"} 1.0")))
+            .andExpect(content().string(containsString(
+                "prices_lookup_results_total{operation=\"single\",outcome=\"not_found\"} 1.0")))
+            .andExpect(content().string(containsString("prices_lookup_candidates_rows_bucket")))
+            .andExpect(content().string(containsString("prices_cache_misses_total")))
+            .andExpect(content().string(containsString("prices_coalescing_executions_total")));
+    }
+}
@@ -0,0 +1,118 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=columnar",
+    "prices.columnar.compaction-threshold=2",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-columnar"
+})
+class ColumnarPriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    @Qualifier(PriceRepositoryConfig.ADAPTER)
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private ColumnarPriceRepositoryAdapter adapter;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Test
+    @DisplayName("Should wire the columnar adapter when selected by configuration")
+    void shouldWireColumnarAdapter() {
+        assertThat(priceRepository).isInstanceOf(ColumnarPriceRepositoryAdapter.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve the data.sql fixtures through the columnar adapter")
+    void shouldResolveFixtures() {
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID)).orElseThrow();
+
+        // Then
+        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(response.finalPrice()).isEqualByComparingTo("25.45");
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPA adapter for the data.sql fixtures")
+    void shouldMatchJpaAdapterForFixtures() {
+        // Given
+        PriceRepositoryAdapter jpaAdapter = new PriceRepositoryAdapter(jpaRepository, false);
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+        List<PriceLookup> lookups = new ArrayList<>();
+
+        // When / Then
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusMinutes(30)) {
+            assertThat(priceRepository.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))
+                .as("prices at %s", date)
+                .containsExactlyElementsOf(jpaAdapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID));
+            lookups.add(new PriceLookup(date, PRODUCT_ID, BRAND_ID));
+        }
+        assertThat(priceRepository.findApplicablePriceBatch(lookups))
+            .isEqualTo(jpaAdapter.findApplicablePriceBatch(lookups));
+        assertThat(priceRepository.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments())
+            .isEqualTo(jpaAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments());
+    }
+
+    @Test
+    @DisplayName("Should patch replaced products and fold them into the columns in the background")
+    void shouldCompactPatchInBackground() throws InterruptedException {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2031, 1, 1, 0, 0);
+        Price first = new Price(9_001L, 9L, 1L, 1, start, start.plusDays(1), 0, new BigDecimal("10.00"), "EUR");
+        Price second = new Price(9_002L, 9L, 2L, 1, start, start.plusDays(1), 0, new BigDecimal("20.00"), "EUR");
+        adapter.replaceProducts(Map.of(ProductKey.of(first), List.of(first)));
+        assertThat(adapter.catalogVersion().catalog().patchedProductCount()).isEqualTo(1);
+        assertThat(adapter.catalogVersion().catalog().store().findProductPrices(1L, 9L)).isEmpty();
+
+        try {
+            // When
+            adapter.replaceProducts(Map.of(ProductKey.of(second), List.of(second)));
+
+            // Then
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (adapter.catalogVersion().catalog().patchedProductCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(adapter.catalogVersion().catalog().patchedProductCount()).isZero();
+            assertThat(adapter.catalogVersion().catalog().store().findProductPrices(1L, 9L)).containsExactly(first);
+            assertThat(priceRepository.findApplicablePrice(start.plusHours(1), 2L, 9L)).contains(second);
+        } finally {
+            adapter.replaceProducts(Map.of(ProductKey.of(first), List.of(), ProductKey.of(second), List.of()));
+            adapter.compact();
+        }
+    }
+}
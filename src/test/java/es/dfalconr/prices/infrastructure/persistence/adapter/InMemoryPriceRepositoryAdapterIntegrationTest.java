@@ -0,0 +1,176 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class InMemoryPriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime CATALOG_START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("Should return the same prices as the JPQL query for the data.sql fixtures")
+    void shouldMatchJpqlForFixtures() {
+        // Given
+        InMemoryPriceRepositoryAdapter adapter = loadAdapter();
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+
+        // When / Then - every half hour plus the exact fixture boundaries
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusMinutes(30)) {
+            assertSameAsJpql(adapter, date, PRODUCT_ID, BRAND_ID);
+        }
+        assertSameAsJpql(adapter, LocalDateTime.of(2020, 6, 14, 18, 30), PRODUCT_ID, BRAND_ID);
+        assertSameAsJpql(adapter, LocalDateTime.of(2020, 12, 31, 23, 59, 59), PRODUCT_ID, BRAND_ID);
+        assertSameAsJpql(adapter, LocalDateTime.of(2020, 6, 15, 10, 0), PRODUCT_ID, 999L);
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPQL query for a synthetic overlapping catalog")
+    void shouldMatchJpqlForSyntheticCatalog() {
+        // Given
+        Random random = new Random(42);
+        for (long productId = 1; productId <= 20; productId++) {
+            for (int range = 0; range < 15; range++) {
+                LocalDateTime start = CATALOG_START.plusHours(random.nextInt(24 * 60));
+                LocalDateTime end = start.plusHours(1 + random.nextInt(24 * 20));
+                persistPrice(1L + random.nextInt(2), productId, start, end, random.nextInt(4));
+            }
+        }
+        entityManager.flush();
+        InMemoryPriceRepositoryAdapter adapter = loadAdapter();
+
+        // When / Then
+        for (int probe = 0; probe < 2_000; probe++) {
+            LocalDateTime date = CATALOG_START.plusMinutes(random.nextInt(60 * 24 * 90));
+            assertSameAsJpql(adapter, date, 1L + random.nextInt(21), 1L + random.nextInt(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch like the JPA adapter")
+    void shouldResolveBatchLikeJpaAdapter() {
+        // Given
+        Random random = new Random(11);
+        for (long productId = 1; productId <= 10; productId++) {
+            for (int range = 0; range < 10; range++) {
+                LocalDateTime start = CATALOG_START.plusHours(random.nextInt(24 * 30));
+                persistPrice(BRAND_ID, productId, start, start.plusHours(1 + random.nextInt(24 * 10)),
+                    random.nextInt(3));
+            }
+        }
+        entityManager.flush();
+        InMemoryPriceRepositoryAdapter adapter = loadAdapter();
+        PriceRepositoryAdapter jpaAdapter = new PriceRepositoryAdapter(jpaRepository, false);
+        List<PriceLookup> lookups = new ArrayList<>();
+        for (int probe = 0; probe < 300; probe++) {
+            lookups.add(new PriceLookup(
+                CATALOG_START.plusMinutes(random.nextInt(60 * 24 * 45)), 1L + random.nextInt(11), BRAND_ID));
+        }
+
+        // When / Then
+        assertThat(adapter.findApplicablePriceBatch(lookups))
+            .isEqualTo(jpaAdapter.findApplicablePriceBatch(lookups));
+        Map<PriceLookup, PriceSegment> segments = adapter.findApplicableSegmentBatch(lookups);
+        Map<PriceLookup, PriceSegment> expectedSegments = jpaAdapter.findApplicableSegmentBatch(lookups);
+        assertThat(segments).containsOnlyKeys(expectedSegments.keySet());
+        expectedSegments.forEach((lookup, expected) -> {
+            PriceSegment segment = segments.get(lookup);
+            assertThat(segment.price()).as("segment price for %s", lookup).isEqualTo(expected.price());
+            assertThat(segment.endDate()).as("segment end for %s", lookup).isAfterOrEqualTo(expected.endDate());
+            assertThat(segment.contains(lookup.applicationDate())).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Should pick up rows written after construction on refresh")
+    void shouldPickUpNewRowsOnRefresh() {
+        // Given
+        InMemoryPriceRepositoryAdapter adapter = loadAdapter();
+        persistPrice(BRAND_ID, 100L, CATALOG_START, CATALOG_START.plusDays(1), 0);
+        entityManager.flush();
+        assertThat(adapter.findApplicablePrices(CATALOG_START, 100L, BRAND_ID)).isEmpty();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findApplicablePrices(CATALOG_START, 100L, BRAND_ID)).hasSize(1);
+    }
+
+    private InMemoryPriceRepositoryAdapter loadAdapter() {
+        InMemoryPriceRepositoryAdapter adapter = new InMemoryPriceRepositoryAdapter(jpaRepository);
+        adapter.refresh();
+        return adapter;
+    }
+
+    private void assertSameAsJpql(
+        InMemoryPriceRepositoryAdapter adapter,
+        LocalDateTime date,
+        Long productId,
+        Long brandId
+    ) {
+        List<Price> expected = jpaRepository.findApplicablePrices(date, productId, brandId)
+            .stream()
+            .map(PriceJpaEntity::toDomain)
+            .toList();
+
+        List<Price> actual = adapter.findApplicablePrices(date, productId, brandId);
+
+        assertThat(actual)
+            .as("prices for product %d, brand %d at %s", productId, brandId, date)
+            .containsExactlyElementsOf(expected);
+        assertThat(adapter.findPriceTimeline(productId, brandId).priceAt(date))
+            .as("timeline price for product %d, brand %d at %s", productId, brandId, date)
+            .isEqualTo(expected.stream().findFirst());
+        assertThat(adapter.findApplicableSegment(date, productId, brandId).map(PriceSegment::price))
+            .as("segment price for product %d, brand %d at %s", productId, brandId, date)
+            .isEqualTo(expected.stream().findFirst());
+    }
+
+    private void persistPrice(
+        Long brandId,
+        Long productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority
+    ) {
+        PriceJpaEntity entity = new PriceJpaEntity();
+        entity.setBrandId(brandId);
+        entity.setProductId(productId);
+        entity.setPriceList(priority + 1);
+        entity.setStartDate(startDate);
+        entity.setEndDate(endDate);
+        entity.setPriority(priority);
+        entity.setPrice(new BigDecimal("19.99"));
+        entity.setCurrency("EUR");
+        entityManager.persist(entity);
+    }
+}
@@ -0,0 +1,47 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=in-memory",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-in-memory"
+})
+class InMemoryPriceRepositorySelectionIntegrationTest {
+
+    @Autowired
+    @Qualifier(PriceRepositoryConfig.ADAPTER)
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Test
+    @DisplayName("Should wire the in-memory adapter when selected by configuration")
+    void shouldWireInMemoryAdapter() {
+        assertThat(priceRepository).isInstanceOf(InMemoryPriceRepositoryAdapter.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve the data.sql fixtures through the in-memory adapter")
+    void shouldResolveFixtures() {
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(response.priceList()).isEqualTo(2);
+    }
+}
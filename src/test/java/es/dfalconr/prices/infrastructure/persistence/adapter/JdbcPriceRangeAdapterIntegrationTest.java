@@ -0,0 +1,106 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JdbcPriceRangeAdapterIntegrationTest {
+
+    private static final Long EXPORT_BRAND_ID = 77L;
+    private static final LocalDateTime SEASON_START = LocalDateTime.of(2031, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcPriceRangeAdapter adapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should stream the fixture rows overlapping a range in start date order")
+    void shouldStreamOverlappingRowsInStartOrder() {
+        // When
+        List<Price> rows = new ArrayList<>();
+        adapter.forEachOverlapping(35455L, 1L,
+            LocalDateTime.of(2020, 6, 14, 16, 0), LocalDateTime.of(2020, 6, 15, 5, 0), rows::add);
+
+        // Then
+        assertThat(rows).extracting(Price::priceList).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should export the fixture price applicable at the reference date")
+    void shouldExportFixturePrice() {
+        // When
+        List<Price> exported = new ArrayList<>();
+        adapter.forEachApplicable(1L, LocalDateTime.of(2020, 6, 14, 16, 0), exported::add);
+
+        // Then
+        assertThat(exported).filteredOn(price -> price.productId().equals(35455L))
+            .singleElement()
+            .extracting(Price::priceList)
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should export one price per product, in product order, matching the priority rule")
+    void shouldExportWinnerPerProduct() {
+        // Given - overlapping random ranges over 200 products, a quarter of them out of range
+        Random random = new Random(19);
+        List<Price> inserted = new ArrayList<>();
+        for (long productId = 1; productId <= 200; productId++) {
+            int ranges = 1 + random.nextInt(5);
+            for (int range = 0; range < ranges; range++) {
+                LocalDateTime start = SEASON_START.plusDays(random.nextInt(30));
+                LocalDateTime end = start.plusDays(random.nextInt(30));
+                if (productId % 4 == 0) {
+                    start = start.plusYears(1);
+                    end = end.plusYears(1);
+                }
+                inserted.add(insertPrice(productId, range + 1, start, end, random.nextInt(3)));
+            }
+        }
+        LocalDateTime exportDate = SEASON_START.plusDays(20);
+
+        // When
+        List<Price> exported = new ArrayList<>();
+        adapter.forEachApplicable(EXPORT_BRAND_ID, exportDate, exported::add);
+
+        // Then
+        List<Price> expected = inserted.stream()
+            .filter(price -> price.isApplicableAt(exportDate))
+            .collect(Collectors.groupingBy(Price::productId, TreeMap::new,
+                Collectors.maxBy(Price.PRECEDENCE)))
+            .values().stream()
+            .map(Optional::orElseThrow)
+            .toList();
+        assertThat(exported).isNotEmpty().containsExactlyElementsOf(expected);
+        assertThat(exported).noneMatch(price -> price.productId() % 4 == 0);
+    }
+
+    private Price insertPrice(long productId, int priceList, LocalDateTime start, LocalDateTime end, int priority) {
+        BigDecimal amount = BigDecimal.valueOf(1_000 + productId * 10 + priceList, 2);
+        jdbcTemplate.update("""
+            INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, ?, ?, ?, ?, ?, 'EUR')
+            """, EXPORT_BRAND_ID, productId, priceList, start, end, priority, amount);
+        Long id = jdbcTemplate.queryForObject("SELECT MAX(ID) FROM PRICES", Long.class);
+        return new Price(id, EXPORT_BRAND_ID, productId, priceList, start, end, priority, amount, "EUR");
+    }
+}
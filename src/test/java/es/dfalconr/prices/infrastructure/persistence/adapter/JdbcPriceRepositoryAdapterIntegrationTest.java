@@ -0,0 +1,182 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class JdbcPriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final LocalDateTime CATALOG_START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private PriceRepositoryAdapter jpaAdapter;
+    private JdbcPriceRepositoryAdapter jdbcAdapter;
+
+    @BeforeEach
+    void setUp() {
+        jpaAdapter = new PriceRepositoryAdapter(jpaRepository, false);
+        jdbcAdapter = new JdbcPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPA adapter for the data.sql fixtures")
+    void shouldMatchJpaAdapterForFixtures() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+
+        // When / Then
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusMinutes(30)) {
+            assertSameAsJpaAdapter(date, PRODUCT_ID, BRAND_ID);
+        }
+        assertSameAsJpaAdapter(LocalDateTime.of(2020, 6, 14, 18, 30), PRODUCT_ID, BRAND_ID);
+        assertSameAsJpaAdapter(LocalDateTime.of(2020, 12, 31, 23, 59, 59), PRODUCT_ID, BRAND_ID);
+        assertSameAsJpaAdapter(LocalDateTime.of(2020, 6, 15, 10, 0), PRODUCT_ID, 999L);
+        assertThat(jdbcAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments())
+            .isEqualTo(jpaAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments());
+    }
+
+    @Test
+    @DisplayName("Should bound a segment by the next row start or end after the date")
+    void shouldBoundSegmentByNextBoundary() {
+        // When
+        PriceSegment beforePromotion = jdbcAdapter.findApplicableSegment(
+            LocalDateTime.of(2020, 6, 14, 10, 0), PRODUCT_ID, BRAND_ID).orElseThrow();
+        PriceSegment duringPromotion = jdbcAdapter.findApplicableSegment(
+            LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID).orElseThrow();
+
+        // Then
+        assertThat(beforePromotion.price().priceList()).isEqualTo(1);
+        assertThat(beforePromotion.startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 10, 0));
+        assertThat(beforePromotion.endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 15, 0).minusNanos(1));
+        assertThat(duringPromotion.price().priceList()).isEqualTo(2);
+        assertThat(duringPromotion.endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(jdbcAdapter.findApplicableSegment(LocalDateTime.of(2019, 1, 1, 0, 0), PRODUCT_ID, BRAND_ID))
+            .isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPA adapter for a synthetic overlapping catalog")
+    void shouldMatchJpaAdapterForSyntheticCatalog() {
+        // Given
+        Random random = new Random(42);
+        for (long productId = 1; productId <= 20; productId++) {
+            for (int range = 0; range < 15; range++) {
+                LocalDateTime start = CATALOG_START.plusHours(random.nextInt(24 * 60));
+                LocalDateTime end = start.plusHours(1 + random.nextInt(24 * 20));
+                persistPrice(1L + random.nextInt(2), productId, start, end, random.nextInt(4));
+            }
+        }
+        entityManager.flush();
+
+        // When / Then
+        List<PriceLookup> lookups = new ArrayList<>();
+        for (int probe = 0; probe < 1_000; probe++) {
+            LocalDateTime date = CATALOG_START.plusMinutes(random.nextInt(60 * 24 * 90));
+            Long productId = 1L + random.nextInt(21);
+            Long brandId = 1L + random.nextInt(2);
+            assertSameAsJpaAdapter(date, productId, brandId);
+            lookups.add(new PriceLookup(date, productId, brandId));
+        }
+        assertThat(jdbcAdapter.findApplicablePriceBatch(lookups))
+            .isEqualTo(jpaAdapter.findApplicablePriceBatch(lookups));
+        lookups.add(new PriceLookup(lookups.getFirst().applicationDate().plusNanos(1), lookups.getFirst().productId(),
+            lookups.getFirst().brandId()));
+        Map<PriceLookup, PriceSegment> segments = jdbcAdapter.findApplicableSegmentBatch(lookups);
+        assertThat(segments).isEqualTo(jpaAdapter.findApplicableSegmentBatch(lookups));
+        for (PriceLookup lookup : lookups) {
+            assertThat(Optional.ofNullable(segments.get(lookup))).as("batched segment for %s", lookup)
+                .isEqualTo(jdbcAdapter.findApplicableSegment(lookup.applicationDate(), lookup.productId(),
+                    lookup.brandId()));
+        }
+    }
+
+    private void assertSameAsJpaAdapter(LocalDateTime date, Long productId, Long brandId) {
+        assertThat(jdbcAdapter.findApplicablePrices(date, productId, brandId))
+            .as("prices for product %d, brand %d at %s", productId, brandId, date)
+            .containsExactlyElementsOf(jpaAdapter.findApplicablePrices(date, productId, brandId));
+        assertThat(jdbcAdapter.findApplicablePrice(date, productId, brandId))
+            .as("price for product %d, brand %d at %s", productId, brandId, date)
+            .isEqualTo(jpaAdapter.findApplicablePrice(date, productId, brandId));
+        assertStableUntil(date, productId, brandId);
+        assertSegment(date, productId, brandId);
+    }
+
+    // One statement reads the same segment as the price and window read separately
+    private void assertSegment(LocalDateTime date, Long productId, Long brandId) {
+        Optional<PriceSegment> segment = jdbcAdapter.findApplicableSegment(date, productId, brandId);
+        assertThat(segment)
+            .as("segment for product %d, brand %d at %s", productId, brandId, date)
+            .isEqualTo(jpaAdapter.findApplicableSegment(date, productId, brandId));
+        assertThat(segment.map(PriceSegment::price))
+            .isEqualTo(jdbcAdapter.findApplicablePrice(date, productId, brandId));
+        segment.ifPresent(found -> assertThat(jdbcAdapter.findStableUntil(date, productId, brandId))
+            .contains(found.endDate()));
+    }
+
+    // The window may end earlier than the timeline segment, never later, and keeps the same winner
+    private void assertStableUntil(LocalDateTime date, Long productId, Long brandId) {
+        Optional<LocalDateTime> stableUntil = jdbcAdapter.findStableUntil(date, productId, brandId);
+        assertThat(stableUntil)
+            .as("stable until for product %d, brand %d at %s", productId, brandId, date)
+            .isEqualTo(jpaAdapter.findStableUntil(date, productId, brandId));
+        PriceTimeline timeline = jpaAdapter.findPriceTimeline(productId, brandId);
+        timeline.segmentAt(date).ifPresent(segment -> assertThat(stableUntil)
+            .as("stable until for product %d, brand %d at %s", productId, brandId, date)
+            .hasValueSatisfying(end -> {
+                assertThat(end).isBetween(date, segment.endDate());
+                assertThat(timeline.priceAt(end)).contains(segment.price());
+            }));
+    }
+
+    private void persistPrice(
+        Long brandId,
+        Long productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority
+    ) {
+        PriceJpaEntity entity = new PriceJpaEntity();
+        entity.setBrandId(brandId);
+        entity.setProductId(productId);
+        entity.setPriceList(priority + 1);
+        entity.setStartDate(startDate);
+        entity.setEndDate(endDate);
+        entity.setPriority(priority);
+        entity.setPrice(new BigDecimal("19.99"));
+        entity.setCurrency("EUR");
+        entityManager.persist(entity);
+    }
+}
@@ -0,0 +1,64 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=jdbc",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-jdbc"
+})
+class JdbcPriceRepositorySelectionIntegrationTest {
+
+    @Autowired
+    @Qualifier(PriceRepositoryConfig.ADAPTER)
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Should wire the JDBC adapter when selected by configuration")
+    void shouldWireJdbcAdapter() {
+        assertThat(priceRepository).isInstanceOf(JdbcPriceRepositoryAdapter.class);
+    }
+
+    @Test
+    @DisplayName("Should resolve the data.sql fixtures through the JDBC adapter")
+    void shouldResolveFixtures() {
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L)).orElseThrow();
+
+        // Then
+        assertThat(response.priceList()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should hand pooled connections back writable after a read-only lookup")
+    void shouldRestoreWritableConnections() {
+        // Given
+        priceRepository.findApplicablePrice(LocalDateTime.of(2020, 6, 14, 16, 0), 35455L, 1L);
+
+        // When
+        int updated = jdbcTemplate.update("UPDATE PRICES SET LAST_UPDATE_BY = 'jdbc-test' WHERE ID = 1");
+
+        // Then
+        assertThat(updated).isEqualTo(1);
+    }
+}
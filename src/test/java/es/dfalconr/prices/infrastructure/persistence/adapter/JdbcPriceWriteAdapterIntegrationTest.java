@@ -0,0 +1,166 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=in-memory",
+    "prices.cache.enabled=true",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-writes"
+})
+class JdbcPriceWriteAdapterIntegrationTest {
+
+    private static final long FIRST_PRODUCT = 3_000_000L;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final LocalDateTime DURING = START.plusHours(1);
+    private static final int WORKERS = 4;
+    private static final int OPERATIONS_PER_WORKER = 400;
+
+    @Autowired
+    private JdbcPriceWriteAdapter writeAdapter;
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT);
+        jdbcTemplate.update("DELETE FROM PRICE_TOMBSTONES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT);
+    }
+
+    @Test
+    @DisplayName("Should make a created price visible to lookups as soon as create returns")
+    void shouldPublishCreatedPrice() {
+        // When
+        Price created = writeAdapter.create(price(null, FIRST_PRODUCT, "10.00"));
+
+        // Then
+        assertThat(created.id()).isNotNull();
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT, 1L)).contains(created);
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+            "SELECT LAST_UPDATE, LAST_UPDATE_BY FROM PRICES WHERE ID = ?", created.id());
+        assertThat(row.get("LAST_UPDATE")).isNotNull();
+        assertThat(row.get("LAST_UPDATE_BY")).isEqualTo(JdbcPriceWriteAdapter.LAST_UPDATE_BY);
+    }
+
+    @Test
+    @DisplayName("Should replace cached and indexed rows of both products when a price moves")
+    void shouldPublishUpdateOfBothProducts() {
+        // Given - the old segment is cached
+        Price created = writeAdapter.create(price(null, FIRST_PRODUCT, "10.00"));
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT, 1L)).contains(created);
+
+        // When
+        Price moved = price(created.id(), FIRST_PRODUCT + 1, "12.50");
+        assertThat(writeAdapter.update(moved)).contains(moved);
+
+        // Then
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT, 1L)).isEmpty();
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT + 1, 1L)).contains(moved);
+    }
+
+    @Test
+    @DisplayName("Should remove a deleted price from lookups and leave a tombstone")
+    void shouldPublishDeleteWithTombstone() {
+        // Given
+        Price created = writeAdapter.create(price(null, FIRST_PRODUCT, "10.00"));
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT, 1L)).isPresent();
+
+        // When
+        assertThat(writeAdapter.delete(created.id())).contains(created);
+
+        // Then
+        assertThat(priceRepository.findApplicablePrice(DURING, FIRST_PRODUCT, 1L)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT PRODUCT_ID FROM PRICE_TOMBSTONES WHERE PRICE_ID = ?", Long.class, created.id()))
+            .isEqualTo(FIRST_PRODUCT);
+    }
+
+    @Test
+    @DisplayName("Should return empty for unknown ids without writing anything")
+    void shouldIgnoreUnknownIds() {
+        assertThat(writeAdapter.update(price(Long.MAX_VALUE, FIRST_PRODUCT, "10.00"))).isEmpty();
+        assertThat(writeAdapter.delete(Long.MAX_VALUE)).isEmpty();
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM PRICE_TOMBSTONES WHERE PRICE_ID = ?", Long.class, Long.MAX_VALUE)).isZero();
+    }
+
+    @ParameterizedTest(name = "{0}% writes")
+    @ValueSource(ints = {5, 20})
+    @DisplayName("Should keep lookups answering and show each write to its writer under mixed load")
+    void shouldServeMixedReadWriteLoad(int writePercent) throws Exception {
+        // Given - every worker owns one product and reads all of them
+        List<Price> owned = new ArrayList<>();
+        for (int worker = 0; worker < WORKERS; worker++) {
+            owned.add(writeAdapter.create(price(null, FIRST_PRODUCT + worker, "1.00")));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(WORKERS);
+
+        // When
+        List<Future<Integer>> workers = new ArrayList<>();
+        for (int worker = 0; worker < WORKERS; worker++) {
+            Price own = owned.get(worker);
+            workers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int writes = 0;
+                for (int i = 0; i < OPERATIONS_PER_WORKER; i++) {
+                    if (random.nextInt(100) < writePercent) {
+                        BigDecimal amount = BigDecimal.valueOf(random.nextInt(1, 100_000), 2);
+                        writeAdapter.update(price(own.id(), own.productId(), amount.toPlainString()));
+                        assertThat(priceRepository.findApplicablePrice(DURING, own.productId(), 1L))
+                            .map(Price::amount)
+                            .contains(amount);
+                        writes++;
+                    } else {
+                        long productId = FIRST_PRODUCT + random.nextInt(WORKERS);
+                        assertThat(priceRepository.findApplicablePrice(DURING, productId, 1L)).isPresent();
+                    }
+                }
+                return writes;
+            }));
+        }
+        int writes = 0;
+        for (Future<Integer> worker : workers) {
+            writes += worker.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(writes).isPositive();
+        for (Price own : owned) {
+            BigDecimal stored = jdbcTemplate.queryForObject(
+                "SELECT PRICE FROM PRICES WHERE ID = ?", BigDecimal.class, own.id());
+            assertThat(priceRepository.findApplicablePrice(DURING, own.productId(), 1L))
+                .map(Price::amount)
+                .contains(stored);
+        }
+    }
+
+    private static Price price(Long id, long productId, String amount) {
+        return new Price(id, 1L, productId, 1, START, START.plusDays(1), 0, new BigDecimal(amount), "EUR");
+    }
+}
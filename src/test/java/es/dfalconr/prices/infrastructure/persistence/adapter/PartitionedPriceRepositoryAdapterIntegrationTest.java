@@ -0,0 +1,189 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.memory.BrandPartitionStats;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=partitioned",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-partitioned"
+})
+class PartitionedPriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final Long OTHER_BRAND_ID = 2L;
+    private static final LocalDateTime SALE_START = LocalDateTime.of(2031, 11, 28, 0, 0);
+
+    @Autowired
+    @Qualifier(PriceRepositoryConfig.ADAPTER)
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PartitionedPriceRepositoryAdapter adapter;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void restoreFixtures() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID <> ?", BRAND_ID);
+        adapter.refresh();
+    }
+
+    @Test
+    @DisplayName("Should wire the partitioned adapter when selected by configuration")
+    void shouldWirePartitionedAdapter() {
+        assertThat(priceRepository).isInstanceOf(PartitionedPriceRepositoryAdapter.class);
+        assertThat(adapter.partitionStats()).extracting(BrandPartitionStats::brandId).containsExactly(BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should resolve the data.sql fixtures through the partitioned adapter")
+    void shouldResolveFixtures() {
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID)).orElseThrow();
+
+        // Then
+        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(response.finalPrice()).isEqualByComparingTo("25.45");
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPA adapter for the data.sql fixtures")
+    void shouldMatchJpaAdapterForFixtures() {
+        // Given
+        PriceRepositoryAdapter jpaAdapter = new PriceRepositoryAdapter(jpaRepository, false);
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+        List<PriceLookup> lookups = new ArrayList<>();
+
+        // When / Then
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusMinutes(30)) {
+            assertThat(priceRepository.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))
+                .as("prices at %s", date)
+                .containsExactlyElementsOf(jpaAdapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID));
+            assertSameSegment(adapter.findApplicableSegment(date, PRODUCT_ID, BRAND_ID),
+                jpaAdapter.findApplicableSegment(date, PRODUCT_ID, BRAND_ID), date);
+            lookups.add(new PriceLookup(date, PRODUCT_ID, BRAND_ID));
+        }
+        assertThat(priceRepository.findApplicablePriceBatch(lookups))
+            .isEqualTo(jpaAdapter.findApplicablePriceBatch(lookups));
+        assertThat(priceRepository.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments())
+            .isEqualTo(jpaAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments());
+        Map<PriceLookup, PriceSegment> segments = adapter.findApplicableSegmentBatch(lookups);
+        Map<PriceLookup, PriceSegment> expectedSegments = jpaAdapter.findApplicableSegmentBatch(lookups);
+        assertThat(segments).containsOnlyKeys(expectedSegments.keySet());
+        expectedSegments.forEach((lookup, expected) -> assertSameSegment(
+            Optional.of(segments.get(lookup)), Optional.of(expected), lookup.applicationDate()));
+    }
+
+    @Test
+    @DisplayName("Should reload one brand without publishing a new version of the others")
+    void shouldReloadOneBrandOnly() {
+        // Given
+        insertPrice(OTHER_BRAND_ID, PRODUCT_ID, "19.99");
+        adapter.refreshBrand(OTHER_BRAND_ID).join();
+        long brandVersion = adapter.partitionStats().getFirst().version();
+
+        // When
+        insertPrice(OTHER_BRAND_ID, PRODUCT_ID + 1, "29.99");
+        adapter.refreshBrand(OTHER_BRAND_ID).join();
+
+        // Then
+        assertThat(adapter.partitionStats()).extracting(BrandPartitionStats::brandId, BrandPartitionStats::version,
+                BrandPartitionStats::products)
+            .containsExactly(
+                tuple(BRAND_ID, brandVersion, 1),
+                tuple(OTHER_BRAND_ID, 2L, 2));
+        assertThat(priceRepository.findApplicablePrice(SALE_START.plusHours(1), PRODUCT_ID + 1, OTHER_BRAND_ID))
+            .map(Price::amount)
+            .contains(new BigDecimal("29.99"));
+    }
+
+    @Test
+    @DisplayName("Should route each lookup of a mixed-brand batch to its brand's partition")
+    void shouldRouteBatchByBrand() {
+        // Given
+        insertPrice(OTHER_BRAND_ID, PRODUCT_ID, "19.99");
+        adapter.refreshBrand(OTHER_BRAND_ID).join();
+        PriceLookup fixture = new PriceLookup(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID);
+        PriceLookup sale = new PriceLookup(SALE_START.plusHours(1), PRODUCT_ID, OTHER_BRAND_ID);
+        PriceLookup unknownBrand = new PriceLookup(SALE_START.plusHours(1), PRODUCT_ID, 99L);
+
+        // When
+        Map<PriceLookup, Price> prices = priceRepository.findApplicablePriceBatch(List.of(fixture, sale, unknownBrand));
+
+        // Then
+        assertThat(prices).containsOnlyKeys(fixture, sale);
+        assertThat(prices.get(fixture).priceList()).isEqualTo(2);
+        assertThat(prices.get(sale).amount()).isEqualByComparingTo("19.99");
+    }
+
+    @Test
+    @DisplayName("Should open a partition for a brand first seen through replaced products")
+    void shouldOpenPartitionForNewBrand() {
+        // Given
+        Price price = new Price(9_000L, OTHER_BRAND_ID, PRODUCT_ID, 1, SALE_START, SALE_START.plusDays(3), 0,
+            new BigDecimal("9.99"), "EUR");
+
+        // When
+        adapter.replaceProducts(Map.of(ProductKey.of(price), List.of(price)));
+
+        // Then
+        assertThat(priceRepository.findApplicablePrice(SALE_START, PRODUCT_ID, OTHER_BRAND_ID)).contains(price);
+        assertThat(adapter.partitionStats()).extracting(BrandPartitionStats::brandId)
+            .containsExactly(BRAND_ID, OTHER_BRAND_ID);
+    }
+
+    // Timeline segments span every boundary the winner survives, the JPA adapter's stop at the next row boundary
+    private static void assertSameSegment(Optional<PriceSegment> actual, Optional<PriceSegment> expected,
+                                          LocalDateTime date) {
+        assertThat(actual.map(PriceSegment::price)).as("segment price at %s", date)
+            .isEqualTo(expected.map(PriceSegment::price));
+        actual.ifPresent(segment -> {
+            assertThat(segment.contains(date)).as("segment at %s", date).isTrue();
+            assertThat(segment.endDate()).as("segment end at %s", date)
+                .isAfterOrEqualTo(expected.orElseThrow().endDate());
+        });
+    }
+
+    private void insertPrice(Long brandId, Long productId, String amount) {
+        jdbcTemplate.update("""
+            INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+            VALUES (?, ?, 1, ?, ?, 0, ?, 'EUR')
+            """, brandId, productId, SALE_START, SALE_START.plusDays(3), new BigDecimal(amount));
+    }
+}
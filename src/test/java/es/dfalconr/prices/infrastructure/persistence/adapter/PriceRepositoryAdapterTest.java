@@ -1,22 +1,35 @@
 package es.dfalconr.prices.infrastructure.persistence.adapter;
 
 import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
 import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentProjection;
 import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,9 +39,13 @@ class PriceRepositoryAdapterTest {
     @Mock
     private PriceJpaRepository jpaRepository;
 
-    @InjectMocks
     private PriceRepositoryAdapter adapter;
 
+    @BeforeEach
+    void setUp() {
+        adapter = new PriceRepositoryAdapter(jpaRepository, false);
+    }
+
     @Test
     @DisplayName("Should call JPA repository with correct parameters")
     void shouldCallJpaRepositoryWithCorrectParameters() {
@@ -46,6 +63,27 @@ class PriceRepositoryAdapterTest {
         verify(jpaRepository).findApplicablePrices(date, productId, brandId);
     }
 
+    @Test
+    @DisplayName("Should read a segment from the top row and its next boundaries in one query")
+    void shouldReadSegmentInOneQuery() {
+        // Given
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        when(jpaRepository.findTopApplicableSegments(date, 35455L, 1L, Limit.of(1)))
+            .thenReturn(List.of(new PriceSegmentProjection(1L, 1L, 35455L, 1, date.minusDays(1), date.plusDays(5), 0,
+                new BigDecimal("35.50"), "EUR", date.plusHours(5), date.plusDays(5))));
+
+        // When
+        Optional<PriceSegment> result = adapter.findApplicableSegment(date, 35455L, 1L);
+
+        // Then
+        assertThat(result).hasValueSatisfying(segment -> {
+            assertThat(segment.startDate()).isEqualTo(date);
+            assertThat(segment.endDate()).isEqualTo(date.plusHours(5).minusNanos(1));
+            assertThat(segment.price().id()).isEqualTo(1L);
+        });
+        verify(jpaRepository, never()).findNextBoundaries(any(), any(), any());
+    }
+
     @Test
     @DisplayName("Should map JPA entities to domain models")
     void shouldMapJpaEntitiesToDomainModels() {
@@ -129,6 +167,145 @@ class PriceRepositoryAdapterTest {
         assertThat(price.currency()).isEqualTo("EUR");
     }
 
+    @Test
+    @DisplayName("Should request a single row and map the projection to the domain model")
+    void shouldMapTopProjectionToDomainModel() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 6, 30, 23, 59);
+        PriceProjection projection = new PriceProjection(
+            1L, 2L, 35455L, 4, start, end, 1, new BigDecimal("38.95"), "EUR");
+        when(jpaRepository.findTopApplicablePrices(any(), any(), any(), any()))
+            .thenReturn(List.of(projection));
+
+        // When
+        Optional<Price> result = adapter.findApplicablePrice(start, 35455L, 2L);
+
+        // Then
+        verify(jpaRepository).findTopApplicablePrices(start, 35455L, 2L, Limit.of(1));
+        assertThat(result).hasValueSatisfying(price -> {
+            assertThat(price.id()).isEqualTo(1L);
+            assertThat(price.priceList()).isEqualTo(4);
+            assertThat(price.priority()).isEqualTo(1);
+            assertThat(price.amount()).isEqualByComparingTo(new BigDecimal("38.95"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should return empty when no row applies")
+    void shouldReturnEmptyWhenNoTopProjection() {
+        // Given
+        when(jpaRepository.findTopApplicablePrices(any(), any(), any(), eq(Limit.of(1))))
+            .thenReturn(Collections.emptyList());
+
+        // When
+        Optional<Price> result = adapter.findApplicablePrice(LocalDateTime.now(), 100L, 1L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should resolve a batch from one candidate query spanning all lookups")
+    void shouldResolveBatchFromSingleCandidateQuery() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceLookup early = new PriceLookup(start.plusHours(1), 100L, 1L);
+        PriceLookup late = new PriceLookup(start.plusDays(3), 100L, 1L);
+        PriceLookup otherProduct = new PriceLookup(start.plusHours(2), 200L, 2L);
+        PriceProjection base = new PriceProjection(
+            1L, 1L, 100L, 1, start, start.plusDays(10), 0, new BigDecimal("35.50"), "EUR");
+        PriceProjection promotion = new PriceProjection(
+            2L, 1L, 100L, 2, start, start.plusDays(1), 1, new BigDecimal("25.45"), "EUR");
+        when(jpaRepository.findApplicablePriceCandidates(any(), any(), any()))
+            .thenReturn(List.of(base, promotion));
+
+        // When
+        Map<PriceLookup, Price> result = adapter.findApplicablePriceBatch(
+            List.of(early, late, otherProduct));
+
+        // Then
+        verify(jpaRepository).findApplicablePriceCandidates(
+            Set.of(new ProductKey(1L, 100L), new ProductKey(2L, 200L)), start.plusHours(1), start.plusDays(3));
+        assertThat(result).containsOnlyKeys(early, late);
+        assertThat(result.get(early).priceList()).isEqualTo(2);
+        assertThat(result.get(late).priceList()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not query the database for an empty batch")
+    void shouldNotQueryForEmptyBatch() {
+        // When
+        Map<PriceLookup, Price> result = adapter.findApplicablePriceBatch(List.of());
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(jpaRepository);
+    }
+
+    @Test
+    @DisplayName("Should build the price timeline from all rows of the product")
+    void shouldBuildPriceTimelineFromProductRows() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity base = new PriceJpaEntity(
+            1L, 1L, 100L, 1, start, start.plusDays(10), 0,
+            new BigDecimal("35.50"), "EUR", null, null
+        );
+        PriceJpaEntity promotion = new PriceJpaEntity(
+            2L, 1L, 100L, 2, start.plusDays(1), start.plusDays(2), 1,
+            new BigDecimal("25.45"), "EUR", null, null
+        );
+        when(jpaRepository.findProductPrices(100L, 1L))
+            .thenReturn(List.of(base, promotion));
+
+        // When
+        PriceTimeline timeline = adapter.findPriceTimeline(100L, 1L);
+
+        // Then
+        assertThat(timeline.segments()).hasSize(3);
+        assertThat(timeline.priceAt(start.plusDays(1).plusHours(1)))
+            .hasValueSatisfying(price -> assertThat(price.priceList()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should resolve single lookups from the product's rows when the query cache is on")
+    void shouldResolveFromProductRowsWhenQueryCached() {
+        // Given
+        PriceRepositoryAdapter cachedAdapter = new PriceRepositoryAdapter(jpaRepository, true);
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity base = new PriceJpaEntity(
+            1L, 1L, 100L, 1, start, start.plusDays(10), 0,
+            new BigDecimal("35.50"), "EUR", null, null
+        );
+        PriceJpaEntity promotion = new PriceJpaEntity(
+            2L, 1L, 100L, 2, start.plusDays(1), start.plusDays(2), 1,
+            new BigDecimal("25.45"), "EUR", null, null
+        );
+        when(jpaRepository.findProductPrices(100L, 1L)).thenReturn(List.of(base, promotion));
+        LocalDateTime date = start.plusDays(1).plusHours(1);
+
+        // When
+        List<Price> prices = cachedAdapter.findApplicablePrices(date, 100L, 1L);
+        Optional<Price> price = cachedAdapter.findApplicablePrice(date, 100L, 1L);
+        Optional<PriceSegment> segment = cachedAdapter.findApplicableSegment(date, 100L, 1L);
+        Optional<LocalDateTime> stableUntil = cachedAdapter.findStableUntil(date, 100L, 1L);
+
+        // Then
+        assertThat(prices).extracting(Price::id).containsExactly(2L, 1L);
+        assertThat(price).map(Price::id).contains(2L);
+        assertThat(segment).hasValueSatisfying(found -> {
+            assertThat(found.price().id()).isEqualTo(2L);
+            assertThat(found.contains(date)).isTrue();
+            assertThat(found.endDate()).isEqualTo(start.plusDays(2));
+        });
+        assertThat(stableUntil).contains(start.plusDays(2));
+        verify(jpaRepository, never()).findApplicablePrices(any(), any(), any());
+        verify(jpaRepository, never()).findTopApplicablePrices(any(), any(), any(), any());
+        verify(jpaRepository, never()).findTopApplicableSegments(any(), any(), any(), any());
+        verify(jpaRepository, never()).findNextBoundaries(any(), any(), any());
+    }
+
     // Helper method to create JPA entities for testing
     private PriceJpaEntity createJpaEntity(Long id, Long productId, Long brandId, String price) {
         LocalDateTime now = LocalDateTime.now();
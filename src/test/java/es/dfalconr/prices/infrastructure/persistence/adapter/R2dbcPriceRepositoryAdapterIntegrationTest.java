@@ -0,0 +1,92 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Same properties as PriceHandlerIntegrationTest, so both share one reactive context
+@SpringBootTest(properties = {
+    "spring.main.web-application-type=reactive",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-reactive",
+    "prices.r2dbc.url=r2dbc:h2:mem:///pricesdb-reactive"
+})
+@ActiveProfiles("reactive")
+class R2dbcPriceRepositoryAdapterIntegrationTest {
+
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+
+    @Autowired
+    private R2dbcPriceRepositoryAdapter r2dbcAdapter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private JdbcPriceRepositoryAdapter jdbcAdapter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcAdapter = new JdbcPriceRepositoryAdapter(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JDBC adapter for the data.sql fixtures")
+    void shouldMatchJdbcAdapterForFixtures() {
+        // Given
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+
+        // When / Then
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusHours(6)) {
+            assertSameAsJdbcAdapter(date);
+        }
+        assertSameAsJdbcAdapter(LocalDateTime.of(2020, 6, 14, 18, 30));
+        assertThat(r2dbcAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).block().segments())
+            .isEqualTo(jdbcAdapter.findPriceTimeline(PRODUCT_ID, BRAND_ID).segments());
+    }
+
+    @Test
+    @DisplayName("Should resolve the winning segment with its validity end")
+    void shouldResolveWinningSegment() {
+        // When
+        PriceSegment segment = r2dbcAdapter
+            .findApplicableSegment(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID)
+            .block();
+
+        // Then
+        assertThat(segment).isNotNull();
+        assertThat(segment.price().priceList()).isEqualTo(2);
+        assertThat(segment.endDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 18, 30));
+    }
+
+    @Test
+    @DisplayName("Should complete empty for an unknown product")
+    void shouldCompleteEmptyForUnknownProduct() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        assertThat(r2dbcAdapter.findApplicablePrice(date, 99999L, BRAND_ID).blockOptional()).isEmpty();
+        assertThat(r2dbcAdapter.findApplicableSegment(date, 99999L, BRAND_ID).blockOptional()).isEmpty();
+    }
+
+    private void assertSameAsJdbcAdapter(LocalDateTime date) {
+        Optional<Price> expected = jdbcAdapter.findApplicablePrice(date, PRODUCT_ID, BRAND_ID);
+        assertThat(r2dbcAdapter.findApplicablePrice(date, PRODUCT_ID, BRAND_ID).blockOptional())
+            .as("price at %s", date)
+            .isEqualTo(expected);
+        Optional<PriceSegment> segment = r2dbcAdapter.findApplicableSegment(date, PRODUCT_ID, BRAND_ID).blockOptional();
+        assertThat(segment.map(PriceSegment::price))
+            .as("segment at %s", date)
+            .isEqualTo(expected);
+    }
+}
@@ -0,0 +1,165 @@
+package es.dfalconr.prices.infrastructure.persistence.adapter;
+
+import es.dfalconr.prices.application.dto.PriceQuery;
+import es.dfalconr.prices.application.dto.PriceResponse;
+import es.dfalconr.prices.application.service.GetApplicablePriceService;
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import es.dfalconr.prices.infrastructure.config.PriceRepositoryConfig;
+import es.dfalconr.prices.infrastructure.persistence.repository.PriceJpaRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=snapshot",
+    "prices.snapshot.file=${java.io.tmpdir}/prices-snapshot-it/prices.snapshot",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-snapshot"
+})
+class SnapshotPriceRepositoryAdapterIntegrationTest {
+
+    private static final Path SNAPSHOT_FILE =
+        Path.of(System.getProperty("java.io.tmpdir"), "prices-snapshot-it", "prices.snapshot");
+    private static final Long PRODUCT_ID = 35455L;
+    private static final Long BRAND_ID = 1L;
+    private static final Long WRITTEN_PRODUCT_ID = 3_000_000L;
+    private static final LocalDateTime WRITTEN_START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    @Qualifier(PriceRepositoryConfig.ADAPTER)
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceJpaRepository jpaRepository;
+
+    @Autowired
+    private GetApplicablePriceService priceService;
+
+    @Autowired
+    private PriceWriteRepository priceWriteRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void deleteWrittenRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", WRITTEN_PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM PRICE_TOMBSTONES WHERE PRODUCT_ID = ?", WRITTEN_PRODUCT_ID);
+    }
+
+    @AfterAll
+    static void deleteSnapshot() throws IOException {
+        Files.deleteIfExists(SNAPSHOT_FILE);
+    }
+
+    @Test
+    @DisplayName("Should write the snapshot on first start and serve the fixtures from it")
+    void shouldServeFixturesFromSnapshot() {
+        // When
+        PriceResponse response = priceService.execute(
+            new PriceQuery(LocalDateTime.of(2020, 6, 14, 16, 0), PRODUCT_ID, BRAND_ID)).orElseThrow();
+
+        // Then
+        assertThat(priceRepository).isInstanceOf(SnapshotPriceRepositoryAdapter.class);
+        assertThat(SNAPSHOT_FILE).exists();
+        assertThat(response.priceList()).isEqualTo(2);
+        assertThat(response.finalPrice()).isEqualByComparingTo("25.45");
+    }
+
+    @Test
+    @DisplayName("Should return the same prices as the JPA adapter for the data.sql fixtures")
+    void shouldMatchJpaAdapterForFixtures() {
+        // Given
+        PriceRepositoryAdapter jpaAdapter = new PriceRepositoryAdapter(jpaRepository, false);
+        LocalDateTime from = LocalDateTime.of(2020, 6, 13, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2021, 1, 2, 0, 0);
+
+        // When / Then
+        for (LocalDateTime date = from; !date.isAfter(to); date = date.plusMinutes(30)) {
+            assertThat(priceRepository.findApplicablePrices(date, PRODUCT_ID, BRAND_ID))
+                .as("prices at %s", date)
+                .isEqualTo(jpaAdapter.findApplicablePrices(date, PRODUCT_ID, BRAND_ID));
+        }
+    }
+
+    @Test
+    @DisplayName("Should map an existing snapshot that still matches the table without rewriting it")
+    void shouldMapMatchingSnapshot() throws IOException {
+        // Given
+        new SnapshotPriceRepositoryAdapter(dataSource, SNAPSHOT_FILE).refresh();
+        FileTime written = Files.getLastModifiedTime(SNAPSHOT_FILE);
+        SnapshotPriceRepositoryAdapter adapter = new SnapshotPriceRepositoryAdapter(dataSource, SNAPSHOT_FILE);
+
+        // When
+        adapter.load();
+
+        // Then
+        assertThat(Files.getLastModifiedTime(SNAPSHOT_FILE)).isEqualTo(written);
+        assertThat(adapter.findApplicablePrice(LocalDateTime.of(2020, 6, 15, 10, 0), PRODUCT_ID, BRAND_ID))
+            .map(Price::priceList)
+            .contains(3);
+    }
+
+    @Test
+    @DisplayName("Should rebuild a snapshot at startup once the table has changed since it was written")
+    void shouldRebuildStaleSnapshot() {
+        // Given - a snapshot written before a row was added
+        new SnapshotPriceRepositoryAdapter(dataSource, SNAPSHOT_FILE).refresh();
+        jdbcTemplate.update("""
+            INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR,
+                                LAST_UPDATE, LAST_UPDATE_BY)
+            VALUES (1, ?, 1, ?, ?, 0, 10.00, 'EUR', ?, 'test')
+            """, WRITTEN_PRODUCT_ID, WRITTEN_START, WRITTEN_START.plusDays(1), LocalDateTime.now());
+        SnapshotPriceRepositoryAdapter adapter = new SnapshotPriceRepositoryAdapter(dataSource, SNAPSHOT_FILE);
+
+        // When
+        adapter.load();
+
+        // Then
+        assertThat(adapter.findApplicablePrice(WRITTEN_START.plusHours(1), WRITTEN_PRODUCT_ID, BRAND_ID))
+            .map(Price::amount)
+            .contains(new BigDecimal("10.00"));
+        assertThat(adapter.catalogVersion().catalog().patchedProductCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should serve written prices before the snapshot file is rewritten")
+    void shouldServeWritesThroughPatch() {
+        // Given
+        Price price = new Price(null, BRAND_ID, WRITTEN_PRODUCT_ID, 1, WRITTEN_START, WRITTEN_START.plusDays(1), 0,
+            new BigDecimal("12.00"), "EUR");
+
+        // When
+        Price created = priceWriteRepository.create(price);
+
+        // Then
+        assertThat(priceRepository.findApplicablePrice(WRITTEN_START.plusHours(1), WRITTEN_PRODUCT_ID, BRAND_ID))
+            .contains(created);
+
+        // When
+        priceWriteRepository.delete(created.id());
+
+        // Then
+        assertThat(priceRepository.findApplicablePrice(WRITTEN_START.plusHours(1), WRITTEN_PRODUCT_ID, BRAND_ID))
+            .isEmpty();
+    }
+}
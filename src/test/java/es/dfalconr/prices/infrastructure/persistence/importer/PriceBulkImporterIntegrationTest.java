@@ -0,0 +1,131 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:pricesdb-import")
+class PriceBulkImporterIntegrationTest {
+
+    private static final long FIRST_PRODUCT = 1_000_000L;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @TempDir
+    private Path directory;
+
+    @AfterEach
+    void deleteImportedRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT);
+    }
+
+    @ParameterizedTest(name = "{0}, batch size {1}, {2} partitions")
+    @CsvSource({
+        "prices.csv,    1000, 1",
+        "prices.csv,    7,    4",
+        "prices.ndjson, 1000, 1",
+        "prices.ndjson, 7,    4"
+    })
+    @DisplayName("Should import every valid row and reject the invalid ones")
+    void shouldImportValidRows(String fileName, int batchSize, int partitions) throws IOException {
+        // Given
+        Path file = directory.resolve(fileName);
+        writeCatalog(file, 250);
+        List<PriceImportProgress> progress = new ArrayList<>();
+        PriceBulkImporter importer = new PriceBulkImporter(jdbcTemplate, transactionManager, batchSize, partitions, 100);
+
+        // When
+        PriceImportResult result = importer.importFile(file, progress::add);
+
+        // Then
+        assertThat(result.importedRows()).isEqualTo(240);
+        assertThat(result.rejectedRows()).isEqualTo(10);
+        assertThat(result.rejections()).hasSize(10).allSatisfy(rejection ->
+            assertThat(rejection).contains("Start date must be before end date"));
+        assertThat(progress).extracting(PriceImportProgress::rowsRead).containsExactly(100L, 200L);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM PRICES WHERE PRODUCT_ID >= ?", Long.class, FIRST_PRODUCT)).isEqualTo(240);
+        assertThat(priceRepository.findApplicablePrice(START.plusHours(1), FIRST_PRODUCT + 1, 1L))
+            .map(Price::priceList)
+            .contains(2);
+    }
+
+    @Test
+    @DisplayName("Should report the line of a rejected row")
+    void shouldReportRejectedLine() throws IOException {
+        // Given
+        Path file = directory.resolve("prices.csv");
+        Files.writeString(file, """
+            BRAND_ID,PRODUCT_ID,PRICE_LIST,START_DATE,END_DATE,PRIORITY,PRICE,CURR
+            1,1000000,1,2030-01-01 00:00:00,2030-12-31 23:59:59,0,10.00,EUR
+            1,1000001,1,2030-01-01 00:00:00,2030-12-31 23:59:59,0,10.00
+            """);
+        PriceBulkImporter importer = new PriceBulkImporter(jdbcTemplate, transactionManager, 10, 1, 100);
+
+        // When
+        PriceImportResult result = importer.importFile(file);
+
+        // Then
+        assertThat(result.importedRows()).isEqualTo(1);
+        assertThat(result.rejections()).containsExactly("line 3: Expected 8 fields but found 7");
+    }
+
+    // Every product gets a base price and a higher priority range in its first two hours;
+    // every 25th row has its bounds swapped
+    private static void writeCatalog(Path file, int rows) throws IOException {
+        boolean csv = file.toString().endsWith(".csv");
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            if (csv) {
+                writer.write("BRAND_ID,PRODUCT_ID,PRICE_LIST,START_DATE,END_DATE,PRIORITY,PRICE,CURR\n");
+            }
+            for (int row = 0; row < rows; row++) {
+                long productId = FIRST_PRODUCT + row / 2;
+                boolean promotion = row % 2 == 1;
+                LocalDateTime start = START;
+                LocalDateTime end = promotion ? START.plusHours(2) : START.plusYears(1);
+                if (row % 25 == 24) {
+                    LocalDateTime swap = start;
+                    start = end;
+                    end = swap;
+                }
+                int priceList = promotion ? 2 : 1;
+                int priority = promotion ? 1 : 0;
+                if (csv) {
+                    writer.write("1," + productId + "," + priceList + "," + start + "," + end + ","
+                        + priority + ",19.99,EUR\n");
+                } else {
+                    writer.write("{\"BRAND_ID\":1,\"PRODUCT_ID\":" + productId + ",\"PRICE_LIST\":" + priceList
+                        + ",\"START_DATE\":\"" + start + "\",\"END_DATE\":\"" + end + "\",\"PRIORITY\":" + priority
+                        + ",\"PRICE\":19.99,\"CURR\":\"EUR\"}\n");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceImportRowTest {
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource(delimiter = '|', value = {
+        "missing brand        | ,35455,1,2020-06-14 00:00:00,2020-12-31 23:59:59,0,35.50,EUR | Missing value for BRAND_ID",
+        "start after end      | 1,35455,1,2020-12-31 23:59:59,2020-06-14 00:00:00,0,35.50,EUR | Start date must be before end date",
+        "negative priority    | 1,35455,1,2020-06-14 00:00:00,2020-12-31 23:59:59,-1,35.50,EUR | Priority must be non-negative",
+        "malformed date       | 1,35455,1,2020-06-14,2020-12-31 23:59:59,0,35.50,EUR | Invalid START_DATE",
+        "malformed number     | 1,abc,1,2020-06-14 00:00:00,2020-12-31 23:59:59,0,35.50,EUR | abc",
+        "bad currency         | 1,35455,1,2020-06-14 00:00:00,2020-12-31 23:59:59,0,35.50,EURO | Currency must be a 3-letter code"
+    })
+    @DisplayName("Should reject rows that break the Price rules")
+    void shouldRejectInvalidRows(String description, String row, String message) {
+        // Given
+        String[] fields = row.split(",", -1);
+        String[] values = new String[PriceColumn.COUNT];
+        for (int i = 0; i < fields.length; i++) {
+            values[i] = fields[i].isEmpty() ? null : fields[i];
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> PriceImportRow.parse(values, LocalDateTime.now()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(message);
+    }
+}
@@ -0,0 +1,92 @@
+package es.dfalconr.prices.infrastructure.persistence.importer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceRecordReaderTest {
+
+    private static final LocalDateTime IMPORTED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("Should map CSV fields by header name in any order")
+    void shouldReadCsvByHeader() throws IOException {
+        // Given
+        PriceRecordReader reader = reader(PriceImportFormat.CSV, """
+            PRODUCT_ID,brand_id,START_DATE,END_DATE,PRICE_LIST,PRIORITY,PRICE,CURR,IGNORED
+            35455,1,'2020-06-14 00:00:00',2020-12-31T23:59:59,1,0,35.50,"EUR",x
+
+            35455,2,2020-06-14 00:00:00,2020-12-31 23:59:59,1,0,35.50,EUR,y
+            """);
+
+        // When
+        PriceImportRow first = PriceImportRow.parse(reader.next(), IMPORTED_AT);
+        long firstLine = reader.lineNumber();
+        PriceImportRow second = PriceImportRow.parse(reader.next(), IMPORTED_AT);
+
+        // Then
+        assertThat(first.price().brandId()).isEqualTo(1L);
+        assertThat(first.price().productId()).isEqualTo(35455L);
+        assertThat(first.price().startDate()).isEqualTo(LocalDateTime.of(2020, 6, 14, 0, 0));
+        assertThat(first.price().currency()).isEqualTo("EUR");
+        assertThat(first.lastUpdate()).isEqualTo(IMPORTED_AT);
+        assertThat(first.lastUpdateBy()).isEqualTo(PriceImportRow.DEFAULT_LAST_UPDATE_BY);
+        assertThat(firstLine).isEqualTo(2);
+        assertThat(second.price().brandId()).isEqualTo(2L);
+        assertThat(reader.lineNumber()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV header without a required column")
+    void shouldRejectIncompleteCsvHeader() {
+        assertThatThrownBy(() -> reader(PriceImportFormat.CSV, "BRAND_ID,PRODUCT_ID\n"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("PRICE_LIST");
+    }
+
+    @Test
+    @DisplayName("Should read NDJSON objects with string or number values")
+    void shouldReadNdjson() throws IOException {
+        // Given
+        PriceRecordReader reader = reader(PriceImportFormat.NDJSON, """
+            {"BRAND_ID":1,"PRODUCT_ID":35455,"PRICE_LIST":2,"START_DATE":"2020-06-14T15:00:00","END_DATE":"2020-06-14T18:30:00","PRIORITY":1,"PRICE":25.45,"CURR":"EUR","LAST_UPDATE":"2020-05-26 15:38:22","LAST_UPDATE_BY":"user1","extra":{"a":1}}
+            """);
+
+        // When
+        PriceImportRow row = PriceImportRow.parse(reader.next(), IMPORTED_AT);
+
+        // Then
+        assertThat(row.price().priceList()).isEqualTo(2);
+        assertThat(row.price().amount()).isEqualByComparingTo("25.45");
+        assertThat(row.lastUpdate()).isEqualTo(LocalDateTime.of(2020, 5, 26, 15, 38, 22));
+        assertThat(row.lastUpdateBy()).isEqualTo("user1");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed NDJSON line and keep reading")
+    void shouldRejectMalformedNdjsonLine() throws IOException {
+        // Given
+        PriceRecordReader reader = reader(PriceImportFormat.NDJSON, """
+            {"BRAND_ID":1,
+            {"BRAND_ID":2}
+            """);
+
+        // When / Then
+        assertThatThrownBy(reader::next).isInstanceOf(IllegalArgumentException.class);
+        assertThat(reader.next()[PriceColumn.BRAND_ID.ordinal()]).isEqualTo("2");
+        assertThat(reader.lineNumber()).isEqualTo(2);
+    }
+
+    private static PriceRecordReader reader(PriceImportFormat format, String content) throws IOException {
+        return PriceRecordReader.open(new BufferedReader(new StringReader(content)), format);
+    }
+}
@@ -0,0 +1,118 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BrandPartitionTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @DisplayName("Should publish a new index version on every reload and product replacement")
+    void shouldPublishVersions() {
+        // Given
+        BrandPartition partition = new BrandPartition(1L, 4);
+        Price base = createPrice(1L, 35455L, 0);
+        Price promotion = createPrice(2L, 35455L, 1);
+
+        // When
+        partition.reload(() -> List.of(base));
+        partition.replaceProducts(Map.of(ProductKey.of(promotion), List.of(base, promotion)));
+
+        // Then
+        BrandPartitionStats stats = partition.stats();
+        assertThat(stats.version()).isEqualTo(2);
+        assertThat(stats.prices()).isEqualTo(2);
+        assertThat(stats.products()).isEqualTo(1);
+        Optional<Price> price = partition.read(index -> index.findPriceTimeline(35455L, 1L).priceAt(START));
+        assertThat(price).contains(promotion);
+    }
+
+    @Test
+    @DisplayName("Should keep the published index when a reload fails")
+    void shouldKeepIndexWhenReloadFails() {
+        // Given
+        BrandPartition partition = new BrandPartition(1L, 4);
+        Price base = createPrice(1L, 35455L, 0);
+        partition.reload(() -> List.of(base));
+
+        // When
+        assertThatThrownBy(() -> partition.reload(() -> {
+            throw new IllegalStateException("Database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(partition.stats().version()).isEqualTo(1);
+        List<Price> prices = partition.read(index -> index.findApplicablePrices(START, 35455L, 1L));
+        assertThat(prices).containsExactly(base);
+    }
+
+    @Test
+    @DisplayName("Should run no more lookups at once than the partition's budget")
+    void shouldBoundConcurrentLookups() throws Exception {
+        // Given
+        BrandPartition partition = new BrandPartition(1L, 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+
+        try {
+            // When
+            List<Future<Object>> lookups = IntStream.range(0, 6)
+                .mapToObj(i -> executor.submit(() -> partition.read(index -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    return null;
+                })))
+                .toList();
+            Thread.sleep(200);
+            assertThat(partition.stats().activeLookups()).isEqualTo(2);
+            release.countDown();
+            for (Future<Object> lookup : lookups) {
+                lookup.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(partition.stats().activeLookups()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a partition without lookup budget")
+    void shouldRejectEmptyBudget() {
+        assertThatThrownBy(() -> new BrandPartition(1L, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Price createPrice(Long id, Long productId, Integer priority) {
+        return new Price(id, 1L, productId, id.intValue(), START, START.plusDays(priority == 0 ? 30 : 1),
+            priority, BigDecimal.TEN, "EUR");
+    }
+}
@@ -0,0 +1,165 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogPublisherTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+    private static final int READERS = 4;
+
+    @Test
+    @DisplayName("Should publish increasing versions and keep the current one when a reload fails")
+    void shouldPublishVersionsInOrder() {
+        // Given
+        CatalogPublisher<String> publisher = new CatalogPublisher<>("empty");
+
+        // When
+        CatalogVersion<String> first = publisher.reload(() -> "first");
+        CatalogVersion<String> second = publisher.reload(() -> "second");
+
+        // Then
+        assertThat(first.version()).isEqualTo(1);
+        assertThat(second.version()).isEqualTo(2);
+        assertThat(publisher.catalog()).isEqualTo("second");
+        assertThatThrownBy(() -> publisher.reload(() -> {
+            throw new IllegalStateException("database unavailable");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(publisher.current()).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("Should derive updates from the latest version so concurrent updates are not lost")
+    void shouldApplyUpdatesToTheLatestVersion() throws Exception {
+        // Given
+        CatalogPublisher<Integer> publisher = new CatalogPublisher<>(0);
+        ExecutorService writers = Executors.newFixedThreadPool(READERS);
+
+        // When
+        List<Future<CatalogVersion<Integer>>> updates = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            updates.add(writers.submit(() -> publisher.update(current -> current + 1)));
+        }
+        for (Future<CatalogVersion<Integer>> update : updates) {
+            update.get(5, TimeUnit.SECONDS);
+        }
+        writers.shutdown();
+
+        // Then
+        assertThat(publisher.catalog()).isEqualTo(100);
+        assertThat(publisher.current().version()).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("Should keep serving the current version while a reload is being built")
+    void shouldNotBlockReadersDuringReload() throws Exception {
+        // Given
+        CatalogPublisher<String> publisher = new CatalogPublisher<>("current");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<CatalogVersion<String>> reload = CompletableFuture.supplyAsync(() ->
+            publisher.reload(() -> {
+                loading.countDown();
+                await(release);
+                return "next";
+            }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When
+        CompletableFuture<String> read = CompletableFuture.supplyAsync(publisher::catalog);
+
+        // Then
+        assertThat(read.get(1, TimeUnit.SECONDS)).isEqualTo("current");
+        release.countDown();
+        assertThat(reload.get(5, TimeUnit.SECONDS).catalog()).isEqualTo("next");
+        assertThat(publisher.catalog()).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("Should give every reader one complete version while reloads keep swapping it")
+    void shouldGiveReadersConsistentVersionsDuringReloads() throws Exception {
+        // Given - every price of version v has price list v, so mixing versions is detectable
+        CatalogPublisher<PriceIntervalIndex> publisher = new CatalogPublisher<>(index(0, 200));
+        AtomicBoolean reloading = new AtomicBoolean(true);
+        CountDownLatch readersStarted = new CountDownLatch(READERS);
+        List<Future<Long>> readers = new ArrayList<>();
+
+        // When - platform threads, so spinning readers are preempted even on a single core
+        try (ExecutorService executor = Executors.newFixedThreadPool(READERS)) {
+            for (int reader = 0; reader < READERS; reader++) {
+                readers.add(executor.submit(() -> {
+                    long reads = 0;
+                    long lastVersion = -1;
+                    while (reloading.get()) {
+                        CatalogVersion<PriceIntervalIndex> version = publisher.current();
+                        assertThat(version.version()).isGreaterThanOrEqualTo(lastVersion);
+                        lastVersion = version.version();
+                        for (long productId = 1; productId <= 200; productId += 37) {
+                            assertThat(version.catalog().findPriceTimeline(productId, 1L).priceAt(START))
+                                .map(Price::priceList)
+                                .contains((int) version.version());
+                        }
+                        if (reads++ == 0) {
+                            readersStarted.countDown();
+                        }
+                    }
+                    return reads;
+                }));
+            }
+            try {
+                assertThat(readersStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                for (int version = 1; version <= 50; version++) {
+                    int next = version;
+                    publisher.reload(() -> index(next, 200));
+                }
+            } finally {
+                reloading.set(false);
+            }
+        }
+
+        // Then
+        for (Future<Long> reader : readers) {
+            assertThat(reader.get()).isPositive();
+        }
+        assertThat(publisher.current().version()).isEqualTo(50);
+    }
+
+    private static PriceIntervalIndex index(int version, int products) {
+        List<Price> prices = new ArrayList<>(products * 2);
+        long id = 1;
+        for (long productId = 1; productId <= products; productId++) {
+            prices.add(price(id++, productId, version, START, START.plusYears(1), 0));
+            prices.add(price(id++, productId, version, START.plusDays(1), START.plusDays(2), 1));
+        }
+        return PriceIntervalIndex.of(prices);
+    }
+
+    private static Price price(long id, long productId, int version, LocalDateTime start, LocalDateTime end,
+                               int priority) {
+        return new Price(id, 1L, productId, version, start, end, priority, new BigDecimal("10.00"), "EUR");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarPriceStoreTest {
+
+    private static final LocalDateTime JUNE_14 = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    // data.sql fixtures for product 35455, brand 1
+    private static final Price PRICE_LIST_1 = createPrice(1L, 1L, 35455L, 1,
+        JUNE_14, LocalDateTime.of(2020, 12, 31, 23, 59, 59), 0, "35.50");
+    private static final Price PRICE_LIST_2 = createPrice(2L, 1L, 35455L, 2,
+        JUNE_14.plusHours(15), JUNE_14.plusHours(18).plusMinutes(30), 1, "25.45");
+    private static final Price PRICE_LIST_3 = createPrice(3L, 1L, 35455L, 3,
+        JUNE_14.plusDays(1), JUNE_14.plusDays(1).plusHours(11), 1, "30.50");
+    private static final Price PRICE_LIST_4 = createPrice(4L, 1L, 35455L, 4,
+        JUNE_14.plusDays(1).plusHours(16), LocalDateTime.of(2020, 12, 31, 23, 59, 59), 1, "38.95");
+
+    private static final ColumnarPriceStore FIXTURES = ColumnarPriceStore.of(
+        List.of(PRICE_LIST_4, PRICE_LIST_2, PRICE_LIST_1, PRICE_LIST_3));
+
+    @Test
+    @DisplayName("Should resolve the five reference requests like the priority rule")
+    void shouldResolveReferenceRequests() {
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusHours(10), 35455L, 1L)).contains(PRICE_LIST_1);
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusHours(16), 35455L, 1L)).contains(PRICE_LIST_2);
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusHours(21), 35455L, 1L)).contains(PRICE_LIST_1);
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusDays(1).plusHours(10), 35455L, 1L))
+            .contains(PRICE_LIST_3);
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusDays(2).plusHours(21), 35455L, 1L))
+            .contains(PRICE_LIST_4);
+    }
+
+    @Test
+    @DisplayName("Should return overlapping prices ordered by precedence and materialise equal prices")
+    void shouldReturnOverlappingPricesByPrecedence() {
+        // When
+        List<Price> result = FIXTURES.findApplicablePrices(JUNE_14.plusHours(16), 35455L, 1L);
+
+        // Then
+        assertThat(result).containsExactly(PRICE_LIST_2, PRICE_LIST_1);
+        assertThat(result.get(0).amount()).isEqualTo(new BigDecimal("25.45"));
+        assertThat(result.get(0).currency()).isEqualTo("EUR");
+    }
+
+    @Test
+    @DisplayName("Should keep inclusive bounds for dates with sub-second precision")
+    void shouldKeepInclusiveBoundsWithSubSecondDates() {
+        // Given
+        LocalDateTime promotionEnd = JUNE_14.plusHours(18).plusMinutes(30);
+
+        // When / Then
+        assertThat(FIXTURES.findApplicablePrice(promotionEnd, 35455L, 1L)).contains(PRICE_LIST_2);
+        assertThat(FIXTURES.findApplicablePrice(promotionEnd.plusNanos(1), 35455L, 1L)).contains(PRICE_LIST_1);
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.minusNanos(1), 35455L, 1L)).isEmpty();
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusNanos(1), 35455L, 1L)).contains(PRICE_LIST_1);
+    }
+
+    @Test
+    @DisplayName("Should return nothing for unknown brands and products")
+    void shouldReturnNothingForUnknownProduct() {
+        assertThat(FIXTURES.findApplicablePrice(JUNE_14.plusHours(10), 35455L, 2L)).isEmpty();
+        assertThat(FIXTURES.findApplicablePrices(JUNE_14.plusHours(10), 1L, 1L)).isEmpty();
+        assertThat(FIXTURES.findProductPrices(1L, 1L)).isEmpty();
+        assertThat(ColumnarPriceStore.empty().findApplicablePrice(JUNE_14, 35455L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match the priority rule for random overlapping ranges across products")
+    void shouldMatchPriorityRuleForRandomRanges() {
+        // Given
+        Random random = new Random(7);
+        String[] currencies = {"EUR", "USD", "GBP"};
+        List<Price> prices = new ArrayList<>();
+        for (long id = 1; id <= 600; id++) {
+            LocalDateTime start = JUNE_14.plusMinutes(random.nextInt(60 * 24 * 30));
+            LocalDateTime end = start.plusMinutes(random.nextInt(60 * 24 * 5));
+            prices.add(createPrice(id, 1L + random.nextInt(2), 1L + random.nextInt(5), (int) id, start, end,
+                random.nextInt(3), BigDecimal.valueOf(random.nextInt(100_000), 2).toPlainString(),
+                currencies[random.nextInt(currencies.length)]));
+        }
+        ColumnarPriceStore store = ColumnarPriceStore.of(prices);
+
+        // When / Then
+        for (int probe = 0; probe < 5_000; probe++) {
+            LocalDateTime date = JUNE_14.plusMinutes(random.nextInt(60 * 24 * 40));
+            long brandId = 1L + random.nextInt(2);
+            long productId = 1L + random.nextInt(6);
+            List<Price> expected = prices.stream()
+                .filter(price -> price.brandId() == brandId && price.productId() == productId)
+                .filter(price -> price.isApplicableAt(date))
+                .sorted(Price.PRECEDENCE.reversed())
+                .toList();
+            assertThat(store.findApplicablePrices(date, productId, brandId)).as("prices at %s", date)
+                .containsExactlyElementsOf(expected);
+            assertThat(store.findApplicablePrice(date, productId, brandId)).as("price at %s", date)
+                .isEqualTo(expected.stream().findFirst());
+            assertThat(store.findApplicableSegment(date, productId, brandId)).as("segment at %s", date)
+                .isEqualTo(expected.stream().findFirst()
+                    .map(winner -> new PriceSegment(date, stableUntil(prices, date, productId, brandId), winner)));
+        }
+        assertThat(store.size()).isEqualTo(600);
+        assertThat(store.productCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should bound a segment by the next row start or end after the date")
+    void shouldBoundSegmentByNextBoundary() {
+        assertThat(FIXTURES.findApplicableSegment(JUNE_14.plusHours(10), 35455L, 1L))
+            .contains(new PriceSegment(JUNE_14.plusHours(10), JUNE_14.plusHours(15).minusNanos(1), PRICE_LIST_1));
+        assertThat(FIXTURES.findApplicableSegment(JUNE_14.plusHours(16).plusNanos(1), 35455L, 1L))
+            .contains(new PriceSegment(JUNE_14.plusHours(16).plusNanos(1), JUNE_14.plusHours(18).plusMinutes(30),
+                PRICE_LIST_2));
+        assertThat(FIXTURES.findApplicableSegment(JUNE_14.plusDays(3), 35455L, 1L))
+            .contains(new PriceSegment(JUNE_14.plusDays(3), LocalDateTime.of(2020, 12, 31, 23, 59, 59), PRICE_LIST_4));
+        assertThat(FIXTURES.findApplicableSegment(JUNE_14.minusDays(1), 35455L, 1L)).isEmpty();
+        assertThat(FIXTURES.findApplicableSegment(JUNE_14, 35455L, 2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should list a product's prices by start date")
+    void shouldListProductPricesByStartDate() {
+        assertThat(FIXTURES.findProductPrices(35455L, 1L))
+            .containsExactly(PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_3, PRICE_LIST_4);
+    }
+
+    @Test
+    @DisplayName("Should reject rows that cannot be stored without loss")
+    void shouldRejectLossyRows() {
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(1);
+
+        assertThatThrownBy(() -> builder.add(createPrice(1L, 1L, 1L, 1,
+                JUNE_14.plusNanos(500), JUNE_14.plusDays(1), 0, "10.00")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Columnar store requires whole-second price bounds");
+        assertThatThrownBy(() -> builder.add(createPrice(null, 1L, 1L, 1,
+                JUNE_14, JUNE_14.plusDays(1), 0, "10.00")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Columnar store requires persisted prices with an id");
+        assertThatThrownBy(() -> builder.add(createPrice(1L, 1L, 1L, 1,
+                JUNE_14, JUNE_14.plusDays(1), 0, "10.001")))
+            .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("Should reject rows added out of store order")
+    void shouldRejectUnsortedRows() {
+        ColumnarPriceStore.Builder builder = ColumnarPriceStore.builder(2)
+            .add(createPrice(1L, 1L, 2L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "10.00"));
+
+        assertThatThrownBy(() -> builder.add(createPrice(2L, 1L, 1L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "10.00")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Prices must be added in (brandId, productId, startDate) order");
+        assertThatThrownBy(() -> builder.add(createPrice(3L, 1L, 2L, 1,
+                JUNE_14.minusDays(1), JUNE_14.plusDays(1), 0, "10.00")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Prices must be added in (brandId, productId, startDate) order");
+    }
+
+    @Test
+    @DisplayName("Should merge replaced, added and removed products back into store order")
+    void shouldReplaceProductsInStoreOrder() {
+        // Given - products 1/10, 1/20 and 2/10 with the fixtures' product in between
+        Price first = createPrice(10L, 1L, 10L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "10.00");
+        Price removed = createPrice(11L, 1L, 20L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "20.00");
+        Price last = createPrice(12L, 2L, 10L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "30.00", "USD");
+        ColumnarPriceStore store = ColumnarPriceStore.of(
+            List.of(first, removed, last, PRICE_LIST_1, PRICE_LIST_2, PRICE_LIST_3, PRICE_LIST_4));
+        Price replacement = createPrice(13L, 1L, 35455L, 5, JUNE_14, JUNE_14.plusDays(30), 2, "19.99");
+        Price addedBefore = createPrice(14L, 1L, 5L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "1.00");
+        Price addedBetween = createPrice(15L, 1L, 30L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "3.00", "GBP");
+        Price addedAfter = createPrice(16L, 3L, 1L, 1, JUNE_14, JUNE_14.plusDays(1), 0, "4.00");
+
+        // When
+        ColumnarPriceStore updated = store.withProducts(Map.of(
+            new ProductKey(1L, 35455L), List.of(replacement),
+            new ProductKey(1L, 20L), List.of(),
+            new ProductKey(1L, 5L), List.of(addedBefore),
+            new ProductKey(1L, 30L), List.of(addedBetween),
+            new ProductKey(3L, 1L), List.of(addedAfter)));
+
+        // Then
+        assertThat(updated.findProductPrices(35455L, 1L)).containsExactly(replacement);
+        assertThat(updated.findApplicablePrice(JUNE_14.plusHours(16), 35455L, 1L)).contains(replacement);
+        assertThat(updated.findProductPrices(20L, 1L)).isEmpty();
+        assertThat(updated.findProductPrices(10L, 1L)).containsExactly(first);
+        assertThat(updated.findProductPrices(10L, 2L)).containsExactly(last);
+        assertThat(updated.findProductPrices(5L, 1L)).containsExactly(addedBefore);
+        assertThat(updated.findProductPrices(30L, 1L)).containsExactly(addedBetween);
+        assertThat(updated.findProductPrices(1L, 3L)).containsExactly(addedAfter);
+        assertThat(updated.size()).isEqualTo(6);
+        assertThat(updated.productCount()).isEqualTo(6);
+        assertThat(store.findProductPrices(35455L, 1L)).hasSize(4);
+        assertThat(store.findProductPrices(20L, 1L)).containsExactly(removed);
+    }
+
+    // Last instant before a row of the product starts after the date or one open at it ends
+    private static LocalDateTime stableUntil(List<Price> prices, LocalDateTime date, long productId, long brandId) {
+        return prices.stream()
+            .filter(price -> price.brandId() == brandId && price.productId() == productId)
+            .flatMap(price -> Stream.of(
+                price.startDate().isAfter(date) ? price.startDate().minusNanos(1) : null,
+                price.endDate().isBefore(date) ? null : price.endDate()))
+            .filter(Objects::nonNull)
+            .min(Comparator.naturalOrder())
+            .orElseThrow();
+    }
+
+    private static Price createPrice(
+        Long id,
+        Long brandId,
+        Long productId,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority,
+        String amount
+    ) {
+        return createPrice(id, brandId, productId, priceList, startDate, endDate, priority, amount, "EUR");
+    }
+
+    private static Price createPrice(
+        Long id,
+        Long brandId,
+        Long productId,
+        Integer priceList,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority,
+        String amount,
+        String currency
+    ) {
+        return new Price(id, brandId, productId, priceList, startDate, endDate, priority,
+            new BigDecimal(amount), currency);
+    }
+}
@@ -0,0 +1,169 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedPriceSnapshotTest {
+
+    private static final LocalDateTime CATALOG_START = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should answer every lookup like the columnar store built from the same rows")
+    void shouldMatchColumnarStore() {
+        // Given
+        Random random = new Random(13);
+        List<Price> prices = new ArrayList<>();
+        for (long productId = 1; productId <= 40; productId++) {
+            for (int range = 0; range < 12; range++) {
+                LocalDateTime start = CATALOG_START.plusHours(random.nextInt(24 * 60));
+                prices.add(new Price((long) prices.size() + 1, 1L + random.nextInt(2), productId, range + 1,
+                    start, start.plusHours(1 + random.nextInt(24 * 20)), random.nextInt(4),
+                    BigDecimal.valueOf(1_000 + random.nextInt(9_000), 2), random.nextBoolean() ? "EUR" : "USD"));
+            }
+        }
+        ColumnarPriceStore store = ColumnarPriceStore.of(prices);
+        MappedPriceSnapshot snapshot = write(prices);
+
+        // When / Then
+        assertThat(snapshot.size()).isEqualTo(store.size());
+        assertThat(snapshot.productCount()).isEqualTo(store.productCount());
+        for (int probe = 0; probe < 3_000; probe++) {
+            LocalDateTime date = CATALOG_START.plusMinutes(random.nextInt(60 * 24 * 90))
+                .plusNanos(random.nextInt(4) == 0 ? 500_000_000 : 0);
+            long productId = 1L + random.nextInt(41);
+            long brandId = 1L + random.nextInt(3);
+            assertThat(snapshot.findApplicablePrices(date, productId, brandId))
+                .isEqualTo(store.findApplicablePrices(date, productId, brandId));
+            assertThat(snapshot.findApplicablePrice(date, productId, brandId))
+                .isEqualTo(store.findApplicablePrice(date, productId, brandId));
+            assertThat(snapshot.findApplicableSegment(date, productId, brandId))
+                .isEqualTo(store.findApplicableSegment(date, productId, brandId));
+        }
+        assertThat(snapshot.findProductPrices(7L, 1L)).isEqualTo(store.findProductPrices(7L, 1L));
+    }
+
+    @Test
+    @DisplayName("Should map an empty snapshot")
+    void shouldMapEmptySnapshot() {
+        // When
+        MappedPriceSnapshot snapshot = write(List.of());
+
+        // Then
+        assertThat(snapshot.size()).isZero();
+        assertThat(snapshot.findApplicablePrice(CATALOG_START, 1L, 1L)).isEmpty();
+        assertThat(snapshot.lastUpdate()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep the latest LAST_UPDATE of the source rows in the header")
+    void shouldRecordLatestLastUpdate() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        LocalDateTime latest = CATALOG_START.plusDays(3).plusNanos(123_456_000);
+
+        // When
+        try (MappedPriceSnapshot.Writer writer = MappedPriceSnapshot.writer(file)) {
+            writer.add(price(1L, CATALOG_START, CATALOG_START.plusDays(1))).lastUpdate(latest);
+            writer.add(price(2L, CATALOG_START.plusDays(1), CATALOG_START.plusDays(2))).lastUpdate(null);
+            writer.add(price(3L, CATALOG_START.plusDays(2), CATALOG_START.plusDays(3))).lastUpdate(CATALOG_START);
+            writer.finish();
+        }
+
+        // Then
+        assertThat(MappedPriceSnapshot.open(file).lastUpdate()).contains(latest);
+    }
+
+    @Test
+    @DisplayName("Should reject a snapshot whose rows were altered")
+    void shouldRejectChecksumMismatch() throws IOException {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+        writeTo(file, List.of(price(1L, CATALOG_START, CATALOG_START.plusDays(1))));
+        try (RandomAccessFile raw = new RandomAccessFile(file.toFile(), "rw")) {
+            raw.seek(64 + 32);
+            raw.write(0x7F);
+        }
+
+        // When / Then
+        assertThatThrownBy(() -> MappedPriceSnapshot.open(file))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Checksum mismatch");
+    }
+
+    @Test
+    @DisplayName("Should reject a file that is not a snapshot or was truncated")
+    void shouldRejectForeignAndTruncatedFiles() throws IOException {
+        // Given
+        Path foreign = Files.write(directory.resolve("foreign.snapshot"), new byte[128]);
+        Path truncated = directory.resolve("truncated.snapshot");
+        writeTo(truncated, List.of(price(1L, CATALOG_START, CATALOG_START.plusDays(1))));
+        byte[] bytes = Files.readAllBytes(truncated);
+        Files.write(truncated, Arrays.copyOf(bytes, bytes.length - 8));
+
+        // When / Then
+        assertThatThrownBy(() -> MappedPriceSnapshot.open(foreign))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("is not a price snapshot");
+        assertThatThrownBy(() -> MappedPriceSnapshot.open(truncated))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Truncated or corrupt");
+    }
+
+    @Test
+    @DisplayName("Should reject unsorted rows and leave no file behind")
+    void shouldRejectUnsortedRows() {
+        // Given
+        Path file = directory.resolve("prices.snapshot");
+
+        // When / Then
+        try (MappedPriceSnapshot.Writer writer = MappedPriceSnapshot.writer(file)) {
+            writer.add(price(1L, CATALOG_START.plusDays(1), CATALOG_START.plusDays(2)));
+            assertThatThrownBy(() -> writer.add(price(2L, CATALOG_START, CATALOG_START.plusDays(2))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("order");
+        }
+        assertThat(file).doesNotExist();
+        assertThat(directory.resolve("prices.snapshot.tmp")).doesNotExist();
+    }
+
+    private MappedPriceSnapshot write(List<Price> prices) {
+        Path file = directory.resolve("prices.snapshot");
+        writeTo(file, prices);
+        return MappedPriceSnapshot.open(file);
+    }
+
+    private static void writeTo(Path file, List<Price> prices) {
+        try (MappedPriceSnapshot.Writer writer = MappedPriceSnapshot.writer(file)) {
+            prices.stream()
+                .sorted(Comparator.comparing(Price::brandId)
+                    .thenComparing(Price::productId)
+                    .thenComparing(Price::startDate))
+                .forEach(writer::add);
+            writer.finish();
+        }
+    }
+
+    private static Price price(Long id, LocalDateTime start, LocalDateTime end) {
+        return new Price(id, 1L, 1L, 1, start, end, 0, new BigDecimal("10.00"), "EUR");
+    }
+}
@@ -0,0 +1,68 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceSegment;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PatchedPriceSnapshotTest {
+
+    private static final LocalDateTime JUNE_14 = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should serve replaced and removed products from the patch and the rest from the mapping")
+    void shouldServePatchedProductsFromMemory() {
+        // Given
+        Price first = createPrice(1L, 100L, "10.00");
+        Price second = createPrice(2L, 200L, "20.00");
+        Price third = createPrice(3L, 300L, "30.00");
+        PatchedPriceSnapshot snapshot = PatchedPriceSnapshot.of(write(List.of(first, second, third)));
+        Price repriced = createPrice(1L, 100L, "11.00");
+
+        // When
+        PatchedPriceSnapshot patched = snapshot.withProducts(Map.of(
+            new ProductKey(1L, 100L), List.of(repriced),
+            new ProductKey(1L, 200L), List.of()));
+
+        // Then
+        LocalDateTime date = JUNE_14.plusHours(1);
+        assertThat(patched.findApplicablePrice(date, 100L, 1L)).contains(repriced);
+        assertThat(patched.findApplicablePrices(date, 100L, 1L)).containsExactly(repriced);
+        assertThat(patched.findApplicablePrice(date, 200L, 1L)).isEmpty();
+        assertThat(patched.findPriceTimeline(200L, 1L).segments()).isEmpty();
+        assertThat(patched.findApplicablePrice(date, 300L, 1L)).contains(third);
+        assertThat(patched.findApplicableSegment(date, 100L, 1L)).map(PriceSegment::price).contains(repriced);
+        assertThat(patched.findApplicableSegment(date, 200L, 1L)).isEmpty();
+        assertThat(patched.findApplicableSegment(date, 300L, 1L))
+            .contains(new PriceSegment(date, JUNE_14.plusDays(1), third));
+        assertThat(patched.patchedProductCount()).isEqualTo(2);
+        assertThat(snapshot.findApplicablePrice(date, 100L, 1L)).contains(first);
+        assertThat(patched.snapshot()).isSameAs(snapshot.snapshot());
+    }
+
+    private MappedPriceSnapshot write(List<Price> prices) {
+        Path file = directory.resolve("prices.snapshot");
+        try (MappedPriceSnapshot.Writer writer = MappedPriceSnapshot.writer(file)) {
+            prices.forEach(writer::add);
+            writer.finish();
+        }
+        return MappedPriceSnapshot.open(file);
+    }
+
+    private static Price createPrice(Long id, Long productId, String amount) {
+        return new Price(id, 1L, productId, 1, JUNE_14, JUNE_14.plusDays(1), 0, new BigDecimal(amount), "EUR");
+    }
+}
@@ -0,0 +1,174 @@
+package es.dfalconr.prices.infrastructure.persistence.memory;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.model.PriceTimeline;
+import es.dfalconr.prices.domain.model.ProductKey;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceIntervalIndexTest {
+
+    private static final LocalDateTime JUNE_14 = LocalDateTime.of(2020, 6, 14, 0, 0);
+
+    @Test
+    @DisplayName("Should return empty list when product is not indexed")
+    void shouldReturnEmptyListWhenProductNotIndexed() {
+        // Given
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(
+            createPrice(1L, 100L, JUNE_14, JUNE_14.plusDays(1), 0)));
+
+        // When
+        List<Price> result = index.findApplicablePrices(JUNE_14, 200L, 1L);
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return overlapping prices ordered by priority descending")
+    void shouldReturnOverlappingPricesByPriorityDescending() {
+        // Given
+        Price base = createPrice(1L, 100L, JUNE_14, JUNE_14.plusMonths(6), 0);
+        Price promotion = createPrice(1L, 100L, JUNE_14.plusHours(15), JUNE_14.plusHours(18), 1);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(promotion, base));
+
+        // When
+        List<Price> result = index.findApplicablePrices(JUNE_14.plusHours(16), 100L, 1L);
+
+        // Then
+        assertThat(result).containsExactly(promotion, base);
+    }
+
+    @Test
+    @DisplayName("Should include prices whose range is bounded exactly by the application date")
+    void shouldIncludeExactBoundaries() {
+        // Given
+        Price price = createPrice(1L, 100L, JUNE_14, JUNE_14.plusHours(1), 0);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(price));
+
+        // When / Then
+        assertThat(index.findApplicablePrices(JUNE_14, 100L, 1L)).containsExactly(price);
+        assertThat(index.findApplicablePrices(JUNE_14.plusHours(1), 100L, 1L)).containsExactly(price);
+        assertThat(index.findApplicablePrices(JUNE_14.minusSeconds(1), 100L, 1L)).isEmpty();
+        assertThat(index.findApplicablePrices(JUNE_14.plusHours(1).plusSeconds(1), 100L, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should find long-running price started before shorter, already ended ranges")
+    void shouldFindLongRunningPriceBehindEndedRanges() {
+        // Given - a long range followed by several short ones that end before the query date
+        Price longRunning = createPrice(1L, 100L, JUNE_14, JUNE_14.plusMonths(6), 0);
+        Price shortOne = createPrice(1L, 100L, JUNE_14.plusDays(1), JUNE_14.plusDays(2), 1);
+        Price shortTwo = createPrice(1L, 100L, JUNE_14.plusDays(3), JUNE_14.plusDays(4), 1);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(shortTwo, longRunning, shortOne));
+
+        // When
+        List<Price> result = index.findApplicablePrices(JUNE_14.plusDays(10), 100L, 1L);
+
+        // Then
+        assertThat(result).containsExactly(longRunning);
+    }
+
+    @Test
+    @DisplayName("Should keep brands with the same product apart")
+    void shouldKeepBrandsApart() {
+        // Given
+        Price brandOne = createPrice(1L, 100L, JUNE_14, JUNE_14.plusDays(1), 0);
+        Price brandTwo = createPrice(2L, 100L, JUNE_14, JUNE_14.plusDays(1), 0);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(brandOne, brandTwo));
+
+        // When
+        List<Price> result = index.findApplicablePrices(JUNE_14.plusHours(1), 100L, 2L);
+
+        // Then
+        assertThat(result).containsExactly(brandTwo);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.productCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should replace, add and remove products without touching the original index")
+    void shouldReplaceProductsCopyOnWrite() {
+        // Given
+        Price kept = createPrice(1L, 100L, JUNE_14, JUNE_14.plusDays(1), 0);
+        Price replaced = createPrice(1L, 200L, JUNE_14, JUNE_14.plusDays(1), 0);
+        Price removed = createPrice(1L, 300L, JUNE_14, JUNE_14.plusDays(1), 0);
+        PriceIntervalIndex index = PriceIntervalIndex.of(List.of(kept, replaced, removed));
+        Price replacement = createPrice(1L, 200L, JUNE_14, JUNE_14.plusDays(1), 1);
+        Price added = createPrice(2L, 100L, JUNE_14, JUNE_14.plusDays(1), 0);
+
+        // When
+        PriceIntervalIndex updated = index.withProducts(Map.of(
+            new ProductKey(1L, 200L), List.of(replacement),
+            new ProductKey(1L, 300L), List.of(),
+            new ProductKey(2L, 100L), List.of(added)));
+
+        // Then
+        assertThat(updated.findApplicablePrices(JUNE_14, 100L, 1L)).containsExactly(kept);
+        assertThat(updated.findApplicablePrices(JUNE_14, 200L, 1L)).containsExactly(replacement);
+        assertThat(updated.findApplicablePrices(JUNE_14, 300L, 1L)).isEmpty();
+        assertThat(updated.findApplicablePrices(JUNE_14, 100L, 2L)).containsExactly(added);
+        assertThat(updated.size()).isEqualTo(3);
+        assertThat(updated.productCount()).isEqualTo(3);
+        assertThat(index.findApplicablePrices(JUNE_14, 200L, 1L)).containsExactly(replaced);
+        assertThat(index.findApplicablePrices(JUNE_14, 300L, 1L)).containsExactly(removed);
+    }
+
+    @Test
+    @DisplayName("Should share untouched products and keep every product reachable as the index grows")
+    void shouldShareUntouchedProductsWhileGrowing() {
+        // Given
+        PriceIntervalIndex index = PriceIntervalIndex.empty();
+        for (long productId = 1; productId <= 2_000; productId += 100) {
+            Map<ProductKey, List<Price>> batch = new HashMap<>();
+            for (long product = productId; product < productId + 100; product++) {
+                batch.put(new ProductKey(1L, product),
+                    List.of(createPrice(1L, product, JUNE_14, JUNE_14.plusDays(1), 0)));
+            }
+            index = index.withProducts(batch);
+        }
+        PriceTimeline untouched = index.findPriceTimeline(1L, 1L);
+
+        // When
+        PriceIntervalIndex updated = index.withProducts(Map.of(
+            new ProductKey(1L, 2L), List.of(),
+            new ProductKey(1L, 9_999L), List.of()));
+
+        // Then
+        assertThat(updated.productCount()).isEqualTo(1_999);
+        assertThat(updated.size()).isEqualTo(1_999);
+        assertThat(updated.findPriceTimeline(1L, 1L)).isSameAs(untouched);
+        assertThat(updated.findProductPrices(2L, 1L)).isEmpty();
+        for (long productId = 3; productId <= 2_000; productId++) {
+            assertThat(updated.findProductPrices(productId, 1L)).as("product %d", productId).hasSize(1);
+        }
+    }
+
+    private Price createPrice(
+        Long brandId,
+        Long productId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        Integer priority
+    ) {
+        return new Price(
+            null,
+            brandId,
+            productId,
+            1,
+            startDate,
+            endDate,
+            priority,
+            BigDecimal.TEN,
+            "EUR"
+        );
+    }
+}
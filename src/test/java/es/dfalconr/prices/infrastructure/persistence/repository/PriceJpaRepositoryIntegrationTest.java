@@ -1,16 +1,23 @@
 package es.dfalconr.prices.infrastructure.persistence.repository;
 
+import es.dfalconr.prices.domain.model.PriceLookup;
+import es.dfalconr.prices.domain.model.ProductKey;
 import es.dfalconr.prices.infrastructure.persistence.entity.PriceJpaEntity;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentCandidateProjection;
+import es.dfalconr.prices.infrastructure.persistence.projection.PriceSegmentProjection;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -164,6 +171,166 @@ class PriceJpaRepositoryIntegrationTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("Should break priority ties by latest start date, then highest id")
+    void shouldBreakPriorityTies() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity older = createAndPersistEntity(start, start.plusDays(5), 100L, 1L, 1);
+        PriceJpaEntity newer = createAndPersistEntity(start.plusDays(1), start.plusDays(5), 100L, 1L, 1);
+        PriceJpaEntity newest = createAndPersistEntity(start.plusDays(1), start.plusDays(5), 100L, 1L, 1);
+
+        // When
+        List<PriceJpaEntity> result = repository.findApplicablePrices(
+            start.plusDays(2), 100L, 1L);
+
+        // Then
+        assertThat(result).extracting(PriceJpaEntity::getId)
+            .containsExactly(newest.getId(), newer.getId(), older.getId());
+    }
+
+    @Test
+    @DisplayName("Should return all rows of a product ordered by start date")
+    void shouldFindProductPricesOrderedByStartDate() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        createAndPersistEntity(start.plusDays(3), start.plusDays(4), 100L, 1L, 0);
+        createAndPersistEntity(start, start.plusDays(1), 100L, 1L, 0);
+        createAndPersistEntity(start, start.plusDays(1), 100L, 2L, 0);
+
+        // When
+        List<PriceJpaEntity> result = repository.findProductPrices(100L, 1L);
+
+        // Then
+        assertThat(result).extracting(PriceJpaEntity::getStartDate)
+            .containsExactly(start, start.plusDays(3));
+    }
+
+    @Test
+    @DisplayName("Should return only the highest priority row as a projection")
+    void shouldReturnOnlyTopPriorityProjection() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        createAndPersistEntity(now, now.plusDays(1), 100L, 1L, 0);
+        PriceJpaEntity highest = createAndPersistEntity(now, now.plusDays(1), 100L, 1L, 2);
+        createAndPersistEntity(now, now.plusDays(1), 100L, 1L, 1);
+
+        // When
+        List<PriceProjection> result = repository.findTopApplicablePrices(
+            now.plusHours(1), 100L, 1L, Limit.of(1));
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).id()).isEqualTo(highest.getId());
+        assertThat(result.get(0).priority()).isEqualTo(2);
+        assertThat(result.get(0).price()).isEqualByComparingTo(new BigDecimal("35.50"));
+    }
+
+    @Test
+    @DisplayName("Should resolve priority ties in the top row query like the list query")
+    void shouldResolveTiesInTopQueryLikeListQuery() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        createAndPersistEntity(start, start.plusDays(5), 100L, 1L, 1);
+        createAndPersistEntity(start.plusDays(1), start.plusDays(5), 100L, 1L, 1);
+
+        // When
+        List<PriceProjection> top = repository.findTopApplicablePrices(
+            start.plusDays(2), 100L, 1L, Limit.of(1));
+        List<PriceJpaEntity> all = repository.findApplicablePrices(
+            start.plusDays(2), 100L, 1L);
+
+        // Then
+        assertThat(top).extracting(PriceProjection::id).containsExactly(all.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should return no projection when no range applies")
+    void shouldReturnNoProjectionWhenNoRangeApplies() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        createAndPersistEntity(now, now.plusDays(1), 100L, 1L, 0);
+
+        // When
+        List<PriceProjection> result = repository.findTopApplicablePrices(
+            now.plusDays(2), 100L, 1L, Limit.of(1));
+
+        // Then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return the top row with the next start and end of the product in one query")
+    void shouldReturnTopSegmentWithNextBoundaries() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity base = createAndPersistEntity(start, start.plusDays(10), 100L, 1L, 0);
+        createAndPersistEntity(start.plusDays(3), start.plusDays(4), 100L, 1L, 1);
+        createAndPersistEntity(start.plusDays(1), start.plusDays(2), 200L, 1L, 1); // other product
+
+        // When
+        List<PriceSegmentProjection> result = repository.findTopApplicableSegments(
+            start.plusDays(1), 100L, 1L, Limit.of(1));
+
+        // Then
+        assertThat(result).singleElement().satisfies(segment -> {
+            assertThat(segment.id()).isEqualTo(base.getId());
+            assertThat(segment.nextStartDate()).isEqualTo(start.plusDays(3));
+            assertThat(segment.nextEndDate()).isEqualTo(start.plusDays(4));
+            assertThat(segment.toDomain(start.plusDays(1)).endDate()).isEqualTo(start.plusDays(3).minusNanos(1));
+        });
+    }
+
+    @Test
+    @DisplayName("Should return batch candidates for the requested products overlapping the date span")
+    void shouldFindBatchCandidates() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity inSpan = createAndPersistEntity(start, start.plusDays(1), 100L, 1L, 0);
+        PriceJpaEntity otherProduct = createAndPersistEntity(start, start.plusDays(1), 200L, 2L, 0);
+        createAndPersistEntity(start.plusDays(5), start.plusDays(6), 100L, 1L, 0); // after span
+        createAndPersistEntity(start, start.plusDays(1), 300L, 1L, 0); // not requested
+        createAndPersistEntity(start, start.plusDays(1), 200L, 1L, 0); // requested brand and product, not as a pair
+
+        // When
+        List<PriceProjection> result = repository.findApplicablePriceCandidates(
+            Set.of(new ProductKey(1L, 100L), new ProductKey(2L, 200L)), start.plusHours(1), start.plusDays(2));
+
+        // Then
+        assertThat(result).extracting(PriceProjection::id)
+            .containsExactlyInAnyOrder(inSpan.getId(), otherProduct.getId());
+        assertThat(result).filteredOn(price -> price.id().equals(inSpan.getId())).singleElement()
+            .isEqualTo(new PriceProjection(inSpan.getId(), 1L, 100L, 1, start, start.plusDays(1), 0,
+                new BigDecimal("35.50"), "EUR"));
+    }
+
+    @Test
+    @DisplayName("Should tag segment candidates with their lookup and that lookup's next boundaries")
+    void shouldFindSegmentCandidates() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceJpaEntity base = createAndPersistEntity(start, start.plusDays(10), 100L, 1L, 0);
+        PriceJpaEntity promotion = createAndPersistEntity(start.plusDays(3), start.plusDays(4), 100L, 1L, 1);
+        List<PriceLookup> lookups = List.of(
+            new PriceLookup(start.plusDays(1), 100L, 1L),
+            new PriceLookup(start.plusDays(3).plusNanos(1), 100L, 1L),
+            new PriceLookup(start.plusDays(1), 200L, 1L));
+
+        // When
+        List<PriceSegmentCandidateProjection> result = repository.findApplicableSegmentCandidates(lookups);
+
+        // Then
+        assertThat(result).filteredOn(row -> row.lookupIndex() == 0).singleElement().satisfies(row -> {
+            assertThat(row.id()).isEqualTo(base.getId());
+            assertThat(row.nextStartDate()).isEqualTo(start.plusDays(3));
+            assertThat(row.nextEndDate()).isEqualTo(start.plusDays(4));
+        });
+        assertThat(result).filteredOn(row -> row.lookupIndex() == 1)
+            .extracting(PriceSegmentCandidateProjection::id)
+            .containsExactlyInAnyOrder(base.getId(), promotion.getId());
+        assertThat(result).filteredOn(row -> row.lookupIndex() == 2).isEmpty();
+    }
+
     // Helper method to create and persist a price entity
     private PriceJpaEntity createAndPersistEntity(
         LocalDateTime startDate,
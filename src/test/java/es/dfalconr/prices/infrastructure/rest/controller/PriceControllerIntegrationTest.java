@@ -5,12 +5,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -137,6 +145,19 @@ class PriceControllerIntegrationTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Should describe the missing price in the 404 body")
+    void shouldDescribeMissingPriceIn404Body() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2019-01-01T10:00:00")
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString()))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.status").value(404))
+            .andExpect(jsonPath("$.message").value("No price found for product 35455, brand 1 at 2019-01-01T10:00"))
+            .andExpect(jsonPath("$.timestamp").exists());
+    }
+
     @Test
     @DisplayName("Test validation: Missing parameters should return 400")
     void testMissingParameters() throws Exception {
@@ -257,5 +278,161 @@ class PriceControllerIntegrationTest {
             .andExpect(jsonPath("$.priceList").value(1))
             .andExpect(jsonPath("$.finalPrice", comparesEqualTo(35.50)));
     }
-}
 
+    // Batch endpoint
+
+    @Test
+    @DisplayName("Batch: should resolve the five reference requests in one call")
+    void shouldResolveReferenceRequestsInBatch() throws Exception {
+        String body = """
+            {
+              "items": [
+                {"applicationDate": "2020-06-14T10:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-14T21:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-15T10:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-16T21:00:00", "productId": 35455, "brandId": 1}
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results.length()").value(5))
+            .andExpect(jsonPath("$.results[*].found").value(everyItem(is(true))))
+            .andExpect(jsonPath("$.results[0].price.priceList").value(1))
+            .andExpect(jsonPath("$.results[1].price.priceList").value(2))
+            .andExpect(jsonPath("$.results[2].price.priceList").value(1))
+            .andExpect(jsonPath("$.results[3].price.priceList").value(3))
+            .andExpect(jsonPath("$.results[4].price.priceList").value(4))
+            .andExpect(jsonPath("$.results[4].price.finalPrice", comparesEqualTo(38.95)));
+    }
+
+    @Test
+    @DisplayName("Batch: should report not-found items without failing the batch")
+    void shouldReportNotFoundItemsInBatch() throws Exception {
+        String body = """
+            {
+              "items": [
+                {"applicationDate": "2019-01-01T10:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-14T16:00:00", "productId": 35455, "brandId": 1},
+                {"applicationDate": "2020-06-14T16:00:00", "productId": 99999, "brandId": 1}
+              ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].found").value(false))
+            .andExpect(jsonPath("$.results[0].applicationDate").value("2019-01-01T10:00:00"))
+            .andExpect(jsonPath("$.results[1].found").value(true))
+            .andExpect(jsonPath("$.results[1].price.finalPrice", comparesEqualTo(25.45)))
+            .andExpect(jsonPath("$.results[2].found").value(false))
+            .andExpect(jsonPath("$.results[2].productId").value(99999));
+    }
+
+    @Test
+    @DisplayName("Batch: should return 400 for an empty batch")
+    void shouldReturn400ForEmptyBatch() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\": []}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("At least one price query is required"));
+    }
+
+    @Test
+    @DisplayName("Batch: should return 400 for an item with missing fields")
+    void shouldReturn400ForIncompleteBatchItem() throws Exception {
+        mockMvc.perform(post("/api/prices/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\": [{\"productId\": 35455, \"brandId\": 1}]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("Caching: should cap max-age and tag the response with the winning row")
+    void shouldCapMaxAgeAndTagResponse() throws Exception {
+        // Given - priceList 2 holds until 18:30, well beyond the 60s cap
+        String applicationDate = "2020-06-14T16:00:00";
+
+        // When & Then
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", applicationDate)
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60"))
+            .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"2-")))
+            .andExpect(jsonPath("$.priceList").value(2));
+    }
+
+    @Test
+    @DisplayName("Caching: should shorten max-age to the next validity boundary")
+    void shouldShortenMaxAgeToNextBoundary() throws Exception {
+        // Given - priceList 2 ends at 18:30:00, thirty seconds later
+        String applicationDate = "2020-06-14T18:29:30";
+
+        // When & Then
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", applicationDate)
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=30"));
+    }
+
+    @Test
+    @DisplayName("Caching: should answer a matching If-None-Match with an empty 304")
+    void shouldReturnNotModifiedForMatchingEntityTag() throws Exception {
+        // Given
+        String entityTag = mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T16:00:00")
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString()))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // When & Then
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T17:00:00")
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"stale\", W/" + entityTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=60"))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Caching: should return the price when If-None-Match names another row")
+    void shouldReturnPriceForStaleEntityTag() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T21:00:00")
+                .param("productId", PRODUCT_ID.toString())
+                .param("brandId", BRAND_ID.toString())
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2-0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, startsWith("\"1-")))
+            .andExpect(jsonPath("$.priceList").value(1));
+    }
+
+    @Test
+    @DisplayName("Caching: should not mark a not-found response as cacheable")
+    void shouldNotCacheNotFound() throws Exception {
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2020-06-14T10:00:00")
+                .param("productId", "99999")
+                .param("brandId", BRAND_ID.toString()))
+            .andExpect(status().isNotFound())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+}
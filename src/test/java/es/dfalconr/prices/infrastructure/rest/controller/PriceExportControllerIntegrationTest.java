@@ -0,0 +1,115 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class PriceExportControllerIntegrationTest {
+
+    private static final long EXPORT_BRAND_ID = 78L;
+    private static final int PRODUCTS = 1_000;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE BRAND_ID = ?", EXPORT_BRAND_ID);
+    }
+
+    @Test
+    @DisplayName("Should export the fixture price applicable at the reference date as NDJSON")
+    void shouldExportFixturePrice() throws Exception {
+        // When
+        List<String> lines = export(1L, "2020-06-14T16:00:00");
+
+        // Then
+        assertThat(lines).filteredOn(line -> line.contains("\"productId\":35455,"))
+            .singleElement().asString().contains("\"brandId\":1", "\"priceList\":2", "\"finalPrice\":25.45");
+    }
+
+    @Test
+    @DisplayName("Should export one line per product of the brand, the promoted ones at their promotion price")
+    void shouldExportOneLinePerProduct() throws Exception {
+        // Given - a base price per product and a higher priority promotion on every tenth
+        LocalDateTime start = LocalDateTime.of(2031, 1, 1, 0, 0);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+                VALUES (?, ?, ?, ?, ?, ?, ?, 'EUR')
+                """,
+            LongStream.rangeClosed(1, PRODUCTS * 2L)
+                .filter(row -> row <= PRODUCTS || (row - PRODUCTS) % 10 == 0)
+                .mapToObj(row -> row <= PRODUCTS
+                    ? new Object[] {EXPORT_BRAND_ID, row, 1, start, start.plusYears(1), 0, new BigDecimal("50.00")}
+                    : new Object[] {EXPORT_BRAND_ID, row - PRODUCTS, 2, start, start.plusDays(7), 1,
+                        new BigDecimal("40.00")})
+                .toList());
+
+        // When
+        List<String> lines = export(EXPORT_BRAND_ID, "2031-01-03T00:00:00");
+
+        // Then
+        assertThat(lines).hasSize(PRODUCTS);
+        assertThat(lines.get(0)).contains("\"productId\":1,", "\"finalPrice\":50.00");
+        assertThat(lines.get(9)).contains("\"productId\":10,", "\"finalPrice\":40.00");
+        assertThat(lines.get(PRODUCTS - 1)).contains("\"productId\":" + PRODUCTS + ",", "\"finalPrice\":40.00");
+        assertThat(lines).filteredOn(line -> line.contains("\"finalPrice\":40.00")).hasSize(PRODUCTS / 10);
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a parameter is missing")
+    void shouldRejectMissingParameter() throws Exception {
+        mockMvc.perform(get("/api/prices/export")
+                .param("applicationDate", "2020-06-14T16:00:00"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Required parameter 'brandId' is missing"));
+    }
+
+    private List<String> export(long brandId, String applicationDate) throws Exception {
+        MvcResult pending = mockMvc.perform(get("/api/prices/export")
+                .param("brandId", String.valueOf(brandId))
+                .param("applicationDate", applicationDate))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return body.lines().toList();
+    }
+}
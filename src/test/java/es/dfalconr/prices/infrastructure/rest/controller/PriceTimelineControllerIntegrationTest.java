@@ -0,0 +1,140 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class PriceTimelineControllerIntegrationTest {
+
+    private static final long SEASON_PRODUCT_ID = 4_100_000L;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", SEASON_PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("Should stream the data.sql fixtures as priority-applied NDJSON segments")
+    void shouldStreamFixtureTimeline() throws Exception {
+        // When
+        List<String> lines = streamTimeline(35455L, "2020-06-14T00:00:00", "2020-06-16T23:59:59");
+
+        // Then
+        assertThat(lines).hasSize(6).allSatisfy(line -> assertThat(line).startsWith("{").endsWith("}"));
+        assertThat(lines.get(0)).contains("\"priceList\":1", "\"startDate\":\"2020-06-14T00:00:00\"",
+            "\"endDate\":\"2020-06-14T14:59:59.999999999\"", "\"finalPrice\":35.50", "\"currency\":\"EUR\"");
+        assertThat(lines.get(1)).contains("\"priceList\":2", "\"startDate\":\"2020-06-14T15:00:00\"",
+            "\"endDate\":\"2020-06-14T18:30:00\"", "\"finalPrice\":25.45");
+        assertThat(lines.get(3)).contains("\"priceList\":3", "\"finalPrice\":30.50");
+        assertThat(lines.get(5)).contains("\"priceList\":4", "\"startDate\":\"2020-06-15T16:00:00\"",
+            "\"endDate\":\"2020-06-16T23:59:59\"", "\"finalPrice\":38.95");
+    }
+
+    @Test
+    @DisplayName("Should stream a season of daily prices in one pass")
+    void shouldStreamSeasonOfDailyPrices() throws Exception {
+        // Given - a base price for the season and a one-day promotion on every other day
+        LocalDateTime seasonStart = LocalDateTime.of(2031, 3, 1, 0, 0);
+        insertPrice(seasonStart, seasonStart.plusDays(90).minusSeconds(1), 0, "50.00");
+        for (int day = 0; day < 90; day += 2) {
+            insertPrice(seasonStart.plusDays(day), seasonStart.plusDays(day + 1).minusSeconds(1), 1, "40.00");
+        }
+
+        // When
+        List<String> lines = streamTimeline(SEASON_PRODUCT_ID, "2031-03-01T00:00:00", "2031-05-29T23:59:59");
+
+        // Then - promotion and base days alternate
+        assertThat(lines).hasSize(90);
+        assertThat(lines.get(0)).contains("\"finalPrice\":40.00", "\"startDate\":\"2031-03-01T00:00:00\"");
+        assertThat(lines.get(1)).contains("\"finalPrice\":50.00", "\"endDate\":\"2031-03-02T23:59:59.999999999\"");
+        assertThat(lines.get(89)).contains("\"finalPrice\":50.00", "\"endDate\":\"2031-05-29T23:59:59\"");
+    }
+
+    @Test
+    @DisplayName("Should stream an empty body when no price overlaps the range")
+    void shouldStreamEmptyBody() throws Exception {
+        assertThat(streamTimeline(35455L, "2019-01-01T00:00:00", "2019-12-31T23:59:59")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the range ends before it starts")
+    void shouldRejectInvertedRange() throws Exception {
+        mockMvc.perform(get("/api/prices/timeline")
+                .param("brandId", "1")
+                .param("productId", "35455")
+                .param("from", "2020-06-16T00:00:00")
+                .param("to", "2020-06-14T00:00:00"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("From date must be before to date"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when a parameter is missing")
+    void shouldRejectMissingParameter() throws Exception {
+        mockMvc.perform(get("/api/prices/timeline")
+                .param("brandId", "1")
+                .param("productId", "35455")
+                .param("from", "2020-06-14T00:00:00"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Required parameter 'to' is missing"));
+    }
+
+    private List<String> streamTimeline(long productId, String from, String to) throws Exception {
+        MvcResult pending = mockMvc.perform(get("/api/prices/timeline")
+                .param("brandId", "1")
+                .param("productId", String.valueOf(productId))
+                .param("from", from)
+                .param("to", to))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(pending))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return body.lines().toList();
+    }
+
+    private void insertPrice(LocalDateTime start, LocalDateTime end, int priority, String amount) {
+        jdbcTemplate.update("""
+            INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR)
+            VALUES (1, ?, ?, ?, ?, ?, ?, 'EUR')
+            """, SEASON_PRODUCT_ID, priority + 1, start, end, priority, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,133 @@
+package es.dfalconr.prices.infrastructure.rest.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.comparesEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+class PriceWriteControllerIntegrationTest {
+
+    private static final long PRODUCT_ID = 4_000_000L;
+
+    private static final String PRICE_BODY = """
+        {
+          "brandId": 1,
+          "productId": %d,
+          "priceList": 5,
+          "startDate": "2030-01-01T00:00:00",
+          "endDate": "2030-01-31T23:59:59",
+          "priority": %d,
+          "price": %s,
+          "currency": "EUR"
+        }
+        """;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.webApplicationContext).build();
+    }
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID = ?", PRODUCT_ID);
+        jdbcTemplate.update("DELETE FROM PRICE_TOMBSTONES WHERE PRODUCT_ID = ?", PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("Should create, update and delete a price, each visible to the next lookup")
+    void shouldCreateUpdateAndDeletePrice() throws Exception {
+        // Create
+        String created = mockMvc.perform(post("/api/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRICE_BODY.formatted(PRODUCT_ID, 0, "19.99")))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.id").isNumber())
+            .andExpect(jsonPath("$.currency").value("EUR"))
+            .andReturn().getResponse().getContentAsString();
+        long id = ((Number) JsonPath.read(created, "$.id")).longValue();
+        expectLookupPrice(19.99);
+
+        // Update
+        mockMvc.perform(put("/api/prices/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRICE_BODY.formatted(PRODUCT_ID, 1, "17.50")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(id))
+            .andExpect(jsonPath("$.priority").value(1))
+            .andExpect(jsonPath("$.price", comparesEqualTo(17.50)));
+        expectLookupPrice(17.50);
+
+        // Delete
+        mockMvc.perform(delete("/api/prices/{id}", id))
+            .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2030-01-10T10:00:00")
+                .param("productId", String.valueOf(PRODUCT_ID))
+                .param("brandId", "1"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 404 when updating or deleting an unknown price")
+    void shouldReturn404ForUnknownPrice() throws Exception {
+        mockMvc.perform(put("/api/prices/{id}", Long.MAX_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRICE_BODY.formatted(PRODUCT_ID, 0, "19.99")))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("No price found with id " + Long.MAX_VALUE));
+
+        mockMvc.perform(delete("/api/prices/{id}", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the price breaks its invariants")
+    void shouldReturn400ForInvalidPrice() throws Exception {
+        mockMvc.perform(post("/api/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRICE_BODY.formatted(PRODUCT_ID, -1, "19.99")))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Priority must be non-negative"));
+
+        mockMvc.perform(post("/api/prices")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PRICE_BODY.formatted(PRODUCT_ID, 0, "19.999")))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Price must be a non-negative amount with at most two decimals"));
+    }
+
+    private void expectLookupPrice(double amount) throws Exception {
+        mockMvc.perform(get("/api/prices")
+                .param("applicationDate", "2030-01-10T10:00:00")
+                .param("productId", String.valueOf(PRODUCT_ID))
+                .param("brandId", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.priceList").value(5))
+            .andExpect(jsonPath("$.finalPrice", comparesEqualTo(amount)));
+    }
+}
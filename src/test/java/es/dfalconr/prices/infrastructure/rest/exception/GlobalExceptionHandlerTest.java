@@ -5,6 +5,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
@@ -204,6 +206,41 @@ class GlobalExceptionHandlerTest {
             .contains("unknown");
     }
 
+    @Test
+    @DisplayName("Should return 400 for HttpMessageNotReadableException")
+    void shouldReturn400ForHttpMessageNotReadable() {
+        // Given
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException(
+            "JSON parse error", new MockHttpInputMessage(new byte[0]));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+            handler.handleHttpMessageNotReadable(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("Malformed request body");
+    }
+
+    @Test
+    @DisplayName("Should surface validation message wrapped in HttpMessageNotReadableException")
+    void shouldSurfaceWrappedValidationMessage() {
+        // Given
+        HttpMessageNotReadableException exception = new HttpMessageNotReadableException(
+            "JSON parse error",
+            new IllegalArgumentException("At least one price query is required"),
+            new MockHttpInputMessage(new byte[0]));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+            handler.handleHttpMessageNotReadable(exception);
+
+        // Then
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().message()).isEqualTo("At least one price query is required");
+    }
+
     @Test
     @DisplayName("Should include timestamp in missing parameter error response")
     void shouldIncludeTimestampInMissingParameterError() {
@@ -0,0 +1,128 @@
+package es.dfalconr.prices.infrastructure.rest.handler;
+
+import es.dfalconr.prices.infrastructure.rest.controller.PriceController;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.main.web-application-type=reactive",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-reactive",
+    "prices.r2dbc.url=r2dbc:h2:mem:///pricesdb-reactive"
+})
+@ActiveProfiles("reactive")
+class PriceHandlerIntegrationTest {
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private WebTestClient webTestClient;
+
+    @BeforeEach
+    void setUp() {
+        this.webTestClient = WebTestClient.bindToApplicationContext(applicationContext).build();
+    }
+
+    @Test
+    @DisplayName("Should serve the functional route instead of the MVC controller")
+    void shouldServeFunctionalRoute() {
+        assertThat(applicationContext.getBeansOfType(PriceController.class)).isEmpty();
+        assertThat(applicationContext.getBeansOfType(PriceHandler.class)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Should return the highest priority price at 16:00 on June 14")
+    void shouldReturnHighestPriorityPrice() {
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=60")
+            .expectHeader().value(HttpHeaders.ETAG, etag -> assertThat(etag).startsWith("\"2-"))
+            .expectBody()
+            .jsonPath("$.productId").isEqualTo(35455)
+            .jsonPath("$.brandId").isEqualTo(1)
+            .jsonPath("$.priceList").isEqualTo(2)
+            .jsonPath("$.finalPrice").isEqualTo(25.45);
+    }
+
+    @Test
+    @DisplayName("Should return the later fixture prices at 10:00 on June 15 and 21:00 on June 16")
+    void shouldReturnLaterFixturePrices() {
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-15T10:00:00&productId=35455&brandId=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.priceList").isEqualTo(3);
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-16T21:00:00&productId=35455&brandId=1")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody().jsonPath("$.priceList").isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should answer a matching If-None-Match with an empty 304")
+    void shouldReturnNotModifiedForMatchingEntityTag() {
+        String entityTag = webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-14T16:00:00&productId=35455&brandId=1")
+            .exchange()
+            .returnResult(String.class)
+            .getResponseHeaders()
+            .getETag();
+
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-14T18:29:30&productId=35455&brandId=1")
+            .header(HttpHeaders.IF_NONE_MATCH, entityTag)
+            .exchange()
+            .expectStatus().isNotModified()
+            .expectHeader().valueEquals(HttpHeaders.ETAG, entityTag)
+            .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=30")
+            .expectBody().isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return 404 with the MVC error body when no price applies")
+    void shouldReturnNotFound() {
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-14T10:00:00&productId=99999&brandId=1")
+            .exchange()
+            .expectStatus().isNotFound()
+            .expectHeader().doesNotExist(HttpHeaders.ETAG)
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(404)
+            .jsonPath("$.message").isEqualTo("No price found for product 99999, brand 1 at 2020-06-14T10:00");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a missing parameter")
+    void shouldReturnBadRequestForMissingParameter() {
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=2020-06-14T10:00:00&brandId=1")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.status").isEqualTo(400)
+            .jsonPath("$.message").isEqualTo("Required parameter 'productId' is missing");
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a malformed parameter")
+    void shouldReturnBadRequestForMalformedParameter() {
+        webTestClient.get()
+            .uri("/api/prices?applicationDate=yesterday&productId=35455&brandId=1")
+            .exchange()
+            .expectStatus().isBadRequest()
+            .expectBody()
+            .jsonPath("$.message")
+            .isEqualTo("Invalid value 'yesterday' for parameter 'applicationDate'. Expected type: LocalDateTime");
+    }
+}
@@ -0,0 +1,165 @@
+package es.dfalconr.prices.infrastructure.sync;
+
+import es.dfalconr.prices.domain.model.Price;
+import es.dfalconr.prices.domain.port.PriceRepository;
+import es.dfalconr.prices.domain.port.PriceWriteRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "prices.repository.type=in-memory",
+    "prices.cache.enabled=true",
+    "prices.delta-sync.enabled=true",
+    "prices.delta-sync.interval=1h",
+    "spring.datasource.url=jdbc:h2:mem:pricesdb-delta-sync"
+})
+class PriceDeltaSyncIntegrationTest {
+
+    private static final long FIRST_PRODUCT = 2_000_000L;
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static final String INSERT_PRICE = """
+        INSERT INTO PRICES (BRAND_ID, PRODUCT_ID, PRICE_LIST, START_DATE, END_DATE, PRIORITY, PRICE, CURR,
+                            LAST_UPDATE, LAST_UPDATE_BY)
+        VALUES (1, ?, 1, ?, ?, 0, ?, 'EUR', ?, 'test')
+        """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PriceRepository priceRepository;
+
+    @Autowired
+    private PriceWriteRepository priceWriteRepository;
+
+    @Autowired
+    private PriceDeltaSync deltaSync;
+
+    @AfterEach
+    void deleteTestRows() {
+        jdbcTemplate.update("DELETE FROM PRICES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT);
+        jdbcTemplate.update("DELETE FROM PRICE_TOMBSTONES WHERE PRODUCT_ID >= ?", FIRST_PRODUCT);
+    }
+
+    @Test
+    @DisplayName("Should apply inserts, updates and tombstoned deletes to the catalog and the cache")
+    void shouldApplyInsertUpdateAndDelete() {
+        // Given
+        long productId = FIRST_PRODUCT;
+        insertPrice(productId, "10.00", LocalDateTime.now());
+
+        // When - insert
+        DeltaSyncCycle inserted = deltaSync.runCycle();
+
+        // Then
+        assertThat(inserted.changedRows()).isEqualTo(1);
+        assertThat(inserted.productsRebuilt()).isEqualTo(1);
+        assertThat(findAmount(productId)).isEqualTo(new BigDecimal("10.00"));
+
+        // When - update, with the old segment cached
+        jdbcTemplate.update("UPDATE PRICES SET PRICE = 12.50, LAST_UPDATE = ? WHERE PRODUCT_ID = ?",
+            LocalDateTime.now(), productId);
+        DeltaSyncCycle updated = deltaSync.runCycle();
+
+        // Then
+        assertThat(updated.changedRows()).isEqualTo(1);
+        assertThat(findAmount(productId)).isEqualTo(new BigDecimal("12.50"));
+
+        // When - delete, recorded as a tombstone in the same transaction
+        Long priceId = jdbcTemplate.queryForObject(
+            "SELECT ID FROM PRICES WHERE PRODUCT_ID = ?", Long.class, productId);
+        jdbcTemplate.update("DELETE FROM PRICES WHERE ID = ?", priceId);
+        jdbcTemplate.update("INSERT INTO PRICE_TOMBSTONES (PRICE_ID, BRAND_ID, PRODUCT_ID, DELETED_AT) "
+            + "VALUES (?, 1, ?, ?)", priceId, productId, LocalDateTime.now());
+        DeltaSyncCycle deleted = deltaSync.runCycle();
+
+        // Then
+        assertThat(deleted.deletedRows()).isEqualTo(1);
+        assertThat(deleted.productsRebuilt()).isEqualTo(1);
+        assertThat(priceRepository.findApplicablePrice(START.plusHours(1), productId, 1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not rebuild products seen again through the overlap, but pick up late commits")
+    void shouldSkipAppliedChangesAndPickUpLateCommits() {
+        // Given
+        insertPrice(FIRST_PRODUCT + 1, "20.00", LocalDateTime.now());
+        LocalDateTime watermark = deltaSync.runCycle().watermark();
+
+        // When
+        DeltaSyncCycle idle = deltaSync.runCycle();
+
+        // Then
+        assertThat(idle.productsRebuilt()).isZero();
+        assertThat(idle.watermark()).isEqualTo(watermark);
+
+        // When - a transaction committing after the last cycle, stamped before its watermark
+        insertPrice(FIRST_PRODUCT + 2, "30.00", watermark.minusSeconds(1));
+        DeltaSyncCycle late = deltaSync.runCycle();
+
+        // Then
+        assertThat(late.productsRebuilt()).isEqualTo(1);
+        assertThat(late.watermark()).isEqualTo(watermark);
+        assertThat(findAmount(FIRST_PRODUCT + 2)).isEqualTo(new BigDecimal("30.00"));
+        assertThat(deltaSync.stats().lastCycle()).isEqualTo(late);
+        assertThat(deltaSync.stats().cycleCount()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should drop a price moved to another product from the product it left")
+    void shouldApplyMoveToAnotherProduct() {
+        // Given
+        long from = FIRST_PRODUCT + 3;
+        long to = FIRST_PRODUCT + 4;
+        insertPrice(from, "40.00", LocalDateTime.now());
+        deltaSync.runCycle();
+        Long priceId = jdbcTemplate.queryForObject("SELECT ID FROM PRICES WHERE PRODUCT_ID = ?", Long.class, from);
+
+        // When - moved through the writer, as another instance would
+        priceWriteRepository.update(new Price(priceId, 1L, to, 1, START, START.plusDays(1), 0,
+            new BigDecimal("40.00"), "EUR"));
+        DeltaSyncCycle moved = deltaSync.runCycle();
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM PRICE_TOMBSTONES WHERE PRICE_ID = ? AND PRODUCT_ID = ?", Long.class, priceId, from))
+            .isEqualTo(1);
+        assertThat(moved.changedRows()).isEqualTo(1);
+        assertThat(moved.deletedRows()).isEqualTo(1);
+        assertThat(moved.productsRebuilt()).isEqualTo(2);
+        assertThat(priceRepository.findApplicablePrice(START.plusHours(1), from, 1L)).isEmpty();
+        assertThat(findAmount(to)).isEqualTo(new BigDecimal("40.00"));
+
+        // When - moved back and away again, leaving the first product twice
+        priceWriteRepository.update(new Price(priceId, 1L, from, 1, START, START.plusDays(1), 0,
+            new BigDecimal("41.00"), "EUR"));
+        priceWriteRepository.update(new Price(priceId, 1L, to, 1, START, START.plusDays(1), 0,
+            new BigDecimal("42.00"), "EUR"));
+
+        // Then
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM PRICE_TOMBSTONES WHERE PRICE_ID = ?", Long.class, priceId)).isEqualTo(2);
+        assertThat(priceRepository.findApplicablePrice(START.plusHours(1), from, 1L)).isEmpty();
+        assertThat(findAmount(to)).isEqualTo(new BigDecimal("42.00"));
+    }
+
+    private void insertPrice(long productId, String amount, LocalDateTime lastUpdate) {
+        jdbcTemplate.update(INSERT_PRICE, productId, START, START.plusDays(1), new BigDecimal(amount), lastUpdate);
+    }
+
+    private BigDecimal findAmount(long productId) {
+        return priceRepository.findApplicablePrice(START.plusHours(1), productId, 1L)
+            .map(Price::amount)
+            .orElseThrow();
+    }
+}